@@ -0,0 +1,69 @@
+package com.coopcredit.credit_application_service.benchmark;
+
+import com.coopcredit.credit_application_service.domain.model.AffiliateImportReport;
+import com.coopcredit.credit_application_service.domain.model.AffiliateImportRow;
+import com.coopcredit.credit_application_service.domain.ports.in.AffiliateImportUseCase;
+import com.coopcredit.credit_application_service.infrastructure.web.imports.AffiliateImportParser;
+import com.coopcredit.credit_application_service.infrastructure.web.imports.ImportFormat;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark: importación de 100.000 afiliados desde CSV con COPY sobre PostgreSQL real
+ * Cada operación parsea el archivo e importa todas sus filas; el resultado es por fila
+ * (20 µs por fila equivalen a 50.000 filas por segundo). Requiere Docker
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(AffiliateImportBenchmark.ROWS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AffiliateImportBenchmark {
+
+    static final int ROWS = 100_000;
+
+    private PostgresBenchmarkContext context;
+    private AffiliateImportUseCase importUseCase;
+    private JdbcTemplate jdbcTemplate;
+    private byte[] csv;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = PostgresBenchmarkContext.start();
+        importUseCase = context.getBean(AffiliateImportUseCase.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        StringBuilder file = new StringBuilder("documento,nombre,salario,fechaAfiliacion,estado\n");
+        for (int i = 0; i < ROWS; i++) {
+            file.append("88").append(String.format("%08d", i))
+                .append(",\"Afiliado, Sucursal ").append(i).append("\",")
+                .append(2_000_000 + i).append(",2023-05-10,ACTIVO\n");
+        }
+        csv = file.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Setup(Level.Iteration)
+    public void deleteImported() {
+        jdbcTemplate.update("DELETE FROM affiliates WHERE documento LIKE '88%'");
+        jdbcTemplate.execute("VACUUM ANALYZE affiliates");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public AffiliateImportReport importCsv() throws IOException {
+        List<AffiliateImportRow> rows = AffiliateImportParser.parse(new ByteArrayInputStream(csv), ImportFormat.CSV);
+        return importUseCase.importAffiliates(rows);
+    }
+}
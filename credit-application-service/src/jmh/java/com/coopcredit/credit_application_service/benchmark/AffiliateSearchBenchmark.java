@@ -0,0 +1,83 @@
+package com.coopcredit.credit_application_service.benchmark;
+
+import com.coopcredit.credit_application_service.domain.model.AffiliateSearchHit;
+import com.coopcredit.credit_application_service.domain.model.CursorPage;
+import com.coopcredit.credit_application_service.domain.ports.in.AffiliateSearchUseCase;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmark: primera página (20) de la búsqueda de afiliados sobre un millón de filas
+ * Misma siembra que AffiliateSearchIntegrationTest: 40 nombres por 60 apellidos, con tildes, y
+ * documentos '3' + 9 dígitos. SampleTime reporta p50/p99 por consulta (objetivo: p50 bajo 10 ms).
+ * Requiere Docker
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AffiliateSearchBenchmark {
+
+    private static final int AFFILIATES = 1_000_000;
+
+    private static final List<String> NOMBRES = List.of(
+            "María", "José", "Andrés", "Sofía", "Carlos", "Laura", "Juan", "Camila", "Luis", "Valentina",
+            "Jorge", "Daniela", "Ramón", "Inés", "Julián", "Paula", "Óscar", "Natalia", "Felipe", "Lucía",
+            "Diego", "Carolina", "Sebastián", "Mónica", "Alejandro", "Diana", "Ricardo", "Adriana", "Hernán", "Gloria",
+            "Mauricio", "Patricia", "Fernando", "Claudia", "Esteban", "Ángela", "Gustavo", "Beatriz", "Iván", "Marcela");
+
+    private static final List<String> APELLIDOS = List.of(
+            "García", "González", "Rodríguez", "Gómez", "López", "Martínez", "Pérez", "Sánchez", "Ramírez", "Torres",
+            "Díaz", "Vargas", "Rojas", "Castro", "Moreno", "Jiménez", "Muñoz", "Ortiz", "Herrera", "Ruiz",
+            "Álvarez", "Romero", "Suárez", "Mendoza", "Silva", "Cárdenas", "Ríos", "Guerrero", "Medina", "Acosta",
+            "Cruz", "Castillo", "Restrepo", "Ospina", "Osorio", "Valencia", "Quintero", "Zapata", "Montoya", "Arango",
+            "Cardona", "Salazar", "Henao", "Giraldo", "Londoño", "Mejía", "Parra", "Velásquez", "Correa", "Aguirre",
+            "Cano", "Sierra", "Duque", "Marín", "Bedoya", "Escobar", "Palacio", "Betancur", "Franco", "Uribe");
+
+    /**
+     * Búsquedas representativas: nombre y apellido, apellidos sin tildes, errores de tipeo y documentos
+     */
+    @Param({"maria gomez", "Andres Gonzales", "carlos restrepo ospina", "lucia marin",
+            "Julian Velasquez", "sebastian londono", "3000123", "30004567", "3000999"})
+    public String query;
+
+    private PostgresBenchmarkContext context;
+    private AffiliateSearchUseCase searchUseCase;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = PostgresBenchmarkContext.start();
+        searchUseCase = context.getBean(AffiliateSearchUseCase.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update(
+                "INSERT INTO affiliates (documento, nombre, salario, fecha_afiliacion, estado) " +
+                "SELECT '3' || lpad(g::text, 9, '0'), " +
+                "       n.nombres[1 + g % 40] || ' ' || n.apellidos[1 + (g / 40) % 60] || ' ' || " +
+                "       n.apellidos[1 + (g / 2400) % 60], 3000000, DATE '2020-01-01', 'ACTIVO' " +
+                "FROM generate_series(1, ?) g, " +
+                "     (SELECT " + sqlArray(NOMBRES) + " AS nombres, " + sqlArray(APELLIDOS) + " AS apellidos) n",
+                AFFILIATES);
+        // Vacía la lista pendiente del índice GIN antes de medir
+        jdbcTemplate.execute("VACUUM ANALYZE affiliates");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CursorPage<AffiliateSearchHit> firstPage() {
+        return searchUseCase.searchAffiliates(query, null, 20);
+    }
+
+    private static String sqlArray(List<String> values) {
+        return values.stream().map(value -> "'" + value + "'").collect(Collectors.joining(", ", "ARRAY[", "]"));
+    }
+}
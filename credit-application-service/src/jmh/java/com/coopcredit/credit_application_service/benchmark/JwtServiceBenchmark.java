@@ -0,0 +1,55 @@
+package com.coopcredit.credit_application_service.benchmark;
+
+import com.coopcredit.credit_application_service.infrastructure.security.services.JwtPrincipal;
+import com.coopcredit.credit_application_service.infrastructure.security.services.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark: costo por petición autenticada del filtro JWT
+ * Compara los tres parseos de antes (usuario, validación y rol, cada uno con su clave y parser)
+ * con el único JwtService.parseToken actual
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "mySecretKeyForCoopCreditSystemMustBeLongEnough12345678901234567890";
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, 3_600_000);
+        token = jwtService.generateToken("analista1", "ROLE_ANALISTA");
+    }
+
+    @Benchmark
+    public void threeParsesPerRequest(Blackhole blackhole) {
+        for (int i = 0; i < 3; i++) {
+            Claims claims = Jwts.parserBuilder()
+                    .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+            blackhole.consume(claims);
+        }
+    }
+
+    @Benchmark
+    public Optional<JwtPrincipal> parseOncePerRequest() {
+        return jwtService.parseToken(token);
+    }
+}
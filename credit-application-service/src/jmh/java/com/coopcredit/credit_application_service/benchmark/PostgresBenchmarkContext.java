@@ -0,0 +1,63 @@
+package com.coopcredit.credit_application_service.benchmark;
+
+import com.coopcredit.credit_application_service.CreditApplicationServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Contexto de la aplicación sobre PostgreSQL real para benchmarks que miden la base de datos
+ * Misma imagen que los tests de integración (requiere Docker). El relay del outbox no corre y
+ * las propiedades extra se pasan como argumentos, por encima de application.yml
+ */
+public final class PostgresBenchmarkContext implements AutoCloseable {
+
+    private final PostgreSQLContainer<?> postgres;
+    private final ConfigurableApplicationContext context;
+
+    private PostgresBenchmarkContext(PostgreSQLContainer<?> postgres, ConfigurableApplicationContext context) {
+        this.postgres = postgres;
+        this.context = context;
+    }
+
+    /**
+     * Inicia el contenedor y la aplicación
+     *
+     * @param properties propiedades adicionales en formato clave=valor
+     */
+    public static PostgresBenchmarkContext start(String... properties) {
+        PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:18-alpine")
+                .withDatabaseName("coopcredit_benchmark")
+                .withUsername("benchmark")
+                .withPassword("benchmark")
+                .withUrlParam("reWriteBatchedInserts", "true");
+        postgres.start();
+
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--spring.jpa.show-sql=false",
+                "--server.port=0",
+                "--outbox.relay.enabled=false"));
+        for (String property : properties) {
+            args.add("--" + property);
+        }
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(CreditApplicationServiceApplication.class)
+                .run(args.toArray(String[]::new));
+        return new PostgresBenchmarkContext(postgres, context);
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        postgres.stop();
+    }
+}
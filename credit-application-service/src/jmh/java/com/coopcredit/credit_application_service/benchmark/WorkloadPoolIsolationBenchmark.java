@@ -0,0 +1,80 @@
+package com.coopcredit.credit_application_service.benchmark;
+
+import com.coopcredit.credit_application_service.domain.ports.out.UserRepositoryPort;
+import com.coopcredit.credit_application_service.infrastructure.datasource.Workload;
+import com.coopcredit.credit_application_service.infrastructure.datasource.WorkloadContext;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Benchmark: latencia de la consulta del login con y sin la evaluación saturando su pool
+ * Como WorkloadPoolIsolationIntegrationTest: pools de evaluación y autenticación de 2 conexiones
+ * y 8 hilos de evaluación que retienen su conexión 300 ms. Con pools aislados, p50/p99 del login
+ * deben quedar iguales en ambos casos. Requiere Docker
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WorkloadPoolIsolationBenchmark {
+
+    private static final int EVALUATION_THREADS = 8;
+
+    @Param({"false", "true"})
+    public boolean evaluacionSaturada;
+
+    private PostgresBenchmarkContext context;
+    private UserRepositoryPort userRepository;
+    private ExecutorService evaluations;
+    private final AtomicBoolean running = new AtomicBoolean(true);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = PostgresBenchmarkContext.start(
+                "datasource.workloads.enabled=true",
+                "datasource.workloads.evaluation.maximum-pool-size=2",
+                "datasource.workloads.evaluation.connection-timeout-ms=20000",
+                "datasource.workloads.auth.maximum-pool-size=2");
+        userRepository = context.getBean(UserRepositoryPort.class);
+        if (!evaluacionSaturada) {
+            return;
+        }
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        evaluations = Executors.newFixedThreadPool(EVALUATION_THREADS);
+        for (int i = 0; i < EVALUATION_THREADS; i++) {
+            evaluations.submit(() -> {
+                while (running.get()) {
+                    WorkloadContext.run(Workload.EVALUATION, () -> transactionTemplate.executeWithoutResult(status ->
+                            jdbcTemplate.execute("SELECT pg_sleep(0.3)")));
+                }
+            });
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        running.set(false);
+        if (evaluations != null) {
+            evaluations.shutdown();
+            evaluations.awaitTermination(30, TimeUnit.SECONDS);
+        }
+        context.close();
+    }
+
+    /**
+     * Consulta que hace el registro/login para verificar el usuario
+     */
+    @Benchmark
+    public boolean loginLookup() {
+        return userRepository.existsByUsername("usuario-inexistente");
+    }
+}
@@ -0,0 +1,109 @@
+package com.coopcredit.credit_application_service.infrastructure.readmodel;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.enums.RiskLevel;
+import com.coopcredit.credit_application_service.domain.model.ApplicationCursor;
+import com.coopcredit.credit_application_service.domain.model.CreditApplicationSummary;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark: páginas de 20 y cambios de estado sobre el modelo de lectura con 1.000.000 de solicitudes
+ * En el mismo paquete que ApplicationSummaryStore porque el almacenamiento no es público.
+ * SampleTime reporta p50/p99 por consulta; el setup imprime la memoria estimada y la medida en el heap
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+@State(Scope.Benchmark)
+public class ApplicationSummaryStoreBenchmark {
+
+    private static final int APPLICATIONS = 1_000_000;
+    private static final int AFFILIATES = 100_000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 8, 0);
+    private static final ApplicationStatus[] ESTADOS = ApplicationStatus.values();
+
+    private ApplicationSummaryStore store;
+    private Random random;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        // 1M solicitudes de 100.000 afiliados en el orden en que llegan (por fecha)
+        random = new Random(42);
+        long heapBefore = usedHeapAfterGc();
+        store = new ApplicationSummaryStore(APPLICATIONS);
+        for (int i = 1; i <= APPLICATIONS; i++) {
+            CreditApplicationSummary row = summary(i, 1 + random.nextInt(AFFILIATES),
+                    ESTADOS[random.nextInt(ESTADOS.length)]);
+            if (row.getEstado() != ApplicationStatus.PENDIENTE) {
+                row.setScore(300 + random.nextInt(651));
+                row.setNivelRiesgo(RiskLevel.values()[random.nextInt(3)]);
+            }
+            store.upsert(row);
+        }
+        long heapAfter = usedHeapAfterGc();
+        long estimated = store.estimatedBytes();
+        System.out.printf("Modelo de lectura con %d solicitudes: estimado %d MB (%d bytes/solicitud), heap medido %d MB%n",
+                store.size(), estimated / (1024 * 1024), estimated / store.size(),
+                (heapAfter - heapBefore) / (1024 * 1024));
+    }
+
+    @Benchmark
+    public List<CreditApplicationSummary> page() {
+        return store.page(randomCursor(), 20);
+    }
+
+    @Benchmark
+    public List<CreditApplicationSummary> pageByEstado() {
+        return store.pageByEstado(ESTADOS[next++ % ESTADOS.length], randomCursor(), 20);
+    }
+
+    @Benchmark
+    public List<CreditApplicationSummary> pageByAfiliadoId() {
+        return store.pageByAfiliadoId(1 + random.nextInt(AFFILIATES), null, 20);
+    }
+
+    @Benchmark
+    public CreditApplicationSummary changeStatus() {
+        CreditApplicationSummary row = store.page(randomCursor(), 1).get(0);
+        row.setEstado(ApplicationStatus.APROBADO);
+        store.upsert(row);
+        return row;
+    }
+
+    /**
+     * Cursor de una solicitud existente distinta de la más antigua: siempre queda al menos una fila
+     */
+    private ApplicationCursor randomCursor() {
+        long id = 2 + random.nextInt(APPLICATIONS - 1);
+        return new ApplicationCursor(BASE.plusSeconds(id * 30L), id);
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static CreditApplicationSummary summary(long id, long afiliadoId, ApplicationStatus estado) {
+        return CreditApplicationSummary.builder()
+                .id(id)
+                .afiliadoId(afiliadoId)
+                .montoSolicitado(new BigDecimal("10000000.50"))
+                .plazoMeses(36)
+                .tasaPropuesta(new BigDecimal("12.5"))
+                .fechaSolicitud(BASE.plusSeconds(id * 30L))
+                .estado(estado)
+                .build();
+    }
+}
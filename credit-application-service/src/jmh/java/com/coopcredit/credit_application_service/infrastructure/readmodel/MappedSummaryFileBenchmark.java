@@ -0,0 +1,103 @@
+package com.coopcredit.credit_application_service.infrastructure.readmodel;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark: escritura y recorrido del archivo de resúmenes mapeado con 1.000.000 de registros (48 MB)
+ * En el mismo paquete que MappedSummaryFile porque el archivo no es público. Cada operación escribe
+ * o recorre el archivo completo; el resultado es por registro. El archivo va al directorio temporal
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(MappedSummaryFileBenchmark.RECORDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MappedSummaryFileBenchmark {
+
+    static final int RECORDS = 1_000_000;
+
+    private static final int SEGMENT_RECORDS = 1 << 18;
+    private static final byte APROBADO = (byte) ApplicationStatus.APROBADO.ordinal();
+
+    /**
+     * Archivo vacío por iteración para medir la escritura
+     */
+    @State(Scope.Thread)
+    public static class EmptyFile {
+
+        Path path;
+        MappedSummaryFile file;
+
+        @Setup(Level.Iteration)
+        public void open() throws IOException {
+            path = Files.createTempFile("summaries-", ".dat");
+            file = MappedSummaryFile.open(path, SEGMENT_RECORDS);
+        }
+
+        @TearDown(Level.Iteration)
+        public void close() throws IOException {
+            file.close();
+            Files.deleteIfExists(path);
+        }
+    }
+
+    /**
+     * Archivo con todos los registros escritos una vez para medir el recorrido
+     */
+    @State(Scope.Benchmark)
+    public static class FullFile {
+
+        Path path;
+        MappedSummaryFile file;
+
+        @Setup(Level.Trial)
+        public void open() throws IOException {
+            path = Files.createTempFile("summaries-", ".dat");
+            file = MappedSummaryFile.open(path, SEGMENT_RECORDS);
+            appendAll(file);
+            System.out.printf("Archivo de resúmenes con %d registros: %d MB%n",
+                    file.count(), file.usedBytes() / (1024 * 1024));
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws IOException {
+            file.close();
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Benchmark
+    public long append(EmptyFile empty) throws IOException {
+        appendAll(empty.file);
+        return empty.file.count();
+    }
+
+    /**
+     * Recorrido leyendo dos campos por registro: monto de las aprobadas
+     */
+    @Benchmark
+    public long scan(FullFile full) {
+        MappedSummaryFile file = full.file;
+        long total = 0;
+        for (long record = 0; record < file.count(); record++) {
+            if (file.estado(record) == APROBADO) {
+                total += file.montoCentavos(record);
+            }
+        }
+        return total;
+    }
+
+    private static void appendAll(MappedSummaryFile file) throws IOException {
+        for (int i = 1; i <= RECORDS; i++) {
+            file.append(i, 1 + i % 100_000, 100_000_000L + i, 1_700_000_000_000_000L + i, 1_700_000_000_000_000L + i,
+                    (short) 1250, (short) (300 + i % 651), (short) 36, (byte) (i % 3), (byte) (i % 3));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.coopcredit.credit_application_service.application.services;
+
+import com.coopcredit.credit_application_service.domain.exceptions.BusinessRuleException;
+import com.coopcredit.credit_application_service.domain.model.Affiliate;
+import com.coopcredit.credit_application_service.domain.model.AffiliateImportError;
+import com.coopcredit.credit_application_service.domain.model.AffiliateImportReport;
+import com.coopcredit.credit_application_service.domain.model.AffiliateImportRow;
+import com.coopcredit.credit_application_service.domain.ports.in.AffiliateImportUseCase;
+import com.coopcredit.credit_application_service.domain.ports.out.AffiliateBulkLoadPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio de aplicación: Implementa la importación masiva de afiliados
+ * Valida las filas en paralelo y resuelve duplicados con una sola consulta por conjunto
+ */
+public class AffiliateImportService implements AffiliateImportUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(AffiliateImportService.class);
+
+    // Límites de las columnas de la tabla affiliates
+    private static final int DOCUMENTO_MAX_LENGTH = 20;
+    private static final int NOMBRE_MAX_LENGTH = 200;
+
+    private final AffiliateBulkLoadPort bulkLoadPort;
+
+    public AffiliateImportService(AffiliateBulkLoadPort bulkLoadPort) {
+        this.bulkLoadPort = bulkLoadPort;
+    }
+
+    @Override
+    @Transactional
+    public AffiliateImportReport importAffiliates(List<AffiliateImportRow> rows) {
+        logger.info("Importando afiliados - Filas recibidas: {}", rows.size());
+
+        // 1. Validación de reglas de negocio en paralelo (sin acceso a base de datos)
+        List<AffiliateImportError> errors = rows.parallelStream()
+                .map(this::validateRow)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(ArrayList::new));
+        Set<Integer> rejectedLines = errors.stream()
+                .map(AffiliateImportError::getLinea)
+                .collect(Collectors.toSet());
+
+        // 2. Duplicados dentro del archivo: se conserva la primera aparición
+        List<AffiliateImportRow> candidates = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (AffiliateImportRow row : rows) {
+            if (rejectedLines.contains(row.getLinea())) {
+                continue;
+            }
+            String documento = row.getAffiliate().getDocumento();
+            if (seen.add(documento)) {
+                candidates.add(row);
+            } else {
+                errors.add(new AffiliateImportError(row.getLinea(), documento, "Documento repetido en el archivo"));
+            }
+        }
+
+        // 3. Duplicados contra la base de datos en una sola consulta
+        Set<String> existing = candidates.isEmpty() ? Set.of() : bulkLoadPort.findExistingDocumentos(seen);
+        List<AffiliateImportRow> accepted = new ArrayList<>(candidates.size());
+        for (AffiliateImportRow row : candidates) {
+            String documento = row.getAffiliate().getDocumento();
+            if (existing.contains(documento)) {
+                errors.add(new AffiliateImportError(row.getLinea(), documento,
+                        "Ya existe un afiliado con el documento: " + documento));
+            } else {
+                accepted.add(row);
+            }
+        }
+
+        // 4. Carga masiva; si otro proceso registró el documento entre la consulta y la carga, se omite
+        int imported = 0;
+        if (!accepted.isEmpty()) {
+            Set<String> inserted = bulkLoadPort.insertAll(accepted.stream()
+                    .map(AffiliateImportRow::getAffiliate)
+                    .collect(Collectors.toList()));
+            imported = inserted.size();
+            for (AffiliateImportRow row : accepted) {
+                String documento = row.getAffiliate().getDocumento();
+                if (!inserted.contains(documento)) {
+                    errors.add(new AffiliateImportError(row.getLinea(), documento,
+                            "Ya existe un afiliado con el documento: " + documento));
+                }
+            }
+        }
+
+        errors.sort(Comparator.comparingInt(AffiliateImportError::getLinea));
+        logger.info("Importación finalizada - Importados: {}, Rechazados: {}", imported, errors.size());
+
+        return AffiliateImportReport.builder()
+                .totalFilas(rows.size())
+                .importados(imported)
+                .rechazados(errors.size())
+                .errores(errors)
+                .build();
+    }
+
+    private AffiliateImportError validateRow(AffiliateImportRow row) {
+        if (row.getParseError() != null) {
+            return new AffiliateImportError(row.getLinea(), null, row.getParseError());
+        }
+
+        Affiliate affiliate = row.getAffiliate();
+        try {
+            affiliate.validate();
+            if (affiliate.getDocumento().length() > DOCUMENTO_MAX_LENGTH) {
+                throw new BusinessRuleException("El documento no puede exceder " + DOCUMENTO_MAX_LENGTH + " caracteres");
+            }
+            if (affiliate.getNombre().length() > NOMBRE_MAX_LENGTH) {
+                throw new BusinessRuleException("El nombre no puede exceder " + NOMBRE_MAX_LENGTH + " caracteres");
+            }
+            return null;
+        } catch (BusinessRuleException e) {
+            return new AffiliateImportError(row.getLinea(), affiliate.getDocumento(), e.getMessage());
+        }
+    }
+}
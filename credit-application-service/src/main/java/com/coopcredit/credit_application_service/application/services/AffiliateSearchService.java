@@ -0,0 +1,34 @@
+package com.coopcredit.credit_application_service.application.services;
+
+import com.coopcredit.credit_application_service.domain.model.AffiliateSearchCursor;
+import com.coopcredit.credit_application_service.domain.model.AffiliateSearchHit;
+import com.coopcredit.credit_application_service.domain.model.AffiliateSearchQuery;
+import com.coopcredit.credit_application_service.domain.model.CursorPage;
+import com.coopcredit.credit_application_service.domain.ports.in.AffiliateSearchUseCase;
+import com.coopcredit.credit_application_service.domain.ports.out.AffiliateSearchPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Servicio de aplicación: Búsqueda de afiliados por nombre o prefijo de documento
+ */
+public class AffiliateSearchService implements AffiliateSearchUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(AffiliateSearchService.class);
+
+    private final AffiliateSearchPort searchPort;
+
+    public AffiliateSearchService(AffiliateSearchPort searchPort) {
+        this.searchPort = searchPort;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<AffiliateSearchHit> searchAffiliates(String texto, AffiliateSearchCursor after, int size) {
+        AffiliateSearchQuery query = AffiliateSearchQuery.of(texto);
+        logger.debug("Buscando afiliados - Por documento: {}, términos: {}", query.isPorDocumento(), query.getTerminos().size());
+
+        return CursorPage.fromOverfetch(searchPort.search(query, after, size + 1), size);
+    }
+}
@@ -2,12 +2,15 @@ package com.coopcredit.credit_application_service.application.services;
 
 import com.coopcredit.credit_application_service.domain.enums.AffiliateStatus;
 import com.coopcredit.credit_application_service.domain.exceptions.BusinessRuleException;
+import com.coopcredit.credit_application_service.domain.exceptions.ConcurrentUpdateException;
 import com.coopcredit.credit_application_service.domain.exceptions.ResourceNotFoundException;
 import com.coopcredit.credit_application_service.domain.model.Affiliate;
+import com.coopcredit.credit_application_service.domain.model.CursorPage;
 import com.coopcredit.credit_application_service.domain.ports.in.AffiliateUseCase;
 import com.coopcredit.credit_application_service.domain.ports.out.AffiliateRepositoryPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +30,7 @@ public class AffiliateService implements AffiliateUseCase {
     }
 
     @Override
+    @Transactional
     public Affiliate registerAffiliate(Affiliate affiliate) {
         logger.info("Registrando nuevo afiliado con documento: {}", affiliate.getDocumento());
         
@@ -38,7 +42,8 @@ public class AffiliateService implements AffiliateUseCase {
             throw new BusinessRuleException("Ya existe un afiliado con el documento: " + affiliate.getDocumento());
         }
         
-        // Guardar
+        // Guardar como nuevo: la versión la asigna la persistencia
+        affiliate.setVersion(null);
         Affiliate saved = affiliateRepository.save(affiliate);
         logger.info("Afiliado registrado exitosamente con ID: {}", saved.getId());
         
@@ -46,6 +51,7 @@ public class AffiliateService implements AffiliateUseCase {
     }
 
     @Override
+    @Transactional
     public Affiliate updateAffiliate(Long id, Affiliate affiliate) {
         logger.info("Actualizando afiliado con ID: {}", id);
         
@@ -63,8 +69,15 @@ public class AffiliateService implements AffiliateUseCase {
             }
         }
         
-        // Actualizar
+        // La versión que leyó el cliente debe seguir vigente: si no, sus cambios pisarían otros (409)
+        if (affiliate.getVersion() != null && !affiliate.getVersion().equals(existing.getVersion())) {
+            throw new ConcurrentUpdateException("El afiliado fue modificado por otra operación (versión actual: "
+                + existing.getVersion() + "); consulte de nuevo antes de actualizar");
+        }
+        
+        // Actualizar con la versión leída: si otra operación lo modificó, se rechaza (409)
         affiliate.setId(id);
+        affiliate.setVersion(existing.getVersion());
         Affiliate updated = affiliateRepository.save(affiliate);
         logger.info("Afiliado actualizado exitosamente");
         
@@ -72,40 +85,63 @@ public class AffiliateService implements AffiliateUseCase {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Affiliate> getAffiliateById(Long id) {
         logger.debug("Buscando afiliado con ID: {}", id);
         return affiliateRepository.findById(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Affiliate> getAffiliateByDocumento(String documento) {
         logger.debug("Buscando afiliado con documento: {}", documento);
         return affiliateRepository.findByDocumento(documento);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Affiliate> getAllAffiliates() {
         logger.debug("Listando todos los afiliados");
         return affiliateRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Affiliate> getAffiliatesPage(Long afterId, int size) {
+        logger.debug("Listando página de afiliados después del ID: {}", afterId);
+        // Se pide una fila extra para saber si existe página siguiente sin un COUNT
+        return CursorPage.fromOverfetch(affiliateRepository.findPage(afterId, size + 1), size);
+    }
+
+    @Override
+    @Transactional
     public Affiliate changeStatus(Long id, String newStatus) {
         logger.info("Cambiando estado del afiliado {} a {}", id, newStatus);
         
         Affiliate affiliate = affiliateRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Afiliado no encontrado con ID: " + id));
         
+        AffiliateStatus status;
         try {
-            AffiliateStatus status = AffiliateStatus.valueOf(newStatus);
-            affiliate.setEstado(status);
-            
-            Affiliate updated = affiliateRepository.save(affiliate);
-            logger.info("Estado del afiliado actualizado exitosamente");
-            
-            return updated;
+            status = AffiliateStatus.valueOf(newStatus);
         } catch (IllegalArgumentException e) {
             throw new BusinessRuleException("Estado inválido: " + newStatus + ". Valores permitidos: ACTIVO, INACTIVO");
         }
+        
+        if (status == affiliate.getEstado()) {
+            return affiliate;
+        }
+        
+        // UPDATE condicional: solo aplica si el estado no cambió desde la lectura
+        if (!affiliateRepository.updateStatus(id, affiliate.getEstado(), status)) {
+            throw new ConcurrentUpdateException("El estado del afiliado " + id + " fue modificado por otra operación");
+        }
+        affiliate.setEstado(status);
+        if (affiliate.getVersion() != null) {
+            affiliate.setVersion(affiliate.getVersion() + 1);
+        }
+        logger.info("Estado del afiliado actualizado exitosamente");
+        
+        return affiliate;
     }
 }
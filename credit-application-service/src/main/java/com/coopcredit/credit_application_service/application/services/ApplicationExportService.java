@@ -0,0 +1,59 @@
+package com.coopcredit.credit_application_service.application.services;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.exceptions.BusinessRuleException;
+import com.coopcredit.credit_application_service.domain.model.ApplicationExportFilter;
+import com.coopcredit.credit_application_service.domain.model.CreditApplication;
+import com.coopcredit.credit_application_service.domain.ports.in.ApplicationExportUseCase;
+import com.coopcredit.credit_application_service.domain.ports.out.ApplicationExportPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * Servicio de aplicación: Implementa la exportación masiva de solicitudes
+ * La transacción de solo lectura mantiene abierto el cursor de la base de datos
+ * mientras el consumidor escribe cada fila
+ */
+public class ApplicationExportService implements ApplicationExportUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationExportService.class);
+
+    private final ApplicationExportPort exportPort;
+
+    public ApplicationExportService(ApplicationExportPort exportPort) {
+        this.exportPort = exportPort;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportApplications(String estado, LocalDate desde, LocalDate hasta,
+                                   Consumer<CreditApplication> consumer) {
+        ApplicationExportFilter filter = ApplicationExportFilter.builder()
+                .estado(parseStatus(estado))
+                .desde(desde != null ? desde.atStartOfDay() : null)
+                .hasta(hasta != null ? hasta.plusDays(1).atStartOfDay() : null)
+                .build();
+        filter.validate();
+
+        logger.info("Exportando solicitudes - Filtro: {}", filter);
+        long exported = exportPort.streamApplications(filter, consumer);
+        logger.info("Exportación finalizada - Solicitudes: {}", exported);
+
+        return exported;
+    }
+
+    private ApplicationStatus parseStatus(String estado) {
+        if (estado == null || estado.isBlank()) {
+            return null;
+        }
+        try {
+            return ApplicationStatus.valueOf(estado);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessRuleException("Estado inválido: " + estado + ". Valores permitidos: PENDIENTE, APROBADO, RECHAZADO");
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.coopcredit.credit_application_service.application.services;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.exceptions.BusinessRuleException;
+import com.coopcredit.credit_application_service.domain.model.ApplicationCursor;
+import com.coopcredit.credit_application_service.domain.model.CreditApplicationSummary;
+import com.coopcredit.credit_application_service.domain.model.CursorPage;
+import com.coopcredit.credit_application_service.domain.ports.in.ApplicationSummaryQueryUseCase;
+import com.coopcredit.credit_application_service.domain.ports.out.ApplicationReadModelPort;
+import com.coopcredit.credit_application_service.domain.ports.out.CreditApplicationRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Servicio de aplicación: Listados de solicitudes desde el modelo de lectura en memoria
+ * Sin @Transactional: la lectura en memoria no necesita conexión; el respaldo en la base
+ * usa la transacción de solo lectura del repositorio
+ */
+public class ApplicationSummaryQueryService implements ApplicationSummaryQueryUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationSummaryQueryService.class);
+
+    private final ApplicationReadModelPort readModel;
+    private final CreditApplicationRepositoryPort applicationRepository;
+
+    /**
+     * @param readModel modelo de lectura; null si está desactivado (todas las consultas van a la base)
+     */
+    public ApplicationSummaryQueryService(
+            ApplicationReadModelPort readModel,
+            CreditApplicationRepositoryPort applicationRepository) {
+        this.readModel = readModel;
+        this.applicationRepository = applicationRepository;
+    }
+
+    @Override
+    public CursorPage<CreditApplicationSummary> getApplicationsPage(ApplicationCursor after, int size) {
+        // Se pide una fila extra para saber si existe página siguiente
+        if (useReadModel()) {
+            return CursorPage.fromOverfetch(readModel.findSummaryPage(after, size + 1), size);
+        }
+        return CursorPage.fromOverfetch(applicationRepository.findSummaryPage(after, size + 1), size);
+    }
+
+    @Override
+    public CursorPage<CreditApplicationSummary> getApplicationsPageByStatus(String status, ApplicationCursor after, int size) {
+        ApplicationStatus estado = parseStatus(status);
+        if (useReadModel()) {
+            return CursorPage.fromOverfetch(readModel.findSummaryPageByEstado(estado, after, size + 1), size);
+        }
+        return CursorPage.fromOverfetch(applicationRepository.findSummaryPageByEstado(estado, after, size + 1), size);
+    }
+
+    @Override
+    public CursorPage<CreditApplicationSummary> getApplicationsPageByAffiliate(Long afiliadoId, ApplicationCursor after, int size) {
+        if (useReadModel()) {
+            return CursorPage.fromOverfetch(readModel.findSummaryPageByAfiliadoId(afiliadoId, after, size + 1), size);
+        }
+        return CursorPage.fromOverfetch(applicationRepository.findSummaryPageByAfiliadoId(afiliadoId, after, size + 1), size);
+    }
+
+    private boolean useReadModel() {
+        if (readModel != null && readModel.isReady()) {
+            return true;
+        }
+        logger.debug("Modelo de lectura no disponible, consultando la base");
+        return false;
+    }
+
+    private ApplicationStatus parseStatus(String status) {
+        try {
+            return ApplicationStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessRuleException("Estado inválido: " + status + ". Valores permitidos: PENDIENTE, APROBADO, RECHAZADO");
+        }
+    }
+}
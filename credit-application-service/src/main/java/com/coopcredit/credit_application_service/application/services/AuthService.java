@@ -1,8 +1,10 @@
 package com.coopcredit.credit_application_service.application.services;
 
 import com.coopcredit.credit_application_service.domain.exceptions.BusinessRuleException;
+import com.coopcredit.credit_application_service.domain.model.Affiliate;
 import com.coopcredit.credit_application_service.domain.model.User;
 import com.coopcredit.credit_application_service.domain.ports.in.AuthUseCase;
+import com.coopcredit.credit_application_service.domain.ports.out.AffiliateRepositoryPort;
 import com.coopcredit.credit_application_service.domain.ports.out.UserRepositoryPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,9 +20,11 @@ public class AuthService implements AuthUseCase {
     private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
     
     private final UserRepositoryPort userRepository;
+    private final AffiliateRepositoryPort affiliateRepository;
 
-    public AuthService(UserRepositoryPort userRepository) {
+    public AuthService(UserRepositoryPort userRepository, AffiliateRepositoryPort affiliateRepository) {
         this.userRepository = userRepository;
+        this.affiliateRepository = affiliateRepository;
     }
 
     @Override
@@ -68,4 +72,19 @@ public class AuthService implements AuthUseCase {
         logger.debug("Buscando usuario por documento: {}", documento);
         return userRepository.findByDocumento(documento);
     }
+
+    @Override
+    public User updatePasswordHash(User user, String encodedPassword) {
+        logger.info("Actualizando hash de contraseña del usuario: {}", user.getUsername());
+        user.setPassword(encodedPassword);
+        return userRepository.save(user);
+    }
+
+    @Override
+    public Optional<Long> findAffiliateId(User user) {
+        if (!user.isAffiliate() || user.getDocumento() == null || user.getDocumento().isEmpty()) {
+            return Optional.empty();
+        }
+        return affiliateRepository.findByDocumento(user.getDocumento()).map(Affiliate::getId);
+    }
 }
@@ -2,11 +2,19 @@ package com.coopcredit.credit_application_service.application.services;
 
 import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
 import com.coopcredit.credit_application_service.domain.exceptions.BusinessRuleException;
+import com.coopcredit.credit_application_service.domain.exceptions.ConcurrentUpdateException;
 import com.coopcredit.credit_application_service.domain.exceptions.ResourceNotFoundException;
 import com.coopcredit.credit_application_service.domain.model.Affiliate;
+import com.coopcredit.credit_application_service.domain.model.AffiliateExposure;
+import com.coopcredit.credit_application_service.domain.model.AffiliateSnapshot;
+import com.coopcredit.credit_application_service.domain.model.AffiliateSnapshotPolicy;
+import com.coopcredit.credit_application_service.domain.model.ApplicationCursor;
 import com.coopcredit.credit_application_service.domain.model.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.CreditApplicationSummary;
+import com.coopcredit.credit_application_service.domain.model.CursorPage;
 import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
 import com.coopcredit.credit_application_service.domain.ports.in.CreditApplicationUseCase;
+import com.coopcredit.credit_application_service.domain.ports.out.AffiliateExposurePort;
 import com.coopcredit.credit_application_service.domain.ports.out.AffiliateRepositoryPort;
 import com.coopcredit.credit_application_service.domain.ports.out.CreditApplicationRepositoryPort;
 import com.coopcredit.credit_application_service.domain.ports.out.RiskCentralPort;
@@ -32,18 +40,25 @@ public class CreditApplicationService implements CreditApplicationUseCase {
     private static final double MULTIPLICADOR_SALARIO = 3.0;
     private static final int SCORE_MINIMO = 500;
     private static final double RATIO_CUOTA_INGRESO_MAXIMO = 40.0; // 40%
+    private static final double RATIO_ENDEUDAMIENTO_TOTAL_MAXIMO = 50.0; // 50%, incluye créditos aprobados
     
     private final CreditApplicationRepositoryPort applicationRepository;
     private final AffiliateRepositoryPort affiliateRepository;
     private final RiskCentralPort riskCentralPort;
+    private final AffiliateExposurePort exposurePort;
+    private final AffiliateSnapshotPolicy snapshotPolicy;
 
     public CreditApplicationService(
             CreditApplicationRepositoryPort applicationRepository,
             AffiliateRepositoryPort affiliateRepository,
-            RiskCentralPort riskCentralPort) {
+            RiskCentralPort riskCentralPort,
+            AffiliateExposurePort exposurePort,
+            AffiliateSnapshotPolicy snapshotPolicy) {
         this.applicationRepository = applicationRepository;
         this.affiliateRepository = affiliateRepository;
         this.riskCentralPort = riskCentralPort;
+        this.exposurePort = exposurePort;
+        this.snapshotPolicy = snapshotPolicy != null ? snapshotPolicy : AffiliateSnapshotPolicy.defaultPolicy();
     }
 
     @Override
@@ -63,9 +78,16 @@ public class CreditApplicationService implements CreditApplicationUseCase {
         }
         
         // Establecer valores iniciales
-        application.setFechaSolicitud(LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
+        application.setFechaSolicitud(now);
         application.setEstado(ApplicationStatus.PENDIENTE);
         
+        // Copia de los datos de elegibilidad: la evaluación no necesita volver a leer el afiliado
+        application.setSnapshotAfiliado(AffiliateSnapshot.of(affiliate, now));
+        
+        // Registrar la solicitud abierta en la exposición del afiliado (antes del INSERT: mismo orden de bloqueo que la evaluación)
+        exposurePort.recordOpened(application.getAfiliadoId());
+        
         // Guardar la solicitud
         CreditApplication saved = applicationRepository.save(application);
         logger.info("Solicitud de crédito creada exitosamente con ID: {}", saved.getId());
@@ -87,21 +109,20 @@ public class CreditApplicationService implements CreditApplicationUseCase {
             throw new BusinessRuleException("La solicitud ya ha sido evaluada. Estado actual: " + application.getEstado());
         }
         
-        // Obtener el afiliado
-        Affiliate affiliate = affiliateRepository.findById(application.getAfiliadoId())
-            .orElseThrow(() -> new ResourceNotFoundException("Afiliado no encontrado con ID: " + application.getAfiliadoId()));
+        // Obtener los datos del afiliado (copia de la solicitud o afiliado vigente según la política)
+        Affiliate affiliate = resolveAffiliate(application);
         
         try {
             // 1. Verificar afiliado activo
             if (!affiliate.isActive()) {
                 application.rechazar("El afiliado no está activo");
-                return applicationRepository.save(application);
+                return saveDecision(application);
             }
             
             // 2. Verificar antigüedad mínima
             if (!affiliate.cumpleAntiguedad(ANTIGUEDAD_MINIMA_MESES)) {
                 application.rechazar(String.format("El afiliado no cumple con la antigüedad mínima de %d meses", ANTIGUEDAD_MINIMA_MESES));
-                return applicationRepository.save(application);
+                return saveDecision(application);
             }
             
             // 3. Verificar monto máximo según salario
@@ -109,7 +130,7 @@ public class CreditApplicationService implements CreditApplicationUseCase {
             if (application.getMontoSolicitado().compareTo(montoMaximo) > 0) {
                 application.rechazar(String.format("El monto solicitado excede el máximo permitido de $%.2f (%.1f veces el salario)", 
                     montoMaximo, MULTIPLICADOR_SALARIO));
-                return applicationRepository.save(application);
+                return saveDecision(application);
             }
             
             // 4. Evaluar riesgo con central externa
@@ -128,13 +149,13 @@ public class CreditApplicationService implements CreditApplicationUseCase {
             if (!riskEvaluation.cumpleScoreMinimo(SCORE_MINIMO)) {
                 application.rechazar(String.format("Score crediticio insuficiente: %d (mínimo requerido: %d)", 
                     riskEvaluation.getScore(), SCORE_MINIMO));
-                return applicationRepository.save(application);
+                return saveDecision(application);
             }
             
             // 6. Verificar nivel de riesgo aceptable
             if (!riskEvaluation.isRiskAcceptable()) {
                 application.rechazar("Nivel de riesgo crediticio muy alto: " + riskEvaluation.getNivelRiesgo());
-                return applicationRepository.save(application);
+                return saveDecision(application);
             }
             
             // 7. Verificar ratio cuota/ingreso
@@ -144,52 +165,134 @@ public class CreditApplicationService implements CreditApplicationUseCase {
             if (ratioCuotaIngreso.compareTo(BigDecimal.valueOf(RATIO_CUOTA_INGRESO_MAXIMO)) > 0) {
                 application.rechazar(String.format("Ratio cuota/ingreso excede el máximo permitido: %.2f%% (máximo: %.1f%%)", 
                     ratioCuotaIngreso, RATIO_CUOTA_INGRESO_MAXIMO));
-                return applicationRepository.save(application);
+                return saveDecision(application);
+            }
+            
+            // 8. Verificar endeudamiento total: cuotas ya aprobadas más la nueva
+            // El bloqueo de la exposición serializa las evaluaciones del mismo afiliado hasta el commit
+            AffiliateExposure exposure = exposurePort.lockByAfiliadoId(application.getAfiliadoId());
+            BigDecimal ratioEndeudamiento = exposure.calcularRatioEndeudamiento(
+                application.calcularCuotaMensual(), affiliate.getSalario());
+            logger.info("Ratio de endeudamiento total calculado: {}% (cuotas aprobadas: ${})",
+                ratioEndeudamiento, exposure.getCuotaMensualTotal());
+            
+            if (ratioEndeudamiento.compareTo(BigDecimal.valueOf(RATIO_ENDEUDAMIENTO_TOTAL_MAXIMO)) > 0) {
+                application.rechazar(String.format("Endeudamiento total excede el máximo permitido: %.2f%% (máximo: %.1f%%)", 
+                    ratioEndeudamiento, RATIO_ENDEUDAMIENTO_TOTAL_MAXIMO));
+                return saveDecision(application);
             }
             
             // Todas las validaciones pasaron - APROBAR
             application.aprobar();
             logger.info("Solicitud APROBADA - ID: {}", applicationId);
             
-            return applicationRepository.save(application);
+            return saveDecision(application);
             
+        } catch (ConcurrentUpdateException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Error durante la evaluación de la solicitud {}: {}", applicationId, e.getMessage(), e);
             application.rechazar("Error durante el proceso de evaluación: " + e.getMessage());
-            return applicationRepository.save(application);
+            return saveDecision(application);
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<CreditApplication> getApplicationById(Long id) {
         logger.debug("Buscando solicitud con ID: {}", id);
         return applicationRepository.findById(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CreditApplication> getAllApplications() {
         logger.debug("Listando todas las solicitudes");
         return applicationRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CreditApplication> getApplicationsByAffiliate(Long afiliadoId) {
         logger.debug("Listando solicitudes del afiliado ID: {}", afiliadoId);
         return applicationRepository.findByAfiliadoId(afiliadoId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CreditApplication> getPendingApplications() {
         logger.debug("Listando solicitudes pendientes");
         return applicationRepository.findByEstado(ApplicationStatus.PENDIENTE);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CreditApplication> getApplicationsByStatus(String status) {
         logger.debug("Listando solicitudes con estado: {}", status);
+        return applicationRepository.findByEstado(parseStatus(status));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<CreditApplicationSummary> getApplicationsPage(ApplicationCursor after, int size) {
+        logger.debug("Listando página de solicitudes después de: {}", after);
+        // Se pide una fila extra para saber si existe página siguiente sin un COUNT
+        return CursorPage.fromOverfetch(applicationRepository.findSummaryPage(after, size + 1), size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<CreditApplicationSummary> getApplicationsPageByStatus(String status, ApplicationCursor after, int size) {
+        logger.debug("Listando página de solicitudes con estado {} después de: {}", status, after);
+        ApplicationStatus applicationStatus = parseStatus(status);
+        return CursorPage.fromOverfetch(applicationRepository.findSummaryPageByEstado(applicationStatus, after, size + 1), size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<CreditApplicationSummary> getApplicationsPageByAffiliate(Long afiliadoId, ApplicationCursor after, int size) {
+        logger.debug("Listando página de solicitudes del afiliado ID {} después de: {}", afiliadoId, after);
+        return CursorPage.fromOverfetch(applicationRepository.findSummaryPageByAfiliadoId(afiliadoId, after, size + 1), size);
+    }
+
+    /**
+     * Guarda la decisión solo si la solicitud sigue PENDIENTE (UPDATE condicional)
+     * Si otra evaluación concurrente ya la decidió, se rechaza sin sobrescribirla.
+     * La exposición se actualiza primero; si el UPDATE condicional falla la excepción revierte ambos
+     */
+    private CreditApplication saveDecision(CreditApplication application) {
+        boolean aprobada = ApplicationStatus.APROBADO.equals(application.getEstado());
+        exposurePort.recordDecision(application.getAfiliadoId(),
+            aprobada ? application.getMontoSolicitado() : BigDecimal.ZERO,
+            aprobada ? application.calcularCuotaMensual() : BigDecimal.ZERO);
+        if (!applicationRepository.saveDecision(application)) {
+            logger.warn("La solicitud {} fue evaluada por otra operación", application.getId());
+            throw new ConcurrentUpdateException("La solicitud " + application.getId() + " ya fue evaluada por otra operación");
+        }
+        return application;
+    }
+
+    /**
+     * Usa la copia del afiliado si la política la acepta; si no, lee el afiliado vigente
+     * y renueva la copia para que refleje los valores usados en la decisión
+     */
+    private Affiliate resolveAffiliate(CreditApplication application) {
+        LocalDateTime now = LocalDateTime.now();
+        AffiliateSnapshot snapshot = application.getSnapshotAfiliado();
+        if (!snapshotPolicy.requiresRevalidation(snapshot, now)) {
+            logger.debug("Evaluando con la copia del afiliado tomada el {}", snapshot.getFechaCaptura());
+            return snapshot.toAffiliate(application.getAfiliadoId());
+        }
+        
+        Affiliate affiliate = affiliateRepository.findById(application.getAfiliadoId())
+            .orElseThrow(() -> new ResourceNotFoundException("Afiliado no encontrado con ID: " + application.getAfiliadoId()));
+        application.setSnapshotAfiliado(AffiliateSnapshot.of(affiliate, now));
+        return affiliate;
+    }
+
+    private ApplicationStatus parseStatus(String status) {
         try {
-            ApplicationStatus applicationStatus = ApplicationStatus.valueOf(status);
-            return applicationRepository.findByEstado(applicationStatus);
+            return ApplicationStatus.valueOf(status);
         } catch (IllegalArgumentException e) {
             throw new BusinessRuleException("Estado inválido: " + status + ". Valores permitidos: PENDIENTE, APROBADO, RECHAZADO");
         }
@@ -0,0 +1,40 @@
+package com.coopcredit.credit_application_service.application.services;
+
+import com.coopcredit.credit_application_service.domain.exceptions.BusinessRuleException;
+import com.coopcredit.credit_application_service.domain.model.PortfolioStatistics;
+import com.coopcredit.credit_application_service.domain.ports.in.PortfolioStatisticsUseCase;
+import com.coopcredit.credit_application_service.domain.ports.out.PortfolioStatisticsPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+
+/**
+ * Servicio de aplicación: Estadísticas de la cartera de solicitudes
+ * Combina los totales agregados; el costo depende de la cantidad de meses, no de solicitudes
+ */
+public class PortfolioStatisticsService implements PortfolioStatisticsUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(PortfolioStatisticsService.class);
+
+    static final int MAX_MESES = 120;
+
+    private final PortfolioStatisticsPort statisticsPort;
+
+    public PortfolioStatisticsService(PortfolioStatisticsPort statisticsPort) {
+        this.statisticsPort = statisticsPort;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PortfolioStatistics getPortfolioStatistics(int meses) {
+        if (meses < 1 || meses > MAX_MESES) {
+            throw new BusinessRuleException("La serie mensual debe cubrir entre 1 y " + MAX_MESES + " meses");
+        }
+        logger.debug("Consultando estadísticas de cartera - Meses: {}", meses);
+
+        YearMonth hasta = YearMonth.now();
+        return PortfolioStatistics.fromBuckets(statisticsPort.findBuckets(), hasta.minusMonths(meses - 1L), hasta);
+    }
+}
@@ -0,0 +1,19 @@
+package com.coopcredit.credit_application_service.domain.enums;
+
+/**
+ * Eventos del ciclo de vida de una solicitud de crédito
+ * Uno por cada estado que puede alcanzar la solicitud
+ */
+public enum ApplicationEventType {
+    SOLICITUD_CREADA,
+    SOLICITUD_APROBADA,
+    SOLICITUD_RECHAZADA;
+
+    public static ApplicationEventType of(ApplicationStatus estado) {
+        return switch (estado) {
+            case PENDIENTE -> SOLICITUD_CREADA;
+            case APROBADO -> SOLICITUD_APROBADA;
+            case RECHAZADO -> SOLICITUD_RECHAZADA;
+        };
+    }
+}
@@ -0,0 +1,11 @@
+package com.coopcredit.credit_application_service.domain.exceptions;
+
+/**
+ * Excepción cuando otra operación modificó el recurso entre la lectura y la escritura
+ * La operación puede reintentarse sobre el estado actual
+ */
+public class ConcurrentUpdateException extends DomainException {
+    public ConcurrentUpdateException(String message) {
+        super(message);
+    }
+}
@@ -26,6 +26,7 @@ public class Affiliate {
     private BigDecimal salario;
     private LocalDate fechaAfiliacion;
     private AffiliateStatus estado;
+    private Long version; // Control de concurrencia optimista
 
     /**
      * Valida las reglas de negocio del afiliado
@@ -0,0 +1,43 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Exposición agregada de un afiliado: solicitudes abiertas y créditos aprobados
+ * Se mantiene en cada cambio de estado; evaluar el endeudamiento total no recorre sus solicitudes
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AffiliateExposure {
+
+    private Long afiliadoId;
+    private int solicitudesAbiertas;
+    private BigDecimal capitalAprobado;
+    private BigDecimal cuotaMensualTotal;
+
+    public static AffiliateExposure empty(Long afiliadoId) {
+        return new AffiliateExposure(afiliadoId, 0, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    /**
+     * Calcula el ratio de endeudamiento total: cuotas aprobadas más la nueva cuota sobre el salario
+     * @param cuotaNueva cuota mensual de la solicitud en evaluación
+     * @param salarioAfiliado salario del afiliado
+     */
+    public BigDecimal calcularRatioEndeudamiento(BigDecimal cuotaNueva, BigDecimal salarioAfiliado) {
+        if (salarioAfiliado == null || salarioAfiliado.compareTo(BigDecimal.ZERO) == 0) {
+            return BigDecimal.ZERO;
+        }
+
+        BigDecimal cuotaTotal = cuotaMensualTotal.add(cuotaNueva);
+        return cuotaTotal.divide(salarioAfiliado, 4, RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100));
+    }
+}
@@ -0,0 +1,18 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Fila rechazada en una importación masiva de afiliados
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AffiliateImportError {
+
+    private int linea;
+    private String documento;
+    private String mensaje;
+}
@@ -0,0 +1,23 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resultado de una importación masiva de afiliados: totales y detalle de filas rechazadas
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AffiliateImportReport {
+
+    private int totalFilas;
+    private int importados;
+    private int rechazados;
+    private List<AffiliateImportError> errores;
+}
@@ -0,0 +1,27 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Fila de un archivo de importación masiva de afiliados
+ * Si la fila no pudo interpretarse, affiliate es null y parseError describe el problema
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AffiliateImportRow {
+
+    private int linea;
+    private Affiliate affiliate;
+    private String parseError;
+
+    public static AffiliateImportRow of(int linea, Affiliate affiliate) {
+        return new AffiliateImportRow(linea, affiliate, null);
+    }
+
+    public static AffiliateImportRow invalid(int linea, String parseError) {
+        return new AffiliateImportRow(linea, null, parseError);
+    }
+}
@@ -0,0 +1,25 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Posición de paginación por keyset sobre (relevancia DESC, documento)
+ * El documento es único y desempata los resultados con la misma relevancia
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AffiliateSearchCursor {
+
+    private double relevancia;
+    private String documento;
+
+    /**
+     * Construye el cursor a partir del último resultado de una página
+     */
+    public static AffiliateSearchCursor after(AffiliateSearchHit hit) {
+        return new AffiliateSearchCursor(hit.getRelevancia(), hit.getDocumento());
+    }
+}
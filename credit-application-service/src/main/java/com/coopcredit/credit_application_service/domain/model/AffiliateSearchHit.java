@@ -0,0 +1,27 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import com.coopcredit.credit_application_service.domain.enums.AffiliateStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Resultado de la búsqueda de afiliados
+ * relevancia va de 0 a 1; en la búsqueda por documento todos los resultados valen 1
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AffiliateSearchHit {
+
+    private Long id;
+    private String documento;
+    private String nombre;
+    private AffiliateStatus estado;
+    private LocalDate fechaAfiliacion;
+    private double relevancia;
+}
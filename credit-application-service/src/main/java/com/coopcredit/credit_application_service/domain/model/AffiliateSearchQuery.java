@@ -0,0 +1,59 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import com.coopcredit.credit_application_service.domain.exceptions.BusinessRuleException;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Búsqueda de afiliados normalizada
+ * Un texto solo de dígitos busca por prefijo de documento; cualquier otro busca por nombre,
+ * exigiendo coincidencia aproximada de cada término de al menos 3 caracteres
+ */
+@Getter
+public final class AffiliateSearchQuery {
+
+    public static final int MIN_LENGTH = 3;
+    public static final int MAX_LENGTH = 100;
+    public static final int MAX_TERMS = 5;
+
+    private static final Pattern DOCUMENTO = Pattern.compile("\\d+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private final String texto;
+    private final List<String> terminos;
+    private final boolean porDocumento;
+
+    private AffiliateSearchQuery(String texto, List<String> terminos, boolean porDocumento) {
+        this.texto = texto;
+        this.terminos = terminos;
+        this.porDocumento = porDocumento;
+    }
+
+    public static AffiliateSearchQuery of(String texto) {
+        String normalized = texto == null ? "" : SPACES.matcher(texto.trim()).replaceAll(" ");
+        if (normalized.length() < MIN_LENGTH || normalized.length() > MAX_LENGTH) {
+            throw new BusinessRuleException(
+                    "La búsqueda debe tener entre " + MIN_LENGTH + " y " + MAX_LENGTH + " caracteres");
+        }
+        if (DOCUMENTO.matcher(normalized).matches()) {
+            return new AffiliateSearchQuery(normalized, List.of(normalized), true);
+        }
+
+        // Los términos cortos ("de", "la") casi no tienen trigramas: solo cuentan para el ranking
+        List<String> terminos = new ArrayList<>();
+        for (String termino : normalized.split(" ")) {
+            if (termino.length() >= MIN_LENGTH && terminos.size() < MAX_TERMS) {
+                terminos.add(termino);
+            }
+        }
+        if (terminos.isEmpty()) {
+            throw new BusinessRuleException(
+                    "La búsqueda debe incluir al menos un término de " + MIN_LENGTH + " caracteres");
+        }
+        return new AffiliateSearchQuery(normalized, Collections.unmodifiableList(terminos), false);
+    }
+}
@@ -0,0 +1,62 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import com.coopcredit.credit_application_service.domain.enums.AffiliateStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Modelo de dominio puro: Copia de los datos de elegibilidad del afiliado en una solicitud
+ * Se toma al crear la solicitud y queda como registro de los valores usados en la decisión
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AffiliateSnapshot {
+
+    private String documento;
+    private BigDecimal salario;
+    private LocalDate fechaAfiliacion;
+    private AffiliateStatus estado;
+    private LocalDateTime fechaCaptura;
+
+    /**
+     * Captura los datos de elegibilidad del afiliado en el instante indicado
+     */
+    public static AffiliateSnapshot of(Affiliate affiliate, LocalDateTime fechaCaptura) {
+        return AffiliateSnapshot.builder()
+                .documento(affiliate.getDocumento())
+                .salario(affiliate.getSalario())
+                .fechaAfiliacion(affiliate.getFechaAfiliacion())
+                .estado(affiliate.getEstado())
+                .fechaCaptura(fechaCaptura)
+                .build();
+    }
+
+    /**
+     * Afiliado reconstruido desde la copia, para aplicar las mismas reglas que al afiliado vigente
+     */
+    public Affiliate toAffiliate(Long afiliadoId) {
+        return Affiliate.builder()
+                .id(afiliadoId)
+                .documento(documento)
+                .salario(salario)
+                .fechaAfiliacion(fechaAfiliacion)
+                .estado(estado)
+                .build();
+    }
+
+    /**
+     * La copia está completa (las solicitudes anteriores a la captura no la tienen)
+     */
+    public boolean isComplete() {
+        return documento != null && salario != null && fechaAfiliacion != null
+                && estado != null && fechaCaptura != null;
+    }
+}
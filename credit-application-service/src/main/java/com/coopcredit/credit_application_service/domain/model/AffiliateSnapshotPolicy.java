@@ -0,0 +1,55 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Política de uso de la copia del afiliado al evaluar una solicitud
+ * Se confía en la copia mientras su antigüedad no supere maxAge; después se revalida
+ * contra el afiliado vigente. Sin maxAge se confía siempre en la copia
+ */
+public class AffiliateSnapshotPolicy {
+
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofMinutes(60);
+
+    private final Duration maxAge;
+
+    private AffiliateSnapshotPolicy(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public static AffiliateSnapshotPolicy trustAlways() {
+        return new AffiliateSnapshotPolicy(null);
+    }
+
+    public static AffiliateSnapshotPolicy revalidateAfter(Duration maxAge) {
+        if (maxAge == null || maxAge.isNegative()) {
+            throw new IllegalArgumentException("La antigüedad máxima de la copia debe ser mayor o igual a 0");
+        }
+        return new AffiliateSnapshotPolicy(maxAge);
+    }
+
+    public static AffiliateSnapshotPolicy defaultPolicy() {
+        return revalidateAfter(DEFAULT_MAX_AGE);
+    }
+
+    /**
+     * Construye la política desde minutos configurados; un valor negativo confía siempre en la copia
+     */
+    public static AffiliateSnapshotPolicy fromMinutes(long maxAgeMinutes) {
+        return maxAgeMinutes < 0 ? trustAlways() : revalidateAfter(Duration.ofMinutes(maxAgeMinutes));
+    }
+
+    /**
+     * Indica si la solicitud debe evaluarse con el afiliado vigente en lugar de la copia
+     */
+    public boolean requiresRevalidation(AffiliateSnapshot snapshot, LocalDateTime now) {
+        if (snapshot == null || !snapshot.isComplete()) {
+            return true;
+        }
+        if (maxAge == null) {
+            return false;
+        }
+        return snapshot.getFechaCaptura().plus(maxAge).isBefore(now);
+    }
+}
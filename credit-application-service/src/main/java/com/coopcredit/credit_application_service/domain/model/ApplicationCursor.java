@@ -0,0 +1,34 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Posición de paginación por keyset sobre (fechaSolicitud, id)
+ * Identifica la última solicitud entregada; la siguiente página empieza justo después
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationCursor {
+
+    private LocalDateTime fechaSolicitud;
+    private Long id;
+
+    /**
+     * Construye el cursor a partir de la última solicitud de una página
+     */
+    public static ApplicationCursor after(CreditApplication application) {
+        return new ApplicationCursor(application.getFechaSolicitud(), application.getId());
+    }
+
+    /**
+     * Construye el cursor a partir del último resumen de una página
+     */
+    public static ApplicationCursor after(CreditApplicationSummary summary) {
+        return new ApplicationCursor(summary.getFechaSolicitud(), summary.getId());
+    }
+}
@@ -0,0 +1,34 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.exceptions.BusinessRuleException;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filtros de la exportación de solicitudes
+ * Todos son opcionales; el rango de fechas es [desde, hasta)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationExportFilter {
+
+    private ApplicationStatus estado;
+    private LocalDateTime desde;
+    private LocalDateTime hasta;
+
+    /**
+     * Valida que el rango de fechas sea coherente
+     */
+    public void validate() {
+        if (desde != null && hasta != null && !desde.isBefore(hasta)) {
+            throw new BusinessRuleException("La fecha inicial debe ser anterior a la fecha final");
+        }
+    }
+}
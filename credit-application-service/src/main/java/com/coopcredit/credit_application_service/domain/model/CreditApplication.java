@@ -30,6 +30,8 @@ public class CreditApplication {
     private ApplicationStatus estado;
     private String motivoRechazo;
     private RiskEvaluation evaluacionRiesgo;
+    private AffiliateSnapshot snapshotAfiliado;
+    private Long version; // Control de concurrencia optimista
 
     /**
      * Valida las reglas de negocio de la solicitud
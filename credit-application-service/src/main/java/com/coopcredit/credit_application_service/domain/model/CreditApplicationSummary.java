@@ -0,0 +1,49 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.enums.RiskLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Modelo de dominio de lectura: Resumen de Solicitud de Crédito para listados
+ * Solo las columnas que muestra un listado; el detalle completo se consulta por ID
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreditApplicationSummary {
+
+    private Long id;
+    private Long afiliadoId;
+    private BigDecimal montoSolicitado;
+    private Integer plazoMeses;
+    private BigDecimal tasaPropuesta;
+    private LocalDateTime fechaSolicitud;
+    private ApplicationStatus estado;
+    private Integer score;
+    private RiskLevel nivelRiesgo;
+
+    /**
+     * Resumen de una solicitud completa (score y nivel vacíos si aún no fue evaluada)
+     */
+    public static CreditApplicationSummary of(CreditApplication application) {
+        RiskEvaluation evaluacion = application.getEvaluacionRiesgo();
+        return new CreditApplicationSummary(
+                application.getId(),
+                application.getAfiliadoId(),
+                application.getMontoSolicitado(),
+                application.getPlazoMeses(),
+                application.getTasaPropuesta(),
+                application.getFechaSolicitud(),
+                application.getEstado(),
+                evaluacion != null ? evaluacion.getScore() : null,
+                evaluacion != null ? evaluacion.getNivelRiesgo() : null);
+    }
+}
@@ -0,0 +1,38 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Página de resultados paginados por keyset
+ * hasMore indica si existen más elementos después del último de la página
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> items;
+    private boolean hasMore;
+
+    /**
+     * Construye la página a partir de una consulta que pidió size + 1 filas:
+     * la fila extra solo indica que hay una página siguiente y se descarta
+     */
+    public static <T> CursorPage<T> fromOverfetch(List<T> rows, int size) {
+        if (rows.size() > size) {
+            return new CursorPage<>(rows.subList(0, size), true);
+        }
+        return new CursorPage<>(rows, false);
+    }
+
+    /**
+     * Último elemento de la página, base del cursor siguiente
+     */
+    public T last() {
+        return items.isEmpty() ? null : items.get(items.size() - 1);
+    }
+}
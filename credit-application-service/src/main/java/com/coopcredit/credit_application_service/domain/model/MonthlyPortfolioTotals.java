@@ -0,0 +1,40 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Totales de un mes de solicitud (formato yyyy-MM)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyPortfolioTotals {
+
+    private String mes;
+    private long cantidad;
+    private BigDecimal montoTotal;
+    private long pendientes;
+    private long aprobadas;
+    private long rechazadas;
+
+    public static MonthlyPortfolioTotals empty(String mes) {
+        return new MonthlyPortfolioTotals(mes, 0, BigDecimal.ZERO, 0, 0, 0);
+    }
+
+    public void add(ApplicationStatus estado, long cantidad, BigDecimal monto) {
+        this.cantidad += cantidad;
+        this.montoTotal = this.montoTotal.add(monto);
+        switch (estado) {
+            case PENDIENTE -> pendientes += cantidad;
+            case APROBADO -> aprobadas += cantidad;
+            case RECHAZADO -> rechazadas += cantidad;
+        }
+    }
+}
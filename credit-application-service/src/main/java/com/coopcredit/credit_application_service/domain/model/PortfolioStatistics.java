@@ -0,0 +1,85 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.enums.RiskLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Estadísticas de la cartera de solicitudes: totales, tasa de aprobación,
+ * distribución por estado y nivel de riesgo y serie mensual
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioStatistics {
+
+    private long totalSolicitudes;
+    private BigDecimal montoTotal;
+    private BigDecimal tasaAprobacion; // % de aprobadas sobre las evaluadas
+    private List<PortfolioTotals> porEstado;
+    private List<PortfolioTotals> porNivelRiesgo;
+    private List<MonthlyPortfolioTotals> mensual;
+
+    /**
+     * Combina los totales agregados; la serie mensual cubre [desde, hasta] completando con ceros
+     * los meses sin solicitudes. Los totales y distribuciones cubren todo el histórico
+     */
+    public static PortfolioStatistics fromBuckets(List<PortfolioStatisticsBucket> buckets, YearMonth desde, YearMonth hasta) {
+        Map<ApplicationStatus, PortfolioTotals> porEstado = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus estado : ApplicationStatus.values()) {
+            porEstado.put(estado, PortfolioTotals.empty(estado.name()));
+        }
+        Map<String, PortfolioTotals> porNivel = new LinkedHashMap<>();
+        for (RiskLevel nivel : RiskLevel.values()) {
+            porNivel.put(nivel.name(), PortfolioTotals.empty(nivel.name()));
+        }
+        porNivel.put(PortfolioStatisticsBucket.SIN_EVALUAR, PortfolioTotals.empty(PortfolioStatisticsBucket.SIN_EVALUAR));
+        Map<YearMonth, MonthlyPortfolioTotals> mensual = new TreeMap<>();
+        for (YearMonth mes = desde; !mes.isAfter(hasta); mes = mes.plusMonths(1)) {
+            mensual.put(mes, MonthlyPortfolioTotals.empty(mes.toString()));
+        }
+
+        long total = 0;
+        BigDecimal monto = BigDecimal.ZERO;
+        for (PortfolioStatisticsBucket bucket : buckets) {
+            total += bucket.getCantidad();
+            monto = monto.add(bucket.getMontoTotal());
+            porEstado.get(bucket.getEstado()).add(bucket.getCantidad(), bucket.getMontoTotal());
+            porNivel.computeIfAbsent(bucket.getNivelRiesgo(), PortfolioTotals::empty)
+                    .add(bucket.getCantidad(), bucket.getMontoTotal());
+            MonthlyPortfolioTotals mes = mensual.get(YearMonth.from(bucket.getMes()));
+            if (mes != null) {
+                mes.add(bucket.getEstado(), bucket.getCantidad(), bucket.getMontoTotal());
+            }
+        }
+
+        long aprobadas = porEstado.get(ApplicationStatus.APROBADO).getCantidad();
+        long evaluadas = aprobadas + porEstado.get(ApplicationStatus.RECHAZADO).getCantidad();
+        BigDecimal tasaAprobacion = evaluadas == 0
+                ? BigDecimal.ZERO
+                : BigDecimal.valueOf(aprobadas * 100).divide(BigDecimal.valueOf(evaluadas), 2, RoundingMode.HALF_UP);
+
+        return PortfolioStatistics.builder()
+                .totalSolicitudes(total)
+                .montoTotal(monto)
+                .tasaAprobacion(tasaAprobacion)
+                .porEstado(new ArrayList<>(porEstado.values()))
+                .porNivelRiesgo(new ArrayList<>(porNivel.values()))
+                .mensual(new ArrayList<>(mensual.values()))
+                .build();
+    }
+}
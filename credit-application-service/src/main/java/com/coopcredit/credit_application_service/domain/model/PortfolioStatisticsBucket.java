@@ -0,0 +1,29 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Total agregado de solicitudes para un mes, estado y nivel de riesgo
+ * Es la unidad que mantiene incrementalmente la persistencia de estadísticas
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioStatisticsBucket {
+
+    public static final String SIN_EVALUAR = "SIN_EVALUAR";
+
+    private LocalDate mes;
+    private ApplicationStatus estado;
+    private String nivelRiesgo; // BAJO, MEDIO, ALTO o SIN_EVALUAR
+    private long cantidad;
+    private BigDecimal montoTotal;
+}
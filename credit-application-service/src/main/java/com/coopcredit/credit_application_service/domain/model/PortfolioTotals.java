@@ -0,0 +1,31 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Cantidad y monto solicitado de un grupo de solicitudes (por estado o por nivel de riesgo)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioTotals {
+
+    private String grupo;
+    private long cantidad;
+    private BigDecimal montoTotal;
+
+    public static PortfolioTotals empty(String grupo) {
+        return new PortfolioTotals(grupo, 0, BigDecimal.ZERO);
+    }
+
+    public void add(long cantidad, BigDecimal monto) {
+        this.cantidad += cantidad;
+        this.montoTotal = this.montoTotal.add(monto);
+    }
+}
@@ -24,6 +24,7 @@ public class RiskEvaluation {
     private RiskLevel nivelRiesgo;
     private String detalle;
     private LocalDateTime fechaEvaluacion;
+    private Long version; // Control de concurrencia optimista
 
     /**
      * Determina si la evaluación representa un riesgo aceptable
@@ -22,6 +22,7 @@ public class User {
     private String password;
     private UserRole role;
     private String documento; // Referencia al documento del afiliado si aplica
+    private Long version; // Control de concurrencia optimista
 
     /**
      * Valida las reglas de negocio del usuario
@@ -0,0 +1,17 @@
+package com.coopcredit.credit_application_service.domain.ports.in;
+
+import com.coopcredit.credit_application_service.domain.model.AffiliateImportReport;
+import com.coopcredit.credit_application_service.domain.model.AffiliateImportRow;
+
+import java.util.List;
+
+/**
+ * Puerto de entrada: Importación masiva de afiliados
+ */
+public interface AffiliateImportUseCase {
+
+    /**
+     * Valida e importa las filas; las inválidas o duplicadas se reportan sin abortar la carga
+     */
+    AffiliateImportReport importAffiliates(List<AffiliateImportRow> rows);
+}
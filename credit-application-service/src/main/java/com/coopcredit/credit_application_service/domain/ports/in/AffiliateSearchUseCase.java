@@ -0,0 +1,17 @@
+package com.coopcredit.credit_application_service.domain.ports.in;
+
+import com.coopcredit.credit_application_service.domain.model.AffiliateSearchCursor;
+import com.coopcredit.credit_application_service.domain.model.AffiliateSearchHit;
+import com.coopcredit.credit_application_service.domain.model.CursorPage;
+
+/**
+ * Puerto de entrada: Búsqueda de afiliados
+ */
+public interface AffiliateSearchUseCase {
+
+    /**
+     * @param texto nombre (coincidencia aproximada) o prefijo de documento (solo dígitos)
+     * @param after cursor de la página anterior; null para la primera
+     */
+    CursorPage<AffiliateSearchHit> searchAffiliates(String texto, AffiliateSearchCursor after, int size);
+}
@@ -1,6 +1,7 @@
 package com.coopcredit.credit_application_service.domain.ports.in;
 
 import com.coopcredit.credit_application_service.domain.model.Affiliate;
+import com.coopcredit.credit_application_service.domain.model.CursorPage;
 
 import java.util.List;
 import java.util.Optional;
@@ -36,6 +37,11 @@ public interface AffiliateUseCase {
      */
     List<Affiliate> getAllAffiliates();
     
+    /**
+     * Lista afiliados paginados por keyset (orden por id)
+     */
+    CursorPage<Affiliate> getAffiliatesPage(Long afterId, int size);
+    
     /**
      * Cambia el estado de un afiliado
      */
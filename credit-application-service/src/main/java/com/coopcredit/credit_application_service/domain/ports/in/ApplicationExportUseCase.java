@@ -0,0 +1,21 @@
+package com.coopcredit.credit_application_service.domain.ports.in;
+
+import com.coopcredit.credit_application_service.domain.model.CreditApplication;
+
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * Puerto de entrada: Exportación masiva de solicitudes de crédito
+ */
+public interface ApplicationExportUseCase {
+
+    /**
+     * Exporta las solicitudes filtradas por estado y rango de fechas (todos opcionales)
+     * @param desde fecha inicial inclusiva
+     * @param hasta fecha final inclusiva
+     * @param consumer receptor de cada solicitud exportada
+     * @return cantidad de solicitudes exportadas
+     */
+    long exportApplications(String estado, LocalDate desde, LocalDate hasta, Consumer<CreditApplication> consumer);
+}
@@ -0,0 +1,27 @@
+package com.coopcredit.credit_application_service.domain.ports.in;
+
+import com.coopcredit.credit_application_service.domain.model.ApplicationCursor;
+import com.coopcredit.credit_application_service.domain.model.CreditApplicationSummary;
+import com.coopcredit.credit_application_service.domain.model.CursorPage;
+
+/**
+ * Puerto de entrada: Listados de solicitudes servidos desde el modelo de lectura en memoria
+ * Mismas páginas que CreditApplicationUseCase; si el modelo no está disponible se consulta la base
+ */
+public interface ApplicationSummaryQueryUseCase {
+
+    /**
+     * Lista solicitudes paginadas por keyset (más recientes primero)
+     */
+    CursorPage<CreditApplicationSummary> getApplicationsPage(ApplicationCursor after, int size);
+
+    /**
+     * Lista solicitudes por estado paginadas por keyset
+     */
+    CursorPage<CreditApplicationSummary> getApplicationsPageByStatus(String status, ApplicationCursor after, int size);
+
+    /**
+     * Lista solicitudes de un afiliado paginadas por keyset
+     */
+    CursorPage<CreditApplicationSummary> getApplicationsPageByAffiliate(Long afiliadoId, ApplicationCursor after, int size);
+}
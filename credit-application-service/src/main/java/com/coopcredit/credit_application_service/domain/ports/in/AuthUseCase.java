@@ -28,4 +28,15 @@ public interface AuthUseCase {
      * Obtiene un usuario por documento (para afiliados)
      */
     Optional<User> getUserByDocumento(String documento);
+    
+    /**
+     * Reemplaza el hash de la contraseña (rehash al iniciar sesión con un costo mayor)
+     */
+    User updatePasswordHash(User user, String encodedPassword);
+    
+    /**
+     * Id del afiliado de un usuario AFILIADO, para incluirlo en el token al iniciar sesión
+     * @return vacío si el usuario no es afiliado o su afiliado aún no está registrado
+     */
+    Optional<Long> findAffiliateId(User user);
 }
@@ -1,6 +1,9 @@
 package com.coopcredit.credit_application_service.domain.ports.in;
 
+import com.coopcredit.credit_application_service.domain.model.ApplicationCursor;
 import com.coopcredit.credit_application_service.domain.model.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.CreditApplicationSummary;
+import com.coopcredit.credit_application_service.domain.model.CursorPage;
 
 import java.util.List;
 import java.util.Optional;
@@ -45,4 +48,19 @@ public interface CreditApplicationUseCase {
      * Lista solicitudes por estado
      */
     List<CreditApplication> getApplicationsByStatus(String status);
+    
+    /**
+     * Lista solicitudes paginadas por keyset (más recientes primero)
+     */
+    CursorPage<CreditApplicationSummary> getApplicationsPage(ApplicationCursor after, int size);
+    
+    /**
+     * Lista solicitudes por estado paginadas por keyset
+     */
+    CursorPage<CreditApplicationSummary> getApplicationsPageByStatus(String status, ApplicationCursor after, int size);
+    
+    /**
+     * Lista solicitudes de un afiliado paginadas por keyset
+     */
+    CursorPage<CreditApplicationSummary> getApplicationsPageByAffiliate(Long afiliadoId, ApplicationCursor after, int size);
 }
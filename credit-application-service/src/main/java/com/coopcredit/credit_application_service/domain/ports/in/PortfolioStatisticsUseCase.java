@@ -0,0 +1,14 @@
+package com.coopcredit.credit_application_service.domain.ports.in;
+
+import com.coopcredit.credit_application_service.domain.model.PortfolioStatistics;
+
+/**
+ * Puerto de entrada: Estadísticas de la cartera de solicitudes
+ */
+public interface PortfolioStatisticsUseCase {
+
+    /**
+     * @param meses cantidad de meses de la serie mensual, incluido el actual
+     */
+    PortfolioStatistics getPortfolioStatistics(int meses);
+}
@@ -0,0 +1,25 @@
+package com.coopcredit.credit_application_service.domain.ports.out;
+
+import com.coopcredit.credit_application_service.domain.model.Affiliate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Puerto de salida: Carga masiva de afiliados
+ * Operaciones por conjunto, sin una consulta ni un INSERT por afiliado
+ */
+public interface AffiliateBulkLoadPort {
+
+    /**
+     * Devuelve cuáles de los documentos ya están registrados (una sola consulta)
+     */
+    Set<String> findExistingDocumentos(Collection<String> documentos);
+
+    /**
+     * Inserta los afiliados omitiendo los documentos que ya existan en la base de datos
+     * @return documentos efectivamente insertados
+     */
+    Set<String> insertAll(List<Affiliate> affiliates);
+}
@@ -0,0 +1,29 @@
+package com.coopcredit.credit_application_service.domain.ports.out;
+
+import com.coopcredit.credit_application_service.domain.model.AffiliateExposure;
+
+import java.math.BigDecimal;
+
+/**
+ * Puerto de salida: Exposición agregada por afiliado
+ * Cada operación actualiza una sola fila dentro de la transacción del cambio de estado.
+ * Orden de bloqueo: la fila de exposición se toma antes que la de la solicitud
+ */
+public interface AffiliateExposurePort {
+
+    /**
+     * Suma una solicitud abierta (PENDIENTE)
+     */
+    void recordOpened(Long afiliadoId);
+
+    /**
+     * Bloquea la exposición del afiliado hasta el fin de la transacción
+     * Las evaluaciones concurrentes del mismo afiliado esperan aquí y leen el valor ya actualizado
+     */
+    AffiliateExposure lockByAfiliadoId(Long afiliadoId);
+
+    /**
+     * Cierra una solicitud abierta y suma el capital y la cuota aprobados (cero si fue rechazada)
+     */
+    void recordDecision(Long afiliadoId, BigDecimal capitalAprobado, BigDecimal cuotaAprobada);
+}
@@ -1,5 +1,6 @@
 package com.coopcredit.credit_application_service.domain.ports.out;
 
+import com.coopcredit.credit_application_service.domain.enums.AffiliateStatus;
 import com.coopcredit.credit_application_service.domain.model.Affiliate;
 
 import java.util.List;
@@ -13,13 +14,32 @@ public interface AffiliateRepositoryPort {
     
     Affiliate save(Affiliate affiliate);
     
+    /**
+     * Guarda varios registros en lotes JDBC (hibernate.jdbc.batch_size)
+     * @return los registros guardados con sus ids asignados, en el mismo orden
+     */
+    List<Affiliate> saveAll(List<Affiliate> affiliates);
+    
     Optional<Affiliate> findById(Long id);
     
     Optional<Affiliate> findByDocumento(String documento);
     
     List<Affiliate> findAll();
     
+    /**
+     * Paginación por keyset ordenada por id ascendente
+     * @param afterId id de la última fila entregada, null para la primera página
+     * @param limit máximo de filas a devolver
+     */
+    List<Affiliate> findPage(Long afterId, int limit);
+    
     boolean existsByDocumento(String documento);
     
+    /**
+     * Transición de estado en un único UPDATE condicional
+     * @return false si el afiliado ya no está en el estado esperado (otra operación lo cambió)
+     */
+    boolean updateStatus(Long id, AffiliateStatus expected, AffiliateStatus target);
+    
     void deleteById(Long id);
 }
@@ -0,0 +1,19 @@
+package com.coopcredit.credit_application_service.domain.ports.out;
+
+import com.coopcredit.credit_application_service.domain.model.AffiliateSearchCursor;
+import com.coopcredit.credit_application_service.domain.model.AffiliateSearchHit;
+import com.coopcredit.credit_application_service.domain.model.AffiliateSearchQuery;
+
+import java.util.List;
+
+/**
+ * Puerto de salida: Búsqueda indexada de afiliados por nombre o prefijo de documento
+ */
+public interface AffiliateSearchPort {
+
+    /**
+     * Resultados ordenados por (relevancia DESC, documento), posteriores al cursor
+     * @param after null para la primera página
+     */
+    List<AffiliateSearchHit> search(AffiliateSearchQuery query, AffiliateSearchCursor after, int limit);
+}
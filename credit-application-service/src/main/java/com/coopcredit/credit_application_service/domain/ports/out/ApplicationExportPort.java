@@ -0,0 +1,19 @@
+package com.coopcredit.credit_application_service.domain.ports.out;
+
+import com.coopcredit.credit_application_service.domain.model.ApplicationExportFilter;
+import com.coopcredit.credit_application_service.domain.model.CreditApplication;
+
+import java.util.function.Consumer;
+
+/**
+ * Puerto de salida: Lectura secuencial de solicitudes para exportación
+ * Entrega las filas una a una al consumidor sin acumularlas en memoria
+ */
+public interface ApplicationExportPort {
+
+    /**
+     * Recorre las solicitudes que cumplen el filtro en orden (fechaSolicitud, id)
+     * @return cantidad de solicitudes entregadas
+     */
+    long streamApplications(ApplicationExportFilter filter, Consumer<CreditApplication> consumer);
+}
@@ -0,0 +1,25 @@
+package com.coopcredit.credit_application_service.domain.ports.out;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.model.ApplicationCursor;
+import com.coopcredit.credit_application_service.domain.model.CreditApplicationSummary;
+
+import java.util.List;
+
+/**
+ * Puerto de salida: Modelo de lectura en memoria de los resúmenes de solicitudes
+ * Mismo contrato de paginación por keyset que CreditApplicationRepositoryPort, sin consultar la base
+ */
+public interface ApplicationReadModelPort {
+
+    /**
+     * Indica si la carga inicial terminó; antes de eso las consultas deben ir a la base
+     */
+    boolean isReady();
+
+    List<CreditApplicationSummary> findSummaryPage(ApplicationCursor after, int limit);
+
+    List<CreditApplicationSummary> findSummaryPageByEstado(ApplicationStatus estado, ApplicationCursor after, int limit);
+
+    List<CreditApplicationSummary> findSummaryPageByAfiliadoId(Long afiliadoId, ApplicationCursor after, int limit);
+}
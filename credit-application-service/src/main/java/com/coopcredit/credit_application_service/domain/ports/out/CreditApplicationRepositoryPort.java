@@ -1,7 +1,9 @@
 package com.coopcredit.credit_application_service.domain.ports.out;
 
 import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.model.ApplicationCursor;
 import com.coopcredit.credit_application_service.domain.model.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.CreditApplicationSummary;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,11 +17,30 @@ public interface CreditApplicationRepositoryPort {
     
     Optional<CreditApplication> findById(Long id);
     
+    /**
+     * Guarda la decisión (estado, motivo, evaluación de riesgo y copia del afiliado) en un único
+     * UPDATE condicional que solo aplica si la solicitud sigue PENDIENTE
+     * @return false si otra operación ya evaluó la solicitud
+     */
+    boolean saveDecision(CreditApplication application);
+    
     List<CreditApplication> findAll();
     
     List<CreditApplication> findByAfiliadoId(Long afiliadoId);
     
     List<CreditApplication> findByEstado(ApplicationStatus estado);
     
+    /**
+     * Paginación por keyset ordenada por (fechaSolicitud, id) descendente
+     * Devuelve resúmenes: solo lee las columnas del listado
+     * @param after cursor de la última fila entregada, null para la primera página
+     * @param limit máximo de filas a devolver
+     */
+    List<CreditApplicationSummary> findSummaryPage(ApplicationCursor after, int limit);
+    
+    List<CreditApplicationSummary> findSummaryPageByEstado(ApplicationStatus estado, ApplicationCursor after, int limit);
+    
+    List<CreditApplicationSummary> findSummaryPageByAfiliadoId(Long afiliadoId, ApplicationCursor after, int limit);
+    
     void deleteById(Long id);
 }
@@ -0,0 +1,17 @@
+package com.coopcredit.credit_application_service.domain.ports.out;
+
+import com.coopcredit.credit_application_service.domain.model.PortfolioStatisticsBucket;
+
+import java.util.List;
+
+/**
+ * Puerto de salida: Lectura de los totales agregados de solicitudes
+ * Los totales se mantienen al crear o evaluar cada solicitud; leerlos no recorre las solicitudes
+ */
+public interface PortfolioStatisticsPort {
+
+    /**
+     * Totales por mes, estado y nivel de riesgo (sin combinaciones vacías)
+     */
+    List<PortfolioStatisticsBucket> findBuckets();
+}
@@ -0,0 +1,14 @@
+package com.coopcredit.credit_application_service.infrastructure.adapters;
+
+/**
+ * Ubicación de la evaluación de riesgo de una solicitud (credit.risk-evaluation.storage)
+ * TABLE: fila propia en risk_evaluations referenciada por evaluacion_riesgo_id; cada decisión
+ * inserta la evaluación y actualiza la solicitud, y cada lectura hace JOIN.
+ * EMBEDDED: columnas riesgo_* de credit_applications (V13); la decisión es un solo UPDATE y
+ * las lecturas no hacen JOIN. Las solicitudes escritas en modo TABLE se copian con
+ * backfill_embedded_risk_evaluations() antes de cambiar a EMBEDDED
+ */
+public enum RiskEvaluationStorage {
+    TABLE,
+    EMBEDDED
+}
@@ -0,0 +1,134 @@
+package com.coopcredit.credit_application_service.infrastructure.adapters.inprocess;
+
+import com.coopcredit.credit_application_service.domain.enums.RiskLevel;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.domain.ports.out.RiskCentralPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adaptador en proceso: Implementa la central de riesgo sin salir de la JVM
+ * Reutiliza el algoritmo de scoring de risk-central-mock-service para pruebas de carga
+ * aisladas; la latencia sintética se simula con un scheduler en lugar de Thread.sleep
+ */
+@Component
+@Profile(InProcessRiskCentralAdapter.PROFILE)
+public class InProcessRiskCentralAdapter implements RiskCentralPort, DisposableBean {
+
+    public static final String PROFILE = "inprocess-risk";
+
+    private static final Logger logger = LoggerFactory.getLogger(InProcessRiskCentralAdapter.class);
+
+    private final long latencyMs;
+    private final long jitterMs;
+    private final long timeoutMs;
+    private final ScheduledExecutorService scheduler;
+
+    public InProcessRiskCentralAdapter(
+            @Value("${risk.central.inprocess.latency-ms:0}") long latencyMs,
+            @Value("${risk.central.inprocess.jitter-ms:0}") long jitterMs,
+            @Value("${risk.central.inprocess.timeout-ms:5000}") long timeoutMs,
+            @Value("${risk.central.inprocess.scheduler-threads:2}") int schedulerThreads) {
+        this.latencyMs = Math.max(0, latencyMs);
+        this.jitterMs = Math.max(0, jitterMs);
+        this.timeoutMs = timeoutMs;
+        this.scheduler = Executors.newScheduledThreadPool(Math.max(1, schedulerThreads), daemonThreadFactory());
+        logger.info("Central de riesgo en proceso activa - Latencia: {} ms, Jitter: {} ms", this.latencyMs, this.jitterMs);
+    }
+
+    @Override
+    public RiskEvaluation evaluateRisk(String documento, Double monto, Integer plazo) {
+        long delay = nextDelayMs();
+        if (delay == 0) {
+            return score(documento);
+        }
+
+        // El hilo llamante espera la respuesta como lo haría con la llamada HTTP,
+        // pero sin ocupar un hilo adicional durmiendo por cada solicitud en vuelo
+        CompletableFuture<RiskEvaluation> response = new CompletableFuture<>();
+        scheduler.schedule(() -> response.complete(score(documento)), delay, TimeUnit.MILLISECONDS);
+
+        try {
+            return response.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Consulta a central de riesgo interrumpida", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new RuntimeException("Error al consultar central de riesgo: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Mismo algoritmo determinístico que RiskEvaluationService del servicio mock:
+     * un mismo documento siempre devuelve el mismo score y nivel
+     */
+    static RiskEvaluation score(String documento) {
+        int seed = generateSeedFromDocumento(documento);
+        int score = 300 + (seed % 651);
+
+        RiskLevel nivelRiesgo;
+        String detalle;
+
+        if (score <= 500) {
+            nivelRiesgo = RiskLevel.ALTO;
+            detalle = "Historial crediticio deficiente. Alto riesgo de incumplimiento.";
+        } else if (score <= 700) {
+            nivelRiesgo = RiskLevel.MEDIO;
+            detalle = "Historial crediticio moderado. Riesgo medio de incumplimiento.";
+        } else {
+            nivelRiesgo = RiskLevel.BAJO;
+            detalle = "Excelente historial crediticio. Bajo riesgo de incumplimiento.";
+        }
+
+        return RiskEvaluation.builder()
+                .documento(documento)
+                .score(score)
+                .nivelRiesgo(nivelRiesgo)
+                .detalle(detalle)
+                .fechaEvaluacion(LocalDateTime.now())
+                .build();
+    }
+
+    private static int generateSeedFromDocumento(String documento) {
+        if (documento == null || documento.isEmpty()) {
+            return 500;
+        }
+        return Math.abs(documento.hashCode()) % 1000;
+    }
+
+    private long nextDelayMs() {
+        if (jitterMs == 0) {
+            return latencyMs;
+        }
+        return latencyMs + ThreadLocalRandom.current().nextLong(jitterMs + 1);
+    }
+
+    private static ThreadFactory daemonThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "risk-central-inprocess-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
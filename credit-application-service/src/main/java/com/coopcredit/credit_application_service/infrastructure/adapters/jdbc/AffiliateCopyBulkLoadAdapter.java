@@ -0,0 +1,138 @@
+package com.coopcredit.credit_application_service.infrastructure.adapters.jdbc;
+
+import com.coopcredit.credit_application_service.domain.model.Affiliate;
+import com.coopcredit.credit_application_service.domain.ports.out.AffiliateBulkLoadPort;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Adaptador JDBC: Carga masiva de afiliados con el protocolo COPY de PostgreSQL
+ * Las filas se copian a una tabla temporal y se fusionan con un único INSERT ... SELECT;
+ * ON CONFLICT descarta documentos registrados de forma concurrente
+ */
+@Component
+public class AffiliateCopyBulkLoadAdapter implements AffiliateBulkLoadPort {
+
+    private static final String CREATE_STAGING =
+            "CREATE TEMP TABLE IF NOT EXISTS affiliates_import_staging (" +
+            "documento VARCHAR(20) NOT NULL, " +
+            "nombre VARCHAR(200) NOT NULL, " +
+            "salario DECIMAL(15, 2) NOT NULL, " +
+            "fecha_afiliacion DATE NOT NULL, " +
+            "estado VARCHAR(20) NOT NULL" +
+            ") ON COMMIT DELETE ROWS";
+
+    private static final String COPY_STAGING =
+            "COPY affiliates_import_staging (documento, nombre, salario, fecha_afiliacion, estado) " +
+            "FROM STDIN WITH (FORMAT csv)";
+
+    private static final String MERGE_STAGING =
+            "INSERT INTO affiliates (documento, nombre, salario, fecha_afiliacion, estado) " +
+            "SELECT documento, nombre, salario, fecha_afiliacion, estado FROM affiliates_import_staging " +
+            "ON CONFLICT (documento) DO NOTHING " +
+            "RETURNING documento";
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AffiliateCopyBulkLoadAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Set<String> findExistingDocumentos(Collection<String> documentos) {
+        return jdbcTemplate.execute((Connection connection) -> {
+            Set<String> existing = new HashSet<>();
+            Array array = connection.createArrayOf("varchar", documentos.toArray());
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT documento FROM affiliates WHERE documento = ANY(?)")) {
+                statement.setArray(1, array);
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        existing.add(rs.getString(1));
+                    }
+                }
+            } finally {
+                array.free();
+            }
+            return existing;
+        });
+    }
+
+    @Override
+    public Set<String> insertAll(List<Affiliate> affiliates) {
+        // La conexión es la de la transacción en curso: la tabla temporal se vacía al confirmar
+        return jdbcTemplate.execute((Connection connection) -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING);
+                statement.execute("TRUNCATE affiliates_import_staging");
+            }
+
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new PGCopyOutputStream(pgConnection, COPY_STAGING), StandardCharsets.UTF_8), COPY_BUFFER_SIZE)) {
+                for (Affiliate affiliate : affiliates) {
+                    writeCsvRow(writer, affiliate);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error al copiar afiliados a la tabla temporal", e);
+            }
+
+            Set<String> inserted = new HashSet<>(affiliates.size() * 2);
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(MERGE_STAGING)) {
+                while (rs.next()) {
+                    inserted.add(rs.getString(1));
+                }
+            }
+            return inserted;
+        });
+    }
+
+    private void writeCsvRow(Writer writer, Affiliate affiliate) throws IOException {
+        writeCsvField(writer, affiliate.getDocumento());
+        writer.write(',');
+        writeCsvField(writer, affiliate.getNombre());
+        writer.write(',');
+        writer.write(affiliate.getSalario().toPlainString());
+        writer.write(',');
+        writer.write(affiliate.getFechaAfiliacion().toString());
+        writer.write(',');
+        writer.write(affiliate.getEstado().name());
+        writer.write('\n');
+    }
+
+    /**
+     * Campo CSV siempre entrecomillado: en FORMAT csv un valor entre comillas nunca se interpreta como NULL
+     */
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
@@ -0,0 +1,65 @@
+package com.coopcredit.credit_application_service.infrastructure.adapters.jdbc;
+
+import com.coopcredit.credit_application_service.domain.model.AffiliateExposure;
+import com.coopcredit.credit_application_service.domain.ports.out.AffiliateExposurePort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * Adaptador JDBC: Mantiene la tabla affiliate_exposure (V14)
+ * Cada operación es un UPSERT o un SELECT ... FOR UPDATE sobre la clave primaria;
+ * participa en la transacción del servicio que cambia el estado de la solicitud
+ */
+@Component
+public class AffiliateExposureJdbcAdapter implements AffiliateExposurePort {
+
+    private static final String OPEN =
+            "INSERT INTO affiliate_exposure AS e (afiliado_id, solicitudes_abiertas) VALUES (?, 1) " +
+            "ON CONFLICT (afiliado_id) DO UPDATE " +
+            "SET solicitudes_abiertas = e.solicitudes_abiertas + 1, fecha_actualizacion = now()";
+
+    private static final String ENSURE_ROW =
+            "INSERT INTO affiliate_exposure (afiliado_id) VALUES (?) ON CONFLICT (afiliado_id) DO NOTHING";
+
+    private static final String LOCK =
+            "SELECT afiliado_id, solicitudes_abiertas, capital_aprobado, cuota_mensual_total " +
+            "FROM affiliate_exposure WHERE afiliado_id = ? FOR UPDATE";
+
+    // GREATEST: solicitudes cargadas fuera del servicio no pasaron por recordOpened
+    private static final String DECIDE =
+            "INSERT INTO affiliate_exposure AS e (afiliado_id, capital_aprobado, cuota_mensual_total) VALUES (?, ?, ?) " +
+            "ON CONFLICT (afiliado_id) DO UPDATE " +
+            "SET solicitudes_abiertas = GREATEST(e.solicitudes_abiertas - 1, 0), " +
+            "capital_aprobado = e.capital_aprobado + EXCLUDED.capital_aprobado, " +
+            "cuota_mensual_total = e.cuota_mensual_total + EXCLUDED.cuota_mensual_total, " +
+            "fecha_actualizacion = now()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AffiliateExposureJdbcAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void recordOpened(Long afiliadoId) {
+        jdbcTemplate.update(OPEN, afiliadoId);
+    }
+
+    @Override
+    public AffiliateExposure lockByAfiliadoId(Long afiliadoId) {
+        jdbcTemplate.update(ENSURE_ROW, afiliadoId);
+        return jdbcTemplate.queryForObject(LOCK, (rs, rowNum) -> AffiliateExposure.builder()
+                .afiliadoId(rs.getLong("afiliado_id"))
+                .solicitudesAbiertas(rs.getInt("solicitudes_abiertas"))
+                .capitalAprobado(rs.getBigDecimal("capital_aprobado"))
+                .cuotaMensualTotal(rs.getBigDecimal("cuota_mensual_total"))
+                .build(), afiliadoId);
+    }
+
+    @Override
+    public void recordDecision(Long afiliadoId, BigDecimal capitalAprobado, BigDecimal cuotaAprobada) {
+        jdbcTemplate.update(DECIDE, afiliadoId, capitalAprobado, cuotaAprobada);
+    }
+}
@@ -0,0 +1,100 @@
+package com.coopcredit.credit_application_service.infrastructure.adapters.jdbc;
+
+import com.coopcredit.credit_application_service.domain.enums.AffiliateStatus;
+import com.coopcredit.credit_application_service.domain.model.AffiliateSearchCursor;
+import com.coopcredit.credit_application_service.domain.model.AffiliateSearchHit;
+import com.coopcredit.credit_application_service.domain.model.AffiliateSearchQuery;
+import com.coopcredit.credit_application_service.domain.ports.out.AffiliateSearchPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adaptador JDBC: Búsqueda de afiliados sobre los índices de V12
+ * Nombre: cada término filtra con "termino <% nombre" (idx_affiliate_nombre_trgm) y el texto
+ * completo ordena por word_similarity. Documento: rango de prefijo sobre
+ * idx_affiliate_documento_prefijo, que ya entrega el orden sin Sort
+ */
+@Component
+public class AffiliateSearchJdbcAdapter implements AffiliateSearchPort {
+
+    private static final String COLUMNS = "a.id, a.documento, a.nombre, a.estado, a.fecha_afiliacion";
+
+    private static final String NAME_TERM =
+            "affiliate_search_text(?) <% affiliate_search_text(a.nombre)";
+
+    private static final String DOCUMENTO = "a.documento COLLATE \"C\"";
+
+    private static final RowMapper<AffiliateSearchHit> HIT_MAPPER = (rs, rowNum) -> AffiliateSearchHit.builder()
+            .id(rs.getLong("id"))
+            .documento(rs.getString("documento"))
+            .nombre(rs.getString("nombre"))
+            .estado(AffiliateStatus.valueOf(rs.getString("estado")))
+            .fechaAfiliacion(rs.getDate("fecha_afiliacion").toLocalDate())
+            .relevancia(rs.getDouble("relevancia"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AffiliateSearchJdbcAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<AffiliateSearchHit> search(AffiliateSearchQuery query, AffiliateSearchCursor after, int limit) {
+        return query.isPorDocumento()
+                ? searchByDocumento(query.getTexto(), after, limit)
+                : searchByNombre(query, after, limit);
+    }
+
+    private List<AffiliateSearchHit> searchByNombre(AffiliateSearchQuery query, AffiliateSearchCursor after, int limit) {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT * FROM (SELECT ").append(COLUMNS)
+                .append(", word_similarity(affiliate_search_text(?), affiliate_search_text(a.nombre)) AS relevancia ")
+                .append("FROM affiliates a WHERE ");
+        params.add(query.getTexto());
+        for (int i = 0; i < query.getTerminos().size(); i++) {
+            sql.append(i == 0 ? "" : " AND ").append(NAME_TERM);
+            params.add(query.getTerminos().get(i));
+        }
+        sql.append(") s ");
+        if (after != null) {
+            // word_similarity devuelve real: el cursor se compara como real para que la igualdad sea exacta
+            sql.append("WHERE s.relevancia < CAST(? AS real) ")
+                    .append("OR (s.relevancia = CAST(? AS real) AND s.documento COLLATE \"C\" > ?) ");
+            params.add(after.getRelevancia());
+            params.add(after.getRelevancia());
+            params.add(after.getDocumento());
+        }
+        sql.append("ORDER BY s.relevancia DESC, s.documento COLLATE \"C\" LIMIT ?");
+        params.add(limit);
+        return jdbcTemplate.query(sql.toString(), HIT_MAPPER, params.toArray());
+    }
+
+    private List<AffiliateSearchHit> searchByDocumento(String prefijo, AffiliateSearchCursor after, int limit) {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS).append(", 1.0::float8 AS relevancia ")
+                .append("FROM affiliates a WHERE ").append(DOCUMENTO).append(" >= ? AND ")
+                .append(DOCUMENTO).append(" < ? ");
+        params.add(prefijo);
+        params.add(nextPrefix(prefijo));
+        if (after != null) {
+            sql.append("AND ").append(DOCUMENTO).append(" > ? ");
+            params.add(after.getDocumento());
+        }
+        sql.append("ORDER BY ").append(DOCUMENTO).append(" LIMIT ?");
+        params.add(limit);
+        return jdbcTemplate.query(sql.toString(), HIT_MAPPER, params.toArray());
+    }
+
+    /**
+     * Menor cadena mayor que todas las que empiezan con el prefijo (orden binario): "123" -> "124"
+     */
+    static String nextPrefix(String prefijo) {
+        char last = prefijo.charAt(prefijo.length() - 1);
+        return prefijo.substring(0, prefijo.length() - 1) + (char) (last + 1);
+    }
+}
@@ -0,0 +1,125 @@
+package com.coopcredit.credit_application_service.infrastructure.adapters.jdbc;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.enums.RiskLevel;
+import com.coopcredit.credit_application_service.domain.model.ApplicationExportFilter;
+import com.coopcredit.credit_application_service.domain.model.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.domain.ports.out.ApplicationExportPort;
+import com.coopcredit.credit_application_service.infrastructure.adapters.RiskEvaluationStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Adaptador JDBC: Implementa la exportación con un cursor de solo avance
+ * No pasa por JPA: sin contexto de persistencia ni entidades administradas, cada fila
+ * se mapea y se entrega al consumidor; PostgreSQL solo usa cursor con fetchSize dentro
+ * de una transacción (autocommit desactivado)
+ * En modo EMBEDDED la evaluación se lee de las columnas riesgo_* sin JOIN
+ */
+@Component
+public class ApplicationExportJdbcAdapter implements ApplicationExportPort {
+
+    private static final String BASE_QUERY =
+            "SELECT a.id, a.afiliado_id, a.monto_solicitado, a.plazo_meses, a.tasa_propuesta, " +
+            "a.fecha_solicitud, a.estado, a.motivo_rechazo, r.score, r.nivel_riesgo " +
+            "FROM credit_applications a " +
+            "LEFT JOIN risk_evaluations r ON r.id = a.evaluacion_riesgo_id";
+
+    private static final String EMBEDDED_QUERY =
+            "SELECT a.id, a.afiliado_id, a.monto_solicitado, a.plazo_meses, a.tasa_propuesta, " +
+            "a.fecha_solicitud, a.estado, a.motivo_rechazo, a.riesgo_score AS score, a.riesgo_nivel AS nivel_riesgo " +
+            "FROM credit_applications a";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+    private final String baseQuery;
+
+    public ApplicationExportJdbcAdapter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${export.fetch-size:1000}") int fetchSize,
+            @Value("${credit.risk-evaluation.storage:TABLE}") RiskEvaluationStorage storage) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+        this.baseQuery = storage == RiskEvaluationStorage.EMBEDDED ? EMBEDDED_QUERY : BASE_QUERY;
+    }
+
+    @Override
+    public long streamApplications(ApplicationExportFilter filter, Consumer<CreditApplication> consumer) {
+        List<Object> params = new ArrayList<>();
+        String sql = buildQuery(filter, params);
+        long[] count = {0};
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < params.size(); i++) {
+                statement.setObject(i + 1, params.get(i));
+            }
+            return statement;
+        }, rs -> {
+            consumer.accept(mapRow(rs));
+            count[0]++;
+        });
+
+        return count[0];
+    }
+
+    private String buildQuery(ApplicationExportFilter filter, List<Object> params) {
+        StringBuilder sql = new StringBuilder(baseQuery);
+        List<String> conditions = new ArrayList<>();
+
+        if (filter.getEstado() != null) {
+            conditions.add("a.estado = ?");
+            params.add(filter.getEstado().name());
+        }
+        if (filter.getDesde() != null) {
+            conditions.add("a.fecha_solicitud >= ?");
+            params.add(Timestamp.valueOf(filter.getDesde()));
+        }
+        if (filter.getHasta() != null) {
+            conditions.add("a.fecha_solicitud < ?");
+            params.add(Timestamp.valueOf(filter.getHasta()));
+        }
+
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        // Orden estable que aprovecha el índice (fecha_solicitud, id)
+        sql.append(" ORDER BY a.fecha_solicitud, a.id");
+        return sql.toString();
+    }
+
+    private CreditApplication mapRow(ResultSet rs) throws SQLException {
+        RiskEvaluation evaluacion = null;
+        int score = rs.getInt("score");
+        if (!rs.wasNull()) {
+            evaluacion = RiskEvaluation.builder()
+                    .score(score)
+                    .nivelRiesgo(RiskLevel.valueOf(rs.getString("nivel_riesgo")))
+                    .build();
+        }
+
+        return CreditApplication.builder()
+                .id(rs.getLong("id"))
+                .afiliadoId(rs.getLong("afiliado_id"))
+                .montoSolicitado(rs.getBigDecimal("monto_solicitado"))
+                .plazoMeses(rs.getInt("plazo_meses"))
+                .tasaPropuesta(rs.getBigDecimal("tasa_propuesta"))
+                .fechaSolicitud(rs.getTimestamp("fecha_solicitud").toLocalDateTime())
+                .estado(ApplicationStatus.valueOf(rs.getString("estado")))
+                .motivoRechazo(rs.getString("motivo_rechazo"))
+                .evaluacionRiesgo(evaluacion)
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.coopcredit.credit_application_service.infrastructure.adapters.jdbc;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.model.PortfolioStatisticsBucket;
+import com.coopcredit.credit_application_service.domain.ports.out.PortfolioStatisticsPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Adaptador JDBC: Lee la tabla application_statistics que mantiene el trigger de V11
+ * Suma los slots de cada combinación; nunca consulta credit_applications
+ */
+@Component
+public class PortfolioStatisticsJdbcAdapter implements PortfolioStatisticsPort {
+
+    private static final String BUCKETS_QUERY =
+            "SELECT mes, estado, nivel_riesgo, sum(cantidad) AS cantidad, sum(monto_total) AS monto_total " +
+            "FROM application_statistics " +
+            "GROUP BY mes, estado, nivel_riesgo " +
+            "HAVING sum(cantidad) <> 0 " +
+            "ORDER BY mes, estado, nivel_riesgo";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PortfolioStatisticsJdbcAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<PortfolioStatisticsBucket> findBuckets() {
+        return jdbcTemplate.query(BUCKETS_QUERY, (rs, rowNum) -> PortfolioStatisticsBucket.builder()
+                .mes(rs.getDate("mes").toLocalDate())
+                .estado(ApplicationStatus.valueOf(rs.getString("estado")))
+                .nivelRiesgo(rs.getString("nivel_riesgo"))
+                .cantidad(rs.getLong("cantidad"))
+                .montoTotal(rs.getBigDecimal("monto_total"))
+                .build());
+    }
+}
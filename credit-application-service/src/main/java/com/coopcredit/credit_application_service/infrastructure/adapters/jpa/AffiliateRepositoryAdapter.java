@@ -1,10 +1,17 @@
 package com.coopcredit.credit_application_service.infrastructure.adapters.jpa;
 
+import com.coopcredit.credit_application_service.domain.enums.AffiliateStatus;
 import com.coopcredit.credit_application_service.domain.model.Affiliate;
 import com.coopcredit.credit_application_service.domain.ports.out.AffiliateRepositoryPort;
+import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.entities.AffiliateEntity;
 import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.repositories.AffiliateJpaRepository;
 import com.coopcredit.credit_application_service.infrastructure.web.mapper.AffiliateMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,6 +27,9 @@ public class AffiliateRepositoryAdapter implements AffiliateRepositoryPort {
     private final AffiliateJpaRepository jpaRepository;
     private final AffiliateMapper mapper;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     public AffiliateRepositoryAdapter(AffiliateJpaRepository jpaRepository, AffiliateMapper mapper) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
@@ -32,15 +42,32 @@ public class AffiliateRepositoryAdapter implements AffiliateRepositoryPort {
         return mapper.toDomain(saved);
     }
 
+    @Override
+    public List<Affiliate> saveAll(List<Affiliate> affiliates) {
+        var entities = affiliates.stream()
+                .map(mapper::toEntity)
+                .collect(Collectors.toList());
+        return jpaRepository.saveAll(entities).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Affiliate> findById(Long id) {
         return jpaRepository.findById(id)
                 .map(mapper::toDomain);
     }
 
+    /**
+     * Con transacción propia, igual que findByUsername de usuarios: sirve desde jobs y tests sin OSIV
+     */
     @Override
+    @Transactional(readOnly = true)
     public Optional<Affiliate> findByDocumento(String documento) {
-        return jpaRepository.findByDocumento(documento)
+        // Búsqueda por natural id: se resuelve desde el second-level cache sin consultar la base
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(AffiliateEntity.class)
+                .loadOptional(documento)
                 .map(mapper::toDomain);
     }
 
@@ -51,11 +78,26 @@ public class AffiliateRepositoryAdapter implements AffiliateRepositoryPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Affiliate> findPage(Long afterId, int limit) {
+        var entities = afterId == null
+                ? jpaRepository.findAllByOrderByIdAsc(Limit.of(limit))
+                : jpaRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+        return entities.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public boolean existsByDocumento(String documento) {
         return jpaRepository.existsByDocumento(documento);
     }
 
+    @Override
+    public boolean updateStatus(Long id, AffiliateStatus expected, AffiliateStatus target) {
+        return jpaRepository.updateStatus(id, expected, target) == 1;
+    }
+
     @Override
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
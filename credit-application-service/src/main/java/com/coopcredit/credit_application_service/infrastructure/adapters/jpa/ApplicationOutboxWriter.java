@@ -0,0 +1,70 @@
+package com.coopcredit.credit_application_service.infrastructure.adapters.jpa;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationEventType;
+import com.coopcredit.credit_application_service.domain.model.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.CreditApplicationSummary;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.entities.OutboxEventEntity;
+import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.repositories.OutboxEventJpaRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Escribe en el outbox los cambios de estado de las solicitudes
+ * Se invoca desde el adaptador de persistencia, dentro de la transacción que guarda la
+ * solicitud: si esa transacción se revierte, el evento tampoco existe.
+ * El mismo cambio se publica como ApplicationStateChangedEvent para los modelos de lectura en memoria
+ */
+@Component
+public class ApplicationOutboxWriter {
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private final OutboxEventJpaRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ApplicationOutboxWriter(OutboxEventJpaRepository outboxRepository, ApplicationEventPublisher eventPublisher) {
+        this.outboxRepository = outboxRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public void append(CreditApplication application) {
+        outboxRepository.save(toEvent(application));
+        eventPublisher.publishEvent(new ApplicationStateChangedEvent(List.of(CreditApplicationSummary.of(application))));
+    }
+
+    private OutboxEventEntity toEvent(CreditApplication application) {
+        return OutboxEventEntity.builder()
+                .aplicacionId(application.getId())
+                .tipoEvento(ApplicationEventType.of(application.getEstado()))
+                .payload(JSON.writeValueAsString(payload(application)))
+                .fechaCreacion(LocalDateTime.now())
+                .intentos(0)
+                .build();
+    }
+
+    /**
+     * Estado de la solicitud al momento del evento: el consumidor no necesita consultar la API
+     */
+    private Map<String, Object> payload(CreditApplication application) {
+        RiskEvaluation evaluacion = application.getEvaluacionRiesgo();
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", application.getId());
+        payload.put("afiliadoId", application.getAfiliadoId());
+        payload.put("montoSolicitado", application.getMontoSolicitado());
+        payload.put("plazoMeses", application.getPlazoMeses());
+        payload.put("tasaPropuesta", application.getTasaPropuesta());
+        payload.put("fechaSolicitud", application.getFechaSolicitud() != null ? application.getFechaSolicitud().toString() : null);
+        payload.put("estado", application.getEstado().name());
+        payload.put("motivoRechazo", application.getMotivoRechazo());
+        payload.put("score", evaluacion != null ? evaluacion.getScore() : null);
+        payload.put("nivelRiesgo", evaluacion != null && evaluacion.getNivelRiesgo() != null ? evaluacion.getNivelRiesgo().name() : null);
+        return payload;
+    }
+}
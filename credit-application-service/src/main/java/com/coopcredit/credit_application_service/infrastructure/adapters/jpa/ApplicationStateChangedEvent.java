@@ -0,0 +1,13 @@
+package com.coopcredit.credit_application_service.infrastructure.adapters.jpa;
+
+import com.coopcredit.credit_application_service.domain.model.CreditApplicationSummary;
+
+import java.util.List;
+
+/**
+ * Evento interno (misma JVM) con el estado de las solicitudes que acaban de escribirse en el outbox
+ * Se publica dentro de la transacción; los oyentes que solo deben ver datos confirmados
+ * usan @TransactionalEventListener
+ */
+public record ApplicationStateChangedEvent(List<CreditApplicationSummary> summaries) {
+}
@@ -1,11 +1,24 @@
 package com.coopcredit.credit_application_service.infrastructure.adapters.jpa;
 
 import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.model.AffiliateSnapshot;
+import com.coopcredit.credit_application_service.domain.model.ApplicationCursor;
 import com.coopcredit.credit_application_service.domain.model.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.CreditApplicationSummary;
 import com.coopcredit.credit_application_service.domain.ports.out.CreditApplicationRepositoryPort;
+import com.coopcredit.credit_application_service.infrastructure.adapters.RiskEvaluationStorage;
+import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.entities.CreditApplicationEntity;
+import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.entities.RiskEvaluationEmbeddable;
+import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.entities.RiskEvaluationEntity;
 import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.repositories.CreditApplicationJpaRepository;
 import com.coopcredit.credit_application_service.infrastructure.web.mapper.CreditApplicationMapper;
+import com.coopcredit.credit_application_service.infrastructure.web.mapper.RiskEvaluationMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,56 +27,203 @@ import java.util.stream.Collectors;
 /**
  * Adaptador JPA: Implementa el puerto de persistencia de Solicitudes de Crédito
  * Traduce entre el dominio y la infraestructura JPA
+ * Los cambios de estado se registran en el outbox dentro de la misma transacción
+ * La evaluación de riesgo se guarda según credit.risk-evaluation.storage (ver RiskEvaluationStorage)
  */
 @Component
 public class CreditApplicationRepositoryAdapter implements CreditApplicationRepositoryPort {
     
     private final CreditApplicationJpaRepository jpaRepository;
     private final CreditApplicationMapper mapper;
+    private final RiskEvaluationMapper riskEvaluationMapper;
+    private final ApplicationOutboxWriter outboxWriter;
+    private final boolean embedded;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     public CreditApplicationRepositoryAdapter(
             CreditApplicationJpaRepository jpaRepository,
-            CreditApplicationMapper mapper) {
+            CreditApplicationMapper mapper,
+            RiskEvaluationMapper riskEvaluationMapper,
+            ApplicationOutboxWriter outboxWriter,
+            @Value("${credit.risk-evaluation.storage:TABLE}") RiskEvaluationStorage storage) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.riskEvaluationMapper = riskEvaluationMapper;
+        this.outboxWriter = outboxWriter;
+        this.embedded = storage == RiskEvaluationStorage.EMBEDDED;
     }
 
     @Override
+    @Transactional
     public CreditApplication save(CreditApplication application) {
-        var entity = mapper.toEntity(application);
-        var saved = jpaRepository.save(entity);
-        return mapper.toDomain(saved);
+        // Estado previo confirmado: solo los cambios de estado generan evento en el outbox
+        ApplicationStatus previous = application.getId() == null
+                ? null
+                : jpaRepository.findEstadoById(application.getId()).orElse(null);
+        var entity = toEntity(application);
+        var saved = mapper.toDomain(jpaRepository.save(entity));
+        if (saved.getEstado() != previous) {
+            outboxWriter.append(saved);
+        }
+        return saved;
     }
 
     @Override
     public Optional<CreditApplication> findById(Long id) {
-        return jpaRepository.findById(id)
+        return (embedded ? jpaRepository.findEmbeddedById(id) : jpaRepository.findById(id))
                 .map(mapper::toDomain);
     }
 
+    @Override
+    @Transactional
+    public boolean saveDecision(CreditApplication application) {
+        AffiliateSnapshot snapshot = application.getSnapshotAfiliado() != null
+                ? application.getSnapshotAfiliado()
+                : new AffiliateSnapshot();
+        int updated = embedded
+                ? applyEmbeddedDecision(application, snapshot)
+                : applyTableDecision(application, snapshot);
+        if (updated != 1) {
+            return false;
+        }
+        if (application.getVersion() != null) {
+            application.setVersion(application.getVersion() + 1);
+        }
+        outboxWriter.append(application);
+        return true;
+    }
+
+    private int applyTableDecision(CreditApplication application, AffiliateSnapshot snapshot) {
+        // La evaluación de riesgo nueva se inserta antes del UPDATE que la referencia
+        RiskEvaluationEntity evaluacion = null;
+        if (application.getEvaluacionRiesgo() != null) {
+            evaluacion = riskEvaluationMapper.toEntity(application.getEvaluacionRiesgo());
+            if (evaluacion.getId() == null) {
+                entityManager.persist(evaluacion);
+                application.getEvaluacionRiesgo().setId(evaluacion.getId());
+            } else {
+                evaluacion = entityManager.getReference(RiskEvaluationEntity.class, evaluacion.getId());
+            }
+        }
+        
+        return jpaRepository.applyDecision(
+                application.getId(),
+                application.getFechaSolicitud(),
+                application.getEstado(),
+                application.getMotivoRechazo(),
+                evaluacion,
+                snapshot.getDocumento(),
+                snapshot.getSalario(),
+                snapshot.getFechaAfiliacion(),
+                snapshot.getEstado(),
+                snapshot.getFechaCaptura());
+    }
+
+    private int applyEmbeddedDecision(CreditApplication application, AffiliateSnapshot snapshot) {
+        RiskEvaluationEmbeddable evaluacion = application.getEvaluacionRiesgo() != null
+                ? riskEvaluationMapper.toEmbeddable(application.getEvaluacionRiesgo())
+                : new RiskEvaluationEmbeddable();
+        return jpaRepository.applyEmbeddedDecision(
+                application.getId(),
+                application.getFechaSolicitud(),
+                application.getEstado(),
+                application.getMotivoRechazo(),
+                evaluacion.getScore(),
+                evaluacion.getNivelRiesgo(),
+                evaluacion.getDetalle(),
+                evaluacion.getFechaEvaluacion(),
+                snapshot.getDocumento(),
+                snapshot.getSalario(),
+                snapshot.getFechaAfiliacion(),
+                snapshot.getEstado(),
+                snapshot.getFechaCaptura());
+    }
+
     @Override
     public List<CreditApplication> findAll() {
-        return jpaRepository.findAll().stream()
+        return (embedded ? jpaRepository.findAllEmbeddedBy() : jpaRepository.findAll()).stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<CreditApplication> findByAfiliadoId(Long afiliadoId) {
-        return jpaRepository.findByAfiliadoId(afiliadoId).stream()
+        var entities = embedded
+                ? jpaRepository.findEmbeddedByAfiliadoIdOrderByFechaSolicitudDescIdDesc(afiliadoId)
+                : jpaRepository.findByAfiliadoIdOrderByFechaSolicitudDescIdDesc(afiliadoId);
+        return entities.stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<CreditApplication> findByEstado(ApplicationStatus estado) {
-        return jpaRepository.findByEstado(estado).stream()
+        // Las pendientes se atienden en orden de llegada desde el índice parcial
+        List<CreditApplicationEntity> entities;
+        if (estado == ApplicationStatus.PENDIENTE) {
+            entities = embedded ? jpaRepository.findPendingOldestFirstEmbedded() : jpaRepository.findPendingOldestFirst();
+        } else {
+            entities = embedded ? jpaRepository.findEmbeddedByEstado(estado) : jpaRepository.findByEstado(estado);
+        }
+        return entities.stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<CreditApplicationSummary> findSummaryPage(ApplicationCursor after, int limit) {
+        // La proyección ya es el modelo de dominio: no hay entidades que mapear
+        if (embedded) {
+            return after == null
+                    ? jpaRepository.findEmbeddedSummaryFirstPage(Limit.of(limit))
+                    : jpaRepository.findEmbeddedSummaryPageAfter(after.getFechaSolicitud(), after.getId(), Limit.of(limit));
+        }
+        return after == null
+                ? jpaRepository.findSummaryFirstPage(Limit.of(limit))
+                : jpaRepository.findSummaryPageAfter(after.getFechaSolicitud(), after.getId(), Limit.of(limit));
+    }
+
+    @Override
+    public List<CreditApplicationSummary> findSummaryPageByEstado(ApplicationStatus estado, ApplicationCursor after, int limit) {
+        if (embedded) {
+            return after == null
+                    ? jpaRepository.findEmbeddedSummaryFirstPageByEstado(estado, Limit.of(limit))
+                    : jpaRepository.findEmbeddedSummaryPageByEstadoAfter(estado, after.getFechaSolicitud(), after.getId(), Limit.of(limit));
+        }
+        return after == null
+                ? jpaRepository.findSummaryFirstPageByEstado(estado, Limit.of(limit))
+                : jpaRepository.findSummaryPageByEstadoAfter(estado, after.getFechaSolicitud(), after.getId(), Limit.of(limit));
+    }
+
+    @Override
+    public List<CreditApplicationSummary> findSummaryPageByAfiliadoId(Long afiliadoId, ApplicationCursor after, int limit) {
+        if (embedded) {
+            return after == null
+                    ? jpaRepository.findEmbeddedSummaryFirstPageByAfiliadoId(afiliadoId, Limit.of(limit))
+                    : jpaRepository.findEmbeddedSummaryPageByAfiliadoIdAfter(afiliadoId, after.getFechaSolicitud(), after.getId(), Limit.of(limit));
+        }
+        return after == null
+                ? jpaRepository.findSummaryFirstPageByAfiliadoId(afiliadoId, Limit.of(limit))
+                : jpaRepository.findSummaryPageByAfiliadoIdAfter(afiliadoId, after.getFechaSolicitud(), after.getId(), Limit.of(limit));
+    }
+
     @Override
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
     }
+
+    /**
+     * En modo EMBEDDED la evaluación viaja en la fila de la solicitud y se suelta la
+     * referencia a risk_evaluations (la fila histórica se conserva)
+     */
+    private CreditApplicationEntity toEntity(CreditApplication application) {
+        CreditApplicationEntity entity = mapper.toEntity(application);
+        if (embedded) {
+            entity.setEvaluacionEmbebida(riskEvaluationMapper.toEmbeddable(application.getEvaluacionRiesgo()));
+            entity.setEvaluacionRiesgo(null);
+        }
+        return entity;
+    }
 }
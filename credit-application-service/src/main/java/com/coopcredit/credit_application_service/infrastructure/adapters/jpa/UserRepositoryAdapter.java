@@ -2,16 +2,24 @@ package com.coopcredit.credit_application_service.infrastructure.adapters.jpa;
 
 import com.coopcredit.credit_application_service.domain.model.User;
 import com.coopcredit.credit_application_service.domain.ports.out.UserRepositoryPort;
+import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.entities.UserEntity;
 import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.repositories.UserJpaRepository;
+import com.coopcredit.credit_application_service.infrastructure.datasource.Workload;
+import com.coopcredit.credit_application_service.infrastructure.datasource.WorkloadContext;
 import com.coopcredit.credit_application_service.infrastructure.web.mapper.UserMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 /**
  * Adaptador JPA: Implementa el puerto de persistencia de Usuarios
  * Incluye encriptación de contraseñas
+ * Las consultas usan el pool de autenticación (si no hay una conexión ya tomada en la transacción)
  */
 @Component
 public class UserRepositoryAdapter implements UserRepositoryPort {
@@ -20,6 +28,9 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
     private final UserMapper mapper;
     private final PasswordEncoder passwordEncoder;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     public UserRepositoryAdapter(
             UserJpaRepository jpaRepository,
             UserMapper mapper,
@@ -38,30 +49,37 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
             entity.setPassword(passwordEncoder.encode(entity.getPassword()));
         }
         
-        var saved = jpaRepository.save(entity);
-        return mapper.toDomain(saved);
+        return WorkloadContext.call(Workload.AUTH, () -> mapper.toDomain(jpaRepository.save(entity)));
     }
 
     @Override
     public Optional<User> findById(Long id) {
-        return jpaRepository.findById(id)
-                .map(mapper::toDomain);
+        return WorkloadContext.call(Workload.AUTH, () -> jpaRepository.findById(id)
+                .map(mapper::toDomain));
     }
 
+    /**
+     * Transacción propia de solo lectura: fuera de una transacción la Session compartida se cierra
+     * tras resolver el natural id y loadOptional falla
+     */
     @Override
+    @Transactional(readOnly = true)
     public Optional<User> findByUsername(String username) {
-        return jpaRepository.findByUsername(username)
-                .map(mapper::toDomain);
+        // Búsqueda por natural id: se resuelve desde el second-level cache sin consultar la base
+        return WorkloadContext.call(Workload.AUTH, () -> entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(UserEntity.class)
+                .loadOptional(username)
+                .map(mapper::toDomain));
     }
 
     @Override
     public Optional<User> findByDocumento(String documento) {
-        return jpaRepository.findByDocumento(documento)
-                .map(mapper::toDomain);
+        return WorkloadContext.call(Workload.AUTH, () -> jpaRepository.findByDocumento(documento)
+                .map(mapper::toDomain));
     }
 
     @Override
     public boolean existsByUsername(String username) {
-        return jpaRepository.existsByUsername(username);
+        return WorkloadContext.call(Workload.AUTH, () -> jpaRepository.existsByUsername(username));
     }
 }
@@ -6,6 +6,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -13,9 +17,13 @@ import java.time.LocalDate;
 /**
  * Entidad JPA: Afiliado
  * Pertenece a la capa de infraestructura
+ * Cacheada en el second-level cache (por id y por documento); las escrituras vía JPA la actualizan
  */
 @Entity
 @Table(name = "affiliates")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "affiliates")
+@NaturalIdCache(region = "affiliates-by-documento")
 @Data
 @Builder
 @NoArgsConstructor
@@ -23,9 +31,11 @@ import java.time.LocalDate;
 public class AffiliateEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "affiliates_seq")
+    @SequenceGenerator(name = "affiliates_seq", sequenceName = "affiliates_seq", allocationSize = 50)
     private Long id;
     
+    @NaturalId(mutable = true)
     @Column(unique = true, nullable = false, length = 20)
     private String documento;
     
@@ -41,4 +51,8 @@ public class AffiliateEntity {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private AffiliateStatus estado;
+    
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
@@ -0,0 +1,40 @@
+package com.coopcredit.credit_application_service.infrastructure.adapters.jpa.entities;
+
+import com.coopcredit.credit_application_service.domain.enums.AffiliateStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Componente JPA: Copia del afiliado almacenada en credit_applications
+ * Pertenece a la capa de infraestructura
+ */
+@Embeddable
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AffiliateSnapshotEmbeddable {
+
+    @Column(name = "afiliado_documento", length = 20)
+    private String documento;
+
+    @Column(name = "afiliado_salario", precision = 15, scale = 2)
+    private BigDecimal salario;
+
+    @Column(name = "afiliado_fecha_afiliacion")
+    private LocalDate fechaAfiliacion;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "afiliado_estado", length = 20)
+    private AffiliateStatus estado;
+
+    @Column(name = "afiliado_fecha_captura")
+    private LocalDateTime fechaCaptura;
+}
@@ -23,7 +23,8 @@ import java.time.LocalDateTime;
 public class CreditApplicationEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "credit_applications_seq")
+    @SequenceGenerator(name = "credit_applications_seq", sequenceName = "credit_applications_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "afiliado_id", nullable = false)
@@ -51,4 +52,15 @@ public class CreditApplicationEntity {
     @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinColumn(name = "evaluacion_riesgo_id", referencedColumnName = "id")
     private RiskEvaluationEntity evaluacionRiesgo;
+    
+    // Modo EMBEDDED: la evaluación en la propia fila, sin evaluacion_riesgo_id
+    @Embedded
+    private RiskEvaluationEmbeddable evaluacionEmbebida;
+    
+    @Embedded
+    private AffiliateSnapshotEmbeddable snapshotAfiliado;
+    
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
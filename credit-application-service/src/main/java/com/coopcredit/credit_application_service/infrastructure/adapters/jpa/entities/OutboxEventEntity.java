@@ -0,0 +1,56 @@
+package com.coopcredit.credit_application_service.infrastructure.adapters.jpa.entities;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationEventType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA: Evento pendiente del outbox de solicitudes
+ * Solo se inserta desde JPA; la publicación la marca el relay con JDBC
+ */
+@Entity
+@Table(name = "application_outbox")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "application_outbox_seq")
+    @SequenceGenerator(name = "application_outbox_seq", sequenceName = "application_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "aplicacion_id", nullable = false)
+    private Long aplicacionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tipo_evento", nullable = false, length = 40)
+    private ApplicationEventType tipoEvento;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "fecha_creacion", nullable = false)
+    private LocalDateTime fechaCreacion;
+
+    @Column(name = "fecha_publicacion")
+    private LocalDateTime fechaPublicacion;
+
+    @Column(nullable = false)
+    private Integer intentos;
+
+    @Column(name = "ultimo_error", columnDefinition = "TEXT")
+    private String ultimoError;
+
+    @Column(name = "fecha_proximo_intento")
+    private LocalDateTime fechaProximoIntento;
+
+    @Column(name = "fecha_aparcado")
+    private LocalDateTime fechaAparcado;
+}
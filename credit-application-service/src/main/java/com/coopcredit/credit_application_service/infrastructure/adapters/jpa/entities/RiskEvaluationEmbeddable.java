@@ -0,0 +1,35 @@
+package com.coopcredit.credit_application_service.infrastructure.adapters.jpa.entities;
+
+import com.coopcredit.credit_application_service.domain.enums.RiskLevel;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Componente JPA: Evaluación de riesgo almacenada en credit_applications (modo EMBEDDED)
+ * Pertenece a la capa de infraestructura
+ */
+@Embeddable
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RiskEvaluationEmbeddable {
+
+    @Column(name = "riesgo_score")
+    private Integer score;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "riesgo_nivel", length = 20)
+    private RiskLevel nivelRiesgo;
+
+    @Column(name = "riesgo_detalle", columnDefinition = "TEXT")
+    private String detalle;
+
+    @Column(name = "riesgo_fecha_evaluacion")
+    private LocalDateTime fechaEvaluacion;
+}
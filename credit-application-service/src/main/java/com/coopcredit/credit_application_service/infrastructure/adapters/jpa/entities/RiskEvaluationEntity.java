@@ -22,7 +22,8 @@ import java.time.LocalDateTime;
 public class RiskEvaluationEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "risk_evaluations_seq")
+    @SequenceGenerator(name = "risk_evaluations_seq", sequenceName = "risk_evaluations_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, length = 20)
@@ -40,4 +41,8 @@ public class RiskEvaluationEntity {
     
     @Column(name = "fecha_evaluacion", nullable = false)
     private LocalDateTime fechaEvaluacion;
+    
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
@@ -6,13 +6,21 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 /**
  * Entidad JPA: Usuario
  * Pertenece a la capa de infraestructura
+ * Cacheada en el second-level cache (por id y por username) para el login
  */
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "users-by-username")
 @Data
 @Builder
 @NoArgsConstructor
@@ -20,9 +28,11 @@ import lombok.NoArgsConstructor;
 public class UserEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
     
+    @NaturalId
     @Column(unique = true, nullable = false, length = 100)
     private String username;
     
@@ -35,4 +45,8 @@ public class UserEntity {
     
     @Column(length = 20)
     private String documento; // Para vincular con afiliado si aplica
+    
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
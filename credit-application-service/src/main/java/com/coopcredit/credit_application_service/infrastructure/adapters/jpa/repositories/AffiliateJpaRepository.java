@@ -1,9 +1,15 @@
 package com.coopcredit.credit_application_service.infrastructure.adapters.jpa.repositories;
 
+import com.coopcredit.credit_application_service.domain.enums.AffiliateStatus;
 import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.entities.AffiliateEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -16,4 +22,18 @@ public interface AffiliateJpaRepository extends JpaRepository<AffiliateEntity, L
     Optional<AffiliateEntity> findByDocumento(String documento);
     
     boolean existsByDocumento(String documento);
+    
+    // Paginación por keyset sobre la llave primaria
+    List<AffiliateEntity> findAllByOrderByIdAsc(Limit limit);
+    
+    List<AffiliateEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+    
+    // Transición de estado condicional: solo cambia si el estado actual es el esperado
+    // (el UPDATE masivo invalida la región del second-level cache de afiliados)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AffiliateEntity a SET a.estado = :target, a.version = a.version + 1 " +
+           "WHERE a.id = :id AND a.estado = :expected")
+    int updateStatus(@Param("id") Long id,
+                     @Param("expected") AffiliateStatus expected,
+                     @Param("target") AffiliateStatus target);
 }
@@ -1,17 +1,32 @@
 package com.coopcredit.credit_application_service.infrastructure.adapters.jpa.repositories;
 
 import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.model.CreditApplicationSummary;
+import com.coopcredit.credit_application_service.domain.enums.AffiliateStatus;
+import com.coopcredit.credit_application_service.domain.enums.RiskLevel;
 import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.entities.CreditApplicationEntity;
+import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.entities.RiskEvaluationEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Repositorio JPA Spring Data: Solicitudes de Crédito
  * Usa @EntityGraph para evitar problema N+1 con evaluación de riesgo
+ * Los métodos *Embedded* son las mismas lecturas para el modo EMBEDDED: la evaluación
+ * está en la fila de la solicitud y no hay JOIN con risk_evaluations
+ * Las consultas de página usan keyset sobre (fecha_solicitud, id): el predicado
+ * fecha_solicitud <= :fecha acota el rango del índice y el OR desempata por id
  */
 @Repository
 public interface CreditApplicationJpaRepository extends JpaRepository<CreditApplicationEntity, Long> {
@@ -27,6 +42,162 @@ public interface CreditApplicationJpaRepository extends JpaRepository<CreditAppl
     @EntityGraph(attributePaths = {"evaluacionRiesgo"})
     List<CreditApplicationEntity> findByAfiliadoId(Long afiliadoId);
     
+    @EntityGraph(attributePaths = {"evaluacionRiesgo"})
+    List<CreditApplicationEntity> findByAfiliadoIdOrderByFechaSolicitudDescIdDesc(Long afiliadoId);
+    
     @EntityGraph(attributePaths = {"evaluacionRiesgo"})
     List<CreditApplicationEntity> findByEstado(ApplicationStatus estado);
+    
+    // El estado va como literal (no como parámetro) para que PostgreSQL pueda usar
+    // el índice parcial idx_application_pendiente también con planes genéricos
+    String PENDING_QUERY = "SELECT a FROM CreditApplicationEntity a " +
+           "WHERE a.estado = com.coopcredit.credit_application_service.domain.enums.ApplicationStatus.PENDIENTE " +
+           "ORDER BY a.fechaSolicitud, a.id";
+    
+    @EntityGraph(attributePaths = {"evaluacionRiesgo"})
+    @Query(PENDING_QUERY)
+    List<CreditApplicationEntity> findPendingOldestFirst();
+    
+    Optional<CreditApplicationEntity> findEmbeddedById(Long id);
+    
+    List<CreditApplicationEntity> findAllEmbeddedBy();
+    
+    List<CreditApplicationEntity> findEmbeddedByAfiliadoIdOrderByFechaSolicitudDescIdDesc(Long afiliadoId);
+    
+    List<CreditApplicationEntity> findEmbeddedByEstado(ApplicationStatus estado);
+    
+    @Query(PENDING_QUERY)
+    List<CreditApplicationEntity> findPendingOldestFirstEmbedded();
+    
+    // Proyección de listados: expresión constructora sin entidades administradas ni motivo_rechazo
+    String SUMMARY_SELECT = 
+            "SELECT new com.coopcredit.credit_application_service.domain.model.CreditApplicationSummary(" +
+            "a.id, a.afiliadoId, a.montoSolicitado, a.plazoMeses, a.tasaPropuesta, a.fechaSolicitud, a.estado, " +
+            "r.score, r.nivelRiesgo) " +
+            "FROM CreditApplicationEntity a LEFT JOIN a.evaluacionRiesgo r ";
+    
+    String SUMMARY_EMBEDDED_SELECT = 
+            "SELECT new com.coopcredit.credit_application_service.domain.model.CreditApplicationSummary(" +
+            "a.id, a.afiliadoId, a.montoSolicitado, a.plazoMeses, a.tasaPropuesta, a.fechaSolicitud, a.estado, " +
+            "a.evaluacionEmbebida.score, a.evaluacionEmbebida.nivelRiesgo) " +
+            "FROM CreditApplicationEntity a ";
+    
+    String KEYSET_AFTER = "a.fechaSolicitud <= :fecha AND (a.fechaSolicitud < :fecha OR a.id < :id) ";
+    
+    String NEWEST_FIRST = "ORDER BY a.fechaSolicitud DESC, a.id DESC";
+    
+    @Query(SUMMARY_SELECT + "ORDER BY a.fechaSolicitud DESC, a.id DESC")
+    List<CreditApplicationSummary> findSummaryFirstPage(Limit limit);
+    
+    @Query(SUMMARY_SELECT + 
+           "WHERE a.fechaSolicitud <= :fecha AND (a.fechaSolicitud < :fecha OR a.id < :id) " +
+           "ORDER BY a.fechaSolicitud DESC, a.id DESC")
+    List<CreditApplicationSummary> findSummaryPageAfter(
+            @Param("fecha") LocalDateTime fecha,
+            @Param("id") Long id,
+            Limit limit);
+    
+    @Query(SUMMARY_SELECT + "WHERE a.estado = :estado " +
+           "ORDER BY a.fechaSolicitud DESC, a.id DESC")
+    List<CreditApplicationSummary> findSummaryFirstPageByEstado(@Param("estado") ApplicationStatus estado, Limit limit);
+    
+    @Query(SUMMARY_SELECT + "WHERE a.estado = :estado " +
+           "AND a.fechaSolicitud <= :fecha AND (a.fechaSolicitud < :fecha OR a.id < :id) " +
+           "ORDER BY a.fechaSolicitud DESC, a.id DESC")
+    List<CreditApplicationSummary> findSummaryPageByEstadoAfter(
+            @Param("estado") ApplicationStatus estado,
+            @Param("fecha") LocalDateTime fecha,
+            @Param("id") Long id,
+            Limit limit);
+    
+    @Query(SUMMARY_SELECT + "WHERE a.afiliadoId = :afiliadoId " +
+           "ORDER BY a.fechaSolicitud DESC, a.id DESC")
+    List<CreditApplicationSummary> findSummaryFirstPageByAfiliadoId(@Param("afiliadoId") Long afiliadoId, Limit limit);
+    
+    @Query(SUMMARY_SELECT + "WHERE a.afiliadoId = :afiliadoId " +
+           "AND a.fechaSolicitud <= :fecha AND (a.fechaSolicitud < :fecha OR a.id < :id) " +
+           "ORDER BY a.fechaSolicitud DESC, a.id DESC")
+    List<CreditApplicationSummary> findSummaryPageByAfiliadoIdAfter(
+            @Param("afiliadoId") Long afiliadoId,
+            @Param("fecha") LocalDateTime fecha,
+            @Param("id") Long id,
+            Limit limit);
+    
+    @Query(SUMMARY_EMBEDDED_SELECT + NEWEST_FIRST)
+    List<CreditApplicationSummary> findEmbeddedSummaryFirstPage(Limit limit);
+    
+    @Query(SUMMARY_EMBEDDED_SELECT + "WHERE " + KEYSET_AFTER + NEWEST_FIRST)
+    List<CreditApplicationSummary> findEmbeddedSummaryPageAfter(
+            @Param("fecha") LocalDateTime fecha,
+            @Param("id") Long id,
+            Limit limit);
+    
+    @Query(SUMMARY_EMBEDDED_SELECT + "WHERE a.estado = :estado " + NEWEST_FIRST)
+    List<CreditApplicationSummary> findEmbeddedSummaryFirstPageByEstado(@Param("estado") ApplicationStatus estado, Limit limit);
+    
+    @Query(SUMMARY_EMBEDDED_SELECT + "WHERE a.estado = :estado AND " + KEYSET_AFTER + NEWEST_FIRST)
+    List<CreditApplicationSummary> findEmbeddedSummaryPageByEstadoAfter(
+            @Param("estado") ApplicationStatus estado,
+            @Param("fecha") LocalDateTime fecha,
+            @Param("id") Long id,
+            Limit limit);
+    
+    @Query(SUMMARY_EMBEDDED_SELECT + "WHERE a.afiliadoId = :afiliadoId " + NEWEST_FIRST)
+    List<CreditApplicationSummary> findEmbeddedSummaryFirstPageByAfiliadoId(@Param("afiliadoId") Long afiliadoId, Limit limit);
+    
+    @Query(SUMMARY_EMBEDDED_SELECT + "WHERE a.afiliadoId = :afiliadoId AND " + KEYSET_AFTER + NEWEST_FIRST)
+    List<CreditApplicationSummary> findEmbeddedSummaryPageByAfiliadoIdAfter(
+            @Param("afiliadoId") Long afiliadoId,
+            @Param("fecha") LocalDateTime fecha,
+            @Param("id") Long id,
+            Limit limit);
+    
+    // Estado confirmado en la base, sin cargar la entidad: decide si un save genera evento de outbox
+    @Query("SELECT a.estado FROM CreditApplicationEntity a WHERE a.id = :id")
+    Optional<ApplicationStatus> findEstadoById(@Param("id") Long id);
+    
+    // Decisión de evaluación condicional: solo aplica si la solicitud sigue PENDIENTE.
+    // fecha_solicitud en el WHERE restringe el UPDATE a una partición
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CreditApplicationEntity a SET a.estado = :estado, a.motivoRechazo = :motivo, " +
+           "a.evaluacionRiesgo = :evaluacion, " +
+           "a.snapshotAfiliado.documento = :documento, a.snapshotAfiliado.salario = :salario, " +
+           "a.snapshotAfiliado.fechaAfiliacion = :fechaAfiliacion, a.snapshotAfiliado.estado = :estadoAfiliado, " +
+           "a.snapshotAfiliado.fechaCaptura = :fechaCaptura, a.version = a.version + 1 " +
+           "WHERE a.id = :id AND a.fechaSolicitud = :fechaSolicitud " +
+           "AND a.estado = com.coopcredit.credit_application_service.domain.enums.ApplicationStatus.PENDIENTE")
+    int applyDecision(@Param("id") Long id,
+                      @Param("fechaSolicitud") LocalDateTime fechaSolicitud,
+                      @Param("estado") ApplicationStatus estado,
+                      @Param("motivo") String motivo,
+                      @Param("evaluacion") RiskEvaluationEntity evaluacion,
+                      @Param("documento") String documento,
+                      @Param("salario") BigDecimal salario,
+                      @Param("fechaAfiliacion") LocalDate fechaAfiliacion,
+                      @Param("estadoAfiliado") AffiliateStatus estadoAfiliado,
+                      @Param("fechaCaptura") LocalDateTime fechaCaptura);
+    
+    // Decisión en modo EMBEDDED: la evaluación se escribe en el mismo UPDATE, sin INSERT previo
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CreditApplicationEntity a SET a.estado = :estado, a.motivoRechazo = :motivo, " +
+           "a.evaluacionEmbebida.score = :score, a.evaluacionEmbebida.nivelRiesgo = :nivelRiesgo, " +
+           "a.evaluacionEmbebida.detalle = :detalle, a.evaluacionEmbebida.fechaEvaluacion = :fechaEvaluacion, " +
+           "a.snapshotAfiliado.documento = :documento, a.snapshotAfiliado.salario = :salario, " +
+           "a.snapshotAfiliado.fechaAfiliacion = :fechaAfiliacion, a.snapshotAfiliado.estado = :estadoAfiliado, " +
+           "a.snapshotAfiliado.fechaCaptura = :fechaCaptura, a.version = a.version + 1 " +
+           "WHERE a.id = :id AND a.fechaSolicitud = :fechaSolicitud " +
+           "AND a.estado = com.coopcredit.credit_application_service.domain.enums.ApplicationStatus.PENDIENTE")
+    int applyEmbeddedDecision(@Param("id") Long id,
+                              @Param("fechaSolicitud") LocalDateTime fechaSolicitud,
+                              @Param("estado") ApplicationStatus estado,
+                              @Param("motivo") String motivo,
+                              @Param("score") Integer score,
+                              @Param("nivelRiesgo") RiskLevel nivelRiesgo,
+                              @Param("detalle") String detalle,
+                              @Param("fechaEvaluacion") LocalDateTime fechaEvaluacion,
+                              @Param("documento") String documento,
+                              @Param("salario") BigDecimal salario,
+                              @Param("fechaAfiliacion") LocalDate fechaAfiliacion,
+                              @Param("estadoAfiliado") AffiliateStatus estadoAfiliado,
+                              @Param("fechaCaptura") LocalDateTime fechaCaptura);
 }
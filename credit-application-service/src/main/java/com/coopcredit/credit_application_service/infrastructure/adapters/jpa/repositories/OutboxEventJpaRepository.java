@@ -0,0 +1,13 @@
+package com.coopcredit.credit_application_service.infrastructure.adapters.jpa.repositories;
+
+import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.entities.OutboxEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio JPA Spring Data: Eventos del outbox de solicitudes
+ * Solo inserta; la lectura y marcado de publicados los hace OutboxRelay con SKIP LOCKED
+ */
+@Repository
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventEntity, Long> {
+}
@@ -3,9 +3,11 @@ package com.coopcredit.credit_application_service.infrastructure.adapters.rest;
 import com.coopcredit.credit_application_service.domain.enums.RiskLevel;
 import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
 import com.coopcredit.credit_application_service.domain.ports.out.RiskCentralPort;
+import com.coopcredit.credit_application_service.infrastructure.adapters.inprocess.InProcessRiskCentralAdapter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
@@ -16,8 +18,10 @@ import java.util.Map;
 /**
  * Adaptador REST: Implementa la integración con el servicio externo de riesgo
  * Consume el microservicio risk-central-mock-service
+ * Se desactiva con el perfil inprocess-risk (ver InProcessRiskCentralAdapter)
  */
 @Component
+@Profile("!" + InProcessRiskCentralAdapter.PROFILE)
 public class RiskCentralAdapter implements RiskCentralPort {
     
     private static final Logger logger = LoggerFactory.getLogger(RiskCentralAdapter.class);
@@ -1,15 +1,34 @@
 package com.coopcredit.credit_application_service.infrastructure.config;
 
+import com.coopcredit.credit_application_service.application.services.AffiliateImportService;
+import com.coopcredit.credit_application_service.application.services.AffiliateSearchService;
 import com.coopcredit.credit_application_service.application.services.AffiliateService;
+import com.coopcredit.credit_application_service.application.services.ApplicationExportService;
+import com.coopcredit.credit_application_service.application.services.ApplicationSummaryQueryService;
 import com.coopcredit.credit_application_service.application.services.AuthService;
 import com.coopcredit.credit_application_service.application.services.CreditApplicationService;
+import com.coopcredit.credit_application_service.application.services.PortfolioStatisticsService;
+import com.coopcredit.credit_application_service.domain.model.AffiliateSnapshotPolicy;
+import com.coopcredit.credit_application_service.domain.ports.in.AffiliateImportUseCase;
+import com.coopcredit.credit_application_service.domain.ports.in.AffiliateSearchUseCase;
 import com.coopcredit.credit_application_service.domain.ports.in.AffiliateUseCase;
+import com.coopcredit.credit_application_service.domain.ports.in.ApplicationExportUseCase;
+import com.coopcredit.credit_application_service.domain.ports.in.ApplicationSummaryQueryUseCase;
 import com.coopcredit.credit_application_service.domain.ports.in.AuthUseCase;
 import com.coopcredit.credit_application_service.domain.ports.in.CreditApplicationUseCase;
+import com.coopcredit.credit_application_service.domain.ports.in.PortfolioStatisticsUseCase;
+import com.coopcredit.credit_application_service.domain.ports.out.AffiliateBulkLoadPort;
+import com.coopcredit.credit_application_service.domain.ports.out.AffiliateExposurePort;
 import com.coopcredit.credit_application_service.domain.ports.out.AffiliateRepositoryPort;
+import com.coopcredit.credit_application_service.domain.ports.out.AffiliateSearchPort;
+import com.coopcredit.credit_application_service.domain.ports.out.ApplicationExportPort;
+import com.coopcredit.credit_application_service.domain.ports.out.ApplicationReadModelPort;
 import com.coopcredit.credit_application_service.domain.ports.out.CreditApplicationRepositoryPort;
+import com.coopcredit.credit_application_service.domain.ports.out.PortfolioStatisticsPort;
 import com.coopcredit.credit_application_service.domain.ports.out.RiskCentralPort;
 import com.coopcredit.credit_application_service.domain.ports.out.UserRepositoryPort;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
@@ -29,6 +48,22 @@ public class ApplicationConfig {
         return new AffiliateService(affiliateRepository);
     }
 
+    /**
+     * Bean del caso de uso de Importación masiva de Afiliados
+     */
+    @Bean
+    public AffiliateImportUseCase affiliateImportUseCase(AffiliateBulkLoadPort bulkLoadPort) {
+        return new AffiliateImportService(bulkLoadPort);
+    }
+
+    /**
+     * Bean del caso de uso de Búsqueda de Afiliados
+     */
+    @Bean
+    public AffiliateSearchUseCase affiliateSearchUseCase(AffiliateSearchPort searchPort) {
+        return new AffiliateSearchService(searchPort);
+    }
+
     /**
      * Bean del caso de uso de Solicitudes de Crédito
      */
@@ -36,16 +71,46 @@ public class ApplicationConfig {
     public CreditApplicationUseCase creditApplicationUseCase(
             CreditApplicationRepositoryPort applicationRepository,
             AffiliateRepositoryPort affiliateRepository,
-            RiskCentralPort riskCentralPort) {
-        return new CreditApplicationService(applicationRepository, affiliateRepository, riskCentralPort);
+            RiskCentralPort riskCentralPort,
+            AffiliateExposurePort exposurePort,
+            @Value("${credit.affiliate-snapshot.max-age-minutes:60}") long snapshotMaxAgeMinutes) {
+        return new CreditApplicationService(applicationRepository, affiliateRepository, riskCentralPort, exposurePort,
+                AffiliateSnapshotPolicy.fromMinutes(snapshotMaxAgeMinutes));
+    }
+
+    /**
+     * Bean del caso de uso de Listados desde el modelo de lectura en memoria
+     * Sin read-model.applications.enabled todas las consultas van a la base
+     */
+    @Bean
+    public ApplicationSummaryQueryUseCase applicationSummaryQueryUseCase(
+            ObjectProvider<ApplicationReadModelPort> readModel,
+            CreditApplicationRepositoryPort applicationRepository) {
+        return new ApplicationSummaryQueryService(readModel.getIfAvailable(), applicationRepository);
+    }
+
+    /**
+     * Bean del caso de uso de Exportación de Solicitudes
+     */
+    @Bean
+    public ApplicationExportUseCase applicationExportUseCase(ApplicationExportPort exportPort) {
+        return new ApplicationExportService(exportPort);
+    }
+
+    /**
+     * Bean del caso de uso de Estadísticas de cartera
+     */
+    @Bean
+    public PortfolioStatisticsUseCase portfolioStatisticsUseCase(PortfolioStatisticsPort statisticsPort) {
+        return new PortfolioStatisticsService(statisticsPort);
     }
 
     /**
      * Bean del caso de uso de Autenticación
      */
     @Bean
-    public AuthUseCase authUseCase(UserRepositoryPort userRepository) {
-        return new AuthService(userRepository);
+    public AuthUseCase authUseCase(UserRepositoryPort userRepository, AffiliateRepositoryPort affiliateRepository) {
+        return new AuthService(userRepository, affiliateRepository);
     }
 
     /**
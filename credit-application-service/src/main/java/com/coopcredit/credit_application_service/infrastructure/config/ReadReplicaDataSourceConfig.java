@@ -0,0 +1,113 @@
+package com.coopcredit.credit_application_service.infrastructure.config;
+
+import com.coopcredit.credit_application_service.infrastructure.datasource.ReadReplicaProperties;
+import com.coopcredit.credit_application_service.infrastructure.datasource.ReplicaLagMonitor;
+import com.coopcredit.credit_application_service.infrastructure.datasource.ReplicaPool;
+import com.coopcredit.credit_application_service.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.coopcredit.credit_application_service.infrastructure.datasource.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración de réplicas de lectura
+ * Las transacciones de solo lectura (@Transactional(readOnly = true)) obtienen su conexión de una
+ * réplica; el resto, de spring.datasource. LazyConnectionDataSourceProxy difiere la conexión física
+ * hasta la primera sentencia, cuando ya se conoce el flag readOnly de la transacción.
+ * Con pools por carga de trabajo no se crea un pool propio del primario: el respaldo de las
+ * lecturas es WorkloadRoutingDataSource
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replicas.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaDataSourceConfig {
+
+    /**
+     * Pool del primario (escrituras, Flyway y lecturas cuando las réplicas se retrasan)
+     * Solo sin pools por carga de trabajo, que ya abren sus propias conexiones al primario
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "datasource.workloads.enabled", havingValue = "false", matchIfMissing = true)
+    public HikariDataSource primaryDataSource(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${spring.datasource.hikari.minimum-idle:5}") int minimumIdle,
+            @Value("${spring.datasource.hikari.connection-timeout:30000}") long connectionTimeout,
+            MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setMinimumIdle(minimumIdle);
+        dataSource.setConnectionTimeout(connectionTimeout);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+
+    /**
+     * Pools de las réplicas, enrutados por retraso de replicación
+     * El respaldo es el pool del primario o, con pools por carga de trabajo, el pool de la carga actual
+     */
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource readReplicaDataSource(
+            ObjectProvider<HikariDataSource> primaryDataSource,
+            ObjectProvider<WorkloadRoutingDataSource> workloadRoutingDataSource,
+            ReadReplicaProperties properties,
+            MeterRegistry meterRegistry) {
+        List<ReplicaPool> replicas = new ArrayList<>();
+        for (ReadReplicaProperties.Node node : properties.getNodes()) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(node.getName());
+            dataSource.setJdbcUrl(node.getUrl());
+            dataSource.setUsername(node.getUsername());
+            dataSource.setPassword(node.getPassword());
+            dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            // Una réplica caída no debe impedir el arranque: el monitor la deja fuera del enrutamiento
+            dataSource.setInitializationFailTimeout(-1);
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new ReplicaPool(node.getName(), dataSource));
+        }
+        DataSource primary = workloadRoutingDataSource.getIfAvailable();
+        if (primary == null) {
+            primary = primaryDataSource.getObject();
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, properties.getMaxLagMs(), meterRegistry);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            ReplicaRoutingDataSource readReplicaDataSource,
+            ReadReplicaProperties properties) {
+        return new ReplicaLagMonitor(readReplicaDataSource.getReplicas(), properties.getLagQuery());
+    }
+
+    /**
+     * DataSource de la aplicación (JPA, JdbcTemplate, Flyway)
+     * Con pools por carga de trabajo lo define WorkloadDataSourceConfig, usando estas réplicas
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "datasource.workloads.enabled", havingValue = "false", matchIfMissing = true)
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource readReplicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(readReplicaDataSource);
+        return dataSource;
+    }
+}
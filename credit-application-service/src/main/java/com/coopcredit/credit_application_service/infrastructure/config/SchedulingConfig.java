@@ -0,0 +1,12 @@
+package com.coopcredit.credit_application_service.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuración de tareas programadas (mantenimiento de base de datos)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -35,6 +35,9 @@ public class SecurityConfig {
     @Value("${cors.allowed-origins}")
     private String allowedOrigins;
 
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
     public SecurityConfig(JwtAuthenticationFilter jwtAuthFilter) {
         this.jwtAuthFilter = jwtAuthFilter;
     }
@@ -52,15 +55,22 @@ public class SecurityConfig {
                 
                 // Endpoints de afiliados
                 .requestMatchers(HttpMethod.POST, "/api/affiliates").hasAnyAuthority("ROLE_ADMIN", "ROLE_ANALISTA")
+                .requestMatchers(HttpMethod.POST, "/api/affiliates/import").hasAnyAuthority("ROLE_ADMIN", "ROLE_ANALISTA")
                 .requestMatchers(HttpMethod.PUT, "/api/affiliates/**").hasAnyAuthority("ROLE_ADMIN", "ROLE_ANALISTA")
+                .requestMatchers(HttpMethod.PATCH, "/api/affiliates/*/status").hasAnyAuthority("ROLE_ADMIN", "ROLE_ANALISTA")
+                .requestMatchers(HttpMethod.GET, "/api/affiliates/search").hasAnyAuthority("ROLE_ADMIN", "ROLE_ANALISTA")
                 .requestMatchers(HttpMethod.GET, "/api/affiliates/**").hasAnyAuthority("ROLE_ADMIN", "ROLE_ANALISTA", "ROLE_AFILIADO")
                 
                 // Endpoints de solicitudes
                 .requestMatchers(HttpMethod.POST, "/api/applications").hasAnyAuthority("ROLE_AFILIADO", "ROLE_ADMIN")
                 .requestMatchers(HttpMethod.POST, "/api/applications/*/evaluate").hasAnyAuthority("ROLE_ANALISTA", "ROLE_ADMIN")
                 .requestMatchers(HttpMethod.GET, "/api/applications/pending").hasAnyAuthority("ROLE_ANALISTA", "ROLE_ADMIN")
+                .requestMatchers(HttpMethod.GET, "/api/applications/export").hasAnyAuthority("ROLE_ANALISTA", "ROLE_ADMIN")
                 .requestMatchers(HttpMethod.GET, "/api/applications/**").hasAnyAuthority("ROLE_ADMIN", "ROLE_ANALISTA", "ROLE_AFILIADO")
                 
+                // Estadísticas de cartera
+                .requestMatchers(HttpMethod.GET, "/api/statistics/**").hasAnyAuthority("ROLE_ANALISTA", "ROLE_ADMIN")
+                
                 // Todo lo demás requiere autenticación
                 .anyRequest().authenticated()
             )
@@ -117,9 +127,12 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * Los hashes con un costo menor al configurado se reemplazan al iniciar sesión (PasswordVerifier)
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 
     @Bean
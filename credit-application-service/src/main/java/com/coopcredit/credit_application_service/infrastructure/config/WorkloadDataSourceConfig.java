@@ -0,0 +1,91 @@
+package com.coopcredit.credit_application_service.infrastructure.config;
+
+import com.coopcredit.credit_application_service.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.coopcredit.credit_application_service.infrastructure.datasource.Workload;
+import com.coopcredit.credit_application_service.infrastructure.datasource.WorkloadPoolProperties;
+import com.coopcredit.credit_application_service.infrastructure.datasource.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configuración de pools por carga de trabajo (auth, evaluation, reporting)
+ * Cada pool tiene tamaño, timeout y detección de fugas propios y publica sus métricas
+ * hikaricp.* con tag pool. Si las réplicas de lectura están activas, las transacciones
+ * readOnly siguen yendo a las réplicas
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.workloads.enabled", havingValue = "true")
+@EnableConfigurationProperties(WorkloadPoolProperties.class)
+public class WorkloadDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public WorkloadRoutingDataSource workloadRoutingDataSource(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${spring.datasource.hikari.minimum-idle:5}") int minimumIdle,
+            @Value("${spring.datasource.hikari.connection-timeout:30000}") long connectionTimeout,
+            @Value("${spring.datasource.hikari.leak-detection-threshold:0}") long leakDetectionThreshold,
+            WorkloadPoolProperties properties,
+            MeterRegistry meterRegistry) {
+        HikariDataSource defaultPool = pool(WorkloadRoutingDataSource.DEFAULT, url, username, password, meterRegistry);
+        defaultPool.setMaximumPoolSize(maximumPoolSize);
+        defaultPool.setMinimumIdle(minimumIdle);
+        defaultPool.setConnectionTimeout(connectionTimeout);
+        defaultPool.setLeakDetectionThreshold(leakDetectionThreshold);
+
+        Map<Workload, DataSource> pools = new EnumMap<>(Workload.class);
+        for (Workload workload : Workload.values()) {
+            WorkloadPoolProperties.Pool settings = properties.pool(workload);
+            HikariDataSource dataSource = pool(workload.poolName(), url, username, password, meterRegistry);
+            dataSource.setMaximumPoolSize(settings.getMaximumPoolSize());
+            dataSource.setMinimumIdle(settings.getMinimumIdle());
+            dataSource.setConnectionTimeout(settings.getConnectionTimeoutMs());
+            dataSource.setLeakDetectionThreshold(settings.getLeakDetectionThresholdMs());
+            pools.put(workload, dataSource);
+        }
+        return new WorkloadRoutingDataSource(defaultPool, pools, meterRegistry);
+    }
+
+    /**
+     * DataSource de la aplicación (JPA, JdbcTemplate, Flyway)
+     * La conexión física se obtiene en la primera sentencia, con la carga de trabajo ya fijada
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            WorkloadRoutingDataSource workloadRoutingDataSource,
+            ObjectProvider<ReplicaRoutingDataSource> readReplicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(workloadRoutingDataSource);
+        readReplicaDataSource.ifAvailable(dataSource::setReadOnlyDataSource);
+        // Autocommit e aislamiento por defecto se leen ahora, del pool por defecto; si no, la primera
+        // petición toma una conexión extra del pool de su carga solo para consultarlos
+        dataSource.checkDefaultConnectionProperties();
+        return dataSource;
+    }
+
+    private static HikariDataSource pool(String name, String url, String username, String password,
+                                         MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
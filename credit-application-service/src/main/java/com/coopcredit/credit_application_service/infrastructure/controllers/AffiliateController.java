@@ -1,17 +1,24 @@
 package com.coopcredit.credit_application_service.infrastructure.controllers;
 
 import com.coopcredit.credit_application_service.domain.model.Affiliate;
+import com.coopcredit.credit_application_service.domain.model.CursorPage;
 import com.coopcredit.credit_application_service.domain.ports.in.AffiliateUseCase;
+import com.coopcredit.credit_application_service.infrastructure.security.services.OwnershipGuard;
 import com.coopcredit.credit_application_service.infrastructure.web.dto.AffiliateDto;
+import com.coopcredit.credit_application_service.infrastructure.web.dto.CursorPageDto;
 import com.coopcredit.credit_application_service.infrastructure.web.mapper.AffiliateDtoMapper;
+import com.coopcredit.credit_application_service.infrastructure.web.pagination.CursorCodec;
+import com.coopcredit.credit_application_service.infrastructure.web.pagination.PageSizes;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -19,6 +26,7 @@ import java.util.stream.Collectors;
 
 /**
  * Controlador REST: Gestión de Afiliados
+ * Un AFILIADO solo consulta su propio afiliado (OwnershipGuard, con los claims del token)
  */
 @RestController
 @RequestMapping("/api/affiliates")
@@ -31,6 +39,12 @@ public class AffiliateController {
     
     private final AffiliateUseCase affiliateUseCase;
     private final AffiliateDtoMapper affiliateMapper;
+    
+    @Value("${pagination.default-size:20}")
+    private int defaultPageSize;
+    
+    @Value("${pagination.max-size:100}")
+    private int maxPageSize;
 
     public AffiliateController(AffiliateUseCase affiliateUseCase, AffiliateDtoMapper affiliateMapper) {
         this.affiliateUseCase = affiliateUseCase;
@@ -63,8 +77,9 @@ public class AffiliateController {
 
     @GetMapping("/{id}")
     @Operation(summary = "Obtener afiliado por ID", description = "Devuelve un afiliado específico")
-    public ResponseEntity<AffiliateDto> getAffiliateById(@PathVariable Long id) {
+    public ResponseEntity<AffiliateDto> getAffiliateById(@PathVariable Long id, Authentication authentication) {
         logger.info("Consultando afiliado ID: {}", id);
+        OwnershipGuard.checkAffiliateId(authentication, id);
         
         return affiliateUseCase.getAffiliateById(id)
                 .map(affiliateMapper::toDto)
@@ -74,8 +89,11 @@ public class AffiliateController {
 
     @GetMapping("/documento/{documento}")
     @Operation(summary = "Obtener afiliado por documento", description = "Busca un afiliado por su documento")
-    public ResponseEntity<AffiliateDto> getAffiliateByDocumento(@PathVariable String documento) {
+    public ResponseEntity<AffiliateDto> getAffiliateByDocumento(
+            @PathVariable String documento,
+            Authentication authentication) {
         logger.info("Consultando afiliado con documento: {}", documento);
+        OwnershipGuard.checkDocumento(authentication, documento);
         
         return affiliateUseCase.getAffiliateByDocumento(documento)
                 .map(affiliateMapper::toDto)
@@ -95,6 +113,27 @@ public class AffiliateController {
         return ResponseEntity.ok(affiliates);
     }
 
+    @GetMapping("/page")
+    @Operation(summary = "Listar afiliados paginados", description = "Devuelve afiliados ordenados por ID usando paginación por cursor")
+    public ResponseEntity<CursorPageDto<AffiliateDto>> getAffiliatesPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        Long afterId = CursorCodec.decodeIdCursor(cursor);
+        int pageSize = PageSizes.resolve(size, defaultPageSize, maxPageSize);
+        logger.info("Listando página de afiliados - Tamaño: {}", pageSize);
+        
+        CursorPage<Affiliate> page = affiliateUseCase.getAffiliatesPage(afterId, pageSize);
+        String nextCursor = page.isHasMore() ? CursorCodec.encode(page.last().getId()) : null;
+        
+        return ResponseEntity.ok(CursorPageDto.<AffiliateDto>builder()
+                .items(page.getItems().stream()
+                        .map(affiliateMapper::toDto)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .size(pageSize)
+                .build());
+    }
+
     @PatchMapping("/{id}/status")
     @Operation(summary = "Cambiar estado", description = "Cambia el estado de un afiliado (ACTIVO/INACTIVO)")
     public ResponseEntity<AffiliateDto> changeStatus(
@@ -0,0 +1,62 @@
+package com.coopcredit.credit_application_service.infrastructure.controllers;
+
+import com.coopcredit.credit_application_service.domain.model.AffiliateImportReport;
+import com.coopcredit.credit_application_service.domain.model.AffiliateImportRow;
+import com.coopcredit.credit_application_service.domain.ports.in.AffiliateImportUseCase;
+import com.coopcredit.credit_application_service.infrastructure.web.dto.AffiliateImportReportDto;
+import com.coopcredit.credit_application_service.infrastructure.web.imports.AffiliateImportParser;
+import com.coopcredit.credit_application_service.infrastructure.web.imports.ImportFormat;
+import com.coopcredit.credit_application_service.infrastructure.web.mapper.AffiliateImportReportDtoMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Controlador REST: Importación masiva de afiliados
+ */
+@RestController
+@RequestMapping("/api/affiliates/import")
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:3000"})
+@SecurityRequirement(name = "Bearer Authentication")
+@Tag(name = "Afiliados", description = "Endpoints para gestión de afiliados")
+public class AffiliateImportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AffiliateImportController.class);
+
+    private final AffiliateImportUseCase importUseCase;
+    private final AffiliateImportReportDtoMapper reportMapper;
+
+    public AffiliateImportController(AffiliateImportUseCase importUseCase, AffiliateImportReportDtoMapper reportMapper) {
+        this.importUseCase = importUseCase;
+        this.reportMapper = reportMapper;
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Importar afiliados", 
+               description = "Registra afiliados en bloque desde un archivo CSV o NDJSON y devuelve el reporte por fila")
+    public ResponseEntity<AffiliateImportReportDto> importAffiliates(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format) throws IOException {
+        ImportFormat importFormat = ImportFormat.resolve(format, file.getOriginalFilename());
+        logger.info("Importando afiliados desde archivo: {} ({} bytes, {})", 
+                file.getOriginalFilename(), file.getSize(), importFormat);
+
+        List<AffiliateImportRow> rows;
+        try (InputStream input = file.getInputStream()) {
+            rows = AffiliateImportParser.parse(input, importFormat);
+        }
+        AffiliateImportReport report = importUseCase.importAffiliates(rows);
+
+        return ResponseEntity.ok(reportMapper.toDto(report));
+    }
+}
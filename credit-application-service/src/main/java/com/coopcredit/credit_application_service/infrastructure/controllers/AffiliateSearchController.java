@@ -0,0 +1,72 @@
+package com.coopcredit.credit_application_service.infrastructure.controllers;
+
+import com.coopcredit.credit_application_service.domain.model.AffiliateSearchCursor;
+import com.coopcredit.credit_application_service.domain.model.AffiliateSearchHit;
+import com.coopcredit.credit_application_service.domain.model.CursorPage;
+import com.coopcredit.credit_application_service.domain.ports.in.AffiliateSearchUseCase;
+import com.coopcredit.credit_application_service.infrastructure.web.dto.AffiliateSearchResultDto;
+import com.coopcredit.credit_application_service.infrastructure.web.dto.CursorPageDto;
+import com.coopcredit.credit_application_service.infrastructure.web.mapper.AffiliateSearchResultDtoMapper;
+import com.coopcredit.credit_application_service.infrastructure.web.pagination.CursorCodec;
+import com.coopcredit.credit_application_service.infrastructure.web.pagination.PageSizes;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.stream.Collectors;
+
+/**
+ * Controlador REST: Búsqueda de afiliados por nombre o prefijo de documento
+ */
+@RestController
+@RequestMapping("/api/affiliates/search")
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:3000"})
+@SecurityRequirement(name = "Bearer Authentication")
+@Tag(name = "Afiliados", description = "Endpoints para gestión de afiliados")
+public class AffiliateSearchController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AffiliateSearchController.class);
+
+    private final AffiliateSearchUseCase searchUseCase;
+    private final AffiliateSearchResultDtoMapper resultMapper;
+
+    @Value("${pagination.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${pagination.max-size:100}")
+    private int maxPageSize;
+
+    public AffiliateSearchController(AffiliateSearchUseCase searchUseCase, AffiliateSearchResultDtoMapper resultMapper) {
+        this.searchUseCase = searchUseCase;
+        this.resultMapper = resultMapper;
+    }
+
+    @GetMapping
+    @Operation(summary = "Buscar afiliados",
+               description = "Busca por nombre (coincidencia aproximada, sin tildes) o por prefijo de documento; " +
+                             "resultados ordenados por relevancia con paginación por cursor")
+    public ResponseEntity<CursorPageDto<AffiliateSearchResultDto>> searchAffiliates(
+            @RequestParam("q") String texto,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        AffiliateSearchCursor after = CursorCodec.decodeAffiliateSearchCursor(cursor);
+        int pageSize = PageSizes.resolve(size, defaultPageSize, maxPageSize);
+        logger.info("Buscando afiliados - Tamaño: {}", pageSize);
+
+        CursorPage<AffiliateSearchHit> page = searchUseCase.searchAffiliates(texto, after, pageSize);
+        String nextCursor = page.isHasMore() ? CursorCodec.encode(AffiliateSearchCursor.after(page.last())) : null;
+
+        return ResponseEntity.ok(CursorPageDto.<AffiliateSearchResultDto>builder()
+                .items(page.getItems().stream()
+                        .map(resultMapper::toDto)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .size(pageSize)
+                .build());
+    }
+}
@@ -0,0 +1,71 @@
+package com.coopcredit.credit_application_service.infrastructure.controllers;
+
+import com.coopcredit.credit_application_service.domain.ports.in.ApplicationExportUseCase;
+import com.coopcredit.credit_application_service.infrastructure.web.export.ApplicationExportWriter;
+import com.coopcredit.credit_application_service.infrastructure.web.export.ExportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Controlador REST: Exportación masiva de solicitudes de crédito
+ * Escribe cada fila directamente en la respuesta; la memoria usada no depende del volumen exportado
+ */
+@RestController
+@RequestMapping("/api/applications/export")
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:3000"})
+@SecurityRequirement(name = "Bearer Authentication")
+@Tag(name = "Solicitudes de Crédito", description = "Endpoints para gestión de solicitudes de crédito")
+public class ApplicationExportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationExportController.class);
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final ApplicationExportUseCase exportUseCase;
+
+    public ApplicationExportController(ApplicationExportUseCase exportUseCase) {
+        this.exportUseCase = exportUseCase;
+    }
+
+    @GetMapping
+    @Operation(summary = "Exportar solicitudes", 
+               description = "Exporta solicitudes en formato NDJSON o CSV, filtradas por estado y rango de fechas")
+    public void exportApplications(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String estado,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta,
+            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        logger.info("Exportando solicitudes - Formato: {}, Estado: {}, Desde: {}, Hasta: {}", 
+                exportFormat, estado, desde, hasta);
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, 
+                "attachment; filename=\"solicitudes." + exportFormat.getExtension() + "\"");
+
+        BufferedWriter out = new BufferedWriter(
+                new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        ApplicationExportWriter writer = exportFormat.newWriter(out);
+        writer.writeHeader();
+
+        long exported = exportUseCase.exportApplications(estado, desde, hasta, writer);
+        writer.flush();
+
+        logger.info("Solicitudes exportadas: {}", exported);
+    }
+}
@@ -3,20 +3,24 @@ package com.coopcredit.credit_application_service.infrastructure.controllers;
 import com.coopcredit.credit_application_service.domain.model.User;
 import com.coopcredit.credit_application_service.domain.ports.in.AuthUseCase;
 import com.coopcredit.credit_application_service.infrastructure.security.services.JwtService;
+import com.coopcredit.credit_application_service.infrastructure.security.services.LoginThrottle;
+import com.coopcredit.credit_application_service.infrastructure.security.services.PasswordVerifier;
 import com.coopcredit.credit_application_service.infrastructure.web.dto.AuthResponse;
 import com.coopcredit.credit_application_service.infrastructure.web.dto.LoginRequest;
 import com.coopcredit.credit_application_service.infrastructure.web.dto.RegisterRequest;
 import com.coopcredit.credit_application_service.infrastructure.web.mapper.UserDtoMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
+
 /**
  * Controlador REST: Autenticación (Login y Registro)
  */
@@ -30,17 +34,20 @@ public class AuthController {
     
     private final AuthUseCase authUseCase;
     private final JwtService jwtService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerifier passwordVerifier;
+    private final LoginThrottle loginThrottle;
     private final UserDtoMapper userMapper;
 
     public AuthController(
             AuthUseCase authUseCase,
             JwtService jwtService,
-            PasswordEncoder passwordEncoder,
+            PasswordVerifier passwordVerifier,
+            LoginThrottle loginThrottle,
             UserDtoMapper userMapper) {
         this.authUseCase = authUseCase;
         this.jwtService = jwtService;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordVerifier = passwordVerifier;
+        this.loginThrottle = loginThrottle;
         this.userMapper = userMapper;
     }
 
@@ -52,7 +59,7 @@ public class AuthController {
         User user = userMapper.toDomain(request);
         User savedUser = authUseCase.registerUser(user);
         
-        String token = jwtService.generateToken(savedUser.getUsername(), savedUser.getRole().name());
+        String token = issueToken(savedUser);
         
         AuthResponse response = AuthResponse.builder()
                 .token(token)
@@ -66,17 +73,25 @@ public class AuthController {
 
     @PostMapping("/login")
     @Operation(summary = "Iniciar sesión", description = "Autentica un usuario y devuelve un token JWT")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
         logger.info("Intentando login para usuario: {}", request.getUsername());
         
-        User user = authUseCase.getUserByUsername(request.getUsername())
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        loginThrottle.check(request.getUsername(), httpRequest.getRemoteAddr());
         
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        // Usuario inexistente o contraseña incorrecta cuestan lo mismo y responden igual
+        Optional<User> found = authUseCase.getUserByUsername(request.getUsername());
+        PasswordVerifier.Result verification = passwordVerifier.verify(
+                request.getPassword(), found.map(User::getPassword).orElse(null));
+        if (found.isEmpty() || !verification.matches()) {
+            loginThrottle.recordFailure(request.getUsername());
             throw new RuntimeException("Credenciales inválidas");
         }
+        User user = found.get();
+        if (verification.upgradedHash() != null) {
+            rehash(user, verification.upgradedHash());
+        }
         
-        String token = jwtService.generateToken(user.getUsername(), user.getRole().name());
+        String token = issueToken(user);
         
         AuthResponse response = AuthResponse.builder()
                 .token(token)
@@ -87,4 +102,26 @@ public class AuthController {
         
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * El afiliadoId y el documento se firman en el token una sola vez aquí, para que la propiedad
+     * de los recursos se valide en cada petición sin consultar usuarios ni afiliados
+     */
+    private String issueToken(User user) {
+        Long afiliadoId = authUseCase.findAffiliateId(user).orElse(null);
+        return jwtService.generateToken(user.getUsername(), user.getRole().name(),
+                afiliadoId, afiliadoId != null ? user.getDocumento() : null);
+    }
+
+    /**
+     * El reemplazo del hash no impide el login: si falla (por ejemplo, otro login lo hizo
+     * primero) se reintenta en el próximo inicio de sesión
+     */
+    private void rehash(User user, String upgradedHash) {
+        try {
+            authUseCase.updatePasswordHash(user, upgradedHash);
+        } catch (RuntimeException e) {
+            logger.warn("No se pudo actualizar el hash de contraseña de {}: {}", user.getUsername(), e.getMessage());
+        }
+    }
 }
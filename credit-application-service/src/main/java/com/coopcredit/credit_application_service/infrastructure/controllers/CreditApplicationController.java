@@ -1,15 +1,25 @@
 package com.coopcredit.credit_application_service.infrastructure.controllers;
 
+import com.coopcredit.credit_application_service.domain.model.ApplicationCursor;
 import com.coopcredit.credit_application_service.domain.model.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.CreditApplicationSummary;
+import com.coopcredit.credit_application_service.domain.model.CursorPage;
+import com.coopcredit.credit_application_service.domain.ports.in.ApplicationSummaryQueryUseCase;
 import com.coopcredit.credit_application_service.domain.ports.in.CreditApplicationUseCase;
+import com.coopcredit.credit_application_service.infrastructure.security.services.OwnershipGuard;
 import com.coopcredit.credit_application_service.infrastructure.web.dto.CreditApplicationDto;
+import com.coopcredit.credit_application_service.infrastructure.web.dto.CreditApplicationSummaryDto;
+import com.coopcredit.credit_application_service.infrastructure.web.dto.CursorPageDto;
 import com.coopcredit.credit_application_service.infrastructure.web.mapper.CreditApplicationDtoMapper;
+import com.coopcredit.credit_application_service.infrastructure.web.pagination.CursorCodec;
+import com.coopcredit.credit_application_service.infrastructure.web.pagination.PageSizes;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -20,6 +30,7 @@ import java.util.stream.Collectors;
 
 /**
  * Controlador REST: Gestión de Solicitudes de Crédito
+ * Un AFILIADO solo crea y consulta sus propias solicitudes (OwnershipGuard, con los claims del token)
  */
 @RestController
 @RequestMapping("/api/applications")
@@ -31,12 +42,21 @@ public class CreditApplicationController {
     private static final Logger logger = LoggerFactory.getLogger(CreditApplicationController.class);
     
     private final CreditApplicationUseCase applicationUseCase;
+    private final ApplicationSummaryQueryUseCase summaryQueryUseCase;
     private final CreditApplicationDtoMapper applicationMapper;
+    
+    @Value("${pagination.default-size:20}")
+    private int defaultPageSize;
+    
+    @Value("${pagination.max-size:100}")
+    private int maxPageSize;
 
     public CreditApplicationController(
             CreditApplicationUseCase applicationUseCase,
+            ApplicationSummaryQueryUseCase summaryQueryUseCase,
             CreditApplicationDtoMapper applicationMapper) {
         this.applicationUseCase = applicationUseCase;
+        this.summaryQueryUseCase = summaryQueryUseCase;
         this.applicationMapper = applicationMapper;
     }
 
@@ -48,6 +68,7 @@ public class CreditApplicationController {
         logger.info("Creando solicitud de crédito para afiliado ID: {}", dto.getAfiliadoId());
         logger.debug("Usuario autenticado: {} con autoridades: {}", 
                 authentication.getName(), authentication.getAuthorities());
+        OwnershipGuard.checkAffiliateId(authentication, dto.getAfiliadoId());
         
         CreditApplication application = applicationMapper.toDomain(dto);
         CreditApplication saved = applicationUseCase.createApplication(application);
@@ -67,10 +88,16 @@ public class CreditApplicationController {
 
     @GetMapping("/{id}")
     @Operation(summary = "Obtener solicitud por ID", description = "Devuelve una solicitud específica")
-    public ResponseEntity<CreditApplicationDto> getApplicationById(@PathVariable Long id) {
+    public ResponseEntity<CreditApplicationDto> getApplicationById(
+            @PathVariable Long id,
+            Authentication authentication) {
         logger.info("Consultando solicitud ID: {}", id);
         
         return applicationUseCase.getApplicationById(id)
+                .map(application -> {
+                    OwnershipGuard.checkAffiliateId(authentication, application.getAfiliadoId());
+                    return application;
+                })
                 .map(applicationMapper::toDto)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -78,8 +105,9 @@ public class CreditApplicationController {
 
     @GetMapping
     @Operation(summary = "Listar todas las solicitudes", description = "Devuelve todas las solicitudes de crédito")
-    public ResponseEntity<List<CreditApplicationDto>> getAllApplications() {
+    public ResponseEntity<List<CreditApplicationDto>> getAllApplications(Authentication authentication) {
         logger.info("Listando todas las solicitudes");
+        OwnershipGuard.denyAffiliates(authentication);
         
         List<CreditApplicationDto> applications = applicationUseCase.getAllApplications().stream()
                 .map(applicationMapper::toDto)
@@ -91,8 +119,10 @@ public class CreditApplicationController {
     @GetMapping("/affiliate/{afiliadoId}")
     @Operation(summary = "Listar solicitudes por afiliado", description = "Devuelve las solicitudes de un afiliado específico")
     public ResponseEntity<List<CreditApplicationDto>> getApplicationsByAffiliate(
-            @PathVariable Long afiliadoId) {
+            @PathVariable Long afiliadoId,
+            Authentication authentication) {
         logger.info("Listando solicitudes del afiliado ID: {}", afiliadoId);
+        OwnershipGuard.checkAffiliateId(authentication, afiliadoId);
         
         List<CreditApplicationDto> applications = applicationUseCase.getApplicationsByAffiliate(afiliadoId).stream()
                 .map(applicationMapper::toDto)
@@ -115,8 +145,11 @@ public class CreditApplicationController {
 
     @GetMapping("/status/{status}")
     @Operation(summary = "Listar solicitudes por estado", description = "Devuelve solicitudes filtradas por estado")
-    public ResponseEntity<List<CreditApplicationDto>> getApplicationsByStatus(@PathVariable String status) {
+    public ResponseEntity<List<CreditApplicationDto>> getApplicationsByStatus(
+            @PathVariable String status,
+            Authentication authentication) {
         logger.info("Listando solicitudes con estado: {}", status);
+        OwnershipGuard.denyAffiliates(authentication);
         
         List<CreditApplicationDto> applications = applicationUseCase.getApplicationsByStatus(status).stream()
                 .map(applicationMapper::toDto)
@@ -124,4 +157,77 @@ public class CreditApplicationController {
         
         return ResponseEntity.ok(applications);
     }
+
+    @GetMapping("/page")
+    @Operation(summary = "Listar solicitudes paginadas", 
+               description = "Devuelve el resumen de las solicitudes, de la más reciente a la más antigua, usando paginación por cursor. " +
+                             "Con readModel=true se sirve desde el modelo de lectura en memoria")
+    public ResponseEntity<CursorPageDto<CreditApplicationSummaryDto>> getApplicationsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean readModel,
+            Authentication authentication) {
+        OwnershipGuard.denyAffiliates(authentication);
+        ApplicationCursor after = CursorCodec.decodeApplicationCursor(cursor);
+        int pageSize = PageSizes.resolve(size, defaultPageSize, maxPageSize);
+        logger.info("Listando página de solicitudes - Tamaño: {}, en memoria: {}", pageSize, readModel);
+        
+        CursorPage<CreditApplicationSummary> page = readModel
+                ? summaryQueryUseCase.getApplicationsPage(after, pageSize)
+                : applicationUseCase.getApplicationsPage(after, pageSize);
+        return ResponseEntity.ok(toPageDto(page, pageSize));
+    }
+
+    @GetMapping("/status/{status}/page")
+    @Operation(summary = "Listar solicitudes por estado paginadas", 
+               description = "Devuelve solicitudes filtradas por estado usando paginación por cursor. " +
+                             "Con readModel=true se sirve desde el modelo de lectura en memoria")
+    public ResponseEntity<CursorPageDto<CreditApplicationSummaryDto>> getApplicationsPageByStatus(
+            @PathVariable String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean readModel,
+            Authentication authentication) {
+        OwnershipGuard.denyAffiliates(authentication);
+        ApplicationCursor after = CursorCodec.decodeApplicationCursor(cursor);
+        int pageSize = PageSizes.resolve(size, defaultPageSize, maxPageSize);
+        logger.info("Listando página de solicitudes con estado: {} - Tamaño: {}, en memoria: {}", status, pageSize, readModel);
+        
+        CursorPage<CreditApplicationSummary> page = readModel
+                ? summaryQueryUseCase.getApplicationsPageByStatus(status, after, pageSize)
+                : applicationUseCase.getApplicationsPageByStatus(status, after, pageSize);
+        return ResponseEntity.ok(toPageDto(page, pageSize));
+    }
+
+    @GetMapping("/affiliate/{afiliadoId}/page")
+    @Operation(summary = "Listar solicitudes por afiliado paginadas", 
+               description = "Devuelve las solicitudes de un afiliado usando paginación por cursor. " +
+                             "Con readModel=true se sirve desde el modelo de lectura en memoria")
+    public ResponseEntity<CursorPageDto<CreditApplicationSummaryDto>> getApplicationsPageByAffiliate(
+            @PathVariable Long afiliadoId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean readModel,
+            Authentication authentication) {
+        OwnershipGuard.checkAffiliateId(authentication, afiliadoId);
+        ApplicationCursor after = CursorCodec.decodeApplicationCursor(cursor);
+        int pageSize = PageSizes.resolve(size, defaultPageSize, maxPageSize);
+        logger.info("Listando página de solicitudes del afiliado ID: {} - Tamaño: {}, en memoria: {}", afiliadoId, pageSize, readModel);
+        
+        CursorPage<CreditApplicationSummary> page = readModel
+                ? summaryQueryUseCase.getApplicationsPageByAffiliate(afiliadoId, after, pageSize)
+                : applicationUseCase.getApplicationsPageByAffiliate(afiliadoId, after, pageSize);
+        return ResponseEntity.ok(toPageDto(page, pageSize));
+    }
+
+    private CursorPageDto<CreditApplicationSummaryDto> toPageDto(CursorPage<CreditApplicationSummary> page, int pageSize) {
+        String nextCursor = page.isHasMore() ? CursorCodec.encode(ApplicationCursor.after(page.last())) : null;
+        return CursorPageDto.<CreditApplicationSummaryDto>builder()
+                .items(page.getItems().stream()
+                        .map(applicationMapper::toSummaryDto)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .size(pageSize)
+                .build();
+    }
 }
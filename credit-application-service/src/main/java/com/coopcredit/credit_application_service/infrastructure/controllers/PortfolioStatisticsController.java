@@ -0,0 +1,38 @@
+package com.coopcredit.credit_application_service.infrastructure.controllers;
+
+import com.coopcredit.credit_application_service.domain.ports.in.PortfolioStatisticsUseCase;
+import com.coopcredit.credit_application_service.infrastructure.web.dto.PortfolioStatisticsDto;
+import com.coopcredit.credit_application_service.infrastructure.web.mapper.PortfolioStatisticsDtoMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador REST: Estadísticas de la cartera para tableros de gestión
+ * Responde desde los totales agregados, sin recorrer las solicitudes
+ */
+@RestController
+@RequestMapping("/api/statistics")
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:3000"})
+@SecurityRequirement(name = "Bearer Authentication")
+@Tag(name = "Estadísticas", description = "Indicadores agregados de la cartera de solicitudes")
+public class PortfolioStatisticsController {
+
+    private final PortfolioStatisticsUseCase statisticsUseCase;
+    private final PortfolioStatisticsDtoMapper mapper;
+
+    public PortfolioStatisticsController(PortfolioStatisticsUseCase statisticsUseCase, PortfolioStatisticsDtoMapper mapper) {
+        this.statisticsUseCase = statisticsUseCase;
+        this.mapper = mapper;
+    }
+
+    @GetMapping("/portfolio")
+    @Operation(summary = "Estadísticas de cartera", 
+               description = "Tasa de aprobación, volumen por estado y nivel de riesgo y totales de los últimos meses")
+    public ResponseEntity<PortfolioStatisticsDto> getPortfolioStatistics(
+            @RequestParam(defaultValue = "12") int meses) {
+        return ResponseEntity.ok(mapper.toDto(statisticsUseCase.getPortfolioStatistics(meses)));
+    }
+}
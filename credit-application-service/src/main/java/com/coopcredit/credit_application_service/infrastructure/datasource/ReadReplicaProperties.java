@@ -0,0 +1,41 @@
+package com.coopcredit.credit_application_service.infrastructure.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración de las réplicas de lectura (datasource.replicas.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "datasource.replicas")
+public class ReadReplicaProperties {
+
+    private boolean enabled;
+
+    /**
+     * Retraso de replicación máximo tolerado antes de enviar las lecturas al primario
+     */
+    private long maxLagMs = 5000;
+
+    private long lagCheckIntervalMs = 5000;
+
+    /**
+     * Consulta que devuelve el retraso en ms; por defecto la de PostgreSQL
+     */
+    private String lagQuery = ReplicaLagMonitor.POSTGRES_LAG_QUERY;
+
+    private int maximumPoolSize = 10;
+
+    private List<Node> nodes = new ArrayList<>();
+
+    @Data
+    public static class Node {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,51 @@
+package com.coopcredit.credit_application_service.infrastructure.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+
+/**
+ * Tarea programada: mide el retraso de replicación de cada réplica
+ * Una réplica que no responde o supera el retraso tolerado deja de recibir lecturas
+ * hasta la siguiente medición válida
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    /**
+     * Retraso en ms de una réplica PostgreSQL; 0 si ya aplicó todo lo recibido
+     * (pg_last_xact_replay_timestamp envejece cuando el primario no tiene escrituras)
+     */
+    public static final String POSTGRES_LAG_QUERY =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() " +
+            "OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE((EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000)::BIGINT, 0) END";
+
+    private final List<ReplicaPool> replicas;
+    private final String lagQuery;
+
+    public ReplicaLagMonitor(List<ReplicaPool> replicas, String lagQuery) {
+        this.replicas = replicas;
+        this.lagQuery = lagQuery;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${datasource.replicas.lag-check-interval-ms:5000}")
+    public void refresh() {
+        for (ReplicaPool replica : replicas) {
+            try {
+                Long lag = new JdbcTemplate(replica.getDataSource()).queryForObject(lagQuery, Long.class);
+                replica.updateLag(lag != null ? lag : ReplicaPool.UNKNOWN_LAG);
+            } catch (RuntimeException e) {
+                if (replica.getLagMs() != ReplicaPool.UNKNOWN_LAG) {
+                    logger.warn("Réplica {} no disponible, las lecturas irán al primario: {}",
+                            replica.getName(), e.getMessage());
+                }
+                replica.markUnavailable();
+            }
+        }
+    }
+}
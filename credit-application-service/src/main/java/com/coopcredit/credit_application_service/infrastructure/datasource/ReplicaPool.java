@@ -0,0 +1,52 @@
+package com.coopcredit.credit_application_service.infrastructure.datasource;
+
+import javax.sql.DataSource;
+
+/**
+ * Pool de conexiones de una réplica de lectura y su último retraso de replicación medido
+ * Una réplica sin medición válida (o con error al medir) no recibe lecturas
+ */
+public class ReplicaPool {
+
+    /**
+     * Retraso desconocido: la réplica no ha sido medida o falló la última medición
+     */
+    public static final long UNKNOWN_LAG = -1;
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile long lagMs = UNKNOWN_LAG;
+
+    public ReplicaPool(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public long getLagMs() {
+        return lagMs;
+    }
+
+    public void updateLag(long lagMs) {
+        this.lagMs = lagMs;
+    }
+
+    public void markUnavailable() {
+        this.lagMs = UNKNOWN_LAG;
+    }
+
+    /**
+     * La réplica puede atender lecturas si su retraso medido no supera el máximo tolerado
+     */
+    public boolean isWithinLag(long maxLagMs) {
+        long current = lagMs;
+        return current != UNKNOWN_LAG && current <= maxLagMs;
+    }
+}
@@ -0,0 +1,94 @@
+package com.coopcredit.credit_application_service.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource de lectura: reparte las conexiones de solo lectura entre las réplicas (round-robin)
+ * Si ninguna réplica está dentro del retraso máximo tolerado, la lectura va al primario
+ * Se usa como readOnlyDataSource de un LazyConnectionDataSourceProxy sobre el primario
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final List<ReplicaPool> replicas;
+    private final long maxLagMs;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Map<String, Counter> routedCounters = new HashMap<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<ReplicaPool> replicas, long maxLagMs,
+                                    MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.maxLagMs = maxLagMs;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        routedCounters.put(PRIMARY, routedCounter(meterRegistry, PRIMARY));
+        for (ReplicaPool replica : this.replicas) {
+            targets.put(replica.getName(), replica.getDataSource());
+            routedCounters.put(replica.getName(), routedCounter(meterRegistry, replica.getName()));
+            Gauge.builder("datasource.replica.lag", replica, ReplicaPool::getLagMs)
+                    .description("Retraso de replicación medido (ms, -1 si no disponible)")
+                    .baseUnit("milliseconds")
+                    .tag("pool", replica.getName())
+                    .register(meterRegistry);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String target = selectTarget();
+        routedCounters.get(target).increment();
+        return target;
+    }
+
+    /**
+     * Siguiente réplica dentro del retraso tolerado o el primario como respaldo
+     */
+    String selectTarget() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            ReplicaPool replica = replicas.get((start + i) % size);
+            if (replica.isWithinLag(maxLagMs)) {
+                return replica.getName();
+            }
+        }
+        return PRIMARY;
+    }
+
+    public List<ReplicaPool> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Cierra los pools de las réplicas (el primario es un bean independiente)
+     */
+    public void close() throws Exception {
+        for (ReplicaPool replica : replicas) {
+            if (replica.getDataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static Counter routedCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("datasource.read.routed")
+                .description("Conexiones de solo lectura entregadas por destino")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,20 @@
+package com.coopcredit.credit_application_service.infrastructure.datasource;
+
+import java.util.Locale;
+
+/**
+ * Cargas de trabajo con pool de conexiones propio
+ * Una carga que agota su pool no deja sin conexiones a las demás
+ */
+public enum Workload {
+    /** Login, registro y búsqueda de usuarios: consultas cortas y sensibles a la latencia */
+    AUTH,
+    /** Creación y evaluación de solicitudes: transacciones de escritura que esperan a la central de riesgo */
+    EVALUATION,
+    /** Exportaciones, estadísticas y listados completos: lecturas largas */
+    REPORTING;
+
+    public String poolName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,55 @@
+package com.coopcredit.credit_application_service.infrastructure.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Carga de trabajo del hilo actual, consultada por WorkloadRoutingDataSource al obtener conexión
+ * Debe fijarse antes de la primera sentencia de la transacción: una vez obtenida, la conexión
+ * no cambia de pool aunque el contexto cambie
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    public static Workload current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T call(Workload workload, Supplier<T> action) {
+        Workload previous = bind(workload);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static void run(Workload workload, Runnable action) {
+        Workload previous = bind(workload);
+        try {
+            action.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Fija la carga y devuelve la anterior para restaurarla con {@link #restore(Workload)}
+     */
+    static Workload bind(Workload workload) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    static void restore(Workload previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.coopcredit.credit_application_service.infrastructure.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuración de los pools por carga de trabajo (datasource.workloads.*)
+ * El pool por defecto conserva la configuración de spring.datasource.hikari
+ */
+@Data
+@ConfigurationProperties(prefix = "datasource.workloads")
+public class WorkloadPoolProperties {
+
+    private boolean enabled;
+
+    private Pool auth = new Pool();
+
+    private Pool evaluation = new Pool();
+
+    private Pool reporting = new Pool();
+
+    public Pool pool(Workload workload) {
+        return switch (workload) {
+            case AUTH -> auth;
+            case EVALUATION -> evaluation;
+            case REPORTING -> reporting;
+        };
+    }
+
+    @Data
+    public static class Pool {
+        private int maximumPoolSize = 5;
+        private int minimumIdle = 1;
+        private long connectionTimeoutMs = 30000;
+        /**
+         * Tiempo que una conexión puede estar prestada antes de reportarse como fuga; 0 desactiva
+         */
+        private long leakDetectionThresholdMs = 0;
+    }
+}
@@ -0,0 +1,98 @@
+package com.coopcredit.credit_application_service.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * DataSource por carga de trabajo: entrega la conexión del pool de la carga del hilo actual
+ * (WorkloadContext) y la del pool por defecto si no hay carga fijada
+ * Se usa detrás de un LazyConnectionDataSourceProxy para decidir en la primera sentencia
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String DEFAULT = "default";
+
+    private final DataSource defaultPool;
+    private final Map<Workload, DataSource> pools;
+    private final Map<Workload, Counter> routedCounters = new EnumMap<>(Workload.class);
+    private final Counter defaultCounter;
+
+    public WorkloadRoutingDataSource(DataSource defaultPool, Map<Workload, DataSource> pools,
+                                     MeterRegistry meterRegistry) {
+        this.defaultPool = defaultPool;
+        this.pools = new EnumMap<>(pools);
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(DEFAULT, defaultPool);
+        this.pools.forEach((workload, dataSource) -> {
+            targets.put(workload, dataSource);
+            routedCounters.put(workload, routedCounter(meterRegistry, workload.poolName()));
+        });
+        this.defaultCounter = routedCounter(meterRegistry, DEFAULT);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(defaultPool);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Workload workload = WorkloadContext.current();
+        return workload != null && pools.containsKey(workload) ? workload : DEFAULT;
+    }
+
+    /**
+     * datasource.workload.routed cuenta conexiones entregadas, no resoluciones de la clave
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = super.getConnection();
+        routedCounter().increment();
+        return connection;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Connection connection = super.getConnection(username, password);
+        routedCounter().increment();
+        return connection;
+    }
+
+    private Counter routedCounter() {
+        Object key = determineCurrentLookupKey();
+        return key == DEFAULT ? defaultCounter : routedCounters.get((Workload) key);
+    }
+
+    public DataSource getPool(Workload workload) {
+        return pools.getOrDefault(workload, defaultPool);
+    }
+
+    /**
+     * Cierra todos los pools, incluido el por defecto
+     */
+    public void close() throws Exception {
+        for (DataSource dataSource : pools.values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (defaultPool instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static Counter routedCounter(MeterRegistry meterRegistry, String pool) {
+        return Counter.builder("datasource.workload.routed")
+                .description("Conexiones entregadas por pool de carga de trabajo")
+                .tag("pool", pool)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,76 @@
+package com.coopcredit.credit_application_service.infrastructure.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Filtro: Fija la carga de trabajo de la petición según el caso de uso del endpoint
+ * Las peticiones que no coinciden con ninguna regla usan el pool por defecto
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "datasource.workloads.enabled", havingValue = "true")
+public class WorkloadRoutingFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher MATCHER = new AntPathMatcher();
+
+    private static final List<Rule> RULES = List.of(
+            new Rule(null, "/api/auth/**", Workload.AUTH),
+            new Rule(HttpMethod.POST, "/api/applications", Workload.EVALUATION),
+            new Rule(HttpMethod.POST, "/api/applications/*/evaluate", Workload.EVALUATION),
+            new Rule(HttpMethod.GET, "/api/applications/export", Workload.REPORTING),
+            new Rule(HttpMethod.GET, "/api/applications", Workload.REPORTING),
+            new Rule(HttpMethod.GET, "/api/applications/status/*", Workload.REPORTING),
+            new Rule(HttpMethod.GET, "/api/statistics/**", Workload.REPORTING));
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        Workload workload = resolve(request.getMethod(), request.getRequestURI());
+        if (workload == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        Workload previous = WorkloadContext.bind(workload);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+
+    static Workload resolve(String method, String path) {
+        for (Rule rule : RULES) {
+            if ((rule.method == null || rule.method.matches(method)) && MATCHER.match(rule.pattern, path)) {
+                return rule.workload;
+            }
+        }
+        return null;
+    }
+
+    private static final class Rule {
+        private final HttpMethod method;
+        private final String pattern;
+        private final Workload workload;
+
+        private Rule(HttpMethod method, String pattern, Workload workload) {
+            this.method = method;
+            this.pattern = pattern;
+            this.workload = workload;
+        }
+    }
+}
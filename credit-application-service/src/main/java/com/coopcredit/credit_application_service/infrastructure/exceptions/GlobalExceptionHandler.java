@@ -1,11 +1,15 @@
 package com.coopcredit.credit_application_service.infrastructure.exceptions;
 
 import com.coopcredit.credit_application_service.domain.exceptions.BusinessRuleException;
+import com.coopcredit.credit_application_service.domain.exceptions.ConcurrentUpdateException;
 import com.coopcredit.credit_application_service.domain.exceptions.ResourceNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -27,6 +31,9 @@ import java.util.UUID;
 public class GlobalExceptionHandler {
     
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+    
+    // Segundos sugeridos al cliente antes de reintentar tras un conflicto de concurrencia
+    private static final String RETRY_AFTER_SECONDS = "1";
 
     /**
      * Maneja excepciones de validación
@@ -108,6 +115,83 @@ public class GlobalExceptionHandler {
         return problemDetail;
     }
 
+    /**
+     * Maneja conflictos de concurrencia (UPDATE condicional sin filas o versión obsoleta)
+     * El cliente puede reintentar la operación sobre el estado actual del recurso
+     */
+    @ExceptionHandler({ConcurrentUpdateException.class, ObjectOptimisticLockingFailureException.class})
+    public ResponseEntity<ProblemDetail> handleConcurrentUpdateException(
+            RuntimeException ex,
+            WebRequest request) {
+        
+        String traceId = UUID.randomUUID().toString();
+        logger.warn("[{}] Conflicto de concurrencia: {}", traceId, ex.getMessage());
+        
+        String detail = ex instanceof ConcurrentUpdateException
+                ? ex.getMessage()
+                : "El recurso fue modificado por otra operación";
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, detail);
+        
+        problemDetail.setType(URI.create("https://coopcredit.com/errors/concurrent-update"));
+        problemDetail.setTitle("Concurrent Update");
+        problemDetail.setProperty("timestamp", Instant.now());
+        problemDetail.setProperty("traceId", traceId);
+        problemDetail.setProperty("retryable", true);
+        problemDetail.setProperty("hint", "Vuelva a consultar el recurso y reintente la operación");
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(problemDetail);
+    }
+
+    /**
+     * Maneja intentos de login por encima del límite por IP o por usuario
+     */
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<ProblemDetail> handleLoginThrottledException(
+            LoginThrottledException ex,
+            WebRequest request) {
+        
+        String traceId = UUID.randomUUID().toString();
+        logger.warn("[{}] Login limitado: {}", traceId, ex.getMessage());
+        
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage());
+        
+        problemDetail.setType(URI.create("https://coopcredit.com/errors/too-many-login-attempts"));
+        problemDetail.setTitle("Too Many Login Attempts");
+        problemDetail.setProperty("timestamp", Instant.now());
+        problemDetail.setProperty("traceId", traceId);
+        problemDetail.setProperty("retryable", true);
+        
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(problemDetail);
+    }
+
+    /**
+     * Maneja la saturación de la verificación de contraseñas
+     */
+    @ExceptionHandler(LoginUnavailableException.class)
+    public ResponseEntity<ProblemDetail> handleLoginUnavailableException(
+            LoginUnavailableException ex,
+            WebRequest request) {
+        
+        String traceId = UUID.randomUUID().toString();
+        logger.warn("[{}] Login no disponible: {}", traceId, ex.getMessage());
+        
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+        
+        problemDetail.setType(URI.create("https://coopcredit.com/errors/login-unavailable"));
+        problemDetail.setTitle("Login Unavailable");
+        problemDetail.setProperty("timestamp", Instant.now());
+        problemDetail.setProperty("traceId", traceId);
+        problemDetail.setProperty("retryable", true);
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(problemDetail);
+    }
+
     /**
      * Maneja excepciones de acceso denegado
      */
@@ -0,0 +1,18 @@
+package com.coopcredit.credit_application_service.infrastructure.exceptions;
+
+/**
+ * Demasiados intentos de login para el usuario o la IP: se responde 429 con Retry-After
+ */
+public class LoginThrottledException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
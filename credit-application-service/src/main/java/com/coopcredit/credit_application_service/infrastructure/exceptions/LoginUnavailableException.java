@@ -0,0 +1,19 @@
+package com.coopcredit.credit_application_service.infrastructure.exceptions;
+
+/**
+ * La verificación de contraseñas está saturada: se responde 503 con Retry-After
+ * en lugar de encolar más trabajo de BCrypt
+ */
+public class LoginUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
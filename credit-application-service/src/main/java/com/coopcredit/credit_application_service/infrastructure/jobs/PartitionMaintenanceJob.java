@@ -0,0 +1,101 @@
+package com.coopcredit.credit_application_service.infrastructure.jobs;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Tarea programada: Mantenimiento de las tablas particionadas por mes
+ * Crea por adelantado las particiones de los próximos meses y desacopla las que superan
+ * el período de retención (las tablas desacopladas no se eliminan).
+ * Un mes con solicitudes PENDIENTE sigue adjunto hasta que todas se decidan, y un mes de
+ * evaluaciones sigue adjunto mientras alguna solicitud adjunta las referencie
+ */
+@Component
+@ConditionalOnProperty(name = "partitioning.enabled", havingValue = "true", matchIfMissing = true)
+public class PartitionMaintenanceJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionMaintenanceJob.class);
+
+    /**
+     * Tabla particionada, su columna de partición y la condición que impide desacoplar un mes
+     * (SQL constante sobre la partición, con alias p; null si cualquier mes vencido puede desacoplarse).
+     * El orden importa: las evaluaciones se revisan después de desacoplar las solicitudes
+     */
+    private static final String[][] PARTITIONED_TABLES = {
+            {"credit_applications", "fecha_solicitud", "p.estado = 'PENDIENTE'"},
+            {"risk_evaluations", "fecha_evaluacion",
+                    "EXISTS (SELECT 1 FROM credit_applications a WHERE a.evaluacion_riesgo_id = p.id)"}
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public PartitionMaintenanceJob(
+            JdbcTemplate jdbcTemplate,
+            @Value("${partitioning.months-ahead:3}") int monthsAhead,
+            @Value("${partitioning.retention-months:0}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        createUpcomingPartitions(LocalDate.now());
+    }
+
+    @Scheduled(cron = "${partitioning.cron:0 30 2 * * *}")
+    public void maintain() {
+        LocalDate today = LocalDate.now();
+        createUpcomingPartitions(today);
+        if (retentionMonths > 0) {
+            detachExpiredPartitions(today);
+        }
+    }
+
+    /**
+     * Garantiza las particiones del mes actual y de los próximos meses configurados
+     */
+    public void createUpcomingPartitions(LocalDate today) {
+        LocalDate month = today.withDayOfMonth(1);
+        for (int i = 0; i <= monthsAhead; i++) {
+            for (String[] table : PARTITIONED_TABLES) {
+                Boolean created = jdbcTemplate.queryForObject(
+                        "SELECT ensure_monthly_partition(?, ?, ?)", Boolean.class,
+                        table[0], table[1], Date.valueOf(month.plusMonths(i)));
+                if (Boolean.TRUE.equals(created)) {
+                    logger.info("Partición creada: {} - {}", table[0], month.plusMonths(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * Desacopla las particiones cuyos meses quedaron completamente fuera del período de retención
+     * Las que aún tienen solicitudes PENDIENTE, o evaluaciones de solicitudes adjuntas, se conservan
+     * y se reintentan en la próxima corrida
+     */
+    public void detachExpiredPartitions(LocalDate today) {
+        LocalDate cutoff = today.withDayOfMonth(1).minusMonths(retentionMonths);
+        for (String[] table : PARTITIONED_TABLES) {
+            List<String> detached = jdbcTemplate.queryForList(
+                    "SELECT detach_monthly_partitions_before(?, ?, ?::text)", String.class,
+                    table[0], Date.valueOf(cutoff), table[2]);
+            if (!detached.isEmpty()) {
+                logger.info("Particiones desacopladas por retención ({} meses): {}", retentionMonths, detached);
+            }
+        }
+    }
+}
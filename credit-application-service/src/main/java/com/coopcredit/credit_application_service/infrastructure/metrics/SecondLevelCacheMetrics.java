@@ -0,0 +1,67 @@
+package com.coopcredit.credit_application_service.infrastructure.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Métricas del second-level cache de Hibernate por región
+ * hibernate.cache.requests{region, result=hit|miss}, hibernate.cache.puts{region}
+ * y hibernate.cache.hit.ratio{region}
+ */
+@Component
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            counter(registry, "hibernate.cache.requests", region, "hit", CacheRegionStatistics::getHitCount);
+            counter(registry, "hibernate.cache.requests", region, "miss", CacheRegionStatistics::getMissCount);
+            FunctionCounter.builder("hibernate.cache.puts", statistics, s -> count(s, region, CacheRegionStatistics::getPutCount))
+                    .description("Entradas escritas en la región")
+                    .tag("region", region)
+                    .register(registry);
+            Gauge.builder("hibernate.cache.hit.ratio", statistics, s -> hitRatio(s, region))
+                    .description("Proporción de lecturas resueltas desde la región")
+                    .tag("region", region)
+                    .register(registry);
+        }
+    }
+
+    private void counter(MeterRegistry registry, String name, String region, String result,
+                         ToLongFunction<CacheRegionStatistics> value) {
+        FunctionCounter.builder(name, statistics, s -> count(s, region, value))
+                .description("Lecturas del second-level cache")
+                .tags("region", region, "result", result)
+                .register(registry);
+    }
+
+    private static double count(Statistics statistics, String region, ToLongFunction<CacheRegionStatistics> value) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        return regionStatistics == null ? 0 : value.applyAsLong(regionStatistics);
+    }
+
+    private static double hitRatio(Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        if (regionStatistics == null) {
+            return Double.NaN;
+        }
+        long hits = regionStatistics.getHitCount();
+        long total = hits + regionStatistics.getMissCount();
+        return total == 0 ? Double.NaN : (double) hits / total;
+    }
+}
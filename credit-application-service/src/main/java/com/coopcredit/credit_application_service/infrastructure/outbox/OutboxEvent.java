@@ -0,0 +1,37 @@
+package com.coopcredit.credit_application_service.infrastructure.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento leído del outbox, listo para entregar a un destino
+ * El payload ya es JSON: se incrusta sin volver a serializarlo
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    private Long id;
+    private Long aplicacionId;
+    private String tipoEvento;
+    private String payload;
+    private LocalDateTime fechaCreacion;
+
+    /**
+     * Sobre JSON del evento; el id permite a los consumidores descartar entregas repetidas
+     */
+    public String toJson() {
+        return "{\"id\":" + id
+                + ",\"tipoEvento\":\"" + tipoEvento + "\""
+                + ",\"aplicacionId\":" + aplicacionId
+                + ",\"fechaCreacion\":\"" + fechaCreacion + "\""
+                + ",\"payload\":" + payload
+                + "}";
+    }
+}
@@ -0,0 +1,18 @@
+package com.coopcredit.credit_application_service.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * Destino de publicación de los eventos del outbox
+ * La entrega es al menos una vez: si publish falla, el relay reintenta los eventos de uno en uno.
+ * Debe lanzar excepción si no puede garantizar la entrega de todos los eventos
+ */
+public interface OutboxEventSink {
+
+    /**
+     * Nombre del destino para métricas y logs
+     */
+    String name();
+
+    void publish(List<OutboxEvent> events) throws Exception;
+}
@@ -0,0 +1,264 @@
+package com.coopcredit.credit_application_service.infrastructure.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Relay del outbox: publica los eventos pendientes en el destino configurado
+ * Cada lote se bloquea con FOR UPDATE SKIP LOCKED dentro de su propia transacción, así
+ * varias instancias reparten los pendientes sin entregar dos veces el mismo lote.
+ * Si un lote falla se reintenta evento por evento: el primero que falla espera con backoff
+ * exponencial y, al agotar max-attempts, queda aparcado sin bloquear a los demás.
+ * Métricas: outbox.delivery.lag, outbox.events.published, outbox.publish.failures,
+ * outbox.backlog, outbox.backlog.oldest.age y outbox.parked
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final String SELECT_PENDING =
+            "SELECT id, aplicacion_id, tipo_evento, payload, fecha_creacion FROM application_outbox " +
+            "WHERE fecha_publicacion IS NULL AND fecha_aparcado IS NULL " +
+            "AND (fecha_proximo_intento IS NULL OR fecha_proximo_intento <= now()) " +
+            "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    /**
+     * Registra el fallo de un evento: espera initial * 2^intentos (hasta max) y lo aparca al
+     * agotar los intentos. Devuelve si quedó aparcado
+     */
+    private static final String RECORD_FAILURE =
+            "UPDATE application_outbox SET intentos = intentos + 1, ultimo_error = ?, " +
+            "fecha_proximo_intento = now() + " +
+            "LEAST(?::double precision * power(2, intentos), ?::double precision) * INTERVAL '1 millisecond', " +
+            "fecha_aparcado = CASE WHEN intentos + 1 >= ? THEN now() END " +
+            "WHERE id = ? RETURNING fecha_aparcado IS NOT NULL";
+
+    private static final RowMapper<OutboxEvent> EVENT_MAPPER = (rs, rowNum) -> OutboxEvent.builder()
+            .id(rs.getLong("id"))
+            .aplicacionId(rs.getLong("aplicacion_id"))
+            .tipoEvento(rs.getString("tipo_evento"))
+            .payload(rs.getString("payload"))
+            .fechaCreacion(rs.getTimestamp("fecha_creacion").toLocalDateTime())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxEventSink sink;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int retentionDays;
+    private final int maxAttempts;
+    private final long backoffInitialMs;
+    private final long backoffMaxMs;
+
+    private final Timer deliveryLag;
+    private final Counter published;
+    private final Counter failures;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong oldestPendingAgeMs = new AtomicLong();
+    private final AtomicLong parked = new AtomicLong();
+
+    public OutboxRelay(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            OutboxEventSink sink,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.relay.batch-size:100}") int batchSize,
+            @Value("${outbox.relay.max-batches-per-run:10}") int maxBatchesPerRun,
+            @Value("${outbox.retention-days:7}") int retentionDays,
+            @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+            @Value("${outbox.relay.backoff-initial-ms:1000}") long backoffInitialMs,
+            @Value("${outbox.relay.backoff-max-ms:900000}") long backoffMaxMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.retentionDays = retentionDays;
+        this.maxAttempts = maxAttempts;
+        this.backoffInitialMs = backoffInitialMs;
+        this.backoffMaxMs = backoffMaxMs;
+
+        this.deliveryLag = Timer.builder("outbox.delivery.lag")
+                .description("Tiempo entre el cambio de estado y su entrega al destino")
+                .tag("sink", sink.name())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.published = Counter.builder("outbox.events.published")
+                .description("Eventos del outbox entregados")
+                .tag("sink", sink.name())
+                .register(meterRegistry);
+        this.failures = Counter.builder("outbox.publish.failures")
+                .description("Lotes del outbox cuya entrega falló")
+                .tag("sink", sink.name())
+                .register(meterRegistry);
+        Gauge.builder("outbox.backlog", backlog, AtomicLong::get)
+                .description("Eventos pendientes de publicar")
+                .register(meterRegistry);
+        Gauge.builder("outbox.backlog.oldest.age", oldestPendingAgeMs, AtomicLong::get)
+                .description("Antigüedad del evento pendiente más antiguo")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("outbox.parked", parked, AtomicLong::get)
+                .description("Eventos aparcados tras agotar sus intentos; requieren revisión")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}",
+               initialDelayString = "${outbox.relay.initial-delay-ms:5000}")
+    public void run() {
+        try {
+            relayPending();
+        } finally {
+            refreshBacklog();
+        }
+    }
+
+    /**
+     * Publica lotes mientras vengan completos, hasta max-batches-per-run
+     *
+     * @return eventos publicados en esta ejecución
+     */
+    public int relayPending() {
+        int total = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            int relayed = relayBatch();
+            total += relayed;
+            if (relayed < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Bloquea, publica y marca un lote en una sola transacción
+     * Si el destino rechaza el lote, se reintenta evento por evento hasta el primero que falla,
+     * que queda con el intento, el error y la espera registrados; el resto sigue pendiente
+     *
+     * @return eventos publicados; 0 si no había pendientes o falló el primero
+     */
+    public int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = jdbcTemplate.query(SELECT_PENDING, EVENT_MAPPER, batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+            try {
+                sink.publish(events);
+                markPublished(events);
+                return events.size();
+            } catch (Exception e) {
+                failures.increment();
+                if (events.size() == 1) {
+                    recordFailure(events.get(0), e);
+                    return 0;
+                }
+                logger.warn("No se pudo publicar un lote de {} eventos en {}: {}", events.size(), sink.name(), e.getMessage());
+            }
+            return relayOneByOne(events);
+        });
+        return relayed != null ? relayed : 0;
+    }
+
+    /**
+     * Publica los eventos en orden, uno por uno, y se detiene en el primero que falla
+     */
+    private int relayOneByOne(List<OutboxEvent> events) {
+        List<OutboxEvent> delivered = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            try {
+                sink.publish(List.of(event));
+                delivered.add(event);
+            } catch (Exception e) {
+                recordFailure(event, e);
+                break;
+            }
+        }
+        if (!delivered.isEmpty()) {
+            markPublished(delivered);
+        }
+        return delivered.size();
+    }
+
+    private void markPublished(List<OutboxEvent> events) {
+        LocalDateTime now = LocalDateTime.now();
+        Long[] ids = events.stream().map(OutboxEvent::getId).toArray(Long[]::new);
+        jdbcTemplate.update(
+                "UPDATE application_outbox SET fecha_publicacion = ?, intentos = intentos + 1, ultimo_error = NULL " +
+                "WHERE id = ANY(?)",
+                Timestamp.valueOf(now), ids);
+        for (OutboxEvent event : events) {
+            deliveryLag.record(Duration.between(event.getFechaCreacion(), now));
+        }
+        published.increment(events.size());
+    }
+
+    private void recordFailure(OutboxEvent event, Exception e) {
+        Boolean aparcado = jdbcTemplate.queryForObject(RECORD_FAILURE, Boolean.class,
+                String.valueOf(e.getMessage()), backoffInitialMs, backoffMaxMs, maxAttempts, event.getId());
+        if (Boolean.TRUE.equals(aparcado)) {
+            logger.error("Evento {} del outbox aparcado tras {} intentos en {}: {}",
+                    event.getId(), maxAttempts, sink.name(), e.getMessage());
+        } else {
+            logger.warn("Evento {} del outbox no publicado en {}; se reintentará: {}",
+                    event.getId(), sink.name(), e.getMessage());
+        }
+    }
+
+    /**
+     * Elimina los eventos publicados que superan el período de retención
+     */
+    @Scheduled(cron = "${outbox.cleanup-cron:0 15 3 * * *}")
+    public void purgePublished() {
+        if (retentionDays <= 0) {
+            return;
+        }
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM application_outbox WHERE fecha_publicacion < ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays)));
+        if (deleted > 0) {
+            logger.info("Eventos del outbox eliminados por retención ({} días): {}", retentionDays, deleted);
+        }
+    }
+
+    /**
+     * Actualiza los gauges de backlog y de aparcados sobre sus índices parciales
+     */
+    public void refreshBacklog() {
+        jdbcTemplate.query(
+                "SELECT count(*) AS pendientes, min(fecha_creacion) AS mas_antiguo " +
+                "FROM application_outbox WHERE fecha_publicacion IS NULL AND fecha_aparcado IS NULL",
+                rs -> {
+                    backlog.set(rs.getLong("pendientes"));
+                    Timestamp oldest = rs.getTimestamp("mas_antiguo");
+                    oldestPendingAgeMs.set(oldest == null
+                            ? 0
+                            : Math.max(0, Duration.between(oldest.toLocalDateTime(), LocalDateTime.now()).toMillis()));
+                });
+        parked.set(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM application_outbox WHERE fecha_publicacion IS NULL AND fecha_aparcado IS NOT NULL",
+                Long.class));
+    }
+}
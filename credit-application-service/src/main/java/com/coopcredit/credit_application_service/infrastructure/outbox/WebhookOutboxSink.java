@@ -0,0 +1,44 @@
+package com.coopcredit.credit_application_service.infrastructure.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Destino webhook: envía el lote como arreglo JSON en un solo POST
+ * Cualquier respuesta que no sea 2xx lanza excepción y el lote se reintenta
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "webhook")
+public class WebhookOutboxSink implements OutboxEventSink {
+
+    private final RestTemplate restTemplate;
+    private final String url;
+
+    public WebhookOutboxSink(RestTemplate restTemplate, @Value("${outbox.webhook.url}") String url) {
+        this.restTemplate = restTemplate;
+        this.url = url;
+    }
+
+    @Override
+    public String name() {
+        return "webhook";
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        String body = events.stream()
+                .map(OutboxEvent::toJson)
+                .collect(Collectors.joining(",", "[", "]"));
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        restTemplate.postForEntity(url, new HttpEntity<>(body, headers), Void.class);
+    }
+}
@@ -0,0 +1,301 @@
+package com.coopcredit.credit_application_service.infrastructure.readmodel;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.enums.RiskLevel;
+import com.coopcredit.credit_application_service.domain.model.CreditApplicationSummary;
+import com.coopcredit.credit_application_service.infrastructure.adapters.RiskEvaluationStorage;
+import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.ApplicationStateChangedEvent;
+import com.coopcredit.credit_application_service.infrastructure.datasource.Workload;
+import com.coopcredit.credit_application_service.infrastructure.datasource.WorkloadContext;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Archivo fuera del heap con los resúmenes de solicitudes para el nodo de analítica
+ * Cada cambio de estado confirmado agrega un registro de ancho fijo (MappedSummaryFile) y marca
+ * el anterior de la misma solicitud como reemplazado. El heap solo guarda el índice id → registro
+ * (dos arreglos primitivos, reconstruidos recorriendo el archivo al abrirlo).
+ * Al arrancar se reabre el archivo y se recuperan del outbox los cambios posteriores al último
+ * registro; solo si el archivo es nuevo, o el outbox ya no cubre ese intervalo, se recorre
+ * credit_applications. Métricas: read.model.archive.records y read.model.archive.bytes
+ */
+@Component
+@ConditionalOnProperty(name = "read-model.archive.enabled", havingValue = "true")
+public class ApplicationSummaryArchive implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationSummaryArchive.class);
+
+    private static final JsonMapper JSON = JsonMapper.builder()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+            .build();
+
+    private static final String OUTBOX_SINCE_QUERY =
+            "SELECT payload FROM application_outbox WHERE fecha_creacion >= ? ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String reconcileQuery;
+    private final int fetchSize;
+    private final long catchUpMarginMinutes;
+
+    private final MappedSummaryFile file;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongIntHashMap recordPorId;
+
+    public ApplicationSummaryArchive(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${read-model.archive.path:data/application-summaries.dat}") Path path,
+            @Value("${read-model.archive.segment-records:1048576}") int segmentRecords,
+            @Value("${read-model.archive.catch-up-margin-minutes:5}") long catchUpMarginMinutes,
+            @Value("${read-model.applications.fetch-size:5000}") int fetchSize,
+            @Value("${credit.risk-evaluation.storage:TABLE}") RiskEvaluationStorage storage) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reconcileQuery = ApplicationSummaryReadModel.rebuildQuery(storage);
+        this.fetchSize = fetchSize;
+        this.catchUpMarginMinutes = catchUpMarginMinutes;
+
+        long start = System.nanoTime();
+        try {
+            this.file = MappedSummaryFile.open(path, segmentRecords);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el archivo de resúmenes " + path, e);
+        }
+        this.recordPorId = new LongIntHashMap((int) Math.min(file.count(), 1 << 28));
+        for (long record = 0; record < file.count(); record++) {
+            if (!file.isSuperseded(record)) {
+                recordPorId.put(file.id(record), Math.toIntExact(record));
+            }
+        }
+        logger.info("Archivo de resúmenes {} abierto: {} registros, {} solicitudes en {} ms",
+                path, file.count(), recordPorId.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        Gauge.builder("read.model.archive.records", file, MappedSummaryFile::count)
+                .description("Registros en el archivo de resúmenes fuera del heap")
+                .register(meterRegistry);
+        Gauge.builder("read.model.archive.bytes", file, MappedSummaryFile::usedBytes)
+                .description("Bytes ocupados por registros en el archivo de resúmenes")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (file.count() == 0) {
+            reconcile();
+            return;
+        }
+        LocalDateTime since = ApplicationSummaryStore.fromMicros(file.lastAppend()).minusMinutes(catchUpMarginMinutes);
+        Timestamp oldest = jdbcTemplate.queryForObject(
+                "SELECT min(fecha_creacion) FROM application_outbox", Timestamp.class);
+        if (oldest == null || oldest.toLocalDateTime().isAfter(since)) {
+            // El outbox pudo haber eliminado eventos de ese intervalo
+            reconcile();
+        } else {
+            catchUp(since);
+        }
+    }
+
+    /**
+     * Agrega los cambios confirmados; si la transacción se revierte el evento se descarta
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStateChanged(ApplicationStateChangedEvent event) {
+        long now = ApplicationSummaryStore.toMicros(LocalDateTime.now());
+        lock.writeLock().lock();
+        try {
+            event.summaries().forEach(summary -> append(summary, now));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Recorre credit_applications y agrega las solicitudes cuyo estado no coincide con el archivado
+     */
+    public void reconcile() {
+        long start = System.nanoTime();
+        long before = file.count();
+        long now = ApplicationSummaryStore.toMicros(LocalDateTime.now());
+        WorkloadContext.run(Workload.REPORTING, () -> transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            reconcileQuery, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(fetchSize);
+                    return statement;
+                }, rs -> {
+                    appendLocked(ApplicationSummaryReadModel.mapRow(rs), now);
+                })));
+        logger.info("Archivo de resúmenes conciliado con la base: {} registros agregados en {} ms",
+                file.count() - before, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Aplica los eventos del outbox creados desde la fecha indicada
+     */
+    private void catchUp(LocalDateTime since) {
+        long before = file.count();
+        long now = ApplicationSummaryStore.toMicros(LocalDateTime.now());
+        WorkloadContext.run(Workload.REPORTING, () ->
+                jdbcTemplate.query(OUTBOX_SINCE_QUERY, rs -> {
+                    appendLocked(fromPayload(rs.getString("payload")), now);
+                }, Timestamp.valueOf(since)));
+        logger.info("Archivo de resúmenes puesto al día desde el outbox ({}): {} registros agregados",
+                since, file.count() - before);
+    }
+
+    /**
+     * Resumen vigente de la solicitud: una búsqueda en el índice y una lectura de 48 bytes
+     */
+    public Optional<CreditApplicationSummary> findById(long id) {
+        lock.readLock().lock();
+        try {
+            int record = recordPorId.get(id);
+            return record == LongIntHashMap.MISSING
+                    ? Optional.empty()
+                    : Optional.of(new ArchivedApplicationRecord(file).at(record).toSummary());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Recorre en orden de archivo el estado vigente de cada solicitud, sin copiar registros
+     * Ve los registros agregados hasta el momento de empezar
+     *
+     * @return solicitudes visitadas
+     */
+    public long scan(Consumer<ArchivedApplicationRecord> visitor) {
+        ArchivedApplicationRecord view = new ArchivedApplicationRecord(file);
+        long end = file.count();
+        long visited = 0;
+        for (long record = 0; record < end; record++) {
+            if (!file.isSuperseded(record)) {
+                visitor.accept(view.at(record));
+                visited++;
+            }
+        }
+        return visited;
+    }
+
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return recordPorId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        lock.writeLock().lock();
+        try {
+            file.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void appendLocked(CreditApplicationSummary summary, long fechaRegistro) {
+        lock.writeLock().lock();
+        try {
+            append(summary, fechaRegistro);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Un estado igual al archivado no agrega registro, y un PENDIENTE no reemplaza a una
+     * decisión: el outbox, la base y los eventos pueden entregar el mismo cambio o llegar en otro orden
+     */
+    private void append(CreditApplicationSummary summary, long fechaRegistro) {
+        byte estado = (byte) summary.getEstado().ordinal();
+        int previous = recordPorId.get(summary.getId());
+        if (previous != LongIntHashMap.MISSING) {
+            byte archivado = file.estado(previous);
+            if (archivado == estado
+                    || (estado == ApplicationStatus.PENDIENTE.ordinal() && archivado != estado)) {
+                return;
+            }
+        }
+        try {
+            long record = file.append(
+                    summary.getId(),
+                    summary.getAfiliadoId(),
+                    summary.getMontoSolicitado().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact(),
+                    ApplicationSummaryStore.toMicros(summary.getFechaSolicitud()),
+                    fechaRegistro,
+                    toShort(summary.getTasaPropuesta().setScale(2, RoundingMode.HALF_UP).unscaledValue().intValueExact()),
+                    summary.getScore() == null ? ArchivedApplicationRecord.SIN_SCORE : toShort(summary.getScore()),
+                    toShort(summary.getPlazoMeses()),
+                    estado,
+                    summary.getNivelRiesgo() == null
+                            ? ArchivedApplicationRecord.SIN_NIVEL
+                            : (byte) summary.getNivelRiesgo().ordinal());
+            if (previous != LongIntHashMap.MISSING) {
+                file.markSuperseded(previous);
+            }
+            recordPorId.put(summary.getId(), Math.toIntExact(record));
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo agregar la solicitud " + summary.getId() + " al archivo", e);
+        }
+    }
+
+    /**
+     * Payload escrito por ApplicationOutboxWriter
+     */
+    private static CreditApplicationSummary fromPayload(String payload) {
+        JsonNode node = JSON.readTree(payload);
+        JsonNode score = node.get("score");
+        JsonNode nivel = node.get("nivelRiesgo");
+        return new CreditApplicationSummary(
+                node.get("id").asLong(),
+                node.get("afiliadoId").asLong(),
+                node.get("montoSolicitado").decimalValue(),
+                node.get("plazoMeses").asInt(),
+                node.get("tasaPropuesta").decimalValue(),
+                LocalDateTime.parse(node.get("fechaSolicitud").asString()),
+                ApplicationStatus.valueOf(node.get("estado").asString()),
+                score == null || score.isNull() ? null : score.asInt(),
+                nivel == null || nivel.isNull() ? null : RiskLevel.valueOf(nivel.asString()));
+    }
+
+    private static short toShort(int value) {
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Valor fuera de rango: " + value);
+        }
+        return (short) value;
+    }
+}
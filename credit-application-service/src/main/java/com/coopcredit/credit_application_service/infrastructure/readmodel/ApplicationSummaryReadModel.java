@@ -0,0 +1,232 @@
+package com.coopcredit.credit_application_service.infrastructure.readmodel;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.enums.RiskLevel;
+import com.coopcredit.credit_application_service.domain.model.ApplicationCursor;
+import com.coopcredit.credit_application_service.domain.model.CreditApplicationSummary;
+import com.coopcredit.credit_application_service.domain.ports.out.ApplicationReadModelPort;
+import com.coopcredit.credit_application_service.infrastructure.adapters.RiskEvaluationStorage;
+import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.ApplicationStateChangedEvent;
+import com.coopcredit.credit_application_service.infrastructure.datasource.Workload;
+import com.coopcredit.credit_application_service.infrastructure.datasource.WorkloadContext;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Modelo de lectura en memoria de los resúmenes de solicitudes (ver ApplicationSummaryStore)
+ * Se carga desde la base al arrancar y se mantiene con los ApplicationStateChangedEvent que
+ * publica el outbox, aplicados solo después del commit. Los cambios que llegan durante una
+ * recarga se guardan y se aplican sobre la copia nueva antes de reemplazar la anterior.
+ * Las eliminaciones directas en la base (o el desacople de particiones) se reflejan en la
+ * siguiente recarga. Métricas: read.model.applications.size y read.model.applications.bytes
+ */
+@Component
+@ConditionalOnProperty(name = "read-model.applications.enabled", havingValue = "true")
+public class ApplicationSummaryReadModel implements ApplicationReadModelPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationSummaryReadModel.class);
+
+    private static final String TABLE_QUERY =
+            "SELECT a.id, a.afiliado_id, a.monto_solicitado, a.plazo_meses, a.tasa_propuesta, " +
+            "a.fecha_solicitud, a.estado, r.score, r.nivel_riesgo " +
+            "FROM credit_applications a " +
+            "LEFT JOIN risk_evaluations r ON r.id = a.evaluacion_riesgo_id";
+
+    private static final String EMBEDDED_QUERY =
+            "SELECT a.id, a.afiliado_id, a.monto_solicitado, a.plazo_meses, a.tasa_propuesta, " +
+            "a.fecha_solicitud, a.estado, a.riesgo_score AS score, a.riesgo_nivel AS nivel_riesgo " +
+            "FROM credit_applications a";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String rebuildQuery;
+    private final int expectedSize;
+    private final int fetchSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile ApplicationSummaryStore store;
+    private List<CreditApplicationSummary> changesDuringRebuild;
+
+    public ApplicationSummaryReadModel(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${read-model.applications.expected-size:100000}") int expectedSize,
+            @Value("${read-model.applications.fetch-size:5000}") int fetchSize,
+            @Value("${credit.risk-evaluation.storage:TABLE}") RiskEvaluationStorage storage) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rebuildQuery = rebuildQuery(storage);
+        this.expectedSize = expectedSize;
+        this.fetchSize = fetchSize;
+
+        Gauge.builder("read.model.applications.size", this, model -> model.metric(ApplicationSummaryStore::size))
+                .description("Solicitudes en el modelo de lectura en memoria")
+                .register(meterRegistry);
+        Gauge.builder("read.model.applications.bytes", this, model -> model.metric(ApplicationSummaryStore::estimatedBytes))
+                .description("Memoria estimada de columnas e índices del modelo de lectura")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        rebuild();
+    }
+
+    /**
+     * Carga todas las solicitudes en una copia nueva y la publica al terminar
+     * Mientras tanto las consultas siguen usando la copia anterior (o la base, en el arranque)
+     */
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.nanoTime();
+        ApplicationSummaryStore fresh = new ApplicationSummaryStore(expectedSize);
+        try {
+            // Recorrido completo con cursor (fetchSize requiere transacción) en el pool de reportes;
+            // sin readOnly para no leer de una réplica atrasada
+            WorkloadContext.run(Workload.REPORTING, () -> transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.query(connection -> {
+                        PreparedStatement statement = connection.prepareStatement(
+                                rebuildQuery, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                        statement.setFetchSize(fetchSize);
+                        return statement;
+                    }, rs -> {
+                        fresh.upsert(mapRow(rs));
+                    })));
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild.forEach(fresh::upsert);
+            changesDuringRebuild = null;
+            store = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Modelo de lectura de solicitudes cargado: {} solicitudes, ~{} MB en {} ms",
+                fresh.size(), fresh.estimatedBytes() / (1024 * 1024),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Aplica los cambios confirmados; si la transacción se revierte el evento se descarta
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStateChanged(ApplicationStateChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.addAll(event.summaries());
+            }
+            ApplicationSummaryStore current = store;
+            if (current != null) {
+                event.summaries().forEach(current::upsert);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return store != null;
+    }
+
+    @Override
+    public List<CreditApplicationSummary> findSummaryPage(ApplicationCursor after, int limit) {
+        return read(current -> current.page(after, limit));
+    }
+
+    @Override
+    public List<CreditApplicationSummary> findSummaryPageByEstado(ApplicationStatus estado, ApplicationCursor after, int limit) {
+        return read(current -> current.pageByEstado(estado, after, limit));
+    }
+
+    @Override
+    public List<CreditApplicationSummary> findSummaryPageByAfiliadoId(Long afiliadoId, ApplicationCursor after, int limit) {
+        return read(current -> current.pageByAfiliadoId(afiliadoId, after, limit));
+    }
+
+    private <T> T read(Function<ApplicationSummaryStore, T> query) {
+        lock.readLock().lock();
+        try {
+            ApplicationSummaryStore current = store;
+            if (current == null) {
+                throw new IllegalStateException("El modelo de lectura de solicitudes aún no está cargado");
+            }
+            return query.apply(current);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double metric(ToDoubleFunction<ApplicationSummaryStore> value) {
+        lock.readLock().lock();
+        try {
+            ApplicationSummaryStore current = store;
+            return current == null ? 0 : value.applyAsDouble(current);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Consulta de todas las solicitudes con su evaluación según dónde se guarda (V13)
+     */
+    static String rebuildQuery(RiskEvaluationStorage storage) {
+        return storage == RiskEvaluationStorage.EMBEDDED ? EMBEDDED_QUERY : TABLE_QUERY;
+    }
+
+    static CreditApplicationSummary mapRow(ResultSet rs) throws SQLException {
+        int score = rs.getInt("score");
+        Integer scoreValue = rs.wasNull() ? null : score;
+        String nivel = rs.getString("nivel_riesgo");
+
+        return new CreditApplicationSummary(
+                rs.getLong("id"),
+                rs.getLong("afiliado_id"),
+                rs.getBigDecimal("monto_solicitado"),
+                rs.getInt("plazo_meses"),
+                rs.getBigDecimal("tasa_propuesta"),
+                rs.getTimestamp("fecha_solicitud").toLocalDateTime(),
+                ApplicationStatus.valueOf(rs.getString("estado")),
+                scoreValue,
+                nivel != null ? RiskLevel.valueOf(nivel) : null);
+    }
+}
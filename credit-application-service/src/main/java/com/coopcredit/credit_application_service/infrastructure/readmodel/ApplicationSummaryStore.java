@@ -0,0 +1,319 @@
+package com.coopcredit.credit_application_service.infrastructure.readmodel;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.enums.RiskLevel;
+import com.coopcredit.credit_application_service.domain.model.ApplicationCursor;
+import com.coopcredit.credit_application_service.domain.model.CreditApplicationSummary;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Resúmenes de solicitudes en columnas de arreglos primitivos (un slot por solicitud)
+ * Montos en centavos, fechas en microsegundos (la precisión de timestamp en PostgreSQL),
+ * estado y nivel como ordinal. Los índices por fecha, estado y afiliado son listas de slots
+ * ordenadas por (fechaSolicitud, id); una página se materializa solo con las filas que entrega.
+ * No es thread-safe: ApplicationSummaryReadModel serializa las escrituras
+ */
+final class ApplicationSummaryStore {
+
+    private static final ApplicationStatus[] ESTADOS = ApplicationStatus.values();
+    private static final RiskLevel[] NIVELES = RiskLevel.values();
+    private static final byte SIN_NIVEL = -1;
+    private static final short SIN_SCORE = -1;
+    private static final int LISTA_AFILIADO_INICIAL = 4;
+
+    // Columnas por slot
+    private long[] ids;
+    private long[] afiliadoIds;
+    private long[] fechas;
+    private long[] montos;
+    private int[] tasas;
+    private short[] plazos;
+    private byte[] estados;
+    private short[] scores;
+    private byte[] niveles;
+    private int size;
+
+    // Índices
+    private final LongIntHashMap slotPorId;
+    private final SlotList porFecha;
+    private final SlotList[] porEstado;
+    private final LongIntHashMap listaPorAfiliado;
+    private SlotList[] porAfiliado;
+    private int afiliados;
+
+    ApplicationSummaryStore(int expectedSize) {
+        int capacity = Math.max(expectedSize, 16);
+        ids = new long[capacity];
+        afiliadoIds = new long[capacity];
+        fechas = new long[capacity];
+        montos = new long[capacity];
+        tasas = new int[capacity];
+        plazos = new short[capacity];
+        estados = new byte[capacity];
+        scores = new short[capacity];
+        niveles = new byte[capacity];
+
+        slotPorId = new LongIntHashMap(capacity);
+        porFecha = new SlotList(capacity);
+        porEstado = new SlotList[ESTADOS.length];
+        for (int i = 0; i < ESTADOS.length; i++) {
+            porEstado[i] = new SlotList(capacity / ESTADOS.length);
+        }
+        listaPorAfiliado = new LongIntHashMap(capacity / 8);
+        porAfiliado = new SlotList[Math.max(capacity / 8, 16)];
+    }
+
+    /**
+     * Inserta o actualiza el resumen de una solicitud
+     * Un resumen PENDIENTE no reemplaza a uno ya decidido: los eventos de distintas
+     * transacciones pueden llegar en otro orden y el estado solo avanza desde PENDIENTE
+     */
+    void upsert(CreditApplicationSummary summary) {
+        long id = summary.getId();
+        long afiliadoId = summary.getAfiliadoId();
+        long fecha = toMicros(summary.getFechaSolicitud());
+        byte estado = (byte) summary.getEstado().ordinal();
+
+        int slot = slotPorId.get(id);
+        if (slot == LongIntHashMap.MISSING) {
+            slot = nextSlot();
+            ids[slot] = id;
+            afiliadoIds[slot] = afiliadoId;
+            fechas[slot] = fecha;
+            estados[slot] = estado;
+            writeValues(slot, summary);
+            slotPorId.put(id, slot);
+            insert(porFecha, slot);
+            insert(porEstado[estado], slot);
+            insert(listaDeAfiliado(afiliadoId), slot);
+            return;
+        }
+
+        byte anterior = estados[slot];
+        if (estado == ApplicationStatus.PENDIENTE.ordinal() && anterior != estado) {
+            return;
+        }
+        if (fechas[slot] != fecha || afiliadoIds[slot] != afiliadoId) {
+            remove(porFecha, slot);
+            remove(porEstado[anterior], slot);
+            remove(listaDeAfiliado(afiliadoIds[slot]), slot);
+            afiliadoIds[slot] = afiliadoId;
+            fechas[slot] = fecha;
+            estados[slot] = estado;
+            insert(porFecha, slot);
+            insert(porEstado[estado], slot);
+            insert(listaDeAfiliado(afiliadoId), slot);
+        } else if (anterior != estado) {
+            remove(porEstado[anterior], slot);
+            estados[slot] = estado;
+            insert(porEstado[estado], slot);
+        }
+        writeValues(slot, summary);
+    }
+
+    List<CreditApplicationSummary> page(ApplicationCursor after, int limit) {
+        return page(porFecha, after, limit);
+    }
+
+    List<CreditApplicationSummary> pageByEstado(ApplicationStatus estado, ApplicationCursor after, int limit) {
+        return page(porEstado[estado.ordinal()], after, limit);
+    }
+
+    List<CreditApplicationSummary> pageByAfiliadoId(long afiliadoId, ApplicationCursor after, int limit) {
+        int lista = listaPorAfiliado.get(afiliadoId);
+        if (lista == LongIntHashMap.MISSING) {
+            return List.of();
+        }
+        return page(porAfiliado[lista], after, limit);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Bytes ocupados por los arreglos (columnas, mapas e índices) según su capacidad actual
+     * Los encabezados de objeto y las listas vacías de reserva se cuentan de forma aproximada
+     */
+    long estimatedBytes() {
+        long capacity = ids.length;
+        long columnas = capacity * (8 + 8 + 8 + 8 + 4 + 2 + 1 + 2 + 1);
+        long indices = slotPorId.estimatedBytes() + listaPorAfiliado.estimatedBytes()
+                + porFecha.estimatedBytes() + 8L * porAfiliado.length;
+        for (SlotList lista : porEstado) {
+            indices += lista.estimatedBytes();
+        }
+        for (int i = 0; i < afiliados; i++) {
+            indices += porAfiliado[i].estimatedBytes();
+        }
+        return columnas + indices;
+    }
+
+    /**
+     * Recorre la lista de la más reciente a la más antigua desde justo antes del cursor
+     */
+    private List<CreditApplicationSummary> page(SlotList lista, ApplicationCursor after, int limit) {
+        int end = after == null
+                ? lista.size
+                : lowerBound(lista, toMicros(after.getFechaSolicitud()), after.getId());
+        List<CreditApplicationSummary> rows = new ArrayList<>(Math.min(limit, end));
+        for (int i = end - 1; i >= 0 && rows.size() < limit; i--) {
+            rows.add(toSummary(lista.slots[i]));
+        }
+        return rows;
+    }
+
+    private CreditApplicationSummary toSummary(int slot) {
+        return new CreditApplicationSummary(
+                ids[slot],
+                afiliadoIds[slot],
+                BigDecimal.valueOf(montos[slot], 2),
+                (int) plazos[slot],
+                BigDecimal.valueOf(tasas[slot], 2),
+                fromMicros(fechas[slot]),
+                ESTADOS[estados[slot]],
+                scores[slot] == SIN_SCORE ? null : (int) scores[slot],
+                niveles[slot] == SIN_NIVEL ? null : NIVELES[niveles[slot]]);
+    }
+
+    private void writeValues(int slot, CreditApplicationSummary summary) {
+        montos[slot] = summary.getMontoSolicitado().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        tasas[slot] = summary.getTasaPropuesta().setScale(2, RoundingMode.HALF_UP).unscaledValue().intValueExact();
+        plazos[slot] = toShort(summary.getPlazoMeses());
+        scores[slot] = summary.getScore() == null ? SIN_SCORE : toShort(summary.getScore());
+        niveles[slot] = summary.getNivelRiesgo() == null ? SIN_NIVEL : (byte) summary.getNivelRiesgo().ordinal();
+    }
+
+    private SlotList listaDeAfiliado(long afiliadoId) {
+        int lista = listaPorAfiliado.get(afiliadoId);
+        if (lista != LongIntHashMap.MISSING) {
+            return porAfiliado[lista];
+        }
+        if (afiliados == porAfiliado.length) {
+            porAfiliado = Arrays.copyOf(porAfiliado, afiliados + (afiliados >> 1));
+        }
+        porAfiliado[afiliados] = new SlotList(LISTA_AFILIADO_INICIAL);
+        listaPorAfiliado.put(afiliadoId, afiliados);
+        return porAfiliado[afiliados++];
+    }
+
+    private int nextSlot() {
+        if (size == ids.length) {
+            int capacity = size + (size >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            afiliadoIds = Arrays.copyOf(afiliadoIds, capacity);
+            fechas = Arrays.copyOf(fechas, capacity);
+            montos = Arrays.copyOf(montos, capacity);
+            tasas = Arrays.copyOf(tasas, capacity);
+            plazos = Arrays.copyOf(plazos, capacity);
+            estados = Arrays.copyOf(estados, capacity);
+            scores = Arrays.copyOf(scores, capacity);
+            niveles = Arrays.copyOf(niveles, capacity);
+        }
+        return size++;
+    }
+
+    // ------------------------------------------------------------------------
+    // Listas ordenadas por (fechaSolicitud, id) ascendente
+    // ------------------------------------------------------------------------
+
+    private int compare(int slot, long fecha, long id) {
+        int byFecha = Long.compare(fechas[slot], fecha);
+        return byFecha != 0 ? byFecha : Long.compare(ids[slot], id);
+    }
+
+    /**
+     * Posición del primer slot con (fecha, id) mayor o igual al dado
+     */
+    private int lowerBound(SlotList lista, long fecha, long id) {
+        int low = 0;
+        int high = lista.size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(lista.slots[mid], fecha, id) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Las solicitudes nuevas llegan casi siempre al final: se agregan sin búsqueda
+     */
+    private void insert(SlotList lista, int slot) {
+        long fecha = fechas[slot];
+        long id = ids[slot];
+        int position = lista.size == 0 || compare(lista.slots[lista.size - 1], fecha, id) < 0
+                ? lista.size
+                : lowerBound(lista, fecha, id);
+        lista.add(position, slot);
+    }
+
+    private void remove(SlotList lista, int slot) {
+        int position = lowerBound(lista, fechas[slot], ids[slot]);
+        if (position < lista.size && lista.slots[position] == slot) {
+            lista.removeAt(position);
+        }
+    }
+
+    private static short toShort(int value) {
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Valor fuera de rango: " + value);
+        }
+        return (short) value;
+    }
+
+    /**
+     * Redondea al microsegundo como PostgreSQL, para que los cursores coincidan con los de la base
+     */
+    static long toMicros(LocalDateTime fecha) {
+        long seconds = fecha.toEpochSecond(ZoneOffset.UTC);
+        return Math.addExact(Math.multiplyExact(seconds, 1_000_000L), (fecha.getNano() + 500) / 1000);
+    }
+
+    static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(micros, 1_000_000L), (int) Math.floorMod(micros, 1_000_000L) * 1000, ZoneOffset.UTC);
+    }
+
+    /**
+     * Arreglo de slots con crecimiento de 1,5x; el orden lo mantiene ApplicationSummaryStore
+     */
+    private static final class SlotList {
+
+        private int[] slots;
+        private int size;
+
+        SlotList(int capacity) {
+            slots = new int[Math.max(capacity, LISTA_AFILIADO_INICIAL)];
+        }
+
+        void add(int position, int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size + (size >> 1) + 1);
+            }
+            System.arraycopy(slots, position, slots, position + 1, size - position);
+            slots[position] = slot;
+            size++;
+        }
+
+        void removeAt(int position) {
+            System.arraycopy(slots, position + 1, slots, position, size - position - 1);
+            size--;
+        }
+
+        long estimatedBytes() {
+            // Encabezado del objeto y del arreglo más el contenido
+            return 32L + 4L * slots.length;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.coopcredit.credit_application_service.infrastructure.readmodel;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.enums.RiskLevel;
+import com.coopcredit.credit_application_service.domain.model.CreditApplicationSummary;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Vista sobre un registro del archivo de resúmenes: cada getter lee el campo directamente
+ * del mapeo. Durante un recorrido la misma instancia se reposiciona en cada registro, así que
+ * no debe guardarse; toSummary() copia el registro cuando hace falta conservarlo
+ */
+public final class ArchivedApplicationRecord {
+
+    private static final ApplicationStatus[] ESTADOS = ApplicationStatus.values();
+    private static final RiskLevel[] NIVELES = RiskLevel.values();
+
+    static final short SIN_SCORE = -1;
+    static final byte SIN_NIVEL = -1;
+
+    private final MappedSummaryFile file;
+    private long record;
+
+    ArchivedApplicationRecord(MappedSummaryFile file) {
+        this.file = file;
+    }
+
+    ArchivedApplicationRecord at(long record) {
+        this.record = record;
+        return this;
+    }
+
+    public long getId() {
+        return file.id(record);
+    }
+
+    public long getAfiliadoId() {
+        return file.afiliadoId(record);
+    }
+
+    public long getMontoCentavos() {
+        return file.montoCentavos(record);
+    }
+
+    public int getPlazoMeses() {
+        return file.plazo(record);
+    }
+
+    public ApplicationStatus getEstado() {
+        return ESTADOS[file.estado(record)];
+    }
+
+    /**
+     * @return el score de la evaluación o -1 si la solicitud no fue evaluada
+     */
+    public int getScore() {
+        return file.score(record);
+    }
+
+    public RiskLevel getNivelRiesgo() {
+        byte nivel = file.nivel(record);
+        return nivel == SIN_NIVEL ? null : NIVELES[nivel];
+    }
+
+    public LocalDateTime getFechaSolicitud() {
+        return ApplicationSummaryStore.fromMicros(file.fechaSolicitud(record));
+    }
+
+    /**
+     * Momento en que se archivó este estado (para una solicitud decidida, la fecha de decisión)
+     */
+    public LocalDateTime getFechaRegistro() {
+        return ApplicationSummaryStore.fromMicros(file.fechaRegistro(record));
+    }
+
+    public CreditApplicationSummary toSummary() {
+        short score = file.score(record);
+        return new CreditApplicationSummary(
+                getId(),
+                getAfiliadoId(),
+                BigDecimal.valueOf(getMontoCentavos(), 2),
+                getPlazoMeses(),
+                BigDecimal.valueOf(file.tasaCentesimas(record), 2),
+                getFechaSolicitud(),
+                getEstado(),
+                score == SIN_SCORE ? null : (int) score,
+                getNivelRiesgo());
+    }
+}
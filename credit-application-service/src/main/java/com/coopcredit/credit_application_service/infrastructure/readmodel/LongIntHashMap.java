@@ -0,0 +1,103 @@
+package com.coopcredit.credit_application_service.infrastructure.readmodel;
+
+/**
+ * Mapa long → int de direccionamiento abierto (sondeo lineal) sobre dos arreglos primitivos
+ * Sin objetos por entrada ni boxing. La clave 0 marca una celda vacía: solo admite claves
+ * positivas, como los IDs generados por la base. No es thread-safe
+ */
+final class LongIntHashMap {
+
+    static final int MISSING = -1;
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    LongIntHashMap(int expectedSize) {
+        allocate(capacityFor(Math.max(expectedSize, 16)));
+    }
+
+    /**
+     * @return el valor asociado o MISSING
+     */
+    int get(long key) {
+        if (key <= 0) {
+            return MISSING;
+        }
+        int i = index(key);
+        while (true) {
+            long current = keys[i];
+            if (current == key) {
+                return values[i];
+            }
+            if (current == 0) {
+                return MISSING;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    void put(long key, int value) {
+        if (key <= 0) {
+            throw new IllegalArgumentException("Clave no soportada: " + key);
+        }
+        int i = index(key);
+        while (true) {
+            long current = keys[i];
+            if (current == 0) {
+                keys[i] = key;
+                values[i] = value;
+                if (++size >= resizeAt) {
+                    rehash();
+                }
+                return;
+            }
+            if (current == key) {
+                values[i] = value;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    long estimatedBytes() {
+        return 8L * keys.length + 4L * values.length;
+    }
+
+    private int index(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void rehash() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(keys.length << 1);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int minimum = (int) Math.ceil(expectedSize / LOAD_FACTOR) + 1;
+        return Integer.highestOneBit(minimum - 1) << 1;
+    }
+}
@@ -0,0 +1,270 @@
+package com.coopcredit.credit_application_service.infrastructure.readmodel;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Archivo de registros de ancho fijo mapeado en memoria (fuera del heap)
+ * Encabezado de 64 bytes y luego segmentos de segmentRecords registros de 48 bytes, cada uno
+ * mapeado por separado (un MappedByteBuffer no puede superar 2 GB). Los campos se leen con
+ * accesos absolutos sobre el mapeo, sin copiar el registro. Solo se agrega al final; la única
+ * escritura sobre un registro existente es la marca de reemplazado.
+ * Un solo escritor a la vez (ApplicationSummaryArchive serializa); las lecturas son concurrentes:
+ * el contador es volatile y se publica después de escribir el registro
+ */
+final class MappedSummaryFile implements Closeable {
+
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 48;
+
+    // Encabezado
+    private static final int MAGIC = 0x43434153; // "CCAS"
+    private static final int VERSION = 1;
+    private static final int H_MAGIC = 0;
+    private static final int H_VERSION = 4;
+    private static final int H_RECORD_SIZE = 8;
+    private static final int H_SEGMENT_RECORDS = 12;
+    private static final int H_COUNT = 16;
+    private static final int H_LAST_APPEND = 24;
+
+    // Registro
+    private static final int R_ID = 0;
+    private static final int R_AFILIADO_ID = 8;
+    private static final int R_MONTO = 16;
+    private static final int R_FECHA_SOLICITUD = 24;
+    private static final int R_FECHA_REGISTRO = 32;
+    private static final int R_TASA = 40;
+    private static final int R_SCORE = 42;
+    private static final int R_PLAZO = 44;
+    private static final int R_ESTADO = 46;
+    private static final int R_NIVEL = 47;
+
+    /**
+     * El bit alto del estado marca un registro reemplazado por uno posterior de la misma solicitud
+     */
+    private static final byte SUPERSEDED = (byte) 0x80;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final int segmentRecords;
+    private volatile MappedByteBuffer[] segments;
+    private volatile long count;
+
+    private MappedSummaryFile(FileChannel channel, MappedByteBuffer header, int segmentRecords, long count) throws IOException {
+        this.channel = channel;
+        this.header = header;
+        this.segmentRecords = segmentRecords;
+        this.count = count;
+        int mapped = (int) ((count + segmentRecords - 1) / segmentRecords);
+        MappedByteBuffer[] existing = new MappedByteBuffer[mapped];
+        for (int i = 0; i < mapped; i++) {
+            existing[i] = mapSegment(i);
+        }
+        this.segments = existing;
+    }
+
+    /**
+     * Abre el archivo existente o lo crea vacío
+     * Si el archivo existe debe tener el mismo formato y tamaño de segmento
+     */
+    static MappedSummaryFile open(Path path, int segmentRecords) throws IOException {
+        if (segmentRecords <= 0 || (long) segmentRecords * RECORD_SIZE > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Tamaño de segmento no soportado: " + segmentRecords);
+        }
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            boolean created = channel.size() == 0;
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            if (created) {
+                header.putInt(H_MAGIC, MAGIC);
+                header.putInt(H_VERSION, VERSION);
+                header.putInt(H_RECORD_SIZE, RECORD_SIZE);
+                header.putInt(H_SEGMENT_RECORDS, segmentRecords);
+                header.putLong(H_COUNT, 0);
+                header.putLong(H_LAST_APPEND, 0);
+            } else {
+                checkHeader(path, header, segmentRecords);
+            }
+            return new MappedSummaryFile(channel, header, segmentRecords, header.getLong(H_COUNT));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static void checkHeader(Path path, MappedByteBuffer header, int segmentRecords) {
+        if (header.getInt(H_MAGIC) != MAGIC
+                || header.getInt(H_VERSION) != VERSION
+                || header.getInt(H_RECORD_SIZE) != RECORD_SIZE) {
+            throw new IllegalStateException("Formato de archivo de resúmenes no reconocido: " + path);
+        }
+        if (header.getInt(H_SEGMENT_RECORDS) != segmentRecords) {
+            throw new IllegalStateException("El archivo " + path + " usa segmentos de "
+                    + header.getInt(H_SEGMENT_RECORDS) + " registros, no de " + segmentRecords);
+        }
+    }
+
+    /**
+     * Agrega un registro y publica el nuevo contador
+     *
+     * @return número del registro
+     */
+    long append(long id, long afiliadoId, long montoCentavos, long fechaSolicitud, long fechaRegistro,
+                short tasaCentesimas, short score, short plazo, byte estado, byte nivel) throws IOException {
+        long record = count;
+        MappedByteBuffer segment = segmentForAppend(record);
+        int offset = offset(record);
+        segment.putLong(offset + R_ID, id);
+        segment.putLong(offset + R_AFILIADO_ID, afiliadoId);
+        segment.putLong(offset + R_MONTO, montoCentavos);
+        segment.putLong(offset + R_FECHA_SOLICITUD, fechaSolicitud);
+        segment.putLong(offset + R_FECHA_REGISTRO, fechaRegistro);
+        segment.putShort(offset + R_TASA, tasaCentesimas);
+        segment.putShort(offset + R_SCORE, score);
+        segment.putShort(offset + R_PLAZO, plazo);
+        segment.put(offset + R_ESTADO, estado);
+        segment.put(offset + R_NIVEL, nivel);
+        // El contador del encabezado se escribe al final: un registro a medias queda fuera al reabrir
+        header.putLong(H_COUNT, record + 1);
+        header.putLong(H_LAST_APPEND, Math.max(header.getLong(H_LAST_APPEND), fechaRegistro));
+        count = record + 1;
+        return record;
+    }
+
+    void markSuperseded(long record) {
+        MappedByteBuffer segment = segment(record);
+        int offset = offset(record) + R_ESTADO;
+        segment.put(offset, (byte) (segment.get(offset) | SUPERSEDED));
+    }
+
+    long count() {
+        return count;
+    }
+
+    /**
+     * Fecha de registro (microsegundos) del último registro agregado; 0 si está vacío
+     */
+    long lastAppend() {
+        return header.getLong(H_LAST_APPEND);
+    }
+
+    // ------------------------------------------------------------------------
+    // Lectura de campos sin materializar el registro
+    // ------------------------------------------------------------------------
+
+    long id(long record) {
+        return segment(record).getLong(offset(record) + R_ID);
+    }
+
+    long afiliadoId(long record) {
+        return segment(record).getLong(offset(record) + R_AFILIADO_ID);
+    }
+
+    long montoCentavos(long record) {
+        return segment(record).getLong(offset(record) + R_MONTO);
+    }
+
+    long fechaSolicitud(long record) {
+        return segment(record).getLong(offset(record) + R_FECHA_SOLICITUD);
+    }
+
+    long fechaRegistro(long record) {
+        return segment(record).getLong(offset(record) + R_FECHA_REGISTRO);
+    }
+
+    short tasaCentesimas(long record) {
+        return segment(record).getShort(offset(record) + R_TASA);
+    }
+
+    short score(long record) {
+        return segment(record).getShort(offset(record) + R_SCORE);
+    }
+
+    short plazo(long record) {
+        return segment(record).getShort(offset(record) + R_PLAZO);
+    }
+
+    byte estado(long record) {
+        return (byte) (segment(record).get(offset(record) + R_ESTADO) & ~SUPERSEDED);
+    }
+
+    byte nivel(long record) {
+        return segment(record).get(offset(record) + R_NIVEL);
+    }
+
+    boolean isSuperseded(long record) {
+        return (segment(record).get(offset(record) + R_ESTADO) & SUPERSEDED) != 0;
+    }
+
+    /**
+     * Bytes del archivo ocupados por registros (sin contar el espacio reservado del último segmento)
+     */
+    long usedBytes() {
+        return HEADER_SIZE + count * RECORD_SIZE;
+    }
+
+    /**
+     * Fuerza a disco las páginas modificadas; sin esto los datos sobreviven a la caída del
+     * proceso (quedan en la caché de páginas) pero no a la del sistema operativo
+     */
+    void force() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+        header.force();
+    }
+
+    /**
+     * Los mapeos se liberan cuando el recolector descarta los buffers; no se pueden usar después
+     */
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    private MappedByteBuffer segment(long record) {
+        if (record < 0 || record >= count) {
+            throw new IndexOutOfBoundsException("Registro fuera de rango: " + record);
+        }
+        return segments[(int) (record / segmentRecords)];
+    }
+
+    private MappedByteBuffer segmentForAppend(long record) throws IOException {
+        int index = (int) (record / segmentRecords);
+        MappedByteBuffer[] current = segments;
+        if (index < current.length) {
+            return current[index];
+        }
+        MappedByteBuffer[] grown = Arrays.copyOf(current, index + 1);
+        grown[index] = mapSegment(index);
+        segments = grown;
+        return grown[index];
+    }
+
+    /**
+     * Mapear en modo lectura-escritura más allá del final extiende el archivo
+     */
+    private MappedByteBuffer mapSegment(int index) throws IOException {
+        long bytes = (long) segmentRecords * RECORD_SIZE;
+        MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + index * bytes, bytes);
+        segment.order(ByteOrder.LITTLE_ENDIAN);
+        return segment;
+    }
+
+    private int offset(long record) {
+        return (int) (record % segmentRecords) * RECORD_SIZE;
+    }
+}
@@ -1,6 +1,7 @@
 package com.coopcredit.credit_application_service.infrastructure.security.filters;
 
-import com.coopcredit.credit_application_service.infrastructure.security.services.JwtService;
+import com.coopcredit.credit_application_service.infrastructure.security.services.VerifiedTokenCache;
+import com.coopcredit.credit_application_service.infrastructure.security.services.VerifiedTokenCache.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,14 +9,12 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
 
 /**
  * Filtro JWT: Intercepta las peticiones y valida el token
@@ -25,10 +24,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
     
-    private final JwtService jwtService;
+    private final VerifiedTokenCache tokenCache;
 
-    public JwtAuthenticationFilter(JwtService jwtService) {
-        this.jwtService = jwtService;
+    public JwtAuthenticationFilter(VerifiedTokenCache tokenCache) {
+        this.tokenCache = tokenCache;
     }
 
     @Override
@@ -45,29 +44,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
+            // Un token ya verificado se resuelve desde la caché; si no, un solo parseo verifica firma y expiración
             String jwt = authHeader.substring(7);
-            String username = jwtService.extractUsername(jwt);
+            VerifiedToken verified = SecurityContextHolder.getContext().getAuthentication() == null
+                    ? tokenCache.verify(jwt).orElse(null)
+                    : null;
 
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                if (jwtService.validateToken(jwt)) {
-                    String role = jwtService.extractRole(jwt);
-                    
-                    var authorities = Collections.singletonList(
-                            new SimpleGrantedAuthority(role)
-                    );
-                    
-                    UsernamePasswordAuthenticationToken authToken = 
-                            new UsernamePasswordAuthenticationToken(
-                                    username,
-                                    null,
-                                    authorities
-                            );
-                    
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                    
-                    logger.debug("Usuario autenticado: {} con rol: {}", username, role);
-                }
+            // El principal es el JwtPrincipal: getName() sigue siendo el username y OwnershipGuard lee el afiliado
+            if (verified != null) {
+                String username = verified.principal().username();
+                UsernamePasswordAuthenticationToken authToken =
+                        new UsernamePasswordAuthenticationToken(
+                                verified.principal(),
+                                null,
+                                verified.authorities()
+                        );
+
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
+
+                logger.debug("Usuario autenticado: {} con rol: {}", username, verified.principal().role());
             }
         } catch (Exception e) {
             logger.error("Error en filtro JWT: {}", e.getMessage());
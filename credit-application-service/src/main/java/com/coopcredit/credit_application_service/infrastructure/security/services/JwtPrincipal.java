@@ -0,0 +1,17 @@
+package com.coopcredit.credit_application_service.infrastructure.security.services;
+
+import java.security.Principal;
+import java.time.Instant;
+
+/**
+ * Datos de un token JWT ya verificado (firma y expiración), obtenidos en un solo parseo
+ * afiliadoId y documento solo vienen en tokens de afiliados con un afiliado registrado
+ */
+public record JwtPrincipal(String username, String role, Long afiliadoId, String documento, Instant expiration)
+        implements Principal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
@@ -7,119 +7,83 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 
 /**
  * Servicio JWT: Generación y validación de tokens
+ * La clave HMAC y el parser se construyen una sola vez; el parser es inmutable y thread-safe.
+ * Los tokens de afiliados llevan firmados su afiliadoId y documento, para validar la propiedad
+ * de los recursos sin consultar la base de datos
  */
 @Service
 public class JwtService {
-    
+
     private static final Logger logger = LoggerFactory.getLogger(JwtService.class);
-    
-    @Value("${jwt.secret}")
-    private String jwtSecret;
-    
-    @Value("${jwt.expiration}")
-    private long jwtExpiration;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    static final String CLAIM_ROLE = "role";
+    static final String CLAIM_AFILIADO_ID = "afiliadoId";
+    static final String CLAIM_DOCUMENTO = "documento";
+
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long jwtExpiration;
+
+    public JwtService(
+            @Value("${jwt.secret}") String jwtSecret,
+            @Value("${jwt.expiration}") long jwtExpiration) {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.jwtExpiration = jwtExpiration;
     }
 
     /**
      * Genera un token JWT para un usuario
      */
     public String generateToken(String username, String role) {
+        return generateToken(username, role, null, null);
+    }
+
+    /**
+     * Genera un token JWT con la identidad del afiliado (claims omitidos si son null)
+     */
+    public String generateToken(String username, String role, Long afiliadoId, String documento) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(username)
-                .claim("role", role)
+                .claim(CLAIM_ROLE, role);
+        if (afiliadoId != null) {
+            builder.claim(CLAIM_AFILIADO_ID, afiliadoId)
+                    .claim(CLAIM_DOCUMENTO, documento);
+        }
+        return builder
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     /**
-     * Extrae el username del token
+     * Verifica firma y expiración una sola vez y devuelve usuario, rol, afiliado y expiración juntos
+     *
+     * @return vacío si el token no es válido
      */
-    public String extractUsername(String token) {
+    public Optional<JwtPrincipal> parseToken(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .getSubject();
-        } catch (JwtException e) {
-            logger.error("Error al extraer username del token: {}", e.getMessage());
-            return null;
-        }
-    }
-
-    /**
-     * Extrae el rol del token
-     */
-    public String extractRole(String token) {
-        try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .get("role", String.class);
-        } catch (JwtException e) {
-            logger.error("Error al extraer rol del token: {}", e.getMessage());
-            return null;
-        }
-    }
-
-    /**
-     * Valida si el token es válido
-     */
-    public boolean isTokenValid(String token, String username) {
-        try {
-            String extractedUsername = extractUsername(token);
-            return extractedUsername != null && 
-                   extractedUsername.equals(username) && 
-                   !isTokenExpired(token);
-        } catch (JwtException e) {
-            logger.error("Token inválido: {}", e.getMessage());
-            return false;
-        }
-    }
-
-    /**
-     * Verifica si el token ha expirado
-     */
-    private boolean isTokenExpired(String token) {
-        try {
-            Date expiration = Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .getExpiration();
-            return expiration.before(new Date());
-        } catch (JwtException e) {
-            return true;
-        }
-    }
-
-    /**
-     * Valida el token y lanza excepciones específicas
-     */
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            return Optional.of(new JwtPrincipal(
+                    claims.getSubject(),
+                    claims.get(CLAIM_ROLE, String.class),
+                    claims.get(CLAIM_AFILIADO_ID, Long.class),
+                    claims.get(CLAIM_DOCUMENTO, String.class),
+                    expiration != null ? expiration.toInstant() : null));
         } catch (MalformedJwtException e) {
             logger.error("Token JWT malformado: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -128,7 +92,9 @@ public class JwtService {
             logger.error("Token JWT no soportado: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             logger.error("Token JWT vacío: {}", e.getMessage());
+        } catch (JwtException e) {
+            logger.error("Token JWT inválido: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
     }
 }
@@ -0,0 +1,77 @@
+package com.coopcredit.credit_application_service.infrastructure.security.services;
+
+import com.coopcredit.credit_application_service.infrastructure.exceptions.LoginThrottledException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Límite de intentos de login por IP y por username (token buckets en franjas, memoria fija)
+ * Cada intento consume de la IP; el username solo se cobra cuando la contraseña no coincide,
+ * así los logins exitosos o ajenos no pueden dejar bloqueado al titular de la cuenta.
+ * La IP es la dirección remota de la petición; detrás de un proxy debe configurarse
+ * server.forward-headers-strategy para que sea la del cliente.
+ * Métrica: auth.login.rejected{reason=ip|username}
+ */
+@Component
+public class LoginThrottle {
+
+    private final StripedTokenBuckets porIp;
+    private final StripedTokenBuckets porUsername;
+    private final Counter rejectedByIp;
+    private final Counter rejectedByUsername;
+
+    public LoginThrottle(
+            MeterRegistry meterRegistry,
+            @Value("${security.login.throttle.stripes:4096}") int stripes,
+            @Value("${security.login.throttle.per-ip.capacity:20}") int ipCapacity,
+            @Value("${security.login.throttle.per-ip.refill-per-minute:20}") int ipRefillPerMinute,
+            @Value("${security.login.throttle.per-username.capacity:5}") int usernameCapacity,
+            @Value("${security.login.throttle.per-username.refill-per-minute:5}") int usernameRefillPerMinute) {
+        this.porIp = new StripedTokenBuckets(stripes, ipCapacity, ipRefillPerMinute, System::nanoTime);
+        this.porUsername = new StripedTokenBuckets(stripes, usernameCapacity, usernameRefillPerMinute, System::nanoTime);
+        this.rejectedByIp = rejected(meterRegistry, "ip");
+        this.rejectedByUsername = rejected(meterRegistry, "username");
+    }
+
+    /**
+     * Consume un intento de la IP y verifica, sin consumir, que el username tenga intentos
+     *
+     * @throws LoginThrottledException si alguno de los dos no tiene intentos disponibles
+     */
+    public void check(String username, String ip) {
+        long waitNanos = porIp.tryAcquire(ip);
+        if (waitNanos > 0) {
+            rejectedByIp.increment();
+            throw new LoginThrottledException("Demasiados intentos de inicio de sesión desde esta dirección",
+                    toRetryAfterSeconds(waitNanos));
+        }
+        waitNanos = porUsername.peek(username);
+        if (waitNanos > 0) {
+            rejectedByUsername.increment();
+            throw new LoginThrottledException("Demasiados intentos de inicio de sesión para este usuario",
+                    toRetryAfterSeconds(waitNanos));
+        }
+    }
+
+    /**
+     * Cobra al username un intento fallido (usuario inexistente o contraseña incorrecta)
+     */
+    public void recordFailure(String username) {
+        porUsername.tryAcquire(username);
+    }
+
+    private static long toRetryAfterSeconds(long nanos) {
+        return Math.max(1, (long) Math.ceil(nanos / (double) TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    private static Counter rejected(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("auth.login.rejected")
+                .description("Intentos de login rechazados antes de verificar la contraseña")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,69 @@
+package com.coopcredit.credit_application_service.infrastructure.security.services;
+
+import com.coopcredit.credit_application_service.domain.enums.UserRole;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Objects;
+
+/**
+ * Propiedad de recursos para afiliados, resuelta solo con los claims firmados del token
+ * Un AFILIADO únicamente accede a su afiliado y a sus solicitudes; ADMIN y ANALISTA no se restringen.
+ * Sin consultas a la base de datos: el afiliadoId y el documento vienen en el JwtPrincipal.
+ * Un token de afiliado sin esos claims (emitido antes de registrar el afiliado) se rechaza:
+ * debe iniciar sesión de nuevo
+ */
+public final class OwnershipGuard {
+
+    private OwnershipGuard() {
+    }
+
+    /**
+     * @throws AccessDeniedException si un AFILIADO accede a otro afiliado
+     */
+    public static void checkAffiliateId(Authentication authentication, Long afiliadoId) {
+        if (isAffiliate(authentication) && !Objects.equals(affiliateClaims(authentication).afiliadoId(), afiliadoId)) {
+            throw new AccessDeniedException("Solo puede acceder a su propia información de afiliado");
+        }
+    }
+
+    /**
+     * @throws AccessDeniedException si un AFILIADO consulta otro documento
+     */
+    public static void checkDocumento(Authentication authentication, String documento) {
+        if (isAffiliate(authentication) && !Objects.equals(affiliateClaims(authentication).documento(), documento)) {
+            throw new AccessDeniedException("Solo puede acceder a su propia información de afiliado");
+        }
+    }
+
+    /**
+     * Listados sin filtro por afiliado: un AFILIADO debe usar los endpoints de su afiliado
+     *
+     * @throws AccessDeniedException si quien consulta es un AFILIADO
+     */
+    public static void denyAffiliates(Authentication authentication) {
+        if (isAffiliate(authentication)) {
+            throw new AccessDeniedException("Un afiliado solo puede consultar sus propias solicitudes");
+        }
+    }
+
+    public static boolean isAffiliate(Authentication authentication) {
+        if (authentication == null) {
+            return false;
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (UserRole.ROLE_AFILIADO.name().equals(authority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static JwtPrincipal affiliateClaims(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof JwtPrincipal principal && principal.afiliadoId() != null) {
+            return principal;
+        }
+        throw new AccessDeniedException("El token no identifica un afiliado; inicie sesión de nuevo");
+    }
+}
@@ -0,0 +1,142 @@
+package com.coopcredit.credit_application_service.infrastructure.security.services;
+
+import com.coopcredit.credit_application_service.infrastructure.exceptions.LoginUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Verificación de contraseñas (BCrypt) en un pool propio y acotado
+ * Como mucho security.login.verification-threads núcleos calculan BCrypt a la vez; con la cola
+ * llena la petición se rechaza de inmediato (503) en vez de ocupar más CPU de Tomcat.
+ * Un usuario inexistente se verifica contra un hash de relleno con el mismo costo, para que
+ * el tiempo de respuesta no revele si el usuario existe. Si el hash guardado tiene un costo menor
+ * al configurado, se devuelve uno nuevo para reemplazarlo.
+ * Métricas: auth.password.verification (timer), auth.password.queue y auth.login.rejected{reason=saturated|timeout}
+ */
+@Component
+public class PasswordVerifier implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordVerifier.class);
+
+    private final PasswordEncoder passwordEncoder;
+    private final String dummyHash;
+    private final long timeoutMs;
+    private final ThreadPoolExecutor executor;
+    private final Timer verificationTimer;
+    private final Counter rejectedSaturated;
+    private final Counter rejectedTimeout;
+
+    public PasswordVerifier(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${security.login.verification-threads:0}") int threads,
+            @Value("${security.login.queue-capacity:32}") int queueCapacity,
+            @Value("${security.login.timeout-ms:5000}") long timeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+        this.timeoutMs = timeoutMs;
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)), daemonThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.verificationTimer = Timer.builder("auth.password.verification")
+                .description("Tiempo de verificación de contraseña, incluida la espera en cola")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.queue", executor, e -> e.getQueue().size())
+                .description("Verificaciones de contraseña esperando un hilo")
+                .register(meterRegistry);
+        this.rejectedSaturated = rejected(meterRegistry, "saturated");
+        this.rejectedTimeout = rejected(meterRegistry, "timeout");
+        logger.info("Verificación de contraseñas: {} hilos, cola de {}", poolSize, Math.max(queueCapacity, 1));
+    }
+
+    /**
+     * Resultado de la verificación; upgradedHash no es null si el hash debe reemplazarse
+     */
+    public record Result(boolean matches, String upgradedHash) {
+    }
+
+    /**
+     * @param encodedPassword hash guardado, o null si el usuario no existe
+     * @throws LoginUnavailableException si la cola está llena o la verificación no termina a tiempo
+     */
+    public Result verify(String rawPassword, String encodedPassword) {
+        long start = System.nanoTime();
+        Future<Result> future;
+        try {
+            future = executor.submit(() -> check(rawPassword, encodedPassword));
+        } catch (RejectedExecutionException e) {
+            rejectedSaturated.increment();
+            throw new LoginUnavailableException("El servicio de autenticación está saturado, intente de nuevo", 1);
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // BCrypt no atiende interrupciones: el cálculo termina en su hilo pero nadie espera el resultado
+            future.cancel(true);
+            rejectedTimeout.increment();
+            throw new LoginUnavailableException("La verificación de credenciales tardó demasiado, intente de nuevo", 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LoginUnavailableException("Verificación de credenciales interrumpida", 1);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error al verificar la contraseña", e.getCause());
+        } finally {
+            verificationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Result check(String rawPassword, String encodedPassword) {
+        if (encodedPassword == null) {
+            passwordEncoder.matches(rawPassword, dummyHash);
+            return new Result(false, null);
+        }
+        if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+            return new Result(false, null);
+        }
+        String upgraded = passwordEncoder.upgradeEncoding(encodedPassword) ? passwordEncoder.encode(rawPassword) : null;
+        return new Result(true, upgraded);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private static Counter rejected(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("auth.login.rejected")
+                .description("Intentos de login rechazados antes de verificar la contraseña")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static ThreadFactory daemonThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-verifier-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
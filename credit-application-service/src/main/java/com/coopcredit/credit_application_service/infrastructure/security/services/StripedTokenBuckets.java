@@ -0,0 +1,124 @@
+package com.coopcredit.credit_application_service.infrastructure.security.services;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets repartidos en un número fijo de franjas (arreglos primitivos y un lock por franja)
+ * Cada clave usa el bucket de su franja: la memoria no crece con la cantidad de claves distintas,
+ * a cambio de que claves que comparten franja compartan también el límite.
+ * La franja sale de un HMAC con clave aleatoria por proceso: no se pueden calcular de antemano
+ * claves que caigan en la franja de otra para agotar su límite
+ */
+final class StripedTokenBuckets {
+
+    private static final String STRIPE_HASH = "HmacSHA256";
+
+    private final ThreadLocal<Mac> stripeHash;
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+    private final int mask;
+    private final double[] tokens;
+    private final long[] updatedAt;
+    private final Object[] locks;
+
+    StripedTokenBuckets(int stripes, double capacity, double refillPerMinute, LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerMinute <= 0) {
+            throw new IllegalArgumentException("Capacidad y recarga deben ser positivas");
+        }
+        int size = Integer.highestOneBit(Math.max(stripes, 1) - 1) << 1;
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerMinute / 60_000_000_000.0;
+        this.nanoClock = nanoClock;
+        this.mask = Math.max(size, 1) - 1;
+        this.tokens = new double[mask + 1];
+        this.updatedAt = new long[mask + 1];
+        this.locks = new Object[mask + 1];
+        this.stripeHash = stripeHash(randomKey());
+        long now = nanoClock.getAsLong();
+        for (int i = 0; i <= mask; i++) {
+            tokens[i] = capacity;
+            updatedAt[i] = now;
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Consume un token del bucket de la clave
+     *
+     * @return 0 si había token; si no, nanosegundos hasta que haya uno
+     */
+    long tryAcquire(String key) {
+        int stripe = stripe(key);
+        synchronized (locks[stripe]) {
+            double available = refill(stripe);
+            if (available >= 1) {
+                tokens[stripe] = available - 1;
+                return 0;
+            }
+            return waitNanos(available);
+        }
+    }
+
+    /**
+     * Consulta el bucket de la clave sin consumir
+     *
+     * @return 0 si hay token; si no, nanosegundos hasta que haya uno
+     */
+    long peek(String key) {
+        int stripe = stripe(key);
+        synchronized (locks[stripe]) {
+            double available = refill(stripe);
+            return available >= 1 ? 0 : waitNanos(available);
+        }
+    }
+
+    int stripes() {
+        return mask + 1;
+    }
+
+    /**
+     * Suma los tokens recargados desde la última actualización (con el lock de la franja tomado)
+     */
+    private double refill(int stripe) {
+        long now = nanoClock.getAsLong();
+        double available = Math.min(capacity, tokens[stripe] + (now - updatedAt[stripe]) * tokensPerNano);
+        tokens[stripe] = available;
+        updatedAt[stripe] = now;
+        return available;
+    }
+
+    private long waitNanos(double available) {
+        return (long) Math.ceil((1 - available) / tokensPerNano);
+    }
+
+    private int stripe(String key) {
+        byte[] digest = stripeHash.get().doFinal(key.getBytes(StandardCharsets.UTF_8));
+        return ByteBuffer.wrap(digest).getInt() & mask;
+    }
+
+    private static byte[] randomKey() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+
+    private static ThreadLocal<Mac> stripeHash(byte[] key) {
+        SecretKeySpec spec = new SecretKeySpec(key, STRIPE_HASH);
+        return ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(STRIPE_HASH);
+                mac.init(spec);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 no disponible", e);
+            }
+        });
+    }
+}
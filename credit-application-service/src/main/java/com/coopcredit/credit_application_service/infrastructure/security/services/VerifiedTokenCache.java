@@ -0,0 +1,140 @@
+package com.coopcredit.credit_application_service.infrastructure.security.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Caché de tokens JWT ya verificados, usada por JwtAuthenticationFilter
+ * La clave es el SHA-256 del token (el token no queda en memoria) y el valor el usuario con sus
+ * authorities. Cada entrada vence en el exp de su token. Solo se guardan tokens con firma válida
+ * y el tamaño se limita a jwt.cache.max-entries; la admisión de Caffeine (W-TinyLFU) evita que
+ * una ráfaga de tokens nuevos desplace a los que se reutilizan.
+ * Métricas: cache.gets{cache=jwt.tokens, result=hit|miss}, cache.evictions, cache.size y jwt.cache.hit.ratio
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtService jwtService;
+    private final boolean enabled;
+    private final LongSupplier clock;
+    private final Cache<TokenKey, VerifiedToken> cache;
+
+    @Autowired
+    public VerifiedTokenCache(
+            JwtService jwtService,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.cache.enabled:true}") boolean enabled,
+            @Value("${jwt.cache.max-entries:10000}") int maxEntries) {
+        this(jwtService, meterRegistry, enabled, maxEntries, System::currentTimeMillis);
+    }
+
+    VerifiedTokenCache(JwtService jwtService, MeterRegistry meterRegistry, boolean enabled, int maxEntries,
+                       LongSupplier clock) {
+        this.jwtService = jwtService;
+        this.enabled = enabled;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new UntilTokenExpiry())
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.getAsLong()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.tokens");
+        Gauge.builder("jwt.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Proporción de tokens resueltos sin verificar la firma")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Devuelve el token verificado desde la caché o lo verifica con JwtService y lo guarda
+     *
+     * @return vacío si el token no es válido
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (!enabled) {
+            return parse(token);
+        }
+        // Un token inválido deja el cálculo en null: no se guarda
+        return Optional.ofNullable(cache.get(TokenKey.of(token), key -> parse(token).orElse(null)));
+    }
+
+    private Optional<VerifiedToken> parse(String token) {
+        return jwtService.parseToken(token)
+                .filter(principal -> principal.username() != null
+                        && principal.role() != null
+                        && principal.expiration() != null)
+                .map(VerifiedToken::of);
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Usuario y authorities de un token con firma y expiración válidas
+     */
+    public record VerifiedToken(JwtPrincipal principal, List<GrantedAuthority> authorities) {
+
+        static VerifiedToken of(JwtPrincipal principal) {
+            return new VerifiedToken(principal, List.of(new SimpleGrantedAuthority(principal.role())));
+        }
+    }
+
+    /**
+     * Vigencia de cada entrada: el tiempo que le queda al token, sin renovarse al leerla
+     */
+    private final class UntilTokenExpiry implements Expiry<TokenKey, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(TokenKey key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.principal().expiration().toEpochMilli() - clock.getAsLong();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenKey key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenKey key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * SHA-256 del token en cuatro long, sin guardar el token
+     */
+    private record TokenKey(long a, long b, long c, long d) {
+
+        static TokenKey of(String token) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+                ByteBuffer buffer = ByteBuffer.wrap(digest);
+                return new TokenKey(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 no disponible", e);
+            }
+        }
+    }
+}
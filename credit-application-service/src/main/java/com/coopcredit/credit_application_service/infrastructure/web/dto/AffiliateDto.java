@@ -41,4 +41,10 @@ public class AffiliateDto {
     
     @NotNull(message = "El estado es obligatorio")
     private AffiliateStatus estado;
+    
+    /**
+     * Versión leída por el cliente; en la actualización se compara con la actual (409 si cambió)
+     * Si se omite, la actualización usa la versión vigente al momento de la escritura
+     */
+    private Long version;
 }
@@ -0,0 +1,32 @@
+package com.coopcredit.credit_application_service.infrastructure.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO: Resultado de la importación masiva de afiliados
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AffiliateImportReportDto {
+
+    private int totalFilas;
+    private int importados;
+    private int rechazados;
+    private List<ErrorDto> errores;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ErrorDto {
+        private int linea;
+        private String documento;
+        private String mensaje;
+    }
+}
@@ -0,0 +1,26 @@
+package com.coopcredit.credit_application_service.infrastructure.web.dto;
+
+import com.coopcredit.credit_application_service.domain.enums.AffiliateStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO: Resultado de la búsqueda de afiliados
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AffiliateSearchResultDto {
+
+    private Long id;
+    private String documento;
+    private String nombre;
+    private AffiliateStatus estado;
+    private LocalDate fechaAfiliacion;
+    private double relevancia;
+}
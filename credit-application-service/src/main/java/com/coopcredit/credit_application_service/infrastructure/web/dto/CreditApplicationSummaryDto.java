@@ -0,0 +1,31 @@
+package com.coopcredit.credit_application_service.infrastructure.web.dto;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.enums.RiskLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO: Resumen de Solicitud de Crédito para listados paginados
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreditApplicationSummaryDto {
+
+    private Long id;
+    private Long afiliadoId;
+    private BigDecimal montoSolicitado;
+    private Integer plazoMeses;
+    private BigDecimal tasaPropuesta;
+    private LocalDateTime fechaSolicitud;
+    private ApplicationStatus estado;
+    private Integer score;
+    private RiskLevel nivelRiesgo;
+}
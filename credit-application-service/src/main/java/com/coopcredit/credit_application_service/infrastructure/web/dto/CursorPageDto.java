@@ -0,0 +1,23 @@
+package com.coopcredit.credit_application_service.infrastructure.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO: Página de resultados paginados por cursor
+ * nextCursor es null cuando no hay más resultados
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+
+    private List<T> items;
+    private String nextCursor;
+    private int size;
+}
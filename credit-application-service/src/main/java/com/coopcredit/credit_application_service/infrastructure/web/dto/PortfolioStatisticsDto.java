@@ -0,0 +1,47 @@
+package com.coopcredit.credit_application_service.infrastructure.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO: Estadísticas de la cartera de solicitudes
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioStatisticsDto {
+
+    private long totalSolicitudes;
+    private BigDecimal montoTotal;
+    private BigDecimal tasaAprobacion;
+    private List<TotalsDto> porEstado;
+    private List<TotalsDto> porNivelRiesgo;
+    private List<MonthlyDto> mensual;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TotalsDto {
+        private String grupo;
+        private long cantidad;
+        private BigDecimal montoTotal;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MonthlyDto {
+        private String mes;
+        private long cantidad;
+        private BigDecimal montoTotal;
+        private long pendientes;
+        private long aprobadas;
+        private long rechazadas;
+    }
+}
@@ -0,0 +1,46 @@
+package com.coopcredit.credit_application_service.infrastructure.web.export;
+
+import com.coopcredit.credit_application_service.domain.model.CreditApplication;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.function.Consumer;
+
+/**
+ * Escritor de solicitudes exportadas: una línea por solicitud, sin buffers intermedios
+ * Los valores se escriben directamente sobre el destino, sin construir un árbol JSON ni DTOs
+ */
+public abstract class ApplicationExportWriter implements Consumer<CreditApplication> {
+
+    protected final Writer out;
+
+    protected ApplicationExportWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Encabezado del archivo (si el formato lo requiere)
+     */
+    public void writeHeader() throws IOException {
+    }
+
+    public abstract void write(CreditApplication application) throws IOException;
+
+    /**
+     * Entrega al destino lo pendiente del escritor y vacía el destino
+     */
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void accept(CreditApplication application) {
+        try {
+            write(application);
+        } catch (IOException e) {
+            // El cliente cerró la conexión: se aborta la lectura del cursor
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.coopcredit.credit_application_service.infrastructure.web.export;
+
+import com.coopcredit.credit_application_service.domain.model.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Escritor CSV (RFC 4180): los campos con separador, comillas o saltos de línea van entre comillas
+ */
+public class CsvApplicationWriter extends ApplicationExportWriter {
+
+    static final String HEADER =
+            "id,afiliadoId,montoSolicitado,plazoMeses,tasaPropuesta,fechaSolicitud,estado,motivoRechazo,score,nivelRiesgo";
+
+    public CsvApplicationWriter(Writer out) {
+        super(out);
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        out.append(HEADER).append("\r\n");
+    }
+
+    @Override
+    public void write(CreditApplication application) throws IOException {
+        RiskEvaluation evaluacion = application.getEvaluacionRiesgo();
+
+        out.append(String.valueOf(application.getId())).append(',');
+        out.append(String.valueOf(application.getAfiliadoId())).append(',');
+        out.append(application.getMontoSolicitado().toPlainString()).append(',');
+        out.append(String.valueOf(application.getPlazoMeses())).append(',');
+        out.append(application.getTasaPropuesta().toPlainString()).append(',');
+        out.append(application.getFechaSolicitud().toString()).append(',');
+        out.append(application.getEstado().name()).append(',');
+        writeField(application.getMotivoRechazo());
+        out.append(',');
+        if (evaluacion != null) {
+            out.append(String.valueOf(evaluacion.getScore())).append(',');
+            out.append(evaluacion.getNivelRiesgo().name());
+        } else {
+            out.append(',');
+        }
+        out.append("\r\n");
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.append(value);
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        out.append('"');
+    }
+}
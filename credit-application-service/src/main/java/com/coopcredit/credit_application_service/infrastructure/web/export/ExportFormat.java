@@ -0,0 +1,41 @@
+package com.coopcredit.credit_application_service.infrastructure.web.export;
+
+import java.io.Writer;
+
+/**
+ * Formatos soportados por la exportación de solicitudes
+ */
+public enum ExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Formato de exportación no soportado: " + value + ". Valores permitidos: ndjson, csv");
+    }
+
+    public ApplicationExportWriter newWriter(Writer out) {
+        return this == CSV ? new CsvApplicationWriter(out) : new NdjsonApplicationWriter(out);
+    }
+}
@@ -0,0 +1,79 @@
+package com.coopcredit.credit_application_service.infrastructure.web.export;
+
+import com.coopcredit.credit_application_service.domain.model.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.ObjectWriteContext;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.core.exc.JacksonIOException;
+import tools.jackson.core.json.JsonFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Escritor NDJSON: un objeto JSON por línea, escrito con el JsonGenerator de Jackson (streaming)
+ * Montos y tasas van como strings decimales ("8000000.00") para no perder escala ni precisión
+ * en clientes que leen los números JSON como double
+ */
+public class NdjsonApplicationWriter extends ApplicationExportWriter {
+
+    // Sin separador entre objetos raíz (cada línea termina en \n) y sin vaciar el destino en cada flush
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .rootValueSeparator((String) null)
+            .disable(StreamWriteFeature.FLUSH_PASSED_TO_STREAM)
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private final JsonGenerator generator;
+
+    public NdjsonApplicationWriter(Writer out) {
+        super(out);
+        this.generator = JSON_FACTORY.createGenerator(ObjectWriteContext.empty(), out);
+    }
+
+    @Override
+    public void write(CreditApplication application) throws IOException {
+        RiskEvaluation evaluacion = application.getEvaluacionRiesgo();
+        try {
+            generator.writeStartObject();
+            writeIntegral("id", application.getId());
+            writeIntegral("afiliadoId", application.getAfiliadoId());
+            generator.writeStringProperty("montoSolicitado", application.getMontoSolicitado().toPlainString());
+            writeIntegral("plazoMeses", application.getPlazoMeses());
+            generator.writeStringProperty("tasaPropuesta", application.getTasaPropuesta().toPlainString());
+            generator.writeStringProperty("fechaSolicitud", application.getFechaSolicitud().toString());
+            generator.writeStringProperty("estado", application.getEstado().name());
+            generator.writeStringProperty("motivoRechazo", application.getMotivoRechazo());
+            if (evaluacion != null) {
+                writeIntegral("score", evaluacion.getScore());
+                generator.writeStringProperty("nivelRiesgo", evaluacion.getNivelRiesgo().name());
+            } else {
+                generator.writeNullProperty("score");
+                generator.writeNullProperty("nivelRiesgo");
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (JacksonIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeIntegral(String name, Number value) {
+        if (value == null) {
+            generator.writeNullProperty(name);
+        } else {
+            generator.writeNumberProperty(name, value.longValue());
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        try {
+            generator.flush();
+        } catch (JacksonIOException e) {
+            throw e.getCause();
+        }
+        super.flush();
+    }
+}
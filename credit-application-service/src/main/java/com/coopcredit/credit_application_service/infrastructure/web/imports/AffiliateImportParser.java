@@ -0,0 +1,171 @@
+package com.coopcredit.credit_application_service.infrastructure.web.imports;
+
+import com.coopcredit.credit_application_service.domain.enums.AffiliateStatus;
+import com.coopcredit.credit_application_service.domain.model.Affiliate;
+import com.coopcredit.credit_application_service.domain.model.AffiliateImportRow;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Interpreta archivos de importación de afiliados en CSV o NDJSON
+ * Una fila mal formada no aborta la lectura: se devuelve con su error para el reporte
+ * CSV: encabezado documento,nombre,salario,fechaAfiliacion,estado (comillas según RFC 4180)
+ * NDJSON: un objeto por línea con los mismos campos
+ */
+public final class AffiliateImportParser {
+
+    private static final String[] CSV_COLUMNS = {"documento", "nombre", "salario", "fechaAfiliacion", "estado"};
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private AffiliateImportParser() {
+    }
+
+    public static List<AffiliateImportRow> parse(InputStream input, ImportFormat format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return format == ImportFormat.CSV ? parseCsv(reader) : parseNdjson(reader);
+    }
+
+    private static List<AffiliateImportRow> parseCsv(BufferedReader reader) throws IOException {
+        List<AffiliateImportRow> rows = new ArrayList<>();
+        String header = reader.readLine();
+        if (header == null) {
+            return rows;
+        }
+        if (!String.join(",", CSV_COLUMNS).equalsIgnoreCase(stripBom(header).trim())) {
+            throw new IllegalArgumentException("Encabezado CSV inválido. Se espera: " + String.join(",", CSV_COLUMNS));
+        }
+
+        String line;
+        int lineNumber = 1;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> fields = splitCsvLine(line);
+            if (fields == null || fields.size() != CSV_COLUMNS.length) {
+                rows.add(AffiliateImportRow.invalid(lineNumber,
+                        "Se esperaban " + CSV_COLUMNS.length + " columnas separadas por coma"));
+                continue;
+            }
+            rows.add(toRow(lineNumber, fields.get(0), fields.get(1), fields.get(2), fields.get(3), fields.get(4)));
+        }
+        return rows;
+    }
+
+    private static List<AffiliateImportRow> parseNdjson(BufferedReader reader) throws IOException {
+        List<AffiliateImportRow> rows = new ArrayList<>();
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonNode node;
+            try {
+                node = JSON.readTree(lineNumber == 1 ? stripBom(line) : line);
+            } catch (JacksonException e) {
+                rows.add(AffiliateImportRow.invalid(lineNumber, "JSON inválido"));
+                continue;
+            }
+            if (!node.isObject()) {
+                rows.add(AffiliateImportRow.invalid(lineNumber, "Cada línea debe ser un objeto JSON"));
+                continue;
+            }
+            rows.add(toRow(lineNumber, text(node, "documento"), text(node, "nombre"), text(node, "salario"),
+                    text(node, "fechaAfiliacion"), text(node, "estado")));
+        }
+        return rows;
+    }
+
+    private static AffiliateImportRow toRow(int lineNumber, String documento, String nombre, String salario,
+                                            String fechaAfiliacion, String estado) {
+        Affiliate affiliate = new Affiliate();
+        affiliate.setDocumento(trimToNull(documento));
+        affiliate.setNombre(trimToNull(nombre));
+        try {
+            affiliate.setSalario(salario == null || salario.isBlank() ? null : new BigDecimal(salario.trim()));
+        } catch (NumberFormatException e) {
+            return AffiliateImportRow.invalid(lineNumber, "Salario inválido: " + salario);
+        }
+        try {
+            affiliate.setFechaAfiliacion(fechaAfiliacion == null || fechaAfiliacion.isBlank()
+                    ? null : LocalDate.parse(fechaAfiliacion.trim()));
+        } catch (DateTimeParseException e) {
+            return AffiliateImportRow.invalid(lineNumber, "Fecha de afiliación inválida (formato yyyy-MM-dd): " + fechaAfiliacion);
+        }
+        try {
+            affiliate.setEstado(estado == null || estado.isBlank() ? null : AffiliateStatus.valueOf(estado.trim()));
+        } catch (IllegalArgumentException e) {
+            return AffiliateImportRow.invalid(lineNumber, "Estado inválido: " + estado + ". Valores permitidos: ACTIVO, INACTIVO");
+        }
+        return AffiliateImportRow.of(lineNumber, affiliate);
+    }
+
+    /**
+     * Divide una línea CSV respetando campos entre comillas; null si las comillas no cierran
+     */
+    static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>(CSV_COLUMNS.length);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asString();
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+}
@@ -0,0 +1,27 @@
+package com.coopcredit.credit_application_service.infrastructure.web.imports;
+
+/**
+ * Formatos aceptados por la importación masiva de afiliados
+ */
+public enum ImportFormat {
+
+    CSV,
+    NDJSON;
+
+    /**
+     * Resuelve el formato a partir del parámetro explícito o, en su defecto, de la extensión del archivo
+     */
+    public static ImportFormat resolve(String format, String filename) {
+        String value = format;
+        if ((value == null || value.isBlank()) && filename != null && filename.contains(".")) {
+            value = filename.substring(filename.lastIndexOf('.') + 1);
+        }
+        if ("csv".equalsIgnoreCase(value)) {
+            return CSV;
+        }
+        if ("ndjson".equalsIgnoreCase(value) || "jsonl".equalsIgnoreCase(value)) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Formato de importación no soportado: " + value + ". Valores permitidos: csv, ndjson");
+    }
+}
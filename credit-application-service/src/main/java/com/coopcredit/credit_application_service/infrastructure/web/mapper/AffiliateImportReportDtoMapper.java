@@ -0,0 +1,18 @@
+package com.coopcredit.credit_application_service.infrastructure.web.mapper;
+
+import com.coopcredit.credit_application_service.domain.model.AffiliateImportError;
+import com.coopcredit.credit_application_service.domain.model.AffiliateImportReport;
+import com.coopcredit.credit_application_service.infrastructure.web.dto.AffiliateImportReportDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+/**
+ * Mapper: Convierte AffiliateImportReport (dominio) a AffiliateImportReportDto (API)
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface AffiliateImportReportDtoMapper {
+
+    AffiliateImportReportDto toDto(AffiliateImportReport domain);
+
+    AffiliateImportReportDto.ErrorDto toDto(AffiliateImportError domain);
+}
@@ -0,0 +1,15 @@
+package com.coopcredit.credit_application_service.infrastructure.web.mapper;
+
+import com.coopcredit.credit_application_service.domain.model.AffiliateSearchHit;
+import com.coopcredit.credit_application_service.infrastructure.web.dto.AffiliateSearchResultDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+/**
+ * Mapper: Convierte AffiliateSearchHit (dominio) en AffiliateSearchResultDto (API)
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface AffiliateSearchResultDtoMapper {
+
+    AffiliateSearchResultDto toDto(AffiliateSearchHit domain);
+}
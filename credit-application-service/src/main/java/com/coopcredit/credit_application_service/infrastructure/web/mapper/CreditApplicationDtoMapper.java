@@ -1,8 +1,11 @@
 package com.coopcredit.credit_application_service.infrastructure.web.mapper;
 
 import com.coopcredit.credit_application_service.domain.model.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.CreditApplicationSummary;
 import com.coopcredit.credit_application_service.infrastructure.web.dto.CreditApplicationDto;
+import com.coopcredit.credit_application_service.infrastructure.web.dto.CreditApplicationSummaryDto;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 
 /**
@@ -13,5 +16,9 @@ public interface CreditApplicationDtoMapper {
     
     CreditApplicationDto toDto(CreditApplication domain);
     
+    @Mapping(target = "snapshotAfiliado", ignore = true)
+    @Mapping(target = "version", ignore = true)
     CreditApplication toDomain(CreditApplicationDto dto);
+    
+    CreditApplicationSummaryDto toSummaryDto(CreditApplicationSummary summary);
 }
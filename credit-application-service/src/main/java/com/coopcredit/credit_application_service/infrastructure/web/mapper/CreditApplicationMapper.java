@@ -3,15 +3,20 @@ package com.coopcredit.credit_application_service.infrastructure.web.mapper;
 import com.coopcredit.credit_application_service.domain.model.CreditApplication;
 import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.entities.CreditApplicationEntity;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 
 /**
  * Mapper: Convierte entre CreditApplication (dominio) y CreditApplicationEntity (JPA)
+ * Lee la evaluación de riesgo de ambos layouts; al escribir solo llena la relación y el
+ * adaptador la traslada a las columnas embebidas en modo EMBEDDED
  */
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING, uses = {RiskEvaluationMapper.class})
 public interface CreditApplicationMapper {
     
+    @Mapping(target = "evaluacionRiesgo", source = "entity")
     CreditApplication toDomain(CreditApplicationEntity entity);
     
+    @Mapping(target = "evaluacionEmbebida", ignore = true)
     CreditApplicationEntity toEntity(CreditApplication domain);
 }
@@ -0,0 +1,21 @@
+package com.coopcredit.credit_application_service.infrastructure.web.mapper;
+
+import com.coopcredit.credit_application_service.domain.model.MonthlyPortfolioTotals;
+import com.coopcredit.credit_application_service.domain.model.PortfolioStatistics;
+import com.coopcredit.credit_application_service.domain.model.PortfolioTotals;
+import com.coopcredit.credit_application_service.infrastructure.web.dto.PortfolioStatisticsDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+/**
+ * Mapper: Convierte PortfolioStatistics (dominio) a PortfolioStatisticsDto (API)
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface PortfolioStatisticsDtoMapper {
+
+    PortfolioStatisticsDto toDto(PortfolioStatistics domain);
+
+    PortfolioStatisticsDto.TotalsDto toDto(PortfolioTotals domain);
+
+    PortfolioStatisticsDto.MonthlyDto toDto(MonthlyPortfolioTotals domain);
+}
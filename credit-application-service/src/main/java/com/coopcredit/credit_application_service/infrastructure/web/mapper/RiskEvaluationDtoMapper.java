@@ -3,6 +3,7 @@ package com.coopcredit.credit_application_service.infrastructure.web.mapper;
 import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
 import com.coopcredit.credit_application_service.infrastructure.web.dto.RiskEvaluationDto;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 
 /**
@@ -13,5 +14,6 @@ public interface RiskEvaluationDtoMapper {
     
     RiskEvaluationDto toDto(RiskEvaluation domain);
     
+    @Mapping(target = "version", ignore = true)
     RiskEvaluation toDomain(RiskEvaluationDto dto);
 }
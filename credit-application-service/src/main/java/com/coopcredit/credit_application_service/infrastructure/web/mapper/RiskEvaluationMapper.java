@@ -1,12 +1,15 @@
 package com.coopcredit.credit_application_service.infrastructure.web.mapper;
 
 import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.entities.CreditApplicationEntity;
+import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.entities.RiskEvaluationEmbeddable;
 import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.entities.RiskEvaluationEntity;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 
 /**
- * Mapper: Convierte entre RiskEvaluation (dominio) y RiskEvaluationEntity (JPA)
+ * Mapper: Convierte entre RiskEvaluation (dominio) y RiskEvaluationEntity / RiskEvaluationEmbeddable (JPA)
  */
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 public interface RiskEvaluationMapper {
@@ -14,4 +17,28 @@ public interface RiskEvaluationMapper {
     RiskEvaluation toDomain(RiskEvaluationEntity entity);
     
     RiskEvaluationEntity toEntity(RiskEvaluation domain);
+
+    RiskEvaluationEmbeddable toEmbeddable(RiskEvaluation domain);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "documento", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    RiskEvaluation fromEmbeddable(RiskEvaluationEmbeddable embeddable);
+
+    /**
+     * Evaluación de una solicitud en cualquiera de los dos layouts
+     * Las columnas embebidas tienen prioridad: así no se inicializa la relación perezosa
+     */
+    default RiskEvaluation fromApplication(CreditApplicationEntity application) {
+        RiskEvaluationEmbeddable embebida = application.getEvaluacionEmbebida();
+        if (embebida == null || embebida.getScore() == null) {
+            return toDomain(application.getEvaluacionRiesgo());
+        }
+        RiskEvaluation evaluacion = fromEmbeddable(embebida);
+        // La evaluación se hace sobre el documento del afiliado copiado en la solicitud
+        if (application.getSnapshotAfiliado() != null) {
+            evaluacion.setDocumento(application.getSnapshotAfiliado().getDocumento());
+        }
+        return evaluacion;
+    }
 }
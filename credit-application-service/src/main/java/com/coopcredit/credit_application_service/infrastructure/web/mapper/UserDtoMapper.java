@@ -3,6 +3,7 @@ package com.coopcredit.credit_application_service.infrastructure.web.mapper;
 import com.coopcredit.credit_application_service.domain.model.User;
 import com.coopcredit.credit_application_service.infrastructure.web.dto.RegisterRequest;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 
 /**
@@ -11,5 +12,7 @@ import org.mapstruct.MappingConstants;
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 public interface UserDtoMapper {
     
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     User toDomain(RegisterRequest request);
 }
@@ -0,0 +1,102 @@
+package com.coopcredit.credit_application_service.infrastructure.web.pagination;
+
+import com.coopcredit.credit_application_service.domain.model.AffiliateSearchCursor;
+import com.coopcredit.credit_application_service.domain.model.ApplicationCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Codificación de cursores de paginación como tokens opacos (Base64 URL-safe)
+ * El cliente solo reenvía el valor de nextCursor; un token alterado responde 400
+ */
+public final class CursorCodec {
+
+    private static final char SEPARATOR = '|';
+
+    private CursorCodec() {
+    }
+
+    public static String encode(ApplicationCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return encodeRaw(cursor.getFechaSolicitud().toString() + SEPARATOR + cursor.getId());
+    }
+
+    public static ApplicationCursor decodeApplicationCursor(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        String raw = decodeRaw(token);
+        int separator = raw.lastIndexOf(SEPARATOR);
+        if (separator <= 0) {
+            throw invalid();
+        }
+        try {
+            return new ApplicationCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw invalid();
+        }
+    }
+
+    public static String encode(AffiliateSearchCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return encodeRaw(Double.toString(cursor.getRelevancia()) + SEPARATOR + cursor.getDocumento());
+    }
+
+    public static AffiliateSearchCursor decodeAffiliateSearchCursor(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        String raw = decodeRaw(token);
+        int separator = raw.indexOf(SEPARATOR);
+        if (separator <= 0 || separator == raw.length() - 1) {
+            throw invalid();
+        }
+        try {
+            return new AffiliateSearchCursor(
+                    Double.parseDouble(raw.substring(0, separator)),
+                    raw.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            throw invalid();
+        }
+    }
+
+    public static String encode(Long id) {
+        return id == null ? null : encodeRaw(id.toString());
+    }
+
+    public static Long decodeIdCursor(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(decodeRaw(token));
+        } catch (NumberFormatException e) {
+            throw invalid();
+        }
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeRaw(String token) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    private static IllegalArgumentException invalid() {
+        return new IllegalArgumentException("Cursor de paginación inválido");
+    }
+}
@@ -0,0 +1,18 @@
+package com.coopcredit.credit_application_service.infrastructure.web.pagination;
+
+/**
+ * Normaliza el tamaño de página solicitado por el cliente
+ * Sin tamaño se usa el valor por defecto; nunca supera el máximo configurado
+ */
+public final class PageSizes {
+
+    private PageSizes() {
+    }
+
+    public static int resolve(Integer requested, int defaultSize, int maxSize) {
+        if (requested == null || requested < 1) {
+            return defaultSize;
+        }
+        return Math.min(requested, maxSize);
+    }
+}
@@ -0,0 +1,32 @@
+-- V10: Outbox transaccional de eventos del ciclo de vida de las solicitudes
+-- PostgreSQL 18 compatible
+--
+-- Cada cambio de estado de una solicitud inserta un evento en la misma transacción que lo
+-- produce: el evento existe si y solo si el cambio quedó confirmado. Un relay lee los
+-- pendientes por lotes (FOR UPDATE SKIP LOCKED, varias instancias no se bloquean entre sí)
+-- y los publica en el destino configurado. Los sistemas externos dejan de sondear
+-- GET /api/applications/status/{status}.
+
+CREATE SEQUENCE application_outbox_seq INCREMENT BY 50;
+
+CREATE TABLE application_outbox (
+    id BIGINT PRIMARY KEY DEFAULT nextval('application_outbox_seq'),
+    aplicacion_id BIGINT NOT NULL,
+    tipo_evento VARCHAR(40) NOT NULL,
+    payload TEXT NOT NULL,
+    fecha_creacion TIMESTAMP NOT NULL DEFAULT now(),
+    fecha_publicacion TIMESTAMP,
+    intentos INTEGER NOT NULL DEFAULT 0,
+    ultimo_error TEXT
+);
+
+ALTER SEQUENCE application_outbox_seq OWNED BY application_outbox.id;
+
+-- Pendientes en orden de inserción: el índice parcial solo contiene lo que falta publicar
+CREATE INDEX idx_outbox_pendiente ON application_outbox(id) WHERE fecha_publicacion IS NULL;
+-- Limpieza de publicados por antigüedad
+CREATE INDEX idx_outbox_publicado ON application_outbox(fecha_publicacion) WHERE fecha_publicacion IS NOT NULL;
+
+COMMENT ON TABLE application_outbox IS 'Eventos del ciclo de vida de solicitudes pendientes de publicar (outbox transaccional)';
+COMMENT ON COLUMN application_outbox.tipo_evento IS 'SOLICITUD_CREADA, SOLICITUD_APROBADA o SOLICITUD_RECHAZADA';
+COMMENT ON COLUMN application_outbox.fecha_publicacion IS 'NULL mientras el evento no se haya entregado';
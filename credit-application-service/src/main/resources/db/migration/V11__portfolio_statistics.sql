@@ -0,0 +1,150 @@
+-- V11: Estadísticas agregadas de la cartera mantenidas de forma incremental
+-- PostgreSQL 18 compatible
+--
+-- application_statistics guarda cantidad y monto por (mes, estado, nivel de riesgo). Un trigger
+-- sobre credit_applications resta la fila anterior y suma la nueva en cada INSERT, cambio de
+-- estado/evaluación o DELETE. El endpoint de estadísticas solo lee esta tabla, cuyo tamaño
+-- depende de la cantidad de meses y no de la cantidad de solicitudes.
+--
+-- Cada combinación se reparte en 16 slots (id % 16): las solicitudes concurrentes del mismo
+-- mes y estado actualizan filas distintas en lugar de esperar el bloqueo de una sola fila.
+--
+-- Al desacoplar particiones por retención (V7) no se ejecutan triggers: las estadísticas
+-- conservan el histórico completo.
+
+CREATE TABLE application_statistics (
+    mes DATE NOT NULL,
+    estado VARCHAR(20) NOT NULL,
+    nivel_riesgo VARCHAR(20) NOT NULL,
+    slot SMALLINT NOT NULL,
+    cantidad BIGINT NOT NULL DEFAULT 0,
+    monto_total DECIMAL(20, 2) NOT NULL DEFAULT 0,
+    CONSTRAINT application_statistics_pkey PRIMARY KEY (mes, estado, nivel_riesgo, slot)
+);
+
+COMMENT ON TABLE application_statistics IS 'Totales de solicitudes por mes, estado y nivel de riesgo (mantenida por trigger)';
+COMMENT ON COLUMN application_statistics.nivel_riesgo IS 'BAJO, MEDIO, ALTO o SIN_EVALUAR';
+COMMENT ON COLUMN application_statistics.slot IS 'id % 16 de la solicitud: reparte la contención de escritura';
+
+-- ============================================================================
+-- Mantenimiento incremental
+-- ============================================================================
+
+CREATE OR REPLACE FUNCTION bump_application_statistics(fecha TIMESTAMP, estado_solicitud VARCHAR, evaluacion_id BIGINT,
+                                                       solicitud_id BIGINT, delta_cantidad INTEGER, delta_monto DECIMAL)
+RETURNS VOID
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    nivel VARCHAR(20);
+BEGIN
+    IF evaluacion_id IS NOT NULL THEN
+        SELECT r.nivel_riesgo INTO nivel FROM risk_evaluations r WHERE r.id = evaluacion_id LIMIT 1;
+    END IF;
+
+    INSERT INTO application_statistics AS s (mes, estado, nivel_riesgo, slot, cantidad, monto_total)
+    VALUES (date_trunc('month', fecha)::DATE, estado_solicitud, COALESCE(nivel, 'SIN_EVALUAR'),
+            (solicitud_id % 16)::SMALLINT, delta_cantidad, delta_monto)
+    ON CONFLICT (mes, estado, nivel_riesgo, slot) DO UPDATE
+        SET cantidad = s.cantidad + EXCLUDED.cantidad,
+            monto_total = s.monto_total + EXCLUDED.monto_total;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION track_application_statistics()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    -- Filas trasladadas entre particiones por ensure_monthly_partition: ya están contadas
+    IF current_setting('coopcredit.skip_statistics', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'UPDATE'
+       AND OLD.estado = NEW.estado
+       AND OLD.evaluacion_riesgo_id IS NOT DISTINCT FROM NEW.evaluacion_riesgo_id
+       AND OLD.monto_solicitado = NEW.monto_solicitado
+       AND OLD.fecha_solicitud = NEW.fecha_solicitud THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM bump_application_statistics(OLD.fecha_solicitud, OLD.estado, OLD.evaluacion_riesgo_id,
+                                            OLD.id, -1, -OLD.monto_solicitado);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM bump_application_statistics(NEW.fecha_solicitud, NEW.estado, NEW.evaluacion_riesgo_id,
+                                            NEW.id, 1, NEW.monto_solicitado);
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_application_statistics
+    AFTER INSERT OR UPDATE OR DELETE ON credit_applications
+    FOR EACH ROW EXECUTE FUNCTION track_application_statistics();
+
+-- ============================================================================
+-- ensure_monthly_partition (V7): el traslado desde DEFAULT no altera las estadísticas
+-- ============================================================================
+
+CREATE OR REPLACE FUNCTION ensure_monthly_partition(parent_table TEXT, partition_column TEXT, month_start DATE)
+RETURNS BOOLEAN
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    range_start DATE := date_trunc('month', month_start)::DATE;
+    range_end DATE := (date_trunc('month', month_start) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := parent_table || '_p' || to_char(range_start, 'YYYYMM');
+    default_name TEXT := parent_table || '_default';
+    has_default BOOLEAN;
+    moved_rows BIGINT := 0;
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    has_default := to_regclass(default_name) IS NOT NULL;
+
+    IF has_default THEN
+        EXECUTE format('SELECT count(*) FROM %I WHERE %I >= %L AND %I < %L',
+                       default_name, partition_column, range_start, partition_column, range_end)
+            INTO moved_rows;
+    END IF;
+
+    IF moved_rows > 0 THEN
+        -- La partición DEFAULT no puede conservar filas del rango de la nueva partición
+        PERFORM set_config('coopcredit.skip_statistics', 'on', true);
+        EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent_table, default_name);
+        EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, parent_table, range_start, range_end);
+        EXECUTE format('INSERT INTO %I SELECT * FROM %I WHERE %I >= %L AND %I < %L',
+                       partition_name, default_name, partition_column, range_start, partition_column, range_end);
+        EXECUTE format('DELETE FROM %I WHERE %I >= %L AND %I < %L',
+                       default_name, partition_column, range_start, partition_column, range_end);
+        EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I DEFAULT', parent_table, default_name);
+        PERFORM set_config('coopcredit.skip_statistics', 'off', true);
+    ELSE
+        EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, parent_table, range_start, range_end);
+    END IF;
+
+    RETURN TRUE;
+END;
+$$;
+
+-- ============================================================================
+-- Carga inicial (único recorrido completo de credit_applications)
+-- ============================================================================
+
+INSERT INTO application_statistics (mes, estado, nivel_riesgo, slot, cantidad, monto_total)
+SELECT date_trunc('month', a.fecha_solicitud)::DATE,
+       a.estado,
+       COALESCE(r.nivel_riesgo, 'SIN_EVALUAR'),
+       (a.id % 16)::SMALLINT,
+       count(*),
+       sum(a.monto_solicitado)
+FROM credit_applications a
+LEFT JOIN risk_evaluations r ON r.id = a.evaluacion_riesgo_id
+GROUP BY 1, 2, 3, 4;
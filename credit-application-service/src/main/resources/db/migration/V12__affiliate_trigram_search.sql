@@ -0,0 +1,29 @@
+-- V12: Búsqueda de afiliados por nombre (trigramas) y por prefijo de documento
+-- PostgreSQL 18 compatible
+--
+-- pg_trgm y unaccent son extensiones "trusted": el dueño de la base puede crearlas.
+--
+-- affiliate_search_text normaliza el nombre (minúsculas, sin tildes) tanto en el índice como
+-- en la consulta; debe ser IMMUTABLE para poder indexarse. Se fija el diccionario y el esquema
+-- de unaccent para que el resultado no dependa del search_path de la sesión.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+CREATE OR REPLACE FUNCTION affiliate_search_text(valor TEXT)
+RETURNS TEXT
+LANGUAGE sql
+IMMUTABLE STRICT PARALLEL SAFE
+AS $$
+    SELECT lower(public.unaccent('public.unaccent'::regdictionary, valor))
+$$;
+
+-- Nombre: cada término de la búsqueda se evalúa con "termino <% nombre" (word_similarity) y
+-- el índice GIN de trigramas resuelve la intersección de los términos con un Bitmap And
+CREATE INDEX idx_affiliate_nombre_trgm ON affiliates
+    USING gin (affiliate_search_text(nombre) gin_trgm_ops);
+
+-- Documento: prefijo como rango [prefijo, siguiente prefijo) en orden binario. Con collation C
+-- el rango es indexable aun con el plan genérico de una sentencia preparada y el índice entrega
+-- el orden del keyset sin Sort
+CREATE INDEX idx_affiliate_documento_prefijo ON affiliates ((documento COLLATE "C"));
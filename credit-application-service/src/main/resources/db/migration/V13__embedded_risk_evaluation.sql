@@ -0,0 +1,109 @@
+-- V13: Evaluación de riesgo embebida en la solicitud (credit.risk-evaluation.storage=EMBEDDED)
+-- PostgreSQL 18 compatible
+--
+-- score, nivel, detalle y fecha de la evaluación se guardan en columnas de credit_applications:
+-- la decisión es un solo UPDATE (sin INSERT en risk_evaluations) y las lecturas no hacen JOIN.
+-- Se prefieren columnas tipadas sobre JSONB: mantienen los CHECK, las consultas y el mapeo
+-- @Embedded igual que la copia del afiliado (V8).
+--
+-- risk_evaluations y evaluacion_riesgo_id se conservan: el modo TABLE sigue funcionando y el
+-- mapper lee ambos layouts. backfill_embedded_risk_evaluations() copia las evaluaciones de las
+-- solicitudes que aún no tienen columnas embebidas; se ejecuta aquí y puede repetirse antes de
+-- cambiar de TABLE a EMBEDDED.
+
+ALTER TABLE credit_applications
+    ADD COLUMN riesgo_score INTEGER,
+    ADD COLUMN riesgo_nivel VARCHAR(20) CHECK (riesgo_nivel IN ('BAJO', 'MEDIO', 'ALTO')),
+    ADD COLUMN riesgo_detalle TEXT,
+    ADD COLUMN riesgo_fecha_evaluacion TIMESTAMP;
+
+COMMENT ON COLUMN credit_applications.riesgo_score IS 'Score de la evaluación de riesgo (modo EMBEDDED)';
+COMMENT ON COLUMN credit_applications.riesgo_nivel IS 'Nivel de riesgo: BAJO, MEDIO o ALTO (modo EMBEDDED)';
+
+-- ============================================================================
+-- Estadísticas (V11): el nivel de riesgo sale de la columna embebida si existe
+-- ============================================================================
+
+DROP FUNCTION bump_application_statistics(TIMESTAMP, VARCHAR, BIGINT, BIGINT, INTEGER, DECIMAL);
+
+CREATE OR REPLACE FUNCTION bump_application_statistics(fecha TIMESTAMP, estado_solicitud VARCHAR, nivel_embebido VARCHAR,
+                                                       evaluacion_id BIGINT, solicitud_id BIGINT,
+                                                       delta_cantidad INTEGER, delta_monto DECIMAL)
+RETURNS VOID
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    nivel VARCHAR(20) := nivel_embebido;
+BEGIN
+    IF nivel IS NULL AND evaluacion_id IS NOT NULL THEN
+        SELECT r.nivel_riesgo INTO nivel FROM risk_evaluations r WHERE r.id = evaluacion_id LIMIT 1;
+    END IF;
+
+    INSERT INTO application_statistics AS s (mes, estado, nivel_riesgo, slot, cantidad, monto_total)
+    VALUES (date_trunc('month', fecha)::DATE, estado_solicitud, COALESCE(nivel, 'SIN_EVALUAR'),
+            (solicitud_id % 16)::SMALLINT, delta_cantidad, delta_monto)
+    ON CONFLICT (mes, estado, nivel_riesgo, slot) DO UPDATE
+        SET cantidad = s.cantidad + EXCLUDED.cantidad,
+            monto_total = s.monto_total + EXCLUDED.monto_total;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION track_application_statistics()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    -- Filas trasladadas entre particiones o completadas por el backfill: ya están contadas
+    IF current_setting('coopcredit.skip_statistics', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'UPDATE'
+       AND OLD.estado = NEW.estado
+       AND OLD.evaluacion_riesgo_id IS NOT DISTINCT FROM NEW.evaluacion_riesgo_id
+       AND OLD.riesgo_nivel IS NOT DISTINCT FROM NEW.riesgo_nivel
+       AND OLD.monto_solicitado = NEW.monto_solicitado
+       AND OLD.fecha_solicitud = NEW.fecha_solicitud THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM bump_application_statistics(OLD.fecha_solicitud, OLD.estado, OLD.riesgo_nivel,
+                                            OLD.evaluacion_riesgo_id, OLD.id, -1, -OLD.monto_solicitado);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM bump_application_statistics(NEW.fecha_solicitud, NEW.estado, NEW.riesgo_nivel,
+                                            NEW.evaluacion_riesgo_id, NEW.id, 1, NEW.monto_solicitado);
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+-- ============================================================================
+-- Backfill repetible
+-- ============================================================================
+
+CREATE OR REPLACE FUNCTION backfill_embedded_risk_evaluations()
+RETURNS BIGINT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    filas BIGINT;
+BEGIN
+    -- El nivel copiado es el mismo que ya contaban las estadísticas
+    PERFORM set_config('coopcredit.skip_statistics', 'on', true);
+    UPDATE credit_applications a
+       SET riesgo_score = r.score,
+           riesgo_nivel = r.nivel_riesgo,
+           riesgo_detalle = r.detalle,
+           riesgo_fecha_evaluacion = r.fecha_evaluacion
+      FROM risk_evaluations r
+     WHERE r.id = a.evaluacion_riesgo_id
+       AND a.riesgo_score IS NULL;
+    GET DIAGNOSTICS filas = ROW_COUNT;
+    PERFORM set_config('coopcredit.skip_statistics', 'off', true);
+    RETURN filas;
+END;
+$$;
+
+SELECT backfill_embedded_risk_evaluations();
@@ -0,0 +1,47 @@
+-- V14: Exposición agregada por afiliado para la regla de endeudamiento total
+-- PostgreSQL 18 compatible
+--
+-- affiliate_exposure guarda, por afiliado, las solicitudes abiertas (PENDIENTE), el capital
+-- aprobado y la suma de las cuotas mensuales aprobadas. La mantiene el servicio de solicitudes
+-- en la misma transacción de cada creación o decisión; la evaluación lee y bloquea una sola fila
+-- en lugar de recorrer las solicitudes del afiliado.
+--
+-- La cuota se calcula como CreditApplication.calcularCuotaMensual (sistema francés,
+-- tasa anual / 12 / 100, redondeo a 2 decimales).
+
+CREATE TABLE affiliate_exposure (
+    afiliado_id BIGINT PRIMARY KEY REFERENCES affiliates(id) ON DELETE CASCADE,
+    solicitudes_abiertas INTEGER NOT NULL DEFAULT 0,
+    capital_aprobado DECIMAL(18, 2) NOT NULL DEFAULT 0,
+    cuota_mensual_total DECIMAL(18, 2) NOT NULL DEFAULT 0,
+    fecha_actualizacion TIMESTAMP NOT NULL DEFAULT now(),
+    CONSTRAINT chk_exposure_abiertas CHECK (solicitudes_abiertas >= 0)
+);
+
+COMMENT ON TABLE affiliate_exposure IS 'Exposición por afiliado (mantenida por el servicio de solicitudes)';
+COMMENT ON COLUMN affiliate_exposure.solicitudes_abiertas IS 'Solicitudes en estado PENDIENTE';
+COMMENT ON COLUMN affiliate_exposure.capital_aprobado IS 'Suma de monto_solicitado de las solicitudes APROBADO';
+COMMENT ON COLUMN affiliate_exposure.cuota_mensual_total IS 'Suma de las cuotas mensuales de las solicitudes APROBADO';
+
+-- ============================================================================
+-- Carga inicial (único recorrido completo de credit_applications)
+-- ============================================================================
+
+INSERT INTO affiliate_exposure (afiliado_id, solicitudes_abiertas, capital_aprobado, cuota_mensual_total)
+SELECT c.afiliado_id,
+       count(*) FILTER (WHERE c.estado = 'PENDIENTE'),
+       COALESCE(sum(c.monto_solicitado) FILTER (WHERE c.estado = 'APROBADO'), 0),
+       COALESCE(sum(c.cuota) FILTER (WHERE c.estado = 'APROBADO'), 0)
+FROM (
+    SELECT a.afiliado_id,
+           a.estado,
+           a.monto_solicitado,
+           CASE
+               WHEN a.plazo_meses IS NULL OR a.plazo_meses <= 0 THEN 0
+               WHEN a.tasa_propuesta = 0 THEN round(a.monto_solicitado / a.plazo_meses, 2)
+               ELSE round(a.monto_solicitado * (a.tasa_propuesta / 1200) * power(1 + a.tasa_propuesta / 1200, a.plazo_meses)
+                          / (power(1 + a.tasa_propuesta / 1200, a.plazo_meses) - 1), 2)
+           END AS cuota
+    FROM credit_applications a
+) c
+GROUP BY c.afiliado_id;
@@ -0,0 +1,49 @@
+-- V15: El desacople por retención conserva las particiones con solicitudes pendientes
+-- PostgreSQL 18 compatible
+--
+-- detach_monthly_partitions_before (V7) desacoplaba todo mes anterior al corte, aunque tuviera
+-- solicitudes PENDIENTE: desaparecían de las consultas y no podían evaluarse. La nueva versión
+-- recibe un predicado de conservación; si alguna fila de la partición lo cumple, la partición
+-- sigue adjunta y se reporta con un WARNING. El mantenimiento la desacopla en una corrida
+-- posterior, cuando ya no tenga filas que lo cumplan.
+--
+-- keep_if es SQL literal: solo debe recibir constantes del código, nunca datos de usuario.
+
+-- La firma cambia: se elimina la de dos argumentos para que las llamadas no queden ambiguas
+DROP FUNCTION IF EXISTS detach_monthly_partitions_before(TEXT, DATE);
+
+-- Desacopla las particiones mensuales cuyo mes termina antes de cutoff, salvo las que
+-- tengan alguna fila que cumpla keep_if (NULL: sin condición).
+-- La partición se bloquea antes de revisarla: ninguna escritura concurrente puede agregar
+-- una fila que cumpla keep_if entre la revisión y el desacople.
+CREATE FUNCTION detach_monthly_partitions_before(parent_table TEXT, cutoff DATE, keep_if TEXT)
+RETURNS SETOF TEXT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    child RECORD;
+    retained BOOLEAN;
+BEGIN
+    FOR child IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = parent_table::regclass
+          AND c.relname ~ ('^' || parent_table || '_p[0-9]{6}$')
+          AND (to_date(right(c.relname, 6), 'YYYYMM') + INTERVAL '1 month') <= cutoff
+        ORDER BY c.relname
+    LOOP
+        IF keep_if IS NOT NULL THEN
+            EXECUTE format('LOCK TABLE %I IN SHARE MODE', child.relname);
+            EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I WHERE %s)', child.relname, keep_if)
+                INTO retained;
+            IF retained THEN
+                RAISE WARNING 'Partición % conservada: tiene filas con %', child.relname, keep_if;
+                CONTINUE;
+            END IF;
+        END IF;
+        EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent_table, child.relname);
+        RETURN NEXT child.relname;
+    END LOOP;
+END;
+$$;
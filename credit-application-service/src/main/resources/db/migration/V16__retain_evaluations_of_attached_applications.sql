@@ -0,0 +1,46 @@
+-- V16: El desacople por retención conserva las evaluaciones que usan solicitudes adjuntas
+-- PostgreSQL 18 compatible
+--
+-- risk_evaluations se desacoplaba sin condición. Si un mes de credit_applications seguía adjunto
+-- por tener solicitudes PENDIENTE (V15), sus solicitudes decididas apuntaban (evaluacion_riesgo_id)
+-- a evaluaciones ya desacopladas: las lecturas en modo TABLE, el modelo de lectura y las
+-- estadísticas (V11/V13) las trataban como solicitudes sin evaluar.
+--
+-- La partición revisada se expone ahora con el alias "p", para que keep_if pueda correlacionarse
+-- con otras tablas sin ambigüedad de columnas:
+--   EXISTS (SELECT 1 FROM credit_applications a WHERE a.evaluacion_riesgo_id = p.id)
+-- Como el mantenimiento procesa credit_applications primero, las evaluaciones de los meses de
+-- solicitudes recién desacoplados se liberan en la misma corrida.
+
+-- Misma firma que V15: los predicados no correlacionados (estado = 'PENDIENTE') siguen válidos
+CREATE OR REPLACE FUNCTION detach_monthly_partitions_before(parent_table TEXT, cutoff DATE, keep_if TEXT)
+RETURNS SETOF TEXT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    child RECORD;
+    retained BOOLEAN;
+BEGIN
+    FOR child IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = parent_table::regclass
+          AND c.relname ~ ('^' || parent_table || '_p[0-9]{6}$')
+          AND (to_date(right(c.relname, 6), 'YYYYMM') + INTERVAL '1 month') <= cutoff
+        ORDER BY c.relname
+    LOOP
+        IF keep_if IS NOT NULL THEN
+            EXECUTE format('LOCK TABLE %I IN SHARE MODE', child.relname);
+            EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I AS p WHERE %s)', child.relname, keep_if)
+                INTO retained;
+            IF retained THEN
+                RAISE WARNING 'Partición % conservada: tiene filas con %', child.relname, keep_if;
+                CONTINUE;
+            END IF;
+        END IF;
+        EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent_table, child.relname);
+        RETURN NEXT child.relname;
+    END LOOP;
+END;
+$$;
@@ -0,0 +1,23 @@
+-- V17: Reintentos con espera exponencial y eventos aparcados en el outbox
+-- PostgreSQL 18 compatible
+--
+-- El relay tomaba siempre los pendientes más antiguos sin espera: un evento que el destino
+-- rechaza de forma permanente bloqueaba su lote en cada ejecución. Ahora un evento fallido
+-- no vuelve a tomarse hasta fecha_proximo_intento y, al agotar los intentos, queda aparcado
+-- (fecha_aparcado) fuera de los pendientes. Para reencolar uno ya corregido:
+--   UPDATE application_outbox SET fecha_aparcado = NULL, fecha_proximo_intento = NULL, intentos = 0
+--   WHERE id = ...;
+
+ALTER TABLE application_outbox ADD COLUMN fecha_proximo_intento TIMESTAMP;
+ALTER TABLE application_outbox ADD COLUMN fecha_aparcado TIMESTAMP;
+
+-- Los pendientes excluyen los aparcados: no se recorren en cada lote
+DROP INDEX idx_outbox_pendiente;
+CREATE INDEX idx_outbox_pendiente ON application_outbox(id)
+    WHERE fecha_publicacion IS NULL AND fecha_aparcado IS NULL;
+-- Conteo de aparcados para la métrica outbox.parked
+CREATE INDEX idx_outbox_aparcado ON application_outbox(id)
+    WHERE fecha_publicacion IS NULL AND fecha_aparcado IS NOT NULL;
+
+COMMENT ON COLUMN application_outbox.fecha_proximo_intento IS 'NULL o momento desde el que el relay puede reintentar el evento';
+COMMENT ON COLUMN application_outbox.fecha_aparcado IS 'Momento en que el evento agotó sus intentos; NULL mientras siga pendiente';
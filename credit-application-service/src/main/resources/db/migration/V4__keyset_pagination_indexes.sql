@@ -0,0 +1,14 @@
+-- V4: Índices para paginación por keyset
+-- PostgreSQL 18 compatible
+
+-- Las páginas se ordenan por (fecha_solicitud DESC, id DESC); con el id en el índice
+-- el recorrido arranca directo en la posición del cursor y no requiere Sort
+CREATE INDEX idx_application_fecha_id ON credit_applications(fecha_solicitud, id);
+CREATE INDEX idx_application_estado_fecha_id ON credit_applications(estado, fecha_solicitud, id);
+CREATE INDEX idx_application_afiliado_fecha_id ON credit_applications(afiliado_id, fecha_solicitud, id);
+
+-- Los índices anteriores quedan cubiertos como prefijo de los nuevos
+-- (afiliado_id sigue indexado para la llave foránea a affiliates)
+DROP INDEX IF EXISTS idx_application_fecha;
+DROP INDEX IF EXISTS idx_application_estado;
+DROP INDEX IF EXISTS idx_application_afiliado;
@@ -0,0 +1,38 @@
+-- V5: Generación de IDs por secuencia con optimizador pooled
+-- PostgreSQL 18 compatible
+--
+-- Con IDENTITY Hibernate necesita ejecutar cada INSERT para conocer el id, lo que
+-- desactiva el batching JDBC. Con secuencias de incremento 50 obtiene 50 ids por
+-- viaje a la base y agrupa los INSERT en lotes de hibernate.jdbc.batch_size.
+--
+-- Cada secuencia arranca en MAX(id) + 50: el optimizador pooled interpreta el valor
+-- como el límite superior del bloque (MAX(id) + 1 .. MAX(id) + 50), así los ids
+-- existentes se conservan. Los INSERT fuera de Hibernate siguen usando el DEFAULT.
+
+-- Afiliados
+CREATE SEQUENCE affiliates_seq INCREMENT BY 50;
+SELECT setval('affiliates_seq', COALESCE((SELECT MAX(id) FROM affiliates), 0) + 50, false);
+ALTER TABLE affiliates ALTER COLUMN id SET DEFAULT nextval('affiliates_seq');
+ALTER SEQUENCE affiliates_seq OWNED BY affiliates.id;
+DROP SEQUENCE affiliates_id_seq;
+
+-- Usuarios
+CREATE SEQUENCE users_seq INCREMENT BY 50;
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 50, false);
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_seq');
+ALTER SEQUENCE users_seq OWNED BY users.id;
+DROP SEQUENCE users_id_seq;
+
+-- Evaluaciones de riesgo
+CREATE SEQUENCE risk_evaluations_seq INCREMENT BY 50;
+SELECT setval('risk_evaluations_seq', COALESCE((SELECT MAX(id) FROM risk_evaluations), 0) + 50, false);
+ALTER TABLE risk_evaluations ALTER COLUMN id SET DEFAULT nextval('risk_evaluations_seq');
+ALTER SEQUENCE risk_evaluations_seq OWNED BY risk_evaluations.id;
+DROP SEQUENCE risk_evaluations_id_seq;
+
+-- Solicitudes de crédito
+CREATE SEQUENCE credit_applications_seq INCREMENT BY 50;
+SELECT setval('credit_applications_seq', COALESCE((SELECT MAX(id) FROM credit_applications), 0) + 50, false);
+ALTER TABLE credit_applications ALTER COLUMN id SET DEFAULT nextval('credit_applications_seq');
+ALTER SEQUENCE credit_applications_seq OWNED BY credit_applications.id;
+DROP SEQUENCE credit_applications_id_seq;
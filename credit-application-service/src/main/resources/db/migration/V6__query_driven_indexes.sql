@@ -0,0 +1,24 @@
+-- V6: Índices compuestos y parciales según los patrones de consulta reales
+-- PostgreSQL 18 compatible
+
+-- Solicitudes pendientes en orden de llegada: índice parcial que solo contiene las
+-- PENDIENTE (una fracción pequeña de la tabla). El estado es constante en el índice,
+-- por eso la llave es (fecha_solicitud, id) y entrega el orden sin Sort
+CREATE INDEX idx_application_pendiente ON credit_applications(fecha_solicitud, id)
+    WHERE estado = 'PENDIENTE';
+
+-- Solicitudes de un afiliado, más recientes primero: ya cubierto por
+-- idx_application_afiliado_fecha_id (V4), que PostgreSQL recorre en orden inverso
+
+-- Última evaluación de riesgo por documento
+CREATE INDEX idx_risk_documento_fecha ON risk_evaluations(documento, fecha_evaluacion DESC);
+
+-- Índices redundantes
+-- Duplican los índices que PostgreSQL crea para las restricciones UNIQUE
+DROP INDEX IF EXISTS idx_affiliate_documento;
+DROP INDEX IF EXISTS idx_user_username;
+-- V1 declara UNIQUE en la columna y además como restricción nombrada: se conserva la nombrada
+ALTER TABLE affiliates DROP CONSTRAINT IF EXISTS affiliates_documento_key;
+ALTER TABLE users DROP CONSTRAINT IF EXISTS users_username_key;
+-- Prefijo de idx_risk_documento_fecha
+DROP INDEX IF EXISTS idx_risk_documento;
@@ -0,0 +1,202 @@
+-- V7: Particionamiento mensual por rango de credit_applications y risk_evaluations
+-- PostgreSQL 18 compatible
+--
+-- Las consultas filtradas por fecha solo recorren las particiones del rango (partition pruning)
+-- y la retención se resuelve desacoplando particiones completas en lugar de DELETE masivos.
+--
+-- Consecuencias del particionamiento:
+--   * La llave primaria debe incluir la columna de partición: (id, fecha_*). El id sigue
+--     siendo único en la práctica porque lo asigna la secuencia de V5.
+--   * La llave foránea credit_applications.evaluacion_riesgo_id -> risk_evaluations(id) se
+--     elimina: PostgreSQL exige que la columna referenciada sea única por sí sola. La relación
+--     la mantiene la aplicación (la evaluación se guarda en cascada con la solicitud).
+--   * Las filas fuera de las particiones creadas caen en la partición DEFAULT; al crear la
+--     partición del mes correspondiente se trasladan a ella.
+
+-- ============================================================================
+-- Funciones de mantenimiento de particiones
+-- ============================================================================
+
+-- Crea (si no existe) la partición mensual de parent_table para el mes de month_start.
+-- Si la partición DEFAULT contiene filas de ese mes, se trasladan a la nueva partición.
+CREATE OR REPLACE FUNCTION ensure_monthly_partition(parent_table TEXT, partition_column TEXT, month_start DATE)
+RETURNS BOOLEAN
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    range_start DATE := date_trunc('month', month_start)::DATE;
+    range_end DATE := (date_trunc('month', month_start) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := parent_table || '_p' || to_char(range_start, 'YYYYMM');
+    default_name TEXT := parent_table || '_default';
+    has_default BOOLEAN;
+    moved_rows BIGINT := 0;
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    has_default := to_regclass(default_name) IS NOT NULL;
+
+    IF has_default THEN
+        EXECUTE format('SELECT count(*) FROM %I WHERE %I >= %L AND %I < %L',
+                       default_name, partition_column, range_start, partition_column, range_end)
+            INTO moved_rows;
+    END IF;
+
+    IF moved_rows > 0 THEN
+        -- La partición DEFAULT no puede conservar filas del rango de la nueva partición
+        EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent_table, default_name);
+        EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, parent_table, range_start, range_end);
+        EXECUTE format('INSERT INTO %I SELECT * FROM %I WHERE %I >= %L AND %I < %L',
+                       partition_name, default_name, partition_column, range_start, partition_column, range_end);
+        EXECUTE format('DELETE FROM %I WHERE %I >= %L AND %I < %L',
+                       default_name, partition_column, range_start, partition_column, range_end);
+        EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I DEFAULT', parent_table, default_name);
+    ELSE
+        EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, parent_table, range_start, range_end);
+    END IF;
+
+    RETURN TRUE;
+END;
+$$;
+
+-- Desacopla las particiones mensuales cuyo mes termina antes de cutoff.
+-- Las tablas desacopladas se conservan (archivo, respaldo o DROP manual).
+CREATE OR REPLACE FUNCTION detach_monthly_partitions_before(parent_table TEXT, cutoff DATE)
+RETURNS SETOF TEXT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    child RECORD;
+BEGIN
+    FOR child IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = parent_table::regclass
+          AND c.relname ~ ('^' || parent_table || '_p[0-9]{6}$')
+          AND (to_date(right(c.relname, 6), 'YYYYMM') + INTERVAL '1 month') <= cutoff
+        ORDER BY c.relname
+    LOOP
+        EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent_table, child.relname);
+        RETURN NEXT child.relname;
+    END LOOP;
+END;
+$$;
+
+-- ============================================================================
+-- Tablas actuales -> tablas heredadas temporales
+-- ============================================================================
+
+ALTER TABLE credit_applications DROP CONSTRAINT fk_application_evaluation;
+
+-- Las secuencias de V5 se conservan al eliminar las tablas anteriores
+ALTER SEQUENCE credit_applications_seq OWNED BY NONE;
+ALTER SEQUENCE risk_evaluations_seq OWNED BY NONE;
+
+ALTER TABLE credit_applications RENAME TO credit_applications_legacy;
+ALTER TABLE credit_applications_legacy RENAME CONSTRAINT credit_applications_pkey TO credit_applications_legacy_pkey;
+DROP INDEX IF EXISTS idx_application_fecha_id;
+DROP INDEX IF EXISTS idx_application_estado_fecha_id;
+DROP INDEX IF EXISTS idx_application_afiliado_fecha_id;
+DROP INDEX IF EXISTS idx_application_pendiente;
+
+ALTER TABLE risk_evaluations RENAME TO risk_evaluations_legacy;
+ALTER TABLE risk_evaluations_legacy RENAME CONSTRAINT risk_evaluations_pkey TO risk_evaluations_legacy_pkey;
+DROP INDEX IF EXISTS idx_risk_documento_fecha;
+
+-- ============================================================================
+-- Tablas particionadas
+-- ============================================================================
+
+CREATE TABLE risk_evaluations (
+    id BIGINT NOT NULL DEFAULT nextval('risk_evaluations_seq'),
+    documento VARCHAR(20) NOT NULL,
+    score INTEGER NOT NULL CHECK (score >= 300 AND score <= 950),
+    nivel_riesgo VARCHAR(20) NOT NULL CHECK (nivel_riesgo IN ('BAJO', 'MEDIO', 'ALTO')),
+    detalle TEXT,
+    fecha_evaluacion TIMESTAMP NOT NULL,
+    CONSTRAINT risk_evaluations_pkey PRIMARY KEY (id, fecha_evaluacion)
+) PARTITION BY RANGE (fecha_evaluacion);
+
+CREATE TABLE credit_applications (
+    id BIGINT NOT NULL DEFAULT nextval('credit_applications_seq'),
+    afiliado_id BIGINT NOT NULL,
+    monto_solicitado DECIMAL(15, 2) NOT NULL CHECK (monto_solicitado > 0),
+    plazo_meses INTEGER NOT NULL CHECK (plazo_meses > 0 AND plazo_meses <= 120),
+    tasa_propuesta DECIMAL(5, 2) NOT NULL CHECK (tasa_propuesta >= 0 AND tasa_propuesta <= 100),
+    fecha_solicitud TIMESTAMP NOT NULL,
+    estado VARCHAR(20) NOT NULL CHECK (estado IN ('PENDIENTE', 'APROBADO', 'RECHAZADO')),
+    motivo_rechazo TEXT,
+    evaluacion_riesgo_id BIGINT,
+    CONSTRAINT credit_applications_pkey PRIMARY KEY (id, fecha_solicitud),
+    CONSTRAINT fk_application_affiliate FOREIGN KEY (afiliado_id) REFERENCES affiliates(id)
+) PARTITION BY RANGE (fecha_solicitud);
+
+CREATE TABLE risk_evaluations_default PARTITION OF risk_evaluations DEFAULT;
+CREATE TABLE credit_applications_default PARTITION OF credit_applications DEFAULT;
+
+ALTER SEQUENCE credit_applications_seq OWNED BY credit_applications.id;
+ALTER SEQUENCE risk_evaluations_seq OWNED BY risk_evaluations.id;
+
+-- Particiones mensuales desde el dato más antiguo hasta tres meses en el futuro
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    FOR month_start IN
+        SELECT generate_series(
+            date_trunc('month', LEAST(
+                COALESCE((SELECT MIN(fecha_solicitud) FROM credit_applications_legacy), now()),
+                COALESCE((SELECT MIN(fecha_evaluacion) FROM risk_evaluations_legacy), now()))),
+            date_trunc('month', now()) + INTERVAL '3 months',
+            INTERVAL '1 month')::DATE
+    LOOP
+        PERFORM ensure_monthly_partition('credit_applications', 'fecha_solicitud', month_start);
+        PERFORM ensure_monthly_partition('risk_evaluations', 'fecha_evaluacion', month_start);
+    END LOOP;
+END;
+$$;
+
+-- ============================================================================
+-- Traslado de datos
+-- ============================================================================
+
+INSERT INTO risk_evaluations (id, documento, score, nivel_riesgo, detalle, fecha_evaluacion)
+SELECT id, documento, score, nivel_riesgo, detalle, fecha_evaluacion FROM risk_evaluations_legacy;
+
+INSERT INTO credit_applications (id, afiliado_id, monto_solicitado, plazo_meses, tasa_propuesta,
+                                 fecha_solicitud, estado, motivo_rechazo, evaluacion_riesgo_id)
+SELECT id, afiliado_id, monto_solicitado, plazo_meses, tasa_propuesta,
+       fecha_solicitud, estado, motivo_rechazo, evaluacion_riesgo_id
+FROM credit_applications_legacy;
+
+DROP TABLE credit_applications_legacy;
+DROP TABLE risk_evaluations_legacy;
+
+-- ============================================================================
+-- Índices (se crean en cada partición, presente y futura)
+-- ============================================================================
+
+CREATE INDEX idx_application_fecha_id ON credit_applications(fecha_solicitud, id);
+CREATE INDEX idx_application_estado_fecha_id ON credit_applications(estado, fecha_solicitud, id);
+CREATE INDEX idx_application_afiliado_fecha_id ON credit_applications(afiliado_id, fecha_solicitud, id);
+CREATE INDEX idx_application_pendiente ON credit_applications(fecha_solicitud, id)
+    WHERE estado = 'PENDIENTE';
+-- Búsqueda por id sin fecha (findById): la llave primaria empieza por id en cada partición
+
+CREATE INDEX idx_risk_documento_fecha ON risk_evaluations(documento, fecha_evaluacion DESC);
+
+-- ============================================================================
+-- Comentarios (V2)
+-- ============================================================================
+
+COMMENT ON TABLE risk_evaluations IS 'Evaluaciones de riesgo crediticio realizadas (particionada por mes)';
+COMMENT ON TABLE credit_applications IS 'Solicitudes de crédito de los afiliados (particionada por mes)';
+COMMENT ON COLUMN credit_applications.estado IS 'Estado de la solicitud: PENDIENTE, APROBADO o RECHAZADO';
+COMMENT ON COLUMN risk_evaluations.nivel_riesgo IS 'Nivel de riesgo: BAJO, MEDIO o ALTO';
+
+ANALYZE credit_applications;
+ANALYZE risk_evaluations;
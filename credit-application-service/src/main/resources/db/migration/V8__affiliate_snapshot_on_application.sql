@@ -0,0 +1,16 @@
+-- V8: Copia de los datos de elegibilidad del afiliado en cada solicitud
+-- PostgreSQL 18 compatible
+--
+-- createApplication guarda documento, salario, fecha de afiliación y estado del afiliado;
+-- evaluateApplication los usa sin volver a leer affiliates mientras la copia esté vigente.
+-- Las solicitudes anteriores quedan sin copia (NULL) y se evalúan con el afiliado vigente.
+
+ALTER TABLE credit_applications
+    ADD COLUMN afiliado_documento VARCHAR(20),
+    ADD COLUMN afiliado_salario DECIMAL(15, 2),
+    ADD COLUMN afiliado_fecha_afiliacion DATE,
+    ADD COLUMN afiliado_estado VARCHAR(20) CHECK (afiliado_estado IN ('ACTIVO', 'INACTIVO')),
+    ADD COLUMN afiliado_fecha_captura TIMESTAMP;
+
+COMMENT ON COLUMN credit_applications.afiliado_salario IS 'Salario del afiliado usado en la evaluación (copia al crear o revalidar)';
+COMMENT ON COLUMN credit_applications.afiliado_fecha_captura IS 'Momento en que se copiaron los datos del afiliado';
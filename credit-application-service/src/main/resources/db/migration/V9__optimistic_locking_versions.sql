@@ -0,0 +1,15 @@
+-- V9: Columnas de versión para control de concurrencia optimista
+-- PostgreSQL 18 compatible
+--
+-- Hibernate incrementa version en cada UPDATE y agrega "AND version = ?" al WHERE:
+-- si otra transacción modificó la fila, la actualización no afecta filas y se rechaza
+-- (HTTP 409). Las transiciones de estado usan UPDATE condicionales que también la incrementan.
+-- El DEFAULT 0 cubre las filas existentes y las inserciones nativas (COPY, seeds).
+
+ALTER TABLE affiliates ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE credit_applications ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE risk_evaluations ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN affiliates.version IS 'Versión de la fila para control de concurrencia optimista';
+COMMENT ON COLUMN credit_applications.version IS 'Versión de la fila para control de concurrencia optimista';
@@ -0,0 +1,151 @@
+package com.coopcredit.credit_application_service.application.services;
+
+import com.coopcredit.credit_application_service.domain.enums.AffiliateStatus;
+import com.coopcredit.credit_application_service.domain.model.Affiliate;
+import com.coopcredit.credit_application_service.domain.model.AffiliateImportError;
+import com.coopcredit.credit_application_service.domain.model.AffiliateImportReport;
+import com.coopcredit.credit_application_service.domain.model.AffiliateImportRow;
+import com.coopcredit.credit_application_service.domain.ports.out.AffiliateBulkLoadPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AffiliateImportService - Tests")
+class AffiliateImportServiceTest {
+
+    @Mock
+    private AffiliateBulkLoadPort bulkLoadPort;
+
+    @InjectMocks
+    private AffiliateImportService service;
+
+    @Test
+    @DisplayName("Debe importar todas las filas válidas con una consulta y una carga")
+    void shouldImportValidRows() {
+        // Given
+        List<AffiliateImportRow> rows = List.of(
+                AffiliateImportRow.of(2, affiliate("1001")),
+                AffiliateImportRow.of(3, affiliate("1002")),
+                AffiliateImportRow.of(4, affiliate("1003")));
+        when(bulkLoadPort.findExistingDocumentos(anyCollection())).thenReturn(Set.of());
+        when(bulkLoadPort.insertAll(anyList())).thenReturn(Set.of("1001", "1002", "1003"));
+
+        // When
+        AffiliateImportReport report = service.importAffiliates(rows);
+
+        // Then
+        assertEquals(3, report.getTotalFilas());
+        assertEquals(3, report.getImportados());
+        assertEquals(0, report.getRechazados());
+        assertTrue(report.getErrores().isEmpty());
+        verify(bulkLoadPort, times(1)).findExistingDocumentos(anyCollection());
+        verify(bulkLoadPort, times(1)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Debe reportar filas inválidas, repetidas y existentes sin abortar la carga")
+    void shouldReportRejectedRows() {
+        // Given
+        Affiliate sinSalario = affiliate("2002");
+        sinSalario.setSalario(null);
+        Affiliate documentoLargo = affiliate("123456789012345678901");
+
+        List<AffiliateImportRow> rows = List.of(
+                AffiliateImportRow.of(2, affiliate("2001")),
+                AffiliateImportRow.of(3, sinSalario),
+                AffiliateImportRow.invalid(4, "Salario inválido: abc"),
+                AffiliateImportRow.of(5, affiliate("2001")),
+                AffiliateImportRow.of(6, affiliate("1017654311")),
+                AffiliateImportRow.of(7, documentoLargo),
+                AffiliateImportRow.of(8, affiliate("2003")));
+        when(bulkLoadPort.findExistingDocumentos(anyCollection())).thenReturn(Set.of("1017654311"));
+        when(bulkLoadPort.insertAll(anyList())).thenReturn(Set.of("2001", "2003"));
+
+        // When
+        AffiliateImportReport report = service.importAffiliates(rows);
+
+        // Then
+        assertEquals(7, report.getTotalFilas());
+        assertEquals(2, report.getImportados());
+        assertEquals(5, report.getRechazados());
+        assertEquals(List.of(3, 4, 5, 6, 7), report.getErrores().stream()
+                .map(AffiliateImportError::getLinea)
+                .collect(Collectors.toList()));
+        assertEquals("El salario debe ser mayor a 0", report.getErrores().get(0).getMensaje());
+        assertEquals("Documento repetido en el archivo", report.getErrores().get(2).getMensaje());
+        assertTrue(report.getErrores().get(3).getMensaje().contains("Ya existe"));
+
+        // Solo se consultan y cargan las filas que pasaron la validación
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> consulted = ArgumentCaptor.forClass(Collection.class);
+        verify(bulkLoadPort).findExistingDocumentos(consulted.capture());
+        assertEquals(Set.of("2001", "1017654311", "2003"), Set.copyOf(consulted.getValue()));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Affiliate>> loaded = ArgumentCaptor.forClass(List.class);
+        verify(bulkLoadPort).insertAll(loaded.capture());
+        assertEquals(List.of("2001", "2003"), loaded.getValue().stream()
+                .map(Affiliate::getDocumento)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Debe reportar documentos registrados concurrentemente durante la carga")
+    void shouldReportConcurrentDuplicates() {
+        // Given
+        List<AffiliateImportRow> rows = List.of(
+                AffiliateImportRow.of(2, affiliate("3001")),
+                AffiliateImportRow.of(3, affiliate("3002")));
+        when(bulkLoadPort.findExistingDocumentos(anyCollection())).thenReturn(Set.of());
+        when(bulkLoadPort.insertAll(anyList())).thenReturn(Set.of("3001"));
+
+        // When
+        AffiliateImportReport report = service.importAffiliates(rows);
+
+        // Then
+        assertEquals(1, report.getImportados());
+        assertEquals(1, report.getRechazados());
+        assertEquals(3, report.getErrores().get(0).getLinea());
+    }
+
+    @Test
+    @DisplayName("No debe acceder a la base de datos si ninguna fila es válida")
+    void shouldSkipDatabaseWhenNoValidRows() {
+        // Given
+        List<AffiliateImportRow> rows = List.of(AffiliateImportRow.invalid(2, "JSON inválido"));
+
+        // When
+        AffiliateImportReport report = service.importAffiliates(rows);
+
+        // Then
+        assertEquals(0, report.getImportados());
+        assertEquals(1, report.getRechazados());
+        verifyNoInteractions(bulkLoadPort);
+    }
+
+    private Affiliate affiliate(String documento) {
+        return Affiliate.builder()
+                .documento(documento)
+                .nombre("Afiliado " + documento)
+                .salario(new BigDecimal("3500000"))
+                .fechaAfiliacion(LocalDate.now().minusYears(2))
+                .estado(AffiliateStatus.ACTIVO)
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.coopcredit.credit_application_service.application.services;
+
+import com.coopcredit.credit_application_service.domain.enums.AffiliateStatus;
+import com.coopcredit.credit_application_service.domain.exceptions.BusinessRuleException;
+import com.coopcredit.credit_application_service.domain.model.AffiliateSearchCursor;
+import com.coopcredit.credit_application_service.domain.model.AffiliateSearchHit;
+import com.coopcredit.credit_application_service.domain.model.AffiliateSearchQuery;
+import com.coopcredit.credit_application_service.domain.model.CursorPage;
+import com.coopcredit.credit_application_service.domain.ports.out.AffiliateSearchPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AffiliateSearchService - Tests")
+class AffiliateSearchServiceTest {
+
+    @Mock
+    private AffiliateSearchPort searchPort;
+
+    @InjectMocks
+    private AffiliateSearchService service;
+
+    @Test
+    @DisplayName("Debe buscar por nombre con los términos de al menos 3 caracteres")
+    void shouldSearchByNameTerms() {
+        // Given
+        when(searchPort.search(any(), isNull(), eq(3))).thenReturn(List.of(hit("3000000001", 1.0)));
+
+        // When
+        CursorPage<AffiliateSearchHit> page = service.searchAffiliates("  María  de la   Gómez ", null, 2);
+
+        // Then
+        ArgumentCaptor<AffiliateSearchQuery> query = ArgumentCaptor.forClass(AffiliateSearchQuery.class);
+        verify(searchPort).search(query.capture(), isNull(), eq(3));
+        assertFalse(query.getValue().isPorDocumento());
+        assertEquals("María de la Gómez", query.getValue().getTexto());
+        assertEquals(List.of("María", "Gómez"), query.getValue().getTerminos());
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasMore());
+    }
+
+    @Test
+    @DisplayName("Un texto solo de dígitos debe buscar por prefijo de documento")
+    void shouldSearchByDocumentoPrefix() {
+        // Given
+        AffiliateSearchCursor after = new AffiliateSearchCursor(1.0, "3000123004");
+        when(searchPort.search(any(), eq(after), eq(3))).thenReturn(List.of(
+                hit("3000123005", 1.0), hit("3000123006", 1.0), hit("3000123007", 1.0)));
+
+        // When
+        CursorPage<AffiliateSearchHit> page = service.searchAffiliates("3000123", after, 2);
+
+        // Then - Se pide una fila extra solo para saber si hay página siguiente
+        ArgumentCaptor<AffiliateSearchQuery> query = ArgumentCaptor.forClass(AffiliateSearchQuery.class);
+        verify(searchPort).search(query.capture(), eq(after), eq(3));
+        assertTrue(query.getValue().isPorDocumento());
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasMore());
+        assertEquals("3000123006", page.last().getDocumento());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar búsquedas sin términos indexables")
+    void shouldRejectShortQueries() {
+        assertThrows(BusinessRuleException.class, () -> service.searchAffiliates(null, null, 20));
+        assertThrows(BusinessRuleException.class, () -> service.searchAffiliates(" ab ", null, 20));
+        assertThrows(BusinessRuleException.class, () -> service.searchAffiliates("de la y", null, 20));
+        assertThrows(BusinessRuleException.class, () -> service.searchAffiliates("x".repeat(101), null, 20));
+        verifyNoInteractions(searchPort);
+    }
+
+    private AffiliateSearchHit hit(String documento, double relevancia) {
+        return AffiliateSearchHit.builder()
+                .id(1L)
+                .documento(documento)
+                .nombre("María Gómez")
+                .estado(AffiliateStatus.ACTIVO)
+                .fechaAfiliacion(LocalDate.of(2020, 1, 1))
+                .relevancia(relevancia)
+                .build();
+    }
+}
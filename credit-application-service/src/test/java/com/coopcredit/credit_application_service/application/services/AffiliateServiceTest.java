@@ -2,6 +2,7 @@ package com.coopcredit.credit_application_service.application.services;
 
 import com.coopcredit.credit_application_service.domain.enums.AffiliateStatus;
 import com.coopcredit.credit_application_service.domain.exceptions.BusinessRuleException;
+import com.coopcredit.credit_application_service.domain.exceptions.ConcurrentUpdateException;
 import com.coopcredit.credit_application_service.domain.exceptions.ResourceNotFoundException;
 import com.coopcredit.credit_application_service.domain.model.Affiliate;
 import com.coopcredit.credit_application_service.domain.ports.out.AffiliateRepositoryPort;
@@ -98,10 +99,10 @@ class AffiliateServiceTest {
     void shouldThrowExceptionWhenNegativeSalary() {
         // Given
         validAffiliate.setSalario(new BigDecimal("-1000"));
-        when(affiliateRepository.existsByDocumento(anyString())).thenReturn(false);
 
-        // When & Then
-        assertThrows(IllegalArgumentException.class, () -> service.registerAffiliate(validAffiliate));
+        // When & Then - La validación ocurre antes de consultar el repositorio
+        assertThrows(BusinessRuleException.class, () -> service.registerAffiliate(validAffiliate));
+        verify(affiliateRepository, never()).existsByDocumento(anyString());
         verify(affiliateRepository, never()).save(any());
     }
 
@@ -110,10 +111,10 @@ class AffiliateServiceTest {
     void shouldThrowExceptionWhenZeroSalary() {
         // Given
         validAffiliate.setSalario(BigDecimal.ZERO);
-        when(affiliateRepository.existsByDocumento(anyString())).thenReturn(false);
 
-        // When & Then
-        assertThrows(IllegalArgumentException.class, () -> service.registerAffiliate(validAffiliate));
+        // When & Then - La validación ocurre antes de consultar el repositorio
+        assertThrows(BusinessRuleException.class, () -> service.registerAffiliate(validAffiliate));
+        verify(affiliateRepository, never()).existsByDocumento(anyString());
         verify(affiliateRepository, never()).save(any());
     }
 
@@ -122,10 +123,10 @@ class AffiliateServiceTest {
     void shouldThrowExceptionWhenEmptyName() {
         // Given
         validAffiliate.setNombre("");
-        when(affiliateRepository.existsByDocumento(anyString())).thenReturn(false);
 
-        // When & Then
-        assertThrows(IllegalArgumentException.class, () -> service.registerAffiliate(validAffiliate));
+        // When & Then - La validación ocurre antes de consultar el repositorio
+        assertThrows(BusinessRuleException.class, () -> service.registerAffiliate(validAffiliate));
+        verify(affiliateRepository, never()).existsByDocumento(anyString());
         verify(affiliateRepository, never()).save(any());
     }
 
@@ -134,10 +135,10 @@ class AffiliateServiceTest {
     void shouldThrowExceptionWhenEmptyDocument() {
         // Given
         validAffiliate.setDocumento("");
-        when(affiliateRepository.existsByDocumento(anyString())).thenReturn(false);
 
-        // When & Then
-        assertThrows(IllegalArgumentException.class, () -> service.registerAffiliate(validAffiliate));
+        // When & Then - La validación ocurre antes de consultar el repositorio
+        assertThrows(BusinessRuleException.class, () -> service.registerAffiliate(validAffiliate));
+        verify(affiliateRepository, never()).existsByDocumento(anyString());
         verify(affiliateRepository, never()).save(any());
     }
 
@@ -187,6 +188,39 @@ class AffiliateServiceTest {
         verify(affiliateRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("Debe rechazar con conflicto la actualización con una versión desactualizada")
+    void shouldRejectUpdateWithStaleVersion() {
+        // Given - El cliente leyó la versión 3, pero otra operación ya dejó la 4
+        validAffiliate.setVersion(4L);
+        Affiliate updatedData = new Affiliate();
+        updatedData.setDocumento("1017654311");
+        updatedData.setNombre("Juan Pérez Actualizado");
+        updatedData.setSalario(new BigDecimal("6000000"));
+        updatedData.setFechaAfiliacion(LocalDate.now().minusMonths(12));
+        updatedData.setEstado(AffiliateStatus.ACTIVO);
+        updatedData.setVersion(3L);
+        when(affiliateRepository.findById(1L)).thenReturn(Optional.of(validAffiliate));
+
+        // When & Then
+        ConcurrentUpdateException exception = assertThrows(
+            ConcurrentUpdateException.class,
+            () -> service.updateAffiliate(1L, updatedData)
+        );
+
+        assertTrue(exception.getMessage().contains("versión actual: 4"));
+        verify(affiliateRepository, never()).save(any());
+
+        // When - Con la versión vigente se guarda
+        updatedData.setVersion(4L);
+        when(affiliateRepository.save(any(Affiliate.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        Affiliate result = service.updateAffiliate(1L, updatedData);
+
+        // Then
+        assertEquals(4L, result.getVersion());
+        assertEquals(1L, result.getId());
+    }
+
     @Test
     @DisplayName("Debe permitir actualizar cuando el documento no cambia")
     void shouldAllowUpdateWhenDocumentDoesNotChange() {
@@ -375,19 +409,16 @@ class AffiliateServiceTest {
     void shouldChangeStatusToInactiveSuccessfully() {
         // Given
         when(affiliateRepository.findById(1L)).thenReturn(Optional.of(validAffiliate));
-        when(affiliateRepository.save(any(Affiliate.class))).thenReturn(validAffiliate);
+        when(affiliateRepository.updateStatus(1L, AffiliateStatus.ACTIVO, AffiliateStatus.INACTIVO)).thenReturn(true);
 
         // When
         Affiliate result = service.changeStatus(1L, "INACTIVO");
 
         // Then
         assertNotNull(result);
-        
-        ArgumentCaptor<Affiliate> captor = ArgumentCaptor.forClass(Affiliate.class);
-        verify(affiliateRepository, times(1)).save(captor.capture());
-        
-        Affiliate savedAffiliate = captor.getValue();
-        assertEquals(AffiliateStatus.INACTIVO, savedAffiliate.getEstado());
+        assertEquals(AffiliateStatus.INACTIVO, result.getEstado());
+        verify(affiliateRepository, times(1)).updateStatus(1L, AffiliateStatus.ACTIVO, AffiliateStatus.INACTIVO);
+        verify(affiliateRepository, never()).save(any());
     }
 
     @Test
@@ -396,19 +427,40 @@ class AffiliateServiceTest {
         // Given
         validAffiliate.setEstado(AffiliateStatus.INACTIVO);
         when(affiliateRepository.findById(1L)).thenReturn(Optional.of(validAffiliate));
-        when(affiliateRepository.save(any(Affiliate.class))).thenReturn(validAffiliate);
+        when(affiliateRepository.updateStatus(1L, AffiliateStatus.INACTIVO, AffiliateStatus.ACTIVO)).thenReturn(true);
 
         // When
         Affiliate result = service.changeStatus(1L, "ACTIVO");
 
         // Then
         assertNotNull(result);
-        
-        ArgumentCaptor<Affiliate> captor = ArgumentCaptor.forClass(Affiliate.class);
-        verify(affiliateRepository, times(1)).save(captor.capture());
-        
-        Affiliate savedAffiliate = captor.getValue();
-        assertEquals(AffiliateStatus.ACTIVO, savedAffiliate.getEstado());
+        assertEquals(AffiliateStatus.ACTIVO, result.getEstado());
+        verify(affiliateRepository, times(1)).updateStatus(1L, AffiliateStatus.INACTIVO, AffiliateStatus.ACTIVO);
+    }
+
+    @Test
+    @DisplayName("No debe escribir cuando el afiliado ya está en el estado solicitado")
+    void shouldNotUpdateWhenStatusUnchanged() {
+        // Given
+        when(affiliateRepository.findById(1L)).thenReturn(Optional.of(validAffiliate));
+
+        // When
+        Affiliate result = service.changeStatus(1L, "ACTIVO");
+
+        // Then
+        assertEquals(AffiliateStatus.ACTIVO, result.getEstado());
+        verify(affiliateRepository, never()).updateStatus(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe lanzar conflicto cuando otra operación cambió el estado")
+    void shouldThrowConflictWhenStatusChangedConcurrently() {
+        // Given
+        when(affiliateRepository.findById(1L)).thenReturn(Optional.of(validAffiliate));
+        when(affiliateRepository.updateStatus(1L, AffiliateStatus.ACTIVO, AffiliateStatus.INACTIVO)).thenReturn(false);
+
+        // When & Then
+        assertThrows(ConcurrentUpdateException.class, () -> service.changeStatus(1L, "INACTIVO"));
     }
 
     @Test
@@ -469,6 +521,7 @@ class AffiliateServiceTest {
         when(affiliateRepository.existsByDocumento(anyString())).thenReturn(false);
         when(affiliateRepository.save(any(Affiliate.class))).thenReturn(validAffiliate);
         when(affiliateRepository.findById(1L)).thenReturn(Optional.of(validAffiliate));
+        when(affiliateRepository.updateStatus(1L, AffiliateStatus.ACTIVO, AffiliateStatus.INACTIVO)).thenReturn(true);
 
         // When - Crear
         Affiliate created = service.registerAffiliate(validAffiliate);
@@ -491,7 +544,8 @@ class AffiliateServiceTest {
 
         // Then - Verificar todas las interacciones
         verify(affiliateRepository, times(1)).existsByDocumento("1017654311");
-        verify(affiliateRepository, times(3)).save(any(Affiliate.class));
+        verify(affiliateRepository, times(2)).save(any(Affiliate.class));
+        verify(affiliateRepository, times(1)).updateStatus(1L, AffiliateStatus.ACTIVO, AffiliateStatus.INACTIVO);
         verify(affiliateRepository, times(2)).findById(1L);
     }
 }
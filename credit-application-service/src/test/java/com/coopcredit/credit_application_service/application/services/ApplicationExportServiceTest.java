@@ -0,0 +1,88 @@
+package com.coopcredit.credit_application_service.application.services;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.exceptions.BusinessRuleException;
+import com.coopcredit.credit_application_service.domain.model.ApplicationExportFilter;
+import com.coopcredit.credit_application_service.domain.model.CreditApplication;
+import com.coopcredit.credit_application_service.domain.ports.out.ApplicationExportPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApplicationExportService - Tests")
+class ApplicationExportServiceTest {
+
+    @Mock
+    private ApplicationExportPort exportPort;
+
+    @InjectMocks
+    private ApplicationExportService service;
+
+    @Test
+    @DisplayName("Debe traducir estado y fechas al filtro de exportación")
+    void shouldBuildFilterFromParameters() {
+        // Given
+        Consumer<CreditApplication> consumer = application -> { };
+        when(exportPort.streamApplications(any(ApplicationExportFilter.class), eq(consumer))).thenReturn(42L);
+
+        // When
+        long exported = service.exportApplications(
+                "APROBADO", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), consumer);
+
+        // Then
+        ArgumentCaptor<ApplicationExportFilter> captor = ArgumentCaptor.forClass(ApplicationExportFilter.class);
+        verify(exportPort).streamApplications(captor.capture(), eq(consumer));
+        ApplicationExportFilter filter = captor.getValue();
+
+        assertEquals(42L, exported);
+        assertEquals(ApplicationStatus.APROBADO, filter.getEstado());
+        assertEquals(LocalDateTime.of(2024, 1, 1, 0, 0), filter.getDesde());
+        // La fecha final es inclusiva: el filtro excluye desde el día siguiente
+        assertEquals(LocalDateTime.of(2024, 2, 1, 0, 0), filter.getHasta());
+    }
+
+    @Test
+    @DisplayName("Debe exportar sin filtros cuando no se envían parámetros")
+    void shouldExportWithoutFilters() {
+        // When
+        service.exportApplications(null, null, null, application -> { });
+
+        // Then
+        ArgumentCaptor<ApplicationExportFilter> captor = ArgumentCaptor.forClass(ApplicationExportFilter.class);
+        verify(exportPort).streamApplications(captor.capture(), any());
+        assertNull(captor.getValue().getEstado());
+        assertNull(captor.getValue().getDesde());
+        assertNull(captor.getValue().getHasta());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un estado inválido")
+    void shouldRejectInvalidStatus() {
+        // When & Then
+        assertThrows(BusinessRuleException.class,
+                () -> service.exportApplications("INVALIDO", null, null, application -> { }));
+        verifyNoInteractions(exportPort);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un rango de fechas invertido")
+    void shouldRejectInvertedDateRange() {
+        // When & Then
+        assertThrows(BusinessRuleException.class,
+                () -> service.exportApplications(null, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1), application -> { }));
+        verifyNoInteractions(exportPort);
+    }
+}
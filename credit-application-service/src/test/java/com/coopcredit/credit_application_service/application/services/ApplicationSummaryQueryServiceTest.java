@@ -0,0 +1,92 @@
+package com.coopcredit.credit_application_service.application.services;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.exceptions.BusinessRuleException;
+import com.coopcredit.credit_application_service.domain.model.CreditApplicationSummary;
+import com.coopcredit.credit_application_service.domain.model.CursorPage;
+import com.coopcredit.credit_application_service.domain.ports.out.ApplicationReadModelPort;
+import com.coopcredit.credit_application_service.domain.ports.out.CreditApplicationRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApplicationSummaryQueryService - Tests")
+class ApplicationSummaryQueryServiceTest {
+
+    @Mock
+    private ApplicationReadModelPort readModel;
+
+    @Mock
+    private CreditApplicationRepositoryPort applicationRepository;
+
+    @InjectMocks
+    private ApplicationSummaryQueryService service;
+
+    @Test
+    @DisplayName("Debe responder desde el modelo de lectura cuando está cargado")
+    void shouldUseReadModelWhenReady() {
+        // Given
+        when(readModel.isReady()).thenReturn(true);
+        when(readModel.findSummaryPageByEstado(ApplicationStatus.PENDIENTE, null, 3))
+                .thenReturn(List.of(summary(3L), summary(2L), summary(1L)));
+
+        // When
+        CursorPage<CreditApplicationSummary> page = service.getApplicationsPageByStatus("PENDIENTE", null, 2);
+
+        // Then
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasMore());
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    @DisplayName("Debe consultar la base mientras el modelo de lectura no está cargado")
+    void shouldFallBackToRepositoryWhileLoading() {
+        // Given
+        when(readModel.isReady()).thenReturn(false);
+        when(applicationRepository.findSummaryPageByAfiliadoId(7L, null, 21)).thenReturn(List.of(summary(1L)));
+
+        // When
+        CursorPage<CreditApplicationSummary> page = service.getApplicationsPageByAffiliate(7L, null, 20);
+
+        // Then
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasMore());
+        verify(readModel, never()).findSummaryPageByAfiliadoId(anyLong(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Sin modelo de lectura configurado todas las consultas deben ir a la base")
+    void shouldUseRepositoryWithoutReadModel() {
+        // Given
+        ApplicationSummaryQueryService withoutReadModel = new ApplicationSummaryQueryService(null, applicationRepository);
+        when(applicationRepository.findSummaryPage(null, 21)).thenReturn(List.of());
+
+        // When
+        CursorPage<CreditApplicationSummary> page = withoutReadModel.getApplicationsPage(null, 20);
+
+        // Then
+        assertTrue(page.getItems().isEmpty());
+        verify(applicationRepository).findSummaryPage(null, 21);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un estado inválido")
+    void shouldRejectInvalidStatus() {
+        assertThrows(BusinessRuleException.class, () -> service.getApplicationsPageByStatus("BORRADOR", null, 20));
+    }
+
+    private static CreditApplicationSummary summary(Long id) {
+        return CreditApplicationSummary.builder().id(id).estado(ApplicationStatus.PENDIENTE).build();
+    }
+}
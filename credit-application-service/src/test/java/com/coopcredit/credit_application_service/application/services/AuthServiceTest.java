@@ -1,7 +1,10 @@
 package com.coopcredit.credit_application_service.application.services;
 
+import com.coopcredit.credit_application_service.domain.enums.UserRole;
 import com.coopcredit.credit_application_service.domain.exceptions.BusinessRuleException;
+import com.coopcredit.credit_application_service.domain.model.Affiliate;
 import com.coopcredit.credit_application_service.domain.model.User;
+import com.coopcredit.credit_application_service.domain.ports.out.AffiliateRepositoryPort;
 import com.coopcredit.credit_application_service.domain.ports.out.UserRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,6 +28,9 @@ class AuthServiceTest {
     @Mock
     private UserRepositoryPort userRepository;
 
+    @Mock
+    private AffiliateRepositoryPort affiliateRepository;
+
     @InjectMocks
     private AuthService service;
 
@@ -39,7 +45,7 @@ class AuthServiceTest {
         adminUser.setId(1L);
         adminUser.setUsername("admin");
         adminUser.setPassword("encodedPassword123");
-        adminUser.setRole("ROLE_ADMIN");
+        adminUser.setRole(UserRole.ROLE_ADMIN);
         adminUser.setDocumento(null);
 
         // Usuario afiliado con documento
@@ -47,7 +53,7 @@ class AuthServiceTest {
         affiliateUser.setId(2L);
         affiliateUser.setUsername("juan.perez");
         affiliateUser.setPassword("encodedPassword456");
-        affiliateUser.setRole("ROLE_AFILIADO");
+        affiliateUser.setRole(UserRole.ROLE_AFILIADO);
         affiliateUser.setDocumento("1017654311");
 
         // Usuario analista
@@ -55,7 +61,7 @@ class AuthServiceTest {
         analistaUser.setId(3L);
         analistaUser.setUsername("analista1");
         analistaUser.setPassword("encodedPassword789");
-        analistaUser.setRole("ROLE_ANALISTA");
+        analistaUser.setRole(UserRole.ROLE_ANALISTA);
         analistaUser.setDocumento(null);
     }
 
@@ -76,7 +82,7 @@ class AuthServiceTest {
         // Then
         assertNotNull(result);
         assertEquals("admin", result.getUsername());
-        assertEquals("ROLE_ADMIN", result.getRole());
+        assertEquals(UserRole.ROLE_ADMIN, result.getRole());
         assertNull(result.getDocumento());
         
         // Verificar interacciones
@@ -104,7 +110,7 @@ class AuthServiceTest {
         // Then
         assertNotNull(result);
         assertEquals("juan.perez", result.getUsername());
-        assertEquals("ROLE_AFILIADO", result.getRole());
+        assertEquals(UserRole.ROLE_AFILIADO, result.getRole());
         assertEquals("1017654311", result.getDocumento());
         
         // Verificar que se validó tanto username como documento
@@ -152,10 +158,9 @@ class AuthServiceTest {
     void shouldThrowExceptionWhenEmptyUsername() {
         // Given
         adminUser.setUsername("");
-        when(userRepository.existsByUsername(anyString())).thenReturn(false);
 
         // When & Then
-        assertThrows(IllegalArgumentException.class, () -> service.registerUser(adminUser));
+        assertThrows(BusinessRuleException.class, () -> service.registerUser(adminUser));
         verify(userRepository, never()).save(any());
     }
 
@@ -166,7 +171,7 @@ class AuthServiceTest {
         adminUser.setUsername(null);
 
         // When & Then
-        assertThrows(IllegalArgumentException.class, () -> service.registerUser(adminUser));
+        assertThrows(BusinessRuleException.class, () -> service.registerUser(adminUser));
         verify(userRepository, never()).save(any());
     }
 
@@ -175,22 +180,20 @@ class AuthServiceTest {
     void shouldThrowExceptionWhenEmptyPassword() {
         // Given
         adminUser.setPassword("");
-        when(userRepository.existsByUsername("admin")).thenReturn(false);
 
         // When & Then
-        assertThrows(IllegalArgumentException.class, () -> service.registerUser(adminUser));
+        assertThrows(BusinessRuleException.class, () -> service.registerUser(adminUser));
         verify(userRepository, never()).save(any());
     }
 
     @Test
-    @DisplayName("Debe lanzar excepción cuando el role está vacío")
-    void shouldThrowExceptionWhenEmptyRole() {
+    @DisplayName("Debe lanzar excepción cuando el role es null")
+    void shouldThrowExceptionWhenNullRole() {
         // Given
-        adminUser.setRole("");
-        when(userRepository.existsByUsername("admin")).thenReturn(false);
+        adminUser.setRole(null);
 
         // When & Then
-        assertThrows(IllegalArgumentException.class, () -> service.registerUser(adminUser));
+        assertThrows(BusinessRuleException.class, () -> service.registerUser(adminUser));
         verify(userRepository, never()).save(any());
     }
 
@@ -248,7 +251,7 @@ class AuthServiceTest {
         // Then
         assertTrue(result.isPresent());
         assertEquals("admin", result.get().getUsername());
-        assertEquals("ROLE_ADMIN", result.get().getRole());
+        assertEquals(UserRole.ROLE_ADMIN, result.get().getRole());
         
         verify(userRepository, times(1)).findByUsername("admin");
     }
@@ -365,15 +368,15 @@ class AuthServiceTest {
     void shouldPerformCompleteFlow() {
         // Given
         when(userRepository.existsByUsername("newuser")).thenReturn(false);
-        when(userRepository.findByDocumento("1234567890")).thenReturn(Optional.empty());
+        // Vacío al registrar (documento libre), presente al buscar después
+        when(userRepository.findByDocumento("1234567890")).thenReturn(Optional.empty(), Optional.of(affiliateUser));
         when(userRepository.save(any(User.class))).thenReturn(affiliateUser);
         when(userRepository.findByUsername("newuser")).thenReturn(Optional.of(affiliateUser));
-        when(userRepository.findByDocumento("1234567890")).thenReturn(Optional.of(affiliateUser));
 
         User newUser = new User();
         newUser.setUsername("newuser");
         newUser.setPassword("password123");
-        newUser.setRole("ROLE_AFILIADO");
+        newUser.setRole(UserRole.ROLE_AFILIADO);
         newUser.setDocumento("1234567890");
 
         // When - Registrar
@@ -411,7 +414,7 @@ class AuthServiceTest {
             
             // Then
             assertNotNull(result);
-            assertTrue(result.getRole().startsWith("ROLE_"));
+            assertTrue(result.getRole().name().startsWith("ROLE_"));
         }
 
         // Verificar que se registraron 3 usuarios
@@ -436,4 +439,55 @@ class AuthServiceTest {
         // Solo debe haberse guardado una vez
         verify(userRepository, times(1)).save(any(User.class));
     }
+
+    // ========================================================================
+    // UPDATE PASSWORD HASH TESTS
+    // ========================================================================
+
+    @Test
+    @DisplayName("Debe guardar el usuario con el nuevo hash de contraseña")
+    void shouldSaveUserWithUpgradedHash() {
+        // Given
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        User result = service.updatePasswordHash(adminUser, "$2a$12$nuevoHash");
+
+        // Then
+        ArgumentCaptor<User> captor = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).save(captor.capture());
+        assertEquals("$2a$12$nuevoHash", captor.getValue().getPassword());
+        assertEquals("admin", result.getUsername());
+    }
+
+    // ========================================================================
+    // FIND AFFILIATE ID TESTS
+    // ========================================================================
+
+    @Test
+    @DisplayName("Debe resolver el id del afiliado por el documento del usuario afiliado")
+    void shouldFindAffiliateIdForAffiliateUser() {
+        // Given
+        Affiliate affiliate = new Affiliate();
+        affiliate.setId(42L);
+        affiliate.setDocumento("1017654311");
+        when(affiliateRepository.findByDocumento("1017654311")).thenReturn(Optional.of(affiliate));
+
+        // When
+        Optional<Long> result = service.findAffiliateId(affiliateUser);
+
+        // Then
+        assertEquals(Optional.of(42L), result);
+    }
+
+    @Test
+    @DisplayName("No debe consultar afiliados para usuarios que no son afiliados")
+    void shouldNotLookUpAffiliateForStaff() {
+        // When
+        Optional<Long> result = service.findAffiliateId(analistaUser);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(affiliateRepository);
+    }
 }
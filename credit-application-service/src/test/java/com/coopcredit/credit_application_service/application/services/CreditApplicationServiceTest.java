@@ -4,10 +4,14 @@ import com.coopcredit.credit_application_service.domain.enums.AffiliateStatus;
 import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
 import com.coopcredit.credit_application_service.domain.enums.RiskLevel;
 import com.coopcredit.credit_application_service.domain.exceptions.BusinessRuleException;
+import com.coopcredit.credit_application_service.domain.exceptions.ConcurrentUpdateException;
 import com.coopcredit.credit_application_service.domain.exceptions.ResourceNotFoundException;
 import com.coopcredit.credit_application_service.domain.model.Affiliate;
+import com.coopcredit.credit_application_service.domain.model.AffiliateExposure;
+import com.coopcredit.credit_application_service.domain.model.AffiliateSnapshot;
 import com.coopcredit.credit_application_service.domain.model.CreditApplication;
 import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.domain.ports.out.AffiliateExposurePort;
 import com.coopcredit.credit_application_service.domain.ports.out.AffiliateRepositoryPort;
 import com.coopcredit.credit_application_service.domain.ports.out.CreditApplicationRepositoryPort;
 import com.coopcredit.credit_application_service.domain.ports.out.RiskCentralPort;
@@ -44,6 +48,9 @@ class CreditApplicationServiceTest {
     @Mock
     private RiskCentralPort riskCentralPort;
 
+    @Mock
+    private AffiliateExposurePort exposurePort;
+
     @InjectMocks
     private CreditApplicationService service;
 
@@ -80,6 +87,9 @@ class CreditApplicationServiceTest {
         goodRiskEvaluation.setNivelRiesgo(RiskLevel.MEDIO);
         goodRiskEvaluation.setDetalle("Evaluación satisfactoria");
         goodRiskEvaluation.setFechaEvaluacion(LocalDateTime.now());
+
+        // Afiliado sin créditos aprobados previos
+        lenient().when(exposurePort.lockByAfiliadoId(anyLong())).thenReturn(AffiliateExposure.empty(1L));
     }
 
     // ========================================================================
@@ -151,10 +161,10 @@ class CreditApplicationServiceTest {
     void shouldValidatePositiveAmount() {
         // Given
         pendingApplication.setMontoSolicitado(new BigDecimal("-1000"));
-        when(affiliateRepository.findById(1L)).thenReturn(Optional.of(activeAffiliate));
 
-        // When & Then
-        assertThrows(IllegalArgumentException.class, () -> service.createApplication(pendingApplication));
+        // When & Then - La validación ocurre antes de consultar el afiliado
+        assertThrows(BusinessRuleException.class, () -> service.createApplication(pendingApplication));
+        verify(affiliateRepository, never()).findById(anyLong());
         verify(applicationRepository, never()).save(any());
     }
 
@@ -170,8 +180,8 @@ class CreditApplicationServiceTest {
         
         when(applicationRepository.findById(1L)).thenReturn(Optional.of(pendingApplication));
         when(affiliateRepository.findById(1L)).thenReturn(Optional.of(activeAffiliate));
-        when(riskCentralPort.evaluateRisk(anyString(), any(BigDecimal.class))).thenReturn(goodRiskEvaluation);
-        when(applicationRepository.save(any(CreditApplication.class))).thenReturn(pendingApplication);
+        when(riskCentralPort.evaluateRisk(anyString(), anyDouble(), anyInt())).thenReturn(goodRiskEvaluation);
+        when(applicationRepository.saveDecision(any(CreditApplication.class))).thenReturn(true);
 
         // When
         CreditApplication result = service.evaluateApplication(1L);
@@ -184,8 +194,8 @@ class CreditApplicationServiceTest {
         // Verificar interacciones
         verify(applicationRepository, times(1)).findById(1L);
         verify(affiliateRepository, times(1)).findById(1L);
-        verify(riskCentralPort, times(1)).evaluateRisk(eq("1017654311"), eq(new BigDecimal("10000000")));
-        verify(applicationRepository, times(1)).save(any(CreditApplication.class));
+        verify(riskCentralPort, times(1)).evaluateRisk(eq("1017654311"), eq(10000000.0), eq(36));
+        verify(applicationRepository, times(1)).saveDecision(any(CreditApplication.class));
     }
 
     @Test
@@ -195,7 +205,7 @@ class CreditApplicationServiceTest {
         activeAffiliate.setEstado(AffiliateStatus.INACTIVO);
         when(applicationRepository.findById(1L)).thenReturn(Optional.of(pendingApplication));
         when(affiliateRepository.findById(1L)).thenReturn(Optional.of(activeAffiliate));
-        when(applicationRepository.save(any(CreditApplication.class))).thenReturn(pendingApplication);
+        when(applicationRepository.saveDecision(any(CreditApplication.class))).thenReturn(true);
 
         // When
         CreditApplication result = service.evaluateApplication(1L);
@@ -204,7 +214,7 @@ class CreditApplicationServiceTest {
         assertEquals(ApplicationStatus.RECHAZADO, result.getEstado());
         assertTrue(result.getMotivoRechazo().contains("no está activo"));
         
-        verify(riskCentralPort, never()).evaluateRisk(anyString(), any(BigDecimal.class));
+        verify(riskCentralPort, never()).evaluateRisk(anyString(), anyDouble(), anyInt());
     }
 
     @Test
@@ -214,7 +224,7 @@ class CreditApplicationServiceTest {
         activeAffiliate.setFechaAfiliacion(LocalDate.now().minusMonths(3)); // Solo 3 meses
         when(applicationRepository.findById(1L)).thenReturn(Optional.of(pendingApplication));
         when(affiliateRepository.findById(1L)).thenReturn(Optional.of(activeAffiliate));
-        when(applicationRepository.save(any(CreditApplication.class))).thenReturn(pendingApplication);
+        when(applicationRepository.saveDecision(any(CreditApplication.class))).thenReturn(true);
 
         // When
         CreditApplication result = service.evaluateApplication(1L);
@@ -223,7 +233,7 @@ class CreditApplicationServiceTest {
         assertEquals(ApplicationStatus.RECHAZADO, result.getEstado());
         assertTrue(result.getMotivoRechazo().contains("antigüedad mínima"));
         
-        verify(riskCentralPort, never()).evaluateRisk(anyString(), any(BigDecimal.class));
+        verify(riskCentralPort, never()).evaluateRisk(anyString(), anyDouble(), anyInt());
     }
 
     @Test
@@ -233,16 +243,16 @@ class CreditApplicationServiceTest {
         pendingApplication.setMontoSolicitado(new BigDecimal("20000000")); // 4x salario
         when(applicationRepository.findById(1L)).thenReturn(Optional.of(pendingApplication));
         when(affiliateRepository.findById(1L)).thenReturn(Optional.of(activeAffiliate));
-        when(applicationRepository.save(any(CreditApplication.class))).thenReturn(pendingApplication);
+        when(applicationRepository.saveDecision(any(CreditApplication.class))).thenReturn(true);
 
         // When
         CreditApplication result = service.evaluateApplication(1L);
 
         // Then
         assertEquals(ApplicationStatus.RECHAZADO, result.getEstado());
-        assertTrue(result.getMotivoRechazo().contains("monto máximo"));
+        assertTrue(result.getMotivoRechazo().contains("máximo permitido"));
         
-        verify(riskCentralPort, never()).evaluateRisk(anyString(), any(BigDecimal.class));
+        verify(riskCentralPort, never()).evaluateRisk(anyString(), anyDouble(), anyInt());
     }
 
     @Test
@@ -254,17 +264,17 @@ class CreditApplicationServiceTest {
         
         when(applicationRepository.findById(1L)).thenReturn(Optional.of(pendingApplication));
         when(affiliateRepository.findById(1L)).thenReturn(Optional.of(activeAffiliate));
-        when(riskCentralPort.evaluateRisk(anyString(), any(BigDecimal.class))).thenReturn(goodRiskEvaluation);
-        when(applicationRepository.save(any(CreditApplication.class))).thenReturn(pendingApplication);
+        when(riskCentralPort.evaluateRisk(anyString(), anyDouble(), anyInt())).thenReturn(goodRiskEvaluation);
+        when(applicationRepository.saveDecision(any(CreditApplication.class))).thenReturn(true);
 
         // When
         CreditApplication result = service.evaluateApplication(1L);
 
         // Then
         assertEquals(ApplicationStatus.RECHAZADO, result.getEstado());
-        assertTrue(result.getMotivoRechazo().contains("score crediticio"));
+        assertTrue(result.getMotivoRechazo().contains("Score crediticio"));
         
-        verify(riskCentralPort, times(1)).evaluateRisk(anyString(), any(BigDecimal.class));
+        verify(riskCentralPort, times(1)).evaluateRisk(anyString(), anyDouble(), anyInt());
     }
 
     @Test
@@ -276,15 +286,15 @@ class CreditApplicationServiceTest {
         
         when(applicationRepository.findById(1L)).thenReturn(Optional.of(pendingApplication));
         when(affiliateRepository.findById(1L)).thenReturn(Optional.of(activeAffiliate));
-        when(riskCentralPort.evaluateRisk(anyString(), any(BigDecimal.class))).thenReturn(goodRiskEvaluation);
-        when(applicationRepository.save(any(CreditApplication.class))).thenReturn(pendingApplication);
+        when(riskCentralPort.evaluateRisk(anyString(), anyDouble(), anyInt())).thenReturn(goodRiskEvaluation);
+        when(applicationRepository.saveDecision(any(CreditApplication.class))).thenReturn(true);
 
         // When
         CreditApplication result = service.evaluateApplication(1L);
 
         // Then
         assertEquals(ApplicationStatus.RECHAZADO, result.getEstado());
-        assertTrue(result.getMotivoRechazo().contains("nivel de riesgo"));
+        assertTrue(result.getMotivoRechazo().contains("Nivel de riesgo"));
     }
 
     @Test
@@ -292,19 +302,19 @@ class CreditApplicationServiceTest {
     void shouldRejectApplicationWhenExcessivePaymentRatio() {
         // Given
         pendingApplication.setMontoSolicitado(new BigDecimal("15000000"));
-        pendingApplication.setPlazoMeses(12); // Plazo corto = cuota alta
+        pendingApplication.setPlazoMeses(6); // Plazo corto = cuota alta (~52% del salario)
         
         when(applicationRepository.findById(1L)).thenReturn(Optional.of(pendingApplication));
         when(affiliateRepository.findById(1L)).thenReturn(Optional.of(activeAffiliate));
-        when(riskCentralPort.evaluateRisk(anyString(), any(BigDecimal.class))).thenReturn(goodRiskEvaluation);
-        when(applicationRepository.save(any(CreditApplication.class))).thenReturn(pendingApplication);
+        when(riskCentralPort.evaluateRisk(anyString(), anyDouble(), anyInt())).thenReturn(goodRiskEvaluation);
+        when(applicationRepository.saveDecision(any(CreditApplication.class))).thenReturn(true);
 
         // When
         CreditApplication result = service.evaluateApplication(1L);
 
         // Then
         assertEquals(ApplicationStatus.RECHAZADO, result.getEstado());
-        assertTrue(result.getMotivoRechazo().contains("ratio cuota/ingreso"));
+        assertTrue(result.getMotivoRechazo().contains("Ratio cuota/ingreso"));
     }
 
     @Test
@@ -339,6 +349,27 @@ class CreditApplicationServiceTest {
         verify(affiliateRepository, never()).findById(anyLong());
     }
 
+    @Test
+    @DisplayName("Debe rechazar con conflicto cuando otra evaluación ya decidió la solicitud")
+    void shouldThrowConflictWhenApplicationDecidedConcurrently() {
+        // Given - El UPDATE condicional no encuentra la solicitud en PENDIENTE
+        pendingApplication.setPlazoMeses(60);
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(pendingApplication));
+        when(affiliateRepository.findById(1L)).thenReturn(Optional.of(activeAffiliate));
+        when(riskCentralPort.evaluateRisk(anyString(), anyDouble(), anyInt())).thenReturn(goodRiskEvaluation);
+        when(applicationRepository.saveDecision(any(CreditApplication.class))).thenReturn(false);
+
+        // When & Then
+        ConcurrentUpdateException exception = assertThrows(
+            ConcurrentUpdateException.class,
+            () -> service.evaluateApplication(1L)
+        );
+
+        assertTrue(exception.getMessage().contains("ya fue evaluada"));
+        verify(applicationRepository, times(1)).saveDecision(any(CreditApplication.class));
+        verify(applicationRepository, never()).save(any());
+    }
+
     // ========================================================================
     // GET APPLICATIONS TESTS
     // ========================================================================
@@ -391,23 +422,23 @@ class CreditApplicationServiceTest {
         when(applicationRepository.findById(1L)).thenReturn(Optional.of(pendingApplication));
 
         // When
-        CreditApplication result = service.getApplicationById(1L);
+        Optional<CreditApplication> result = service.getApplicationById(1L);
 
         // Then
-        assertNotNull(result);
-        assertEquals(1L, result.getId());
+        assertTrue(result.isPresent());
+        assertEquals(1L, result.get().getId());
         
         verify(applicationRepository, times(1)).findById(1L);
     }
 
     @Test
-    @DisplayName("Debe lanzar excepción cuando no encuentra la solicitud por ID")
-    void shouldThrowExceptionWhenApplicationByIdNotFound() {
+    @DisplayName("Debe devolver vacío cuando no encuentra la solicitud por ID")
+    void shouldReturnEmptyWhenApplicationByIdNotFound() {
         // Given
         when(applicationRepository.findById(999L)).thenReturn(Optional.empty());
 
-        // When & Then
-        assertThrows(ResourceNotFoundException.class, () -> service.getApplicationById(999L));
+        // When & Then - El controlador traduce el vacío a 404
+        assertTrue(service.getApplicationById(999L).isEmpty());
     }
 
     // ========================================================================
@@ -423,8 +454,8 @@ class CreditApplicationServiceTest {
         
         when(applicationRepository.findById(1L)).thenReturn(Optional.of(pendingApplication));
         when(affiliateRepository.findById(1L)).thenReturn(Optional.of(activeAffiliate));
-        when(riskCentralPort.evaluateRisk(anyString(), any(BigDecimal.class))).thenReturn(goodRiskEvaluation);
-        when(applicationRepository.save(any(CreditApplication.class))).thenReturn(pendingApplication);
+        when(riskCentralPort.evaluateRisk(anyString(), anyDouble(), anyInt())).thenReturn(goodRiskEvaluation);
+        when(applicationRepository.saveDecision(any(CreditApplication.class))).thenReturn(true);
 
         // When
         CreditApplication result = service.evaluateApplication(1L);
@@ -443,8 +474,8 @@ class CreditApplicationServiceTest {
         
         when(applicationRepository.findById(1L)).thenReturn(Optional.of(pendingApplication));
         when(affiliateRepository.findById(1L)).thenReturn(Optional.of(activeAffiliate));
-        when(riskCentralPort.evaluateRisk(anyString(), any(BigDecimal.class))).thenReturn(goodRiskEvaluation);
-        when(applicationRepository.save(any(CreditApplication.class))).thenReturn(pendingApplication);
+        when(riskCentralPort.evaluateRisk(anyString(), anyDouble(), anyInt())).thenReturn(goodRiskEvaluation);
+        when(applicationRepository.saveDecision(any(CreditApplication.class))).thenReturn(true);
 
         // When
         CreditApplication result = service.evaluateApplication(1L);
@@ -463,13 +494,141 @@ class CreditApplicationServiceTest {
         
         when(applicationRepository.findById(1L)).thenReturn(Optional.of(pendingApplication));
         when(affiliateRepository.findById(1L)).thenReturn(Optional.of(activeAffiliate));
-        when(riskCentralPort.evaluateRisk(anyString(), any(BigDecimal.class))).thenReturn(goodRiskEvaluation);
+        when(riskCentralPort.evaluateRisk(anyString(), anyDouble(), anyInt())).thenReturn(goodRiskEvaluation);
+        when(applicationRepository.saveDecision(any(CreditApplication.class))).thenReturn(true);
+
+        // When
+        CreditApplication result = service.evaluateApplication(1L);
+
+        // Then
+        assertEquals(ApplicationStatus.APROBADO, result.getEstado());
+    }
+
+    // ========================================================================
+    // AFFILIATE SNAPSHOT TESTS
+    // ========================================================================
+
+    @Test
+    @DisplayName("Debe guardar la copia del afiliado al crear la solicitud")
+    void shouldSnapshotAffiliateOnCreate() {
+        // Given
+        when(affiliateRepository.findById(1L)).thenReturn(Optional.of(activeAffiliate));
+        when(applicationRepository.save(any(CreditApplication.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        CreditApplication result = service.createApplication(pendingApplication);
+
+        // Then
+        AffiliateSnapshot snapshot = result.getSnapshotAfiliado();
+        assertNotNull(snapshot);
+        assertEquals("1017654311", snapshot.getDocumento());
+        assertEquals(new BigDecimal("5000000"), snapshot.getSalario());
+        assertEquals(AffiliateStatus.ACTIVO, snapshot.getEstado());
+        assertEquals(result.getFechaSolicitud(), snapshot.getFechaCaptura());
+    }
+
+    @Test
+    @DisplayName("Debe evaluar con la copia vigente sin leer el afiliado")
+    void shouldEvaluateWithFreshSnapshotWithoutLoadingAffiliate() {
+        // Given
+        pendingApplication.setPlazoMeses(60);
+        pendingApplication.setSnapshotAfiliado(AffiliateSnapshot.of(activeAffiliate, LocalDateTime.now().minusMinutes(5)));
+
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(pendingApplication));
+        when(riskCentralPort.evaluateRisk(anyString(), anyDouble(), anyInt())).thenReturn(goodRiskEvaluation);
+        when(applicationRepository.saveDecision(any(CreditApplication.class))).thenReturn(true);
+
+        // When
+        CreditApplication result = service.evaluateApplication(1L);
+
+        // Then
+        assertEquals(ApplicationStatus.APROBADO, result.getEstado());
+        verify(affiliateRepository, never()).findById(anyLong());
+        verify(riskCentralPort).evaluateRisk(eq("1017654311"), anyDouble(), eq(60));
+    }
+
+    @Test
+    @DisplayName("Debe revalidar contra el afiliado vigente cuando la copia es antigua")
+    void shouldRevalidateStaleSnapshot() {
+        // Given - La copia decía ACTIVO, pero el afiliado ya está INACTIVO
+        pendingApplication.setSnapshotAfiliado(AffiliateSnapshot.of(activeAffiliate, LocalDateTime.now().minusHours(3)));
+        Affiliate inactiveAffiliate = AffiliateSnapshot.of(activeAffiliate, LocalDateTime.now()).toAffiliate(1L);
+        inactiveAffiliate.setEstado(AffiliateStatus.INACTIVO);
+
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(pendingApplication));
+        when(affiliateRepository.findById(1L)).thenReturn(Optional.of(inactiveAffiliate));
+        when(applicationRepository.saveDecision(any(CreditApplication.class))).thenReturn(true);
+
+        // When
+        CreditApplication result = service.evaluateApplication(1L);
+
+        // Then
+        assertEquals(ApplicationStatus.RECHAZADO, result.getEstado());
+        assertEquals(AffiliateStatus.INACTIVO, result.getSnapshotAfiliado().getEstado());
+        verify(affiliateRepository, times(1)).findById(1L);
+    }
+
+    // ========================================================================
+    // AFFILIATE EXPOSURE TESTS
+    // ========================================================================
+
+    @Test
+    @DisplayName("Debe registrar la solicitud abierta en la exposición del afiliado")
+    void shouldRecordOpenedApplicationOnCreate() {
+        // Given
+        when(affiliateRepository.findById(1L)).thenReturn(Optional.of(activeAffiliate));
         when(applicationRepository.save(any(CreditApplication.class))).thenReturn(pendingApplication);
 
+        // When
+        service.createApplication(pendingApplication);
+
+        // Then
+        verify(exposurePort, times(1)).recordOpened(1L);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar cuando el endeudamiento total con créditos aprobados excede el 50%")
+    void shouldRejectApplicationWhenTotalDebtBurdenExceeded() {
+        // Given - La cuota nueva (~$225.000, 4.5%) cumple sola, pero ya tiene $2.300.000 de cuotas aprobadas
+        pendingApplication.setPlazoMeses(60);
+        AffiliateExposure exposure = AffiliateExposure.builder()
+                .afiliadoId(1L)
+                .solicitudesAbiertas(1)
+                .capitalAprobado(new BigDecimal("80000000"))
+                .cuotaMensualTotal(new BigDecimal("2300000"))
+                .build();
+
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(pendingApplication));
+        when(affiliateRepository.findById(1L)).thenReturn(Optional.of(activeAffiliate));
+        when(riskCentralPort.evaluateRisk(anyString(), anyDouble(), anyInt())).thenReturn(goodRiskEvaluation);
+        when(exposurePort.lockByAfiliadoId(1L)).thenReturn(exposure);
+        when(applicationRepository.saveDecision(any(CreditApplication.class))).thenReturn(true);
+
+        // When
+        CreditApplication result = service.evaluateApplication(1L);
+
+        // Then
+        assertEquals(ApplicationStatus.RECHAZADO, result.getEstado());
+        assertTrue(result.getMotivoRechazo().contains("Endeudamiento total"));
+        verify(exposurePort).recordDecision(1L, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("Debe sumar el capital y la cuota aprobados a la exposición del afiliado")
+    void shouldRecordApprovedAmountsOnApproval() {
+        // Given
+        pendingApplication.setPlazoMeses(60);
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(pendingApplication));
+        when(affiliateRepository.findById(1L)).thenReturn(Optional.of(activeAffiliate));
+        when(riskCentralPort.evaluateRisk(anyString(), anyDouble(), anyInt())).thenReturn(goodRiskEvaluation);
+        when(applicationRepository.saveDecision(any(CreditApplication.class))).thenReturn(true);
+
         // When
         CreditApplication result = service.evaluateApplication(1L);
 
         // Then
         assertEquals(ApplicationStatus.APROBADO, result.getEstado());
+        verify(exposurePort).lockByAfiliadoId(1L);
+        verify(exposurePort).recordDecision(1L, new BigDecimal("10000000"), pendingApplication.calcularCuotaMensual());
     }
 }
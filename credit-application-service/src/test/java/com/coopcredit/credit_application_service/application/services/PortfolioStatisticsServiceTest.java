@@ -0,0 +1,109 @@
+package com.coopcredit.credit_application_service.application.services;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.exceptions.BusinessRuleException;
+import com.coopcredit.credit_application_service.domain.model.MonthlyPortfolioTotals;
+import com.coopcredit.credit_application_service.domain.model.PortfolioStatistics;
+import com.coopcredit.credit_application_service.domain.model.PortfolioStatisticsBucket;
+import com.coopcredit.credit_application_service.domain.model.PortfolioTotals;
+import com.coopcredit.credit_application_service.domain.ports.out.PortfolioStatisticsPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PortfolioStatisticsService - Tests")
+class PortfolioStatisticsServiceTest {
+
+    @Mock
+    private PortfolioStatisticsPort statisticsPort;
+
+    @InjectMocks
+    private PortfolioStatisticsService service;
+
+    @Test
+    @DisplayName("Debe combinar los totales agregados por estado, nivel de riesgo y mes")
+    void shouldCombineBuckets() {
+        // Given
+        YearMonth actual = YearMonth.now();
+        YearMonth anterior = actual.minusMonths(1);
+        YearMonth antiguo = actual.minusYears(3);
+        when(statisticsPort.findBuckets()).thenReturn(List.of(
+                bucket(antiguo, ApplicationStatus.APROBADO, "BAJO", 10, "10000000"),
+                bucket(anterior, ApplicationStatus.APROBADO, "BAJO", 3, "3000000"),
+                bucket(anterior, ApplicationStatus.RECHAZADO, "ALTO", 1, "500000"),
+                bucket(actual, ApplicationStatus.PENDIENTE, PortfolioStatisticsBucket.SIN_EVALUAR, 2, "1500000")));
+
+        // When
+        PortfolioStatistics statistics = service.getPortfolioStatistics(3);
+
+        // Then - Totales sobre todo el histórico
+        assertEquals(16, statistics.getTotalSolicitudes());
+        assertEquals(0, new BigDecimal("15000000").compareTo(statistics.getMontoTotal()));
+        // 13 aprobadas de 14 evaluadas
+        assertEquals(new BigDecimal("92.86"), statistics.getTasaAprobacion());
+        assertEquals(List.of(13L, 2L, 1L), cantidades(statistics.getPorEstado(), "APROBADO", "PENDIENTE", "RECHAZADO"));
+        assertEquals(List.of(13L, 0L, 1L, 2L), cantidades(statistics.getPorNivelRiesgo(), "BAJO", "MEDIO", "ALTO", "SIN_EVALUAR"));
+
+        // Serie mensual: solo los últimos 3 meses, con ceros en los meses sin solicitudes
+        List<MonthlyPortfolioTotals> mensual = statistics.getMensual();
+        assertEquals(List.of(actual.minusMonths(2).toString(), anterior.toString(), actual.toString()),
+                mensual.stream().map(MonthlyPortfolioTotals::getMes).toList());
+        assertEquals(0, mensual.get(0).getCantidad());
+        assertEquals(3, mensual.get(1).getAprobadas());
+        assertEquals(1, mensual.get(1).getRechazadas());
+        assertEquals(2, mensual.get(2).getPendientes());
+    }
+
+    @Test
+    @DisplayName("La tasa de aprobación debe ser cero sin solicitudes evaluadas")
+    void approvalRateShouldBeZeroWithoutEvaluations() {
+        // Given
+        when(statisticsPort.findBuckets()).thenReturn(List.of());
+
+        // When
+        PortfolioStatistics statistics = service.getPortfolioStatistics(12);
+
+        // Then
+        assertEquals(0, statistics.getTotalSolicitudes());
+        assertEquals(BigDecimal.ZERO, statistics.getTasaAprobacion());
+        assertEquals(12, statistics.getMensual().size());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una serie mensual fuera de rango")
+    void shouldRejectInvalidMonths() {
+        assertThrows(BusinessRuleException.class, () -> service.getPortfolioStatistics(0));
+        assertThrows(BusinessRuleException.class, () -> service.getPortfolioStatistics(121));
+        verifyNoInteractions(statisticsPort);
+    }
+
+    private List<Long> cantidades(List<PortfolioTotals> totals, String... grupos) {
+        return List.of(grupos).stream()
+                .map(grupo -> totals.stream()
+                        .filter(total -> total.getGrupo().equals(grupo))
+                        .findFirst().orElseThrow().getCantidad())
+                .toList();
+    }
+
+    private PortfolioStatisticsBucket bucket(YearMonth mes, ApplicationStatus estado, String nivel,
+                                             long cantidad, String monto) {
+        return PortfolioStatisticsBucket.builder()
+                .mes(mes.atDay(1))
+                .estado(estado)
+                .nivelRiesgo(nivel)
+                .cantidad(cantidad)
+                .montoTotal(new BigDecimal(monto))
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.coopcredit.credit_application_service.infrastructure.adapters.inprocess;
+
+import com.coopcredit.credit_application_service.domain.enums.RiskLevel;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InProcessRiskCentralAdapter - Tests")
+class InProcessRiskCentralAdapterTest {
+
+    private InProcessRiskCentralAdapter adapter;
+
+    @AfterEach
+    void tearDown() {
+        if (adapter != null) {
+            adapter.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe generar el mismo score que el servicio mock para el mismo documento")
+    void shouldGenerateDeterministicScore() {
+        // Given
+        adapter = new InProcessRiskCentralAdapter(0, 0, 1000, 1);
+
+        // When
+        RiskEvaluation first = adapter.evaluateRisk("1017654311", 5000000.0, 36);
+        RiskEvaluation second = adapter.evaluateRisk("1017654311", 10000000.0, 12);
+
+        // Then
+        int expectedScore = 300 + ((Math.abs("1017654311".hashCode()) % 1000) % 651);
+        assertEquals(expectedScore, first.getScore());
+        assertEquals(first.getScore(), second.getScore());
+        assertEquals(first.getNivelRiesgo(), second.getNivelRiesgo());
+        assertEquals("1017654311", first.getDocumento());
+        assertNotNull(first.getFechaEvaluacion());
+    }
+
+    @Test
+    @DisplayName("Debe clasificar el nivel de riesgo según el score")
+    void shouldClassifyRiskLevelByScore() {
+        // Given
+        adapter = new InProcessRiskCentralAdapter(0, 0, 1000, 1);
+
+        // When & Then
+        for (int i = 0; i < 200; i++) {
+            RiskEvaluation evaluation = adapter.evaluateRisk(String.format("%010d", i), 5000000.0, 36);
+
+            assertTrue(evaluation.getScore() >= 300 && evaluation.getScore() <= 950);
+            if (evaluation.getScore() <= 500) {
+                assertEquals(RiskLevel.ALTO, evaluation.getNivelRiesgo());
+            } else if (evaluation.getScore() <= 700) {
+                assertEquals(RiskLevel.MEDIO, evaluation.getNivelRiesgo());
+            } else {
+                assertEquals(RiskLevel.BAJO, evaluation.getNivelRiesgo());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Debe manejar documento null con el seed por defecto")
+    void shouldHandleNullDocument() {
+        // Given
+        adapter = new InProcessRiskCentralAdapter(0, 0, 1000, 1);
+
+        // When
+        RiskEvaluation evaluation = adapter.evaluateRisk(null, 5000000.0, 36);
+
+        // Then
+        assertEquals(800, evaluation.getScore());
+        assertEquals(RiskLevel.BAJO, evaluation.getNivelRiesgo());
+    }
+
+    @Test
+    @DisplayName("Debe aplicar la latencia sintética configurada")
+    void shouldApplySyntheticLatency() {
+        // Given
+        adapter = new InProcessRiskCentralAdapter(40, 0, 1000, 1);
+
+        // When
+        long start = System.nanoTime();
+        RiskEvaluation evaluation = adapter.evaluateRisk("1023456789", 5000000.0, 36);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertNotNull(evaluation);
+        assertTrue(elapsedMs >= 40, "La respuesta debe llegar tras la latencia configurada, tardó: " + elapsedMs);
+    }
+
+    @Test
+    @DisplayName("Debe fallar cuando la latencia supera el timeout")
+    void shouldFailWhenLatencyExceedsTimeout() {
+        // Given
+        adapter = new InProcessRiskCentralAdapter(200, 0, 20, 1);
+
+        // When & Then
+        RuntimeException exception = assertThrows(
+            RuntimeException.class,
+            () -> adapter.evaluateRisk("1023456789", 5000000.0, 36)
+        );
+        assertTrue(exception.getMessage().contains("central de riesgo"));
+    }
+}
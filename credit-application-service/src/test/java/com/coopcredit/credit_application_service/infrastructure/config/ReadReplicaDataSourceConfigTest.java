@@ -0,0 +1,58 @@
+package com.coopcredit.credit_application_service.infrastructure.config;
+
+import com.coopcredit.credit_application_service.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.coopcredit.credit_application_service.infrastructure.datasource.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del cableado de réplicas de lectura con y sin pools por carga de trabajo
+ * Primario y réplica son bases H2 en memoria; el monitor de retraso no se programa
+ */
+@DisplayName("ReadReplicaDataSourceConfig - Tests")
+class ReadReplicaDataSourceConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(ReadReplicaDataSourceConfig.class, WorkloadDataSourceConfig.class)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:h2:mem:primary-config;DB_CLOSE_DELAY=-1",
+                    "spring.datasource.username=sa",
+                    "spring.datasource.password=",
+                    "datasource.replicas.enabled=true",
+                    "datasource.replicas.nodes[0].name=replica-1",
+                    "datasource.replicas.nodes[0].url=jdbc:h2:mem:replica-config;DB_CLOSE_DELAY=-1",
+                    "datasource.replicas.nodes[0].username=sa",
+                    "datasource.replicas.nodes[0].password=");
+
+    @Test
+    @DisplayName("Sin pools por carga de trabajo, las lecturas deben caer al pool del primario")
+    void withoutWorkloadsShouldFallBackToPrimaryPool() {
+        contextRunner.run(context -> {
+            // Then
+            HikariDataSource primary = context.getBean("primaryDataSource", HikariDataSource.class);
+            ReplicaRoutingDataSource replicas = context.getBean(ReplicaRoutingDataSource.class);
+            assertSame(primary, replicas.getResolvedDefaultDataSource());
+            assertFalse(context.containsBean("workloadRoutingDataSource"));
+        });
+    }
+
+    @Test
+    @DisplayName("Con pools por carga de trabajo no debe crear el pool del primario")
+    void withWorkloadsShouldFallBackToWorkloadRouter() {
+        contextRunner.withPropertyValues("datasource.workloads.enabled=true").run(context -> {
+            // Then - El respaldo de las lecturas es el pool de la carga actual
+            WorkloadRoutingDataSource workloads = context.getBean(WorkloadRoutingDataSource.class);
+            ReplicaRoutingDataSource replicas = context.getBean(ReplicaRoutingDataSource.class);
+            assertSame(workloads, replicas.getResolvedDefaultDataSource());
+            assertFalse(context.containsBean("primaryDataSource"));
+            assertEquals(0, context.getBeansOfType(HikariDataSource.class).size());
+        });
+    }
+}
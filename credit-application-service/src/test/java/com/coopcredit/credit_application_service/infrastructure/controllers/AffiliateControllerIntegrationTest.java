@@ -433,6 +433,20 @@ class AffiliateControllerIntegrationTest {
         verify(affiliateUseCase, times(1)).changeStatus(1L, "INACTIVO");
     }
 
+    @Test
+    @WithMockUser(authorities = "ROLE_AFILIADO")
+    @DisplayName("Debe retornar 403 cuando AFILIADO intenta cambiar estado, aunque sea el suyo")
+    void shouldReturn403WhenAfiliadoTriesToChangeStatus() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/api/affiliates/1/status")
+                .with(csrf())
+                .param("newStatus", "INACTIVO")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isForbidden());
+
+        verify(affiliateUseCase, never()).changeStatus(anyLong(), anyString());
+    }
+
     @Test
     @WithMockUser(authorities = "ROLE_ADMIN")
     @DisplayName("Debe retornar 400 cuando el estado es inválido")
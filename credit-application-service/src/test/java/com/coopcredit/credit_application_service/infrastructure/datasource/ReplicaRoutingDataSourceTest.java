@@ -0,0 +1,145 @@
+package com.coopcredit.credit_application_service.infrastructure.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del enrutamiento a réplicas con bases H2 en memoria como primario y réplicas
+ * Cada base tiene una tabla con su nombre para identificar a dónde llegó la consulta
+ */
+@DisplayName("ReplicaRoutingDataSource - Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private static final long MAX_LAG_MS = 1000;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaPool replica1;
+    private ReplicaPool replica2;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTx;
+    private TransactionTemplate readWriteTx;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DataSource primary = database("primary");
+        replica1 = new ReplicaPool("replica-1", database("replica-1"));
+        replica2 = new ReplicaPool("replica-2", database("replica-2"));
+        replica1.updateLag(0);
+        replica2.updateLag(0);
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                primary, List.of(replica1, replica2), MAX_LAG_MS, meterRegistry);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(routing);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        readWriteTx = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("Debe enviar las transacciones de solo lectura a una réplica")
+    void readOnlyTransactionShouldUseReplica() {
+        // When
+        String node = readOnlyTx.execute(status -> currentNode());
+
+        // Then
+        assertTrue(node.startsWith("replica-"), "Lectura servida por: " + node);
+    }
+
+    @Test
+    @DisplayName("Debe enviar las transacciones de escritura al primario")
+    void readWriteTransactionShouldUsePrimary() {
+        // When
+        String node = readWriteTx.execute(status -> currentNode());
+
+        // Then
+        assertEquals("primary", node);
+    }
+
+    @Test
+    @DisplayName("Debe repartir las lecturas entre las réplicas")
+    void shouldRoundRobinAcrossReplicas() {
+        // When
+        String first = readOnlyTx.execute(status -> currentNode());
+        String second = readOnlyTx.execute(status -> currentNode());
+
+        // Then
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("Debe omitir la réplica que supera el retraso tolerado")
+    void shouldSkipLaggingReplica() {
+        // Given
+        replica1.updateLag(MAX_LAG_MS + 1);
+
+        // When & Then
+        for (int i = 0; i < 4; i++) {
+            assertEquals("replica-2", readOnlyTx.execute(status -> currentNode()));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe leer del primario cuando todas las réplicas están retrasadas")
+    void shouldFallBackToPrimaryWhenAllReplicasLag() {
+        // Given
+        replica1.updateLag(MAX_LAG_MS + 1);
+        replica2.markUnavailable();
+
+        // When
+        String node = readOnlyTx.execute(status -> currentNode());
+
+        // Then
+        assertEquals("primary", node);
+        assertEquals(1.0, meterRegistry.get("datasource.read.routed").tag("target", "primary").counter().count());
+    }
+
+    @Test
+    @DisplayName("El monitor debe excluir réplicas cuya medición falla y reincorporarlas al recuperarse")
+    void lagMonitorShouldTrackReplicaAvailability() {
+        // Given - La consulta de PostgreSQL no existe en H2: la medición falla
+        new ReplicaLagMonitor(List.of(replica1, replica2), ReplicaLagMonitor.POSTGRES_LAG_QUERY).refresh();
+
+        // Then
+        assertEquals(ReplicaPool.UNKNOWN_LAG, replica1.getLagMs());
+        assertEquals("primary", readOnlyTx.execute(status -> currentNode()));
+
+        // When - Medición válida
+        new ReplicaLagMonitor(List.of(replica1, replica2), "SELECT 250").refresh();
+
+        // Then
+        assertEquals(250, replica1.getLagMs());
+        assertEquals(250.0, meterRegistry.get("datasource.replica.lag").tag("pool", "replica-1").gauge().value());
+        assertTrue(readOnlyTx.execute(status -> currentNode()).startsWith("replica-"));
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        jdbc.execute("DELETE FROM node");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
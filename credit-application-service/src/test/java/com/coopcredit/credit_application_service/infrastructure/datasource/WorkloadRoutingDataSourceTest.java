@@ -0,0 +1,135 @@
+package com.coopcredit.credit_application_service.infrastructure.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del enrutamiento por carga de trabajo con una base H2 en memoria por pool
+ * Cada base tiene una tabla con su nombre para identificar a dónde llegó la consulta
+ */
+@DisplayName("WorkloadRoutingDataSource - Tests")
+class WorkloadRoutingDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        WorkloadRoutingDataSource routing = new WorkloadRoutingDataSource(
+                database("workload-default"),
+                Map.of(Workload.AUTH, database("workload-auth"),
+                       Workload.EVALUATION, database("workload-evaluation")),
+                meterRegistry);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        // Como WorkloadDataSourceConfig: las propiedades por defecto se leen antes de fijar cargas
+        dataSource.checkDefaultConnectionProperties();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    @DisplayName("Debe usar el pool de la carga de trabajo del hilo")
+    void shouldRouteToWorkloadPool() {
+        // When
+        String auth = WorkloadContext.call(Workload.AUTH, this::currentNode);
+        String evaluation = WorkloadContext.call(Workload.EVALUATION,
+                () -> transactionTemplate.execute(status -> currentNode()));
+
+        // Then
+        assertEquals("workload-auth", auth);
+        assertEquals("workload-evaluation", evaluation);
+        assertEquals(1.0, meterRegistry.get("datasource.workload.routed").tag("pool", "auth").counter().count());
+    }
+
+    @Test
+    @DisplayName("La métrica debe contar una vez cada conexión entregada")
+    void shouldCountEachConnectionOnce() {
+        // When
+        WorkloadContext.run(Workload.AUTH, () -> {
+            currentNode();
+            currentNode();
+        });
+        WorkloadContext.call(Workload.EVALUATION, () -> transactionTemplate.execute(status -> {
+            currentNode();
+            return currentNode();
+        }));
+
+        // Then - Dos sentencias sueltas son dos conexiones; la transacción usa una sola
+        assertEquals(2.0, routed("auth"));
+        assertEquals(1.0, routed("evaluation"));
+        assertEquals(1.0, routed(WorkloadRoutingDataSource.DEFAULT), "solo la lectura de propiedades por defecto");
+    }
+
+    @Test
+    @DisplayName("Sin carga fijada o sin pool propio debe usar el pool por defecto")
+    void shouldFallBackToDefaultPool() {
+        // When
+        String none = currentNode();
+        String reporting = WorkloadContext.call(Workload.REPORTING, this::currentNode);
+
+        // Then
+        assertEquals("workload-default", none);
+        assertEquals("workload-default", reporting);
+        assertNull(WorkloadContext.current());
+    }
+
+    @Test
+    @DisplayName("La conexión de una transacción no debe cambiar de pool al anidar otra carga")
+    void transactionShouldKeepItsPool() {
+        // When
+        String[] nodes = WorkloadContext.call(Workload.EVALUATION, () -> transactionTemplate.execute(status -> {
+            String first = currentNode();
+            String nested = WorkloadContext.call(Workload.AUTH, this::currentNode);
+            return new String[] {first, nested};
+        }));
+
+        // Then
+        assertEquals("workload-evaluation", nodes[0]);
+        assertEquals("workload-evaluation", nodes[1]);
+    }
+
+    @Test
+    @DisplayName("El filtro debe asignar la carga según el endpoint")
+    void filterShouldResolveWorkloadByEndpoint() {
+        assertEquals(Workload.AUTH, WorkloadRoutingFilter.resolve("POST", "/api/auth/login"));
+        assertEquals(Workload.EVALUATION, WorkloadRoutingFilter.resolve("POST", "/api/applications"));
+        assertEquals(Workload.EVALUATION, WorkloadRoutingFilter.resolve("POST", "/api/applications/15/evaluate"));
+        assertEquals(Workload.REPORTING, WorkloadRoutingFilter.resolve("GET", "/api/applications/export"));
+        assertEquals(Workload.REPORTING, WorkloadRoutingFilter.resolve("GET", "/api/statistics/portfolio"));
+        assertNull(WorkloadRoutingFilter.resolve("GET", "/api/applications/15"));
+        assertNull(WorkloadRoutingFilter.resolve("GET", "/api/affiliates/page"));
+    }
+
+    private double routed(String pool) {
+        return meterRegistry.get("datasource.workload.routed").tag("pool", pool).counter().count();
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(30))");
+        jdbc.execute("DELETE FROM node");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,155 @@
+package com.coopcredit.credit_application_service.infrastructure.readmodel;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.enums.RiskLevel;
+import com.coopcredit.credit_application_service.domain.model.ApplicationCursor;
+import com.coopcredit.credit_application_service.domain.model.CreditApplicationSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del almacenamiento en columnas del modelo de lectura de solicitudes
+ * La memoria y latencia con 1.000.000 de solicitudes se miden en ApplicationSummaryStoreBenchmark (perfil jmh)
+ */
+@DisplayName("ApplicationSummaryStore - Tests")
+class ApplicationSummaryStoreTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    @Test
+    @DisplayName("Debe paginar de la más reciente a la más antigua continuando después del cursor")
+    void shouldPageNewestFirstAfterCursor() {
+        // Given - Dos solicitudes con la misma fecha: desempata el id
+        ApplicationSummaryStore store = new ApplicationSummaryStore(4);
+        store.upsert(summary(1, 10, BASE, ApplicationStatus.PENDIENTE));
+        store.upsert(summary(3, 10, BASE.plusMinutes(5), ApplicationStatus.PENDIENTE));
+        store.upsert(summary(2, 11, BASE.plusMinutes(5), ApplicationStatus.PENDIENTE));
+        store.upsert(summary(4, 11, BASE.plusMinutes(1), ApplicationStatus.PENDIENTE));
+
+        // When
+        List<CreditApplicationSummary> first = store.page(null, 2);
+        List<CreditApplicationSummary> second = store.page(cursor(first), 2);
+        List<CreditApplicationSummary> last = store.page(cursor(second), 2);
+
+        // Then
+        assertEquals(List.of(3L, 2L), ids(first));
+        assertEquals(List.of(4L, 1L), ids(second));
+        assertTrue(last.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe mover la solicitud entre índices de estado al decidirla")
+    void shouldMoveBetweenStatusIndexes() {
+        // Given
+        ApplicationSummaryStore store = new ApplicationSummaryStore(4);
+        store.upsert(summary(1, 10, BASE, ApplicationStatus.PENDIENTE));
+        store.upsert(summary(2, 10, BASE.plusMinutes(1), ApplicationStatus.PENDIENTE));
+
+        // When
+        CreditApplicationSummary decided = summary(1, 10, BASE, ApplicationStatus.APROBADO);
+        decided.setScore(780);
+        decided.setNivelRiesgo(RiskLevel.BAJO);
+        store.upsert(decided);
+
+        // Then
+        assertEquals(List.of(2L), ids(store.pageByEstado(ApplicationStatus.PENDIENTE, null, 10)));
+        List<CreditApplicationSummary> aprobadas = store.pageByEstado(ApplicationStatus.APROBADO, null, 10);
+        assertEquals(List.of(1L), ids(aprobadas));
+        assertEquals(780, aprobadas.get(0).getScore());
+        assertEquals(RiskLevel.BAJO, aprobadas.get(0).getNivelRiesgo());
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    @DisplayName("Un evento PENDIENTE atrasado no debe revertir una solicitud decidida")
+    void shouldIgnoreLatePendingEvent() {
+        // Given
+        ApplicationSummaryStore store = new ApplicationSummaryStore(4);
+        store.upsert(summary(1, 10, BASE, ApplicationStatus.RECHAZADO));
+
+        // When
+        store.upsert(summary(1, 10, BASE, ApplicationStatus.PENDIENTE));
+
+        // Then
+        assertTrue(store.pageByEstado(ApplicationStatus.PENDIENTE, null, 10).isEmpty());
+        assertEquals(ApplicationStatus.RECHAZADO, store.page(null, 1).get(0).getEstado());
+    }
+
+    @Test
+    @DisplayName("Debe filtrar por afiliado y conservar montos, tasa y fecha")
+    void shouldFilterByAffiliateAndRoundTripValues() {
+        // Given - Fecha con nanosegundos: se guarda redondeada al microsegundo como en PostgreSQL
+        ApplicationSummaryStore store = new ApplicationSummaryStore(2);
+        CreditApplicationSummary original = summary(7, 42, BASE.withNano(123_456_789), ApplicationStatus.PENDIENTE);
+        store.upsert(original);
+        store.upsert(summary(8, 43, BASE, ApplicationStatus.PENDIENTE));
+        store.upsert(summary(9, 42, BASE.minusDays(1), ApplicationStatus.PENDIENTE));
+
+        // When
+        List<CreditApplicationSummary> rows = store.pageByAfiliadoId(42, null, 10);
+
+        // Then
+        assertEquals(List.of(7L, 9L), ids(rows));
+        CreditApplicationSummary stored = rows.get(0);
+        assertEquals(0, original.getMontoSolicitado().compareTo(stored.getMontoSolicitado()));
+        assertEquals(0, original.getTasaPropuesta().compareTo(stored.getTasaPropuesta()));
+        assertEquals(36, stored.getPlazoMeses());
+        assertEquals(BASE.withNano(123_457_000), stored.getFechaSolicitud());
+        assertNull(stored.getScore());
+        assertTrue(store.pageByAfiliadoId(99, null, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("La estimación de memoria debe quedar por debajo de 128 bytes por solicitud")
+    void shouldEstimateUnder128BytesPerApplication() {
+        // Given - 100.000 solicitudes de 10.000 afiliados en el orden en que llegan (por fecha)
+        int applications = 100_000;
+        int affiliates = 10_000;
+        Random random = new Random(42);
+        ApplicationStatus[] estados = ApplicationStatus.values();
+
+        // When
+        ApplicationSummaryStore store = new ApplicationSummaryStore(applications);
+        for (int i = 1; i <= applications; i++) {
+            CreditApplicationSummary row = summary(i, 1 + random.nextInt(affiliates),
+                    BASE.plusSeconds(i * 30L), estados[random.nextInt(estados.length)]);
+            if (row.getEstado() != ApplicationStatus.PENDIENTE) {
+                row.setScore(300 + random.nextInt(651));
+                row.setNivelRiesgo(RiskLevel.values()[random.nextInt(3)]);
+            }
+            store.upsert(row);
+        }
+
+        // Then - Columnas (42 bytes) + índice por id (~24) + tres listas de slots + afiliados
+        long estimated = store.estimatedBytes();
+        assertEquals(applications, store.size());
+        assertTrue(estimated / store.size() < 128, "bytes por solicitud: " + estimated / store.size());
+    }
+
+    private static ApplicationCursor cursor(List<CreditApplicationSummary> page) {
+        return ApplicationCursor.after(page.get(page.size() - 1));
+    }
+
+    private static List<Long> ids(List<CreditApplicationSummary> rows) {
+        return rows.stream().map(CreditApplicationSummary::getId).toList();
+    }
+
+    private static CreditApplicationSummary summary(long id, long afiliadoId, LocalDateTime fecha, ApplicationStatus estado) {
+        return CreditApplicationSummary.builder()
+                .id(id)
+                .afiliadoId(afiliadoId)
+                .montoSolicitado(new BigDecimal("10000000.50"))
+                .plazoMeses(36)
+                .tasaPropuesta(new BigDecimal("12.5"))
+                .fechaSolicitud(fecha)
+                .estado(estado)
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.coopcredit.credit_application_service.infrastructure.readmodel;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del archivo de resúmenes mapeado en memoria
+ * La escritura y el recorrido con 1.000.000 de registros se miden en MappedSummaryFileBenchmark (src/jmh)
+ */
+@DisplayName("MappedSummaryFile - Tests")
+class MappedSummaryFileTest {
+
+    private static final byte APROBADO = (byte) ApplicationStatus.APROBADO.ordinal();
+    private static final byte PENDIENTE = (byte) ApplicationStatus.PENDIENTE.ordinal();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Debe leer cada campo tal como se escribió")
+    void shouldReadFieldsAsWritten() throws IOException {
+        try (MappedSummaryFile file = MappedSummaryFile.open(dir.resolve("summaries.dat"), 4)) {
+            // When
+            long record = file.append(7, 42, 1_000_000_050L, 1_700_000_000_123_456L, 1_700_000_100_000_000L,
+                    (short) 1250, (short) 780, (short) 36, APROBADO, (byte) 0);
+
+            // Then
+            assertEquals(0, record);
+            assertEquals(1, file.count());
+            assertEquals(7, file.id(record));
+            assertEquals(42, file.afiliadoId(record));
+            assertEquals(1_000_000_050L, file.montoCentavos(record));
+            assertEquals(1_700_000_000_123_456L, file.fechaSolicitud(record));
+            assertEquals(1_700_000_100_000_000L, file.fechaRegistro(record));
+            assertEquals(1250, file.tasaCentesimas(record));
+            assertEquals(780, file.score(record));
+            assertEquals(36, file.plazo(record));
+            assertEquals(APROBADO, file.estado(record));
+            assertEquals(0, file.nivel(record));
+            assertFalse(file.isSuperseded(record));
+            assertThrows(IndexOutOfBoundsException.class, () -> file.id(1));
+        }
+    }
+
+    @Test
+    @DisplayName("La marca de reemplazado no debe alterar el estado del registro")
+    void shouldMarkSupersededKeepingEstado() throws IOException {
+        try (MappedSummaryFile file = MappedSummaryFile.open(dir.resolve("summaries.dat"), 4)) {
+            long pending = append(file, 1, PENDIENTE, 10);
+            long decided = append(file, 1, APROBADO, 20);
+
+            // When
+            file.markSuperseded(pending);
+
+            // Then
+            assertTrue(file.isSuperseded(pending));
+            assertEquals(PENDIENTE, file.estado(pending));
+            assertFalse(file.isSuperseded(decided));
+        }
+    }
+
+    @Test
+    @DisplayName("Al reabrir debe conservar registros de varios segmentos, marcas y última fecha")
+    void shouldReopenAcrossSegments() throws IOException {
+        // Given - 10 registros en segmentos de 4
+        Path path = dir.resolve("summaries.dat");
+        try (MappedSummaryFile file = MappedSummaryFile.open(path, 4)) {
+            for (int i = 1; i <= 10; i++) {
+                append(file, i, PENDIENTE, i * 100L);
+            }
+            file.markSuperseded(5);
+        }
+
+        // When
+        try (MappedSummaryFile reopened = MappedSummaryFile.open(path, 4)) {
+            // Then
+            assertEquals(10, reopened.count());
+            assertEquals(1_000, reopened.lastAppend());
+            for (int i = 0; i < 10; i++) {
+                assertEquals(i + 1, reopened.id(i));
+                assertEquals(i == 5, reopened.isSuperseded(i));
+            }
+            append(reopened, 11, APROBADO, 1_100);
+            assertEquals(11, reopened.id(10));
+        }
+        assertEquals(MappedSummaryFile.HEADER_SIZE + 12L * MappedSummaryFile.RECORD_SIZE, Files.size(path));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un archivo con otro tamaño de segmento o formato")
+    void shouldRejectIncompatibleFile() throws IOException {
+        Path path = dir.resolve("summaries.dat");
+        MappedSummaryFile.open(path, 4).close();
+        Path other = dir.resolve("other.dat");
+        Files.write(other, new byte[MappedSummaryFile.HEADER_SIZE]);
+
+        assertThrows(IllegalStateException.class, () -> MappedSummaryFile.open(path, 8));
+        assertThrows(IllegalStateException.class, () -> MappedSummaryFile.open(other, 4));
+    }
+
+    private static long append(MappedSummaryFile file, long id, byte estado, long fechaRegistro) throws IOException {
+        return file.append(id, 10, 100_000_000L, 1_000, fechaRegistro, (short) 1250,
+                ArchivedApplicationRecord.SIN_SCORE, (short) 36, estado, ArchivedApplicationRecord.SIN_NIVEL);
+    }
+}
@@ -0,0 +1,82 @@
+package com.coopcredit.credit_application_service.infrastructure.security.services;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del servicio JWT
+ * El costo por petición (tres parseos contra uno) se mide en JwtServiceBenchmark con el perfil jmh
+ */
+@DisplayName("JwtService - Tests")
+class JwtServiceTest {
+
+    private static final String SECRET = "mySecretKeyForCoopCreditSystemMustBeLongEnough12345678901234567890";
+
+    private final JwtService jwtService = new JwtService(SECRET, 3_600_000);
+
+    @Test
+    @DisplayName("Debe devolver usuario, rol y expiración de un token válido")
+    void shouldParseValidToken() {
+        // Given
+        Instant before = Instant.now();
+        String token = jwtService.generateToken("analista1", "ROLE_ANALISTA");
+
+        // When
+        Optional<JwtPrincipal> principal = jwtService.parseToken(token);
+
+        // Then
+        assertTrue(principal.isPresent());
+        assertEquals("analista1", principal.get().username());
+        assertEquals("ROLE_ANALISTA", principal.get().role());
+        assertTrue(principal.get().expiration().isAfter(before.plusSeconds(3_500)));
+    }
+
+    @Test
+    @DisplayName("Debe firmar el afiliadoId y el documento solo en tokens de afiliados")
+    void shouldCarryAffiliateClaims() {
+        // Given
+        String affiliateToken = jwtService.generateToken("juan.perez", "ROLE_AFILIADO", 42L, "1017654311");
+        String staffToken = jwtService.generateToken("analista1", "ROLE_ANALISTA");
+
+        // When
+        JwtPrincipal affiliate = jwtService.parseToken(affiliateToken).orElseThrow();
+        JwtPrincipal staff = jwtService.parseToken(staffToken).orElseThrow();
+
+        // Then
+        assertEquals(42L, affiliate.afiliadoId());
+        assertEquals("1017654311", affiliate.documento());
+        assertEquals("juan.perez", affiliate.getName());
+        assertNull(staff.afiliadoId());
+        assertNull(staff.documento());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar tokens expirados, con otra firma o malformados")
+    void shouldRejectInvalidTokens() {
+        // Given
+        String expired = new JwtService(SECRET, -1_000).generateToken("analista1", "ROLE_ANALISTA");
+        String otherKey = Jwts.builder()
+                .setSubject("analista1")
+                .claim("role", "ROLE_ADMIN")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor("otraClaveSecretaDeAlMenosTreintaYDosBytes!!".getBytes(StandardCharsets.UTF_8)),
+                        SignatureAlgorithm.HS256)
+                .compact();
+
+        // Then
+        assertTrue(jwtService.parseToken(expired).isEmpty());
+        assertTrue(jwtService.parseToken(otherKey).isEmpty());
+        assertTrue(jwtService.parseToken("no.es.un.token").isEmpty());
+        assertTrue(jwtService.parseToken("").isEmpty());
+    }
+}
@@ -0,0 +1,62 @@
+package com.coopcredit.credit_application_service.infrastructure.security.services;
+
+import com.coopcredit.credit_application_service.infrastructure.exceptions.LoginThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del límite de intentos de login por IP y por username
+ */
+@DisplayName("LoginThrottle - Tests")
+class LoginThrottleTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("No debe cobrar al username los logins exitosos")
+    void successfulLoginsShouldNotSpendUsernameAttempts() {
+        // Given - 5 intentos por username, 100 por IP
+        LoginThrottle throttle = new LoginThrottle(meterRegistry, 16, 100, 100, 5, 5);
+
+        // When & Then - Diez logins exitosos seguidos del mismo usuario
+        for (int i = 0; i < 10; i++) {
+            assertDoesNotThrow(() -> throttle.check("juan.perez", "10.0.0.1"));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe bloquear el username tras agotar sus intentos fallidos")
+    void shouldRejectUsernameAfterFailedAttempts() {
+        // Given
+        LoginThrottle throttle = new LoginThrottle(meterRegistry, 16, 100, 100, 5, 5);
+
+        // When - Cinco contraseñas incorrectas desde distintas IP
+        for (int i = 0; i < 5; i++) {
+            throttle.check("juan.perez", "10.0.0." + i);
+            throttle.recordFailure("juan.perez");
+        }
+
+        // Then
+        LoginThrottledException exception = assertThrows(LoginThrottledException.class,
+                () -> throttle.check("juan.perez", "10.0.0.9"));
+        assertTrue(exception.getRetryAfterSeconds() >= 1);
+        assertEquals(1.0, meterRegistry.get("auth.login.rejected").tag("reason", "username").counter().count());
+    }
+
+    @Test
+    @DisplayName("Debe cobrar a la IP cada intento, exitoso o no")
+    void shouldSpendIpAttemptOnEveryCheck() {
+        // Given - 3 intentos por IP
+        LoginThrottle throttle = new LoginThrottle(meterRegistry, 16, 3, 3, 5, 5);
+        for (int i = 0; i < 3; i++) {
+            throttle.check("usuario" + i, "10.0.0.1");
+        }
+
+        // When & Then
+        assertThrows(LoginThrottledException.class, () -> throttle.check("otro", "10.0.0.1"));
+        assertEquals(1.0, meterRegistry.get("auth.login.rejected").tag("reason", "ip").counter().count());
+    }
+}
@@ -0,0 +1,60 @@
+package com.coopcredit.credit_application_service.infrastructure.security.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la validación de propiedad a partir de los claims del token
+ */
+@DisplayName("OwnershipGuard - Tests")
+class OwnershipGuardTest {
+
+    private final Authentication afiliado = authentication(
+            new JwtPrincipal("juan.perez", "ROLE_AFILIADO", 42L, "1017654311", Instant.now().plusSeconds(60)));
+    private final Authentication analista = authentication(
+            new JwtPrincipal("analista1", "ROLE_ANALISTA", null, null, Instant.now().plusSeconds(60)));
+
+    @Test
+    @DisplayName("Un afiliado debe acceder solo a su propio afiliado y documento")
+    void shouldRestrictAffiliateToOwnResources() {
+        assertDoesNotThrow(() -> OwnershipGuard.checkAffiliateId(afiliado, 42L));
+        assertDoesNotThrow(() -> OwnershipGuard.checkDocumento(afiliado, "1017654311"));
+
+        assertThrows(AccessDeniedException.class, () -> OwnershipGuard.checkAffiliateId(afiliado, 7L));
+        assertThrows(AccessDeniedException.class, () -> OwnershipGuard.checkAffiliateId(afiliado, null));
+        assertThrows(AccessDeniedException.class, () -> OwnershipGuard.checkDocumento(afiliado, "1020304050"));
+        assertThrows(AccessDeniedException.class, () -> OwnershipGuard.denyAffiliates(afiliado));
+    }
+
+    @Test
+    @DisplayName("ADMIN y ANALISTA no deben restringirse por afiliado")
+    void shouldNotRestrictStaff() {
+        assertDoesNotThrow(() -> OwnershipGuard.checkAffiliateId(analista, 7L));
+        assertDoesNotThrow(() -> OwnershipGuard.checkDocumento(analista, "1020304050"));
+        assertDoesNotThrow(() -> OwnershipGuard.denyAffiliates(analista));
+    }
+
+    @Test
+    @DisplayName("Un token de afiliado sin claims de afiliado debe rechazarse")
+    void shouldRejectAffiliateTokenWithoutClaims() {
+        Authentication sinAfiliado = authentication(
+                new JwtPrincipal("nuevo.afiliado", "ROLE_AFILIADO", null, null, Instant.now().plusSeconds(60)));
+
+        assertThrows(AccessDeniedException.class, () -> OwnershipGuard.checkAffiliateId(sinAfiliado, null));
+        assertThrows(AccessDeniedException.class, () -> OwnershipGuard.checkDocumento(sinAfiliado, null));
+    }
+
+    private static Authentication authentication(JwtPrincipal principal) {
+        return new UsernamePasswordAuthenticationToken(principal, null,
+                List.of(new SimpleGrantedAuthority(principal.role())));
+    }
+}
@@ -0,0 +1,130 @@
+package com.coopcredit.credit_application_service.infrastructure.security.services;
+
+import com.coopcredit.credit_application_service.infrastructure.exceptions.LoginUnavailableException;
+import com.coopcredit.credit_application_service.infrastructure.security.services.PasswordVerifier.Result;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la verificación de contraseñas en el pool acotado
+ */
+@DisplayName("PasswordVerifier - Tests")
+class PasswordVerifierTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordVerifier verifier;
+
+    @AfterEach
+    void tearDown() {
+        if (verifier != null) {
+            verifier.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe aceptar la contraseña correcta y rechazar la incorrecta o un usuario inexistente")
+    void shouldVerifyPasswords() {
+        // Given
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+        verifier = new PasswordVerifier(encoder, meterRegistry, 1, 4, 5_000);
+        String hash = encoder.encode("admin123");
+
+        // Then
+        assertEquals(new Result(true, null), verifier.verify("admin123", hash));
+        assertEquals(new Result(false, null), verifier.verify("otraClave", hash));
+        assertEquals(new Result(false, null), verifier.verify("admin123", null));
+        assertEquals(3, meterRegistry.get("auth.password.verification").timer().count());
+    }
+
+    @Test
+    @DisplayName("Debe devolver un hash nuevo si el guardado tiene menor costo que el configurado")
+    void shouldUpgradeWeakerHash() {
+        // Given
+        String weakHash = new BCryptPasswordEncoder(4).encode("admin123");
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(5);
+        verifier = new PasswordVerifier(encoder, meterRegistry, 1, 4, 5_000);
+
+        // When
+        Result result = verifier.verify("admin123", weakHash);
+
+        // Then
+        assertTrue(result.matches());
+        assertNotNull(result.upgradedHash());
+        assertTrue(result.upgradedHash().startsWith("$2a$05$"));
+        assertTrue(encoder.matches("admin123", result.upgradedHash()));
+    }
+
+    @Test
+    @DisplayName("Con el pool y la cola ocupados debe rechazar de inmediato con 503")
+    void shouldRejectWhenSaturated() throws Exception {
+        // Given - Un hilo y un lugar en cola, con un encoder que se bloquea hasta liberar el latch
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        verifier = new PasswordVerifier(new BlockingEncoder(started, release), meterRegistry, 1, 1, 5_000);
+
+        CompletableFuture<Result> running = CompletableFuture.supplyAsync(() -> verifier.verify("a", "hash"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Result> queued = CompletableFuture.supplyAsync(() -> verifier.verify("b", "hash"));
+        while (meterRegistry.get("auth.password.queue").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // When
+        LoginUnavailableException exception = assertThrows(LoginUnavailableException.class,
+                () -> verifier.verify("c", "hash"));
+
+        // Then
+        assertEquals(1, exception.getRetryAfterSeconds());
+        assertEquals(1, meterRegistry.get("auth.login.rejected").tag("reason", "saturated").counter().count());
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS).matches());
+        assertTrue(queued.get(5, TimeUnit.SECONDS).matches());
+    }
+
+    @Test
+    @DisplayName("Debe responder 503 si la verificación supera el tiempo máximo")
+    void shouldRejectOnTimeout() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        verifier = new PasswordVerifier(new BlockingEncoder(new CountDownLatch(1), release), meterRegistry, 1, 1, 50);
+
+        // Then
+        assertThrows(LoginUnavailableException.class, () -> verifier.verify("a", "hash"));
+        assertEquals(1, meterRegistry.get("auth.login.rejected").tag("reason", "timeout").counter().count());
+        release.countDown();
+    }
+
+    /**
+     * Encoder que acepta cualquier contraseña, pero solo después de liberar el latch
+     */
+    private record BlockingEncoder(CountDownLatch started, CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "hash";
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            if ("hash".equals(encodedPassword)) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.coopcredit.credit_application_service.infrastructure.security.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de los token buckets en franjas usados por LoginThrottle
+ */
+@DisplayName("StripedTokenBuckets - Tests")
+class StripedTokenBucketsTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+
+    @Test
+    @DisplayName("Debe permitir una ráfaga hasta la capacidad y luego indicar la espera")
+    void shouldAllowBurstUpToCapacity() {
+        // Given - 5 intentos, recarga de 5 por minuto (uno cada 12 segundos)
+        StripedTokenBuckets buckets = new StripedTokenBuckets(16, 5, 5, now::get);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, buckets.tryAcquire("juan.perez"));
+        }
+        long wait = buckets.tryAcquire("juan.perez");
+
+        // Then
+        assertEquals(12, Math.round(wait / (double) TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    @Test
+    @DisplayName("Debe recargar tokens con el paso del tiempo sin superar la capacidad")
+    void shouldRefillOverTime() {
+        // Given
+        StripedTokenBuckets buckets = new StripedTokenBuckets(16, 2, 60, now::get);
+        assertEquals(0, buckets.tryAcquire("10.0.0.1"));
+        assertEquals(0, buckets.tryAcquire("10.0.0.1"));
+        assertTrue(buckets.tryAcquire("10.0.0.1") > 0);
+
+        // When - Segundo y medio después hay un token; una hora después solo la capacidad
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1_500));
+        assertEquals(0, buckets.tryAcquire("10.0.0.1"));
+        now.addAndGet(TimeUnit.HOURS.toNanos(1));
+
+        // Then
+        assertEquals(0, buckets.tryAcquire("10.0.0.1"));
+        assertEquals(0, buckets.tryAcquire("10.0.0.1"));
+        assertTrue(buckets.tryAcquire("10.0.0.1") > 0);
+    }
+
+    @Test
+    @DisplayName("Debe consultar el bucket sin consumir tokens")
+    void peekShouldNotConsume() {
+        // Given
+        StripedTokenBuckets buckets = new StripedTokenBuckets(16, 1, 60, now::get);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, buckets.peek("juan.perez"));
+        }
+        assertEquals(0, buckets.tryAcquire("juan.perez"));
+
+        // Then
+        assertTrue(buckets.peek("juan.perez") > 0);
+    }
+
+    @Test
+    @DisplayName("No debe agrupar en la misma franja claves con igual String.hashCode")
+    void shouldNotStripeByStringHashCode() {
+        // Given - Las cuatro claves tienen el mismo hashCode; con 4096 franjas, que las cuatro
+        // caigan en la misma franja tiene probabilidad 1/4096^3
+        StripedTokenBuckets buckets = new StripedTokenBuckets(4096, 1, 1, now::get);
+        assertEquals("AaAa".hashCode(), "BBBB".hashCode());
+        assertEquals("AaAa".hashCode(), "AaBB".hashCode());
+        assertEquals("AaAa".hashCode(), "BBAa".hashCode());
+
+        // When
+        assertEquals(0, buckets.tryAcquire("AaAa"));
+
+        // Then
+        assertFalse(buckets.peek("BBBB") > 0 && buckets.peek("AaBB") > 0 && buckets.peek("BBAa") > 0);
+    }
+
+    @Test
+    @DisplayName("Debe redondear las franjas a potencia de dos y rechazar límites no positivos")
+    void shouldRoundStripesAndValidateLimits() {
+        assertEquals(4096, new StripedTokenBuckets(4096, 5, 5, now::get).stripes());
+        assertEquals(8, new StripedTokenBuckets(5, 5, 5, now::get).stripes());
+        assertEquals(1, new StripedTokenBuckets(0, 5, 5, now::get).stripes());
+        assertThrows(IllegalArgumentException.class, () -> new StripedTokenBuckets(16, 0, 5, now::get));
+        assertThrows(IllegalArgumentException.class, () -> new StripedTokenBuckets(16, 5, 0, now::get));
+    }
+}
@@ -0,0 +1,99 @@
+package com.coopcredit.credit_application_service.infrastructure.security.services;
+
+import com.coopcredit.credit_application_service.infrastructure.security.services.VerifiedTokenCache.VerifiedToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la caché de tokens JWT verificados
+ */
+@DisplayName("VerifiedTokenCache - Tests")
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = "mySecretKeyForCoopCreditSystemMustBeLongEnough12345678901234567890";
+
+    private final JwtService jwtService = new JwtService(SECRET, 3_600_000);
+    private final AtomicLong now = new AtomicLong(System.currentTimeMillis());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Debe resolver desde la caché un token ya verificado y medir la proporción de aciertos")
+    void shouldServeRepeatedTokenFromCache() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtService, meterRegistry, true, 100, now::get);
+        String token = jwtService.generateToken("analista1", "ROLE_ANALISTA");
+
+        // When
+        Optional<VerifiedToken> first = cache.verify(token);
+        Optional<VerifiedToken> second = cache.verify(token);
+
+        // Then
+        assertTrue(first.isPresent());
+        assertSame(first.get(), second.orElseThrow());
+        assertEquals("analista1", second.get().principal().username());
+        assertEquals("ROLE_ANALISTA", second.get().authorities().stream()
+                .map(GrantedAuthority::getAuthority).findFirst().orElseThrow());
+        assertEquals(0.5, meterRegistry.get("jwt.cache.hit.ratio").gauge().value());
+        assertEquals(1, hits());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("Ninguna entrada debe entregarse después del exp del token")
+    void shouldNotServeEntryPastTokenExpiry() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtService, meterRegistry, true, 100, now::get);
+        String token = jwtService.generateToken("analista1", "ROLE_ANALISTA");
+        cache.verify(token);
+
+        // When - El reloj de la caché pasa el exp del token
+        now.addAndGet(3_600_000 + 1_000);
+        cache.verify(token);
+
+        // Then - La entrada vencida no se entregó: se volvió a verificar (el parser usa el reloj real)
+        assertEquals(0, hits());
+        assertEquals(2, meterRegistry.get("cache.gets").tag("cache", "jwt.tokens").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("No debe guardar tokens inválidos y debe respetar el límite de entradas")
+    void shouldCapMemory() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtService, meterRegistry, true, 50, now::get);
+
+        // When - Tokens con firma inválida y muchos tokens válidos distintos
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(cache.verify("eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJ4In0.firma" + i).isEmpty());
+        }
+        for (int i = 0; i < 500; i++) {
+            assertTrue(cache.verify(jwtService.generateToken("usuario" + i, "ROLE_AFILIADO")).isPresent());
+        }
+
+        // Then
+        assertTrue(cache.size() <= 50, "entradas: " + cache.size());
+    }
+
+    @Test
+    @DisplayName("Deshabilitada debe verificar cada vez sin guardar")
+    void shouldBypassWhenDisabled() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtService, meterRegistry, false, 100, now::get);
+        String token = jwtService.generateToken("analista1", "ROLE_ANALISTA");
+
+        assertTrue(cache.verify(token).isPresent());
+        assertTrue(cache.verify(token).isPresent());
+        assertEquals(0, cache.size());
+    }
+
+    private double hits() {
+        return meterRegistry.get("cache.gets").tag("cache", "jwt.tokens").tag("result", "hit")
+                .functionCounter().count();
+    }
+}
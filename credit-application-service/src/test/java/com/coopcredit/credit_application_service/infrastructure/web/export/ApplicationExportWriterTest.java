@@ -0,0 +1,174 @@
+package com.coopcredit.credit_application_service.infrastructure.web.export;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.enums.RiskLevel;
+import com.coopcredit.credit_application_service.domain.model.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ApplicationExportWriter - Tests")
+class ApplicationExportWriterTest {
+
+    @Test
+    @DisplayName("Debe escribir una línea NDJSON válida con caracteres especiales escapados")
+    void shouldWriteValidNdjsonLine() throws IOException {
+        // Given
+        StringWriter out = new StringWriter();
+        CreditApplication application = rejectedApplication("Cuota \"excede\" 40%\nrevisar\tcaso\\x");
+
+        // When
+        NdjsonApplicationWriter writer = new NdjsonApplicationWriter(out);
+        writer.write(application);
+        writer.flush();
+
+        // Then
+        assertTrue(out.toString().endsWith("}\n"));
+        assertEquals(1, out.toString().split("\n").length);
+
+        JsonNode node = JsonMapper.builder().build().readTree(out.toString());
+        assertEquals(15L, node.get("id").asLong());
+        assertEquals(36, node.get("plazoMeses").asInt());
+        assertEquals("2024-03-10T09:30", node.get("fechaSolicitud").asString());
+        assertEquals("RECHAZADO", node.get("estado").asString());
+        assertEquals("Cuota \"excede\" 40%\nrevisar\tcaso\\x", node.get("motivoRechazo").asString());
+        assertEquals(450, node.get("score").asInt());
+        assertEquals("ALTO", node.get("nivelRiesgo").asString());
+    }
+
+    @Test
+    @DisplayName("Debe escribir null en NDJSON cuando no hay evaluación de riesgo")
+    void shouldWriteNullsWithoutRiskEvaluation() throws IOException {
+        // Given
+        StringWriter out = new StringWriter();
+        CreditApplication application = rejectedApplication(null);
+        application.setEvaluacionRiesgo(null);
+
+        // When
+        NdjsonApplicationWriter writer = new NdjsonApplicationWriter(out);
+        writer.write(application);
+        writer.flush();
+
+        // Then
+        JsonNode node = JsonMapper.builder().build().readTree(out.toString());
+        assertTrue(node.get("motivoRechazo").isNull());
+        assertTrue(node.get("score").isNull());
+        assertTrue(node.get("nivelRiesgo").isNull());
+    }
+
+    @Test
+    @DisplayName("Debe escribir montos y tasas como strings decimales sin perder la escala")
+    void shouldWriteMoneyAsDecimalStrings() throws IOException {
+        // Given
+        StringWriter out = new StringWriter();
+        NdjsonApplicationWriter writer = new NdjsonApplicationWriter(out);
+
+        // When
+        writer.write(rejectedApplication(null));
+        writer.flush();
+
+        // Then
+        JsonNode node = JsonMapper.builder().build().readTree(out.toString());
+        assertTrue(node.get("montoSolicitado").isString());
+        assertEquals("8000000.00", node.get("montoSolicitado").asString());
+        assertTrue(node.get("tasaPropuesta").isString());
+        assertEquals("12.50", node.get("tasaPropuesta").asString());
+    }
+
+    @Test
+    @DisplayName("Debe escribir un objeto por línea, sin separadores extra, y escapar caracteres de control")
+    void shouldWriteOneObjectPerLine() throws IOException {
+        // Given
+        StringWriter out = new StringWriter();
+        NdjsonApplicationWriter writer = new NdjsonApplicationWriter(out);
+
+        // When
+        writer.write(rejectedApplication("primero\u0001"));
+        writer.write(rejectedApplication("segundo"));
+        writer.flush();
+
+        // Then
+        String[] lines = out.toString().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[1].startsWith("{"));
+        assertFalse(lines[0].contains("\u0001"));
+        JsonMapper mapper = JsonMapper.builder().build();
+        assertEquals("primero\u0001", mapper.readTree(lines[0]).get("motivoRechazo").asString());
+        assertEquals("segundo", mapper.readTree(lines[1]).get("motivoRechazo").asString());
+    }
+
+    @Test
+    @DisplayName("Debe escribir CSV con encabezado y campos entrecomillados según RFC 4180")
+    void shouldWriteCsvWithQuotedFields() throws IOException {
+        // Given
+        StringWriter out = new StringWriter();
+        CsvApplicationWriter writer = new CsvApplicationWriter(out);
+
+        // When
+        writer.writeHeader();
+        writer.write(rejectedApplication("Score bajo, cuota \"alta\""));
+
+        // Then
+        String[] lines = out.toString().split("\r\n");
+        assertEquals(2, lines.length);
+        assertEquals(CsvApplicationWriter.HEADER, lines[0]);
+        assertEquals("15,3,8000000.00,36,12.50,2024-03-10T09:30,RECHAZADO,"
+                + "\"Score bajo, cuota \"\"alta\"\"\",450,ALTO", lines[1]);
+    }
+
+    @Test
+    @DisplayName("Debe entrecomillar en CSV los campos con saltos de línea y duplicar las comillas")
+    void shouldQuoteCsvFieldsWithLineBreaks() throws IOException {
+        // Given
+        StringWriter out = new StringWriter();
+        CsvApplicationWriter writer = new CsvApplicationWriter(out);
+
+        // When
+        writer.write(rejectedApplication("línea 1\r\nlínea \"2\"\nfin"));
+        writer.write(rejectedApplication("\"\""));
+
+        // Then - El salto de línea queda dentro del campo entrecomillado
+        assertEquals("15,3,8000000.00,36,12.50,2024-03-10T09:30,RECHAZADO,"
+                + "\"línea 1\r\nlínea \"\"2\"\"\nfin\",450,ALTO\r\n"
+                + "15,3,8000000.00,36,12.50,2024-03-10T09:30,RECHAZADO,\"\"\"\"\"\",450,ALTO\r\n",
+                out.toString());
+    }
+
+    @Test
+    @DisplayName("Debe dejar vacías las columnas de riesgo en CSV cuando no hay evaluación")
+    void shouldWriteEmptyCsvRiskColumns() throws IOException {
+        // Given
+        StringWriter out = new StringWriter();
+        CreditApplication application = rejectedApplication(null);
+        application.setEvaluacionRiesgo(null);
+
+        // When
+        new CsvApplicationWriter(out).write(application);
+
+        // Then
+        assertEquals("15,3,8000000.00,36,12.50,2024-03-10T09:30,RECHAZADO,,,\r\n", out.toString());
+    }
+
+    private CreditApplication rejectedApplication(String motivo) {
+        return CreditApplication.builder()
+                .id(15L)
+                .afiliadoId(3L)
+                .montoSolicitado(new BigDecimal("8000000.00"))
+                .plazoMeses(36)
+                .tasaPropuesta(new BigDecimal("12.50"))
+                .fechaSolicitud(LocalDateTime.of(2024, 3, 10, 9, 30))
+                .estado(ApplicationStatus.RECHAZADO)
+                .motivoRechazo(motivo)
+                .evaluacionRiesgo(RiskEvaluation.builder().score(450).nivelRiesgo(RiskLevel.ALTO).build())
+                .build();
+    }
+}
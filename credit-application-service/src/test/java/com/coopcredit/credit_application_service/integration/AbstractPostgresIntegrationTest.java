@@ -0,0 +1,65 @@
+package com.coopcredit.credit_application_service.integration;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Base para tests de integración sobre PostgreSQL real (mismo motor que producción)
+ * El contenedor se inicia una sola vez y se comparte entre clases de test
+ */
+public abstract class AbstractPostgresIntegrationTest {
+
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:18-alpine")
+            .withDatabaseName("coopcredit_test")
+            .withUsername("test")
+            .withPassword("test")
+            .withUrlParam("reWriteBatchedInserts", "true");
+
+    static final Path OUTBOX_FILE = Path.of(System.getProperty("java.io.tmpdir"),
+            "coopcredit-outbox-" + ProcessHandle.current().pid(), "application-events.ndjson");
+
+    static {
+        POSTGRES.start();
+    }
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.jpa.show-sql", () -> "false");
+        // Los contextos de distintas clases comparten la base: el relay solo corre cuando un test lo invoca
+        registry.add("outbox.relay.initial-delay-ms", () -> "3600000");
+        registry.add("outbox.file.path", () -> OUTBOX_FILE.toString());
+    }
+
+    /**
+     * Crea las particiones mensuales de [desde, hasta] antes de sembrar datos históricos
+     * (por defecto solo existen las del mes actual en adelante)
+     */
+    protected static void ensureMonthlyPartitions(JdbcTemplate jdbcTemplate, String table, String column,
+                                                  LocalDate desde, LocalDate hasta) {
+        for (LocalDate month = desde.withDayOfMonth(1); !month.isAfter(hasta); month = month.plusMonths(1)) {
+            jdbcTemplate.queryForObject("SELECT ensure_monthly_partition(?, ?, ?)", Boolean.class,
+                    table, column, Date.valueOf(month));
+        }
+    }
+
+    /**
+     * Nombres de los índices de cada partición derivados de un índice de la tabla particionada
+     * (los planes muestran el índice de la partición, no el del padre)
+     */
+    protected static List<String> partitionIndexNames(JdbcTemplate jdbcTemplate, String parentIndex) {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_partition_tree(?::regclass) t " +
+                "JOIN pg_class c ON c.oid = t.relid WHERE t.isleaf",
+                String.class, parentIndex);
+    }
+}
@@ -0,0 +1,180 @@
+package com.coopcredit.credit_application_service.integration;
+
+import com.coopcredit.credit_application_service.application.services.CreditApplicationService;
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.enums.RiskLevel;
+import com.coopcredit.credit_application_service.domain.model.AffiliateSnapshotPolicy;
+import com.coopcredit.credit_application_service.domain.model.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.domain.ports.out.AffiliateExposurePort;
+import com.coopcredit.credit_application_service.domain.ports.out.AffiliateRepositoryPort;
+import com.coopcredit.credit_application_service.domain.ports.out.CreditApplicationRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración: exposición agregada por afiliado bajo evaluaciones concurrentes
+ * El servicio se construye sobre los beans del contexto con una central de riesgo fija
+ * (score 800, BAJO) y cada llamada se ejecuta en su propia transacción, como el proxy @Transactional
+ */
+@SpringBootTest
+@DisplayName("Affiliate Exposure - Integration Tests")
+class AffiliateExposureIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    private static final int APPLICATIONS = 40;
+    private static final int THREADS = 8;
+    private static final BigDecimal SALARIO = new BigDecimal("10000000");
+    private static final BigDecimal MONTO = new BigDecimal("10000000");
+
+    @Autowired
+    private CreditApplicationRepositoryPort applicationRepository;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private AffiliateExposurePort exposurePort;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private CreditApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CreditApplicationService(applicationRepository, affiliateRepository,
+                (documento, monto, plazo) -> RiskEvaluation.builder()
+                        .documento(documento)
+                        .score(800)
+                        .nivelRiesgo(RiskLevel.BAJO)
+                        .detalle("Central de riesgo fija")
+                        .fechaEvaluacion(LocalDateTime.now())
+                        .build(),
+                exposurePort, AffiliateSnapshotPolicy.defaultPolicy());
+    }
+
+    @Test
+    @DisplayName("Las creaciones concurrentes deben contar exactamente las solicitudes abiertas")
+    void concurrentCreationsShouldKeepOpenCountExact() throws Exception {
+        // Given
+        Long afiliadoId = insertAffiliate("4800000001");
+
+        // When
+        runInParallel(APPLICATIONS, i -> transactionTemplate.execute(status ->
+                service.createApplication(application(afiliadoId))));
+
+        // Then
+        Map<String, Object> exposure = exposure(afiliadoId);
+        assertThat(((Number) exposure.get("solicitudes_abiertas")).intValue()).isEqualTo(APPLICATIONS);
+        assertThat(countByStatus(afiliadoId, ApplicationStatus.PENDIENTE)).isEqualTo(APPLICATIONS);
+    }
+
+    @Test
+    @DisplayName("Las aprobaciones concurrentes deben mantener los contadores exactos y el tope de endeudamiento")
+    void concurrentApprovalsShouldKeepCountersExact() throws Exception {
+        // Given - 40 solicitudes pendientes; cada cuota (~3.3% del salario) cumple sola la regla cuota/ingreso
+        Long afiliadoId = insertAffiliate("4800000002");
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < APPLICATIONS; i++) {
+            ids.add(transactionTemplate.execute(status -> service.createApplication(application(afiliadoId))).getId());
+        }
+        BigDecimal cuota = application(afiliadoId).calcularCuotaMensual();
+        int maximoAprobadas = SALARIO.multiply(new BigDecimal("0.50"))
+                .divide(cuota, 0, RoundingMode.FLOOR).intValue();
+
+        // When - Todas se evalúan a la vez
+        runInParallel(APPLICATIONS, i -> transactionTemplate.execute(status ->
+                service.evaluateApplication(ids.get(i))));
+
+        // Then - Ninguna evaluación leyó una exposición desactualizada
+        long aprobadas = countByStatus(afiliadoId, ApplicationStatus.APROBADO);
+        assertThat(aprobadas).isEqualTo(maximoAprobadas);
+        assertThat(countByStatus(afiliadoId, ApplicationStatus.RECHAZADO)).isEqualTo(APPLICATIONS - maximoAprobadas);
+
+        // Then - Los contadores coinciden con el recálculo desde credit_applications
+        Map<String, Object> exposure = exposure(afiliadoId);
+        BigDecimal capitalRecalculado = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(sum(monto_solicitado), 0) FROM credit_applications " +
+                "WHERE afiliado_id = ? AND estado = 'APROBADO'", BigDecimal.class, afiliadoId);
+        assertThat(((Number) exposure.get("solicitudes_abiertas")).intValue()).isZero();
+        assertThat((BigDecimal) exposure.get("capital_aprobado")).isEqualByComparingTo(capitalRecalculado);
+        assertThat((BigDecimal) exposure.get("cuota_mensual_total"))
+                .isEqualByComparingTo(cuota.multiply(BigDecimal.valueOf(aprobadas)));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM credit_applications WHERE afiliado_id = ? AND estado = 'RECHAZADO' " +
+                "AND motivo_rechazo LIKE 'Endeudamiento total%'", Long.class, afiliadoId))
+                .isEqualTo(APPLICATIONS - maximoAprobadas);
+    }
+
+    private void runInParallel(int tasks, TaskBody body) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<Object>> calls = new ArrayList<>();
+            for (int i = 0; i < tasks; i++) {
+                int index = i;
+                calls.add(() -> body.run(index));
+            }
+            for (Future<Object> future : executor.invokeAll(calls)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+
+    @FunctionalInterface
+    private interface TaskBody {
+        Object run(int index);
+    }
+
+    private Map<String, Object> exposure(Long afiliadoId) {
+        return jdbcTemplate.queryForMap(
+                "SELECT solicitudes_abiertas, capital_aprobado, cuota_mensual_total FROM affiliate_exposure " +
+                "WHERE afiliado_id = ?", afiliadoId);
+    }
+
+    private long countByStatus(Long afiliadoId, ApplicationStatus estado) {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM credit_applications WHERE afiliado_id = ? AND estado = ?",
+                Long.class, afiliadoId, estado.name());
+    }
+
+    private CreditApplication application(Long afiliadoId) {
+        return CreditApplication.builder()
+                .afiliadoId(afiliadoId)
+                .montoSolicitado(MONTO)
+                .plazoMeses(36)
+                .tasaPropuesta(new BigDecimal("12.5"))
+                .build();
+    }
+
+    private Long insertAffiliate(String documento) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO affiliates (documento, nombre, salario, fecha_afiliacion, estado) " +
+                "VALUES (?, 'Exposición', ?, DATE '2020-01-01', 'ACTIVO') RETURNING id",
+                Long.class, documento, SALARIO);
+    }
+}
@@ -0,0 +1,94 @@
+package com.coopcredit.credit_application_service.integration;
+
+import com.coopcredit.credit_application_service.domain.model.AffiliateImportReport;
+import com.coopcredit.credit_application_service.domain.model.AffiliateImportRow;
+import com.coopcredit.credit_application_service.domain.ports.in.AffiliateImportUseCase;
+import com.coopcredit.credit_application_service.infrastructure.web.imports.AffiliateImportParser;
+import com.coopcredit.credit_application_service.infrastructure.web.imports.ImportFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración: importación masiva de afiliados con COPY sobre PostgreSQL real
+ * El rendimiento (filas por segundo) se mide en AffiliateImportBenchmark (src/jmh)
+ */
+@SpringBootTest
+@DisplayName("Affiliate Import - Integration Tests")
+class AffiliateImportIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    private static final int ROWS = 100_000;
+
+    @Autowired
+    private AffiliateImportUseCase importUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM affiliates WHERE documento LIKE '88%'");
+    }
+
+    @Test
+    @DisplayName("Debe importar 100.000 afiliados desde CSV")
+    void shouldImportLargeCsv() throws IOException {
+        // Given
+        StringBuilder csv = new StringBuilder("documento,nombre,salario,fechaAfiliacion,estado\n");
+        for (int i = 0; i < ROWS; i++) {
+            csv.append("88").append(String.format("%08d", i))
+               .append(",\"Afiliado, Sucursal ").append(i).append("\",")
+               .append(2_000_000 + i).append(",2023-05-10,ACTIVO\n");
+        }
+        byte[] file = csv.toString().getBytes(StandardCharsets.UTF_8);
+
+        // When
+        List<AffiliateImportRow> rows = AffiliateImportParser.parse(new ByteArrayInputStream(file), ImportFormat.CSV);
+        AffiliateImportReport report = importUseCase.importAffiliates(rows);
+
+        // Then
+        assertThat(report.getImportados()).isEqualTo(ROWS);
+        assertThat(report.getRechazados()).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM affiliates WHERE documento LIKE '88%'", Long.class)).isEqualTo((long) ROWS);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT nombre FROM affiliates WHERE documento = '8800000007'", String.class))
+                .isEqualTo("Afiliado, Sucursal 7");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar duplicados contra la base y dentro del archivo NDJSON")
+    void shouldRejectDuplicatesFromNdjson() throws IOException {
+        // Given
+        jdbcTemplate.update("INSERT INTO affiliates (documento, nombre, salario, fecha_afiliacion, estado) " +
+                "VALUES ('8899000001', 'Existente', 3000000, '2022-01-01', 'ACTIVO')");
+        String ndjson = String.join("\n",
+                "{\"documento\":\"8899000001\",\"nombre\":\"Duplicado\",\"salario\":3000000,\"fechaAfiliacion\":\"2023-01-01\",\"estado\":\"ACTIVO\"}",
+                "{\"documento\":\"8899000002\",\"nombre\":\"Nuevo\",\"salario\":3000000,\"fechaAfiliacion\":\"2023-01-01\",\"estado\":\"ACTIVO\"}",
+                "{\"documento\":\"8899000002\",\"nombre\":\"Repetido\",\"salario\":3000000,\"fechaAfiliacion\":\"2023-01-01\",\"estado\":\"ACTIVO\"}",
+                "{\"documento\":\"8899000003\",\"nombre\":\"Sin estado\",\"salario\":3000000,\"fechaAfiliacion\":\"2023-01-01\"}",
+                "no es json");
+
+        // When
+        List<AffiliateImportRow> rows = AffiliateImportParser.parse(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), ImportFormat.NDJSON);
+        AffiliateImportReport report = importUseCase.importAffiliates(rows);
+
+        // Then
+        assertThat(report.getTotalFilas()).isEqualTo(5);
+        assertThat(report.getImportados()).isEqualTo(1);
+        assertThat(report.getErrores()).extracting("linea").containsExactly(1, 3, 4, 5);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT nombre FROM affiliates WHERE documento = '8899000001'", String.class)).isEqualTo("Existente");
+    }
+}
@@ -0,0 +1,178 @@
+package com.coopcredit.credit_application_service.integration;
+
+import com.coopcredit.credit_application_service.domain.model.AffiliateSearchCursor;
+import com.coopcredit.credit_application_service.domain.model.AffiliateSearchHit;
+import com.coopcredit.credit_application_service.domain.model.CursorPage;
+import com.coopcredit.credit_application_service.domain.ports.in.AffiliateSearchUseCase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración: búsqueda de afiliados sobre un millón de filas sembradas
+ * Los nombres combinan 40 nombres y 60 apellidos (144.000 combinaciones, con tildes) y los
+ * documentos son '3' + 9 dígitos. Se hace VACUUM ANALYZE para que los planes reflejen las
+ * estadísticas. La latencia se mide en AffiliateSearchBenchmark (src/jmh)
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Affiliate Search - Integration Tests")
+class AffiliateSearchIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    private static final int AFFILIATES = 1_000_000;
+
+    private static final List<String> NOMBRES = List.of(
+            "María", "José", "Andrés", "Sofía", "Carlos", "Laura", "Juan", "Camila", "Luis", "Valentina",
+            "Jorge", "Daniela", "Ramón", "Inés", "Julián", "Paula", "Óscar", "Natalia", "Felipe", "Lucía",
+            "Diego", "Carolina", "Sebastián", "Mónica", "Alejandro", "Diana", "Ricardo", "Adriana", "Hernán", "Gloria",
+            "Mauricio", "Patricia", "Fernando", "Claudia", "Esteban", "Ángela", "Gustavo", "Beatriz", "Iván", "Marcela");
+
+    private static final List<String> APELLIDOS = List.of(
+            "García", "González", "Rodríguez", "Gómez", "López", "Martínez", "Pérez", "Sánchez", "Ramírez", "Torres",
+            "Díaz", "Vargas", "Rojas", "Castro", "Moreno", "Jiménez", "Muñoz", "Ortiz", "Herrera", "Ruiz",
+            "Álvarez", "Romero", "Suárez", "Mendoza", "Silva", "Cárdenas", "Ríos", "Guerrero", "Medina", "Acosta",
+            "Cruz", "Castillo", "Restrepo", "Ospina", "Osorio", "Valencia", "Quintero", "Zapata", "Montoya", "Arango",
+            "Cardona", "Salazar", "Henao", "Giraldo", "Londoño", "Mejía", "Parra", "Velásquez", "Correa", "Aguirre",
+            "Cano", "Sierra", "Duque", "Marín", "Bedoya", "Escobar", "Palacio", "Betancur", "Franco", "Uribe");
+
+    @Autowired
+    private AffiliateSearchUseCase searchUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update(
+                "INSERT INTO affiliates (documento, nombre, salario, fecha_afiliacion, estado) " +
+                "SELECT '3' || lpad(g::text, 9, '0'), " +
+                "       n.nombres[1 + g % 40] || ' ' || n.apellidos[1 + (g / 40) % 60] || ' ' || " +
+                "       n.apellidos[1 + (g / 2400) % 60], 3000000, DATE '2020-01-01', 'ACTIVO' " +
+                "FROM generate_series(1, ?) g, " +
+                "     (SELECT " + sqlArray(NOMBRES) + " AS nombres, " + sqlArray(APELLIDOS) + " AS apellidos) n",
+                AFFILIATES);
+        jdbcTemplate.execute("VACUUM ANALYZE affiliates");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM affiliates WHERE documento LIKE '3%' AND length(documento) = 10");
+    }
+
+    @Test
+    @DisplayName("Debe encontrar por nombre sin tildes y tolerar errores de tipeo, ordenado por relevancia")
+    void shouldRankNameMatches() {
+        // When
+        CursorPage<AffiliateSearchHit> exact = searchUseCase.searchAffiliates("maria gomez", null, 20);
+        CursorPage<AffiliateSearchHit> typo = searchUseCase.searchAffiliates("Andres Gonzales", null, 20);
+
+        // Then
+        assertThat(exact.getItems()).isNotEmpty();
+        assertThat(exact.getItems().get(0).getNombre()).startsWith("María Gómez");
+        assertThat(exact.getItems().get(0).getRelevancia()).isEqualTo(1.0);
+        assertThat(typo.getItems().get(0).getNombre()).startsWith("Andrés González");
+        assertThat(relevancias(exact.getItems())).isSortedAccordingTo(Collections.reverseOrder());
+        assertThat(relevancias(typo.getItems())).isSortedAccordingTo(Collections.reverseOrder());
+    }
+
+    @Test
+    @DisplayName("Recorrer todas las páginas debe entregar cada resultado una sola vez")
+    void pagesShouldNotRepeatOrSkipResults() {
+        // When
+        List<AffiliateSearchHit> all = new ArrayList<>();
+        AffiliateSearchCursor cursor = null;
+        CursorPage<AffiliateSearchHit> page;
+        do {
+            page = searchUseCase.searchAffiliates("lucia marin", cursor, 100);
+            all.addAll(page.getItems());
+            cursor = page.isHasMore() ? AffiliateSearchCursor.after(page.last()) : null;
+        } while (cursor != null);
+
+        // Then - Mismo conjunto que la consulta sin paginar
+        List<String> expected = jdbcTemplate.queryForList(
+                "SELECT documento FROM affiliates " +
+                "WHERE affiliate_search_text('lucia') <% affiliate_search_text(nombre) " +
+                "  AND affiliate_search_text('marin') <% affiliate_search_text(nombre)", String.class);
+        Set<String> documentos = all.stream().map(AffiliateSearchHit::getDocumento).collect(Collectors.toSet());
+        assertThat(all).hasSize(expected.size());
+        assertThat(documentos).hasSize(expected.size()).containsExactlyInAnyOrderElementsOf(new HashSet<>(expected));
+        assertThat(relevancias(all)).isSortedAccordingTo(Collections.reverseOrder());
+    }
+
+    @Test
+    @DisplayName("Un prefijo de documento debe devolver los documentos en orden y paginar por documento")
+    void shouldSearchByDocumentoPrefix() {
+        // When
+        CursorPage<AffiliateSearchHit> first = searchUseCase.searchAffiliates("3000123", null, 5);
+        CursorPage<AffiliateSearchHit> second = searchUseCase.searchAffiliates(
+                "3000123", AffiliateSearchCursor.after(first.last()), 5);
+
+        // Then
+        assertThat(first.getItems()).extracting(AffiliateSearchHit::getDocumento)
+                .containsExactly("3000123000", "3000123001", "3000123002", "3000123003", "3000123004");
+        assertThat(second.getItems().get(0).getDocumento()).isEqualTo("3000123005");
+        assertThat(first.isHasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Las búsquedas deben resolverse con los índices de V12")
+    void searchesShouldUseIndexes() {
+        // When
+        JsonNode byName = explain(
+                "SELECT id FROM affiliates " +
+                "WHERE affiliate_search_text('maria') <% affiliate_search_text(nombre) " +
+                "  AND affiliate_search_text('gomez') <% affiliate_search_text(nombre)");
+        JsonNode byDocumento = explain(
+                "SELECT id FROM affiliates " +
+                "WHERE documento COLLATE \"C\" >= '3000123' AND documento COLLATE \"C\" < '3000124' " +
+                "ORDER BY documento COLLATE \"C\" LIMIT 21");
+
+        // Then
+        assertThat(collect(byName, "Index Name", new ArrayList<>())).contains("idx_affiliate_nombre_trgm");
+        assertThat(collect(byName, "Node Type", new ArrayList<>())).doesNotContain("Seq Scan");
+        assertThat(collect(byDocumento, "Index Name", new ArrayList<>())).contains("idx_affiliate_documento_prefijo");
+        assertThat(collect(byDocumento, "Node Type", new ArrayList<>())).doesNotContain("Seq Scan", "Sort");
+    }
+
+    private static List<Double> relevancias(List<AffiliateSearchHit> hits) {
+        return hits.stream().map(AffiliateSearchHit::getRelevancia).collect(Collectors.toList());
+    }
+
+    private static String sqlArray(List<String> values) {
+        return values.stream().map(value -> "'" + value + "'").collect(Collectors.joining(", ", "ARRAY[", "]"));
+    }
+
+    private JsonNode explain(String sql) {
+        String json = String.join("\n", jdbcTemplate.queryForList("EXPLAIN (FORMAT JSON) " + sql, String.class));
+        return jsonMapper.readTree(json).get(0).get("Plan");
+    }
+
+    private List<String> collect(JsonNode node, String field, List<String> values) {
+        if (node.has(field)) {
+            values.add(node.get(field).asString());
+        }
+        JsonNode children = node.get("Plans");
+        if (children != null) {
+            children.forEach(child -> collect(child, field, values));
+        }
+        return values;
+    }
+}
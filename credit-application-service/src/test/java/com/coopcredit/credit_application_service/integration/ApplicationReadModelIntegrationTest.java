@@ -0,0 +1,131 @@
+package com.coopcredit.credit_application_service.integration;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.enums.RiskLevel;
+import com.coopcredit.credit_application_service.domain.model.ApplicationCursor;
+import com.coopcredit.credit_application_service.domain.model.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.CreditApplicationSummary;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.domain.ports.out.CreditApplicationRepositoryPort;
+import com.coopcredit.credit_application_service.infrastructure.readmodel.ApplicationSummaryReadModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración: modelo de lectura en memoria alimentado por el camino de escritura
+ * Compara las páginas en memoria con las mismas consultas sobre PostgreSQL
+ */
+@SpringBootTest
+@TestPropertySource(properties = "read-model.applications.enabled=true")
+@DisplayName("Application Read Model - Integration Tests")
+class ApplicationReadModelIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    @Autowired
+    private ApplicationSummaryReadModel readModel;
+
+    @Autowired
+    private CreditApplicationRepositoryPort applicationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Solo los cambios confirmados deben llegar al modelo de lectura")
+    void onlyCommittedChangesShouldBeApplied() {
+        // Given
+        Long afiliadoId = insertAffiliate("4900000001");
+
+        // When - Una creación confirmada, una revertida y la decisión de la confirmada
+        CreditApplication created = transactionTemplate.execute(status ->
+                applicationRepository.save(pendingApplication(afiliadoId)));
+        transactionTemplate.executeWithoutResult(status -> {
+            applicationRepository.save(pendingApplication(afiliadoId));
+            status.setRollbackOnly();
+        });
+        CreditApplication stored = applicationRepository.findById(created.getId()).orElseThrow();
+        stored.setEvaluacionRiesgo(RiskEvaluation.builder()
+                .documento("4900000001")
+                .score(720)
+                .nivelRiesgo(RiskLevel.BAJO)
+                .detalle("Evaluación de prueba")
+                .fechaEvaluacion(LocalDateTime.now())
+                .build());
+        stored.aprobar();
+        transactionTemplate.executeWithoutResult(status -> applicationRepository.saveDecision(stored));
+
+        // Then
+        List<CreditApplicationSummary> inMemory = readModel.findSummaryPageByAfiliadoId(afiliadoId, null, 10);
+        assertThat(inMemory).extracting(CreditApplicationSummary::getId).containsExactly(created.getId());
+        assertThat(inMemory.get(0).getEstado()).isEqualTo(ApplicationStatus.APROBADO);
+        assertThat(inMemory.get(0).getScore()).isEqualTo(720);
+        assertThat(readModel.findSummaryPageByEstado(ApplicationStatus.PENDIENTE, null, Integer.MAX_VALUE))
+                .extracting(CreditApplicationSummary::getId)
+                .doesNotContain(created.getId());
+    }
+
+    @Test
+    @DisplayName("Tras recargar desde la base, las páginas deben coincidir con las de PostgreSQL")
+    void rebuiltPagesShouldMatchDatabase() {
+        // Given - Solicitudes insertadas directamente en la base (sin evento)
+        Long afiliadoId = insertAffiliate("4900000002");
+        for (int i = 0; i < 25; i++) {
+            jdbcTemplate.update(
+                    "INSERT INTO credit_applications " +
+                    "(afiliado_id, monto_solicitado, plazo_meses, tasa_propuesta, fecha_solicitud, estado) " +
+                    "VALUES (?, 1000000, 36, 12.5, now() - make_interval(mins => ?), 'PENDIENTE')",
+                    afiliadoId, i % 5);
+        }
+        assertThat(readModel.findSummaryPageByAfiliadoId(afiliadoId, null, 50)).isEmpty();
+
+        // When
+        readModel.rebuild();
+
+        // Then - Mismo orden y mismos cursores recorriendo todas las páginas
+        List<CreditApplicationSummary> fromDatabase = applicationRepository.findSummaryPageByAfiliadoId(afiliadoId, null, 10);
+        List<CreditApplicationSummary> fromMemory = readModel.findSummaryPageByAfiliadoId(afiliadoId, null, 10);
+        int pages = 0;
+        while (!fromDatabase.isEmpty()) {
+            assertThat(fromMemory).isEqualTo(fromDatabase);
+            ApplicationCursor after = ApplicationCursor.after(fromDatabase.get(fromDatabase.size() - 1));
+            fromDatabase = applicationRepository.findSummaryPageByAfiliadoId(afiliadoId, after, 10);
+            fromMemory = readModel.findSummaryPageByAfiliadoId(afiliadoId, after, 10);
+            pages++;
+        }
+        assertThat(fromMemory).isEmpty();
+        assertThat(pages).isEqualTo(3);
+        assertThat(readModel.findSummaryPage(null, 20))
+                .isEqualTo(applicationRepository.findSummaryPage(null, 20));
+    }
+
+    private CreditApplication pendingApplication(Long afiliadoId) {
+        return CreditApplication.builder()
+                .afiliadoId(afiliadoId)
+                .montoSolicitado(new BigDecimal("1000000"))
+                .plazoMeses(36)
+                .tasaPropuesta(new BigDecimal("12.5"))
+                .fechaSolicitud(LocalDateTime.now())
+                .estado(ApplicationStatus.PENDIENTE)
+                .build();
+    }
+
+    private Long insertAffiliate(String documento) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO affiliates (documento, nombre, salario, fecha_afiliacion, estado) " +
+                "VALUES (?, 'Modelo de lectura', 4000000, DATE '2020-01-01', 'ACTIVO') RETURNING id",
+                Long.class, documento);
+    }
+}
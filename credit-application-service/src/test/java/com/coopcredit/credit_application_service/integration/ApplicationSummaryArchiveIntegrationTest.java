@@ -0,0 +1,157 @@
+package com.coopcredit.credit_application_service.integration;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.enums.RiskLevel;
+import com.coopcredit.credit_application_service.domain.model.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.CreditApplicationSummary;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.domain.ports.out.CreditApplicationRepositoryPort;
+import com.coopcredit.credit_application_service.infrastructure.adapters.RiskEvaluationStorage;
+import com.coopcredit.credit_application_service.infrastructure.readmodel.ApplicationSummaryArchive;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración: archivo de resúmenes fuera del heap alimentado por el camino de escritura
+ * y reabierto sobre una copia del archivo, como en un reinicio
+ */
+@SpringBootTest
+@DisplayName("Application Summary Archive - Integration Tests")
+class ApplicationSummaryArchiveIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    private static final Path ARCHIVE_DIR = Path.of(System.getProperty("java.io.tmpdir"),
+            "coopcredit-archive-" + ProcessHandle.current().pid());
+
+    @DynamicPropertySource
+    static void configureArchive(DynamicPropertyRegistry registry) {
+        registry.add("read-model.archive.enabled", () -> "true");
+        registry.add("read-model.archive.path", () -> ARCHIVE_DIR.resolve("summaries.dat").toString());
+        registry.add("read-model.archive.segment-records", () -> "1024");
+    }
+
+    @Autowired
+    private ApplicationSummaryArchive archive;
+
+    @Autowired
+    private CreditApplicationRepositoryPort applicationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Solo los cambios confirmados deben archivarse y el recorrido debe ver el estado vigente")
+    void onlyCommittedChangesShouldBeArchived() {
+        // Given
+        Long afiliadoId = insertAffiliate("5000000001");
+
+        // When - Una creación confirmada, una revertida y la decisión de la confirmada
+        CreditApplication created = transactionTemplate.execute(status ->
+                applicationRepository.save(pendingApplication(afiliadoId)));
+        CreditApplication rolledBack = transactionTemplate.execute(status -> {
+            CreditApplication saved = applicationRepository.save(pendingApplication(afiliadoId));
+            status.setRollbackOnly();
+            return saved;
+        });
+        decide(created.getId(), 720);
+
+        // Then
+        CreditApplicationSummary archived = archive.findById(created.getId()).orElseThrow();
+        assertThat(archived.getEstado()).isEqualTo(ApplicationStatus.APROBADO);
+        assertThat(archived.getScore()).isEqualTo(720);
+        assertThat(archived.getNivelRiesgo()).isEqualTo(RiskLevel.BAJO);
+        assertThat(archived.getMontoSolicitado()).isEqualByComparingTo("1000000");
+        assertThat(archive.findById(rolledBack.getId())).isEmpty();
+
+        List<ApplicationStatus> estados = new ArrayList<>();
+        archive.scan(record -> {
+            if (record.getId() == created.getId()) {
+                estados.add(record.getEstado());
+            }
+        });
+        assertThat(estados).containsExactly(ApplicationStatus.APROBADO);
+    }
+
+    @Test
+    @DisplayName("Al reabrir el archivo debe recuperar los cambios ocurridos mientras estuvo cerrado")
+    void reopenedArchiveShouldCatchUp() throws IOException {
+        // Given - Copia del archivo con una solicitud pendiente (la caché de páginas ya tiene los datos)
+        Long afiliadoId = insertAffiliate("5000000002");
+        CreditApplication created = transactionTemplate.execute(status ->
+                applicationRepository.save(pendingApplication(afiliadoId)));
+        Path copy = ARCHIVE_DIR.resolve("reopened.dat");
+        Files.copy(ARCHIVE_DIR.resolve("summaries.dat"), copy, StandardCopyOption.REPLACE_EXISTING);
+
+        // When - La decisión llega solo al archivo original; la copia se reabre después
+        decide(created.getId(), 610);
+        ApplicationSummaryArchive reopened = new ApplicationSummaryArchive(jdbcTemplate, transactionManager,
+                new SimpleMeterRegistry(), copy, 1024, 5, 1000, RiskEvaluationStorage.TABLE);
+        try {
+            assertThat(reopened.findById(created.getId()).orElseThrow().getEstado())
+                    .isEqualTo(ApplicationStatus.PENDIENTE);
+            reopened.onStartup();
+
+            // Then
+            CreditApplicationSummary archived = reopened.findById(created.getId()).orElseThrow();
+            assertThat(archived.getEstado()).isEqualTo(ApplicationStatus.APROBADO);
+            assertThat(archived.getScore()).isEqualTo(610);
+        } finally {
+            reopened.destroy();
+        }
+    }
+
+    private void decide(Long id, int score) {
+        CreditApplication stored = applicationRepository.findById(id).orElseThrow();
+        stored.setEvaluacionRiesgo(RiskEvaluation.builder()
+                .documento("5000000000")
+                .score(score)
+                .nivelRiesgo(RiskLevel.BAJO)
+                .detalle("Evaluación de prueba")
+                .fechaEvaluacion(LocalDateTime.now())
+                .build());
+        stored.aprobar();
+        transactionTemplate.executeWithoutResult(status -> applicationRepository.saveDecision(stored));
+    }
+
+    private CreditApplication pendingApplication(Long afiliadoId) {
+        return CreditApplication.builder()
+                .afiliadoId(afiliadoId)
+                .montoSolicitado(new BigDecimal("1000000"))
+                .plazoMeses(36)
+                .tasaPropuesta(new BigDecimal("12.5"))
+                .fechaSolicitud(LocalDateTime.now())
+                .estado(ApplicationStatus.PENDIENTE)
+                .build();
+    }
+
+    private Long insertAffiliate(String documento) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO affiliates (documento, nombre, salario, fecha_afiliacion, estado) " +
+                "VALUES (?, 'Archivo de resúmenes', 4000000, DATE '2020-01-01', 'ACTIVO') RETURNING id",
+                Long.class, documento);
+    }
+}
@@ -0,0 +1,42 @@
+package com.coopcredit.credit_application_service.integration;
+
+import org.hibernate.SessionEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Listener de sesión Hibernate que cuenta los viajes JDBC a la base de datos
+ * Se registra con hibernate.session.events.auto; cada lote cuenta como un solo viaje
+ */
+public class JdbcRoundTripCounter implements SessionEventListener {
+
+    private static final AtomicLong STATEMENTS = new AtomicLong();
+    private static final AtomicLong BATCHES = new AtomicLong();
+
+    public static void reset() {
+        STATEMENTS.set(0);
+        BATCHES.set(0);
+    }
+
+    public static long statements() {
+        return STATEMENTS.get();
+    }
+
+    public static long batches() {
+        return BATCHES.get();
+    }
+
+    public static long roundTrips() {
+        return STATEMENTS.get() + BATCHES.get();
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        STATEMENTS.incrementAndGet();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        BATCHES.incrementAndGet();
+    }
+}
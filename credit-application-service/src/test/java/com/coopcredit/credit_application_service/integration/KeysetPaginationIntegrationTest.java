@@ -0,0 +1,161 @@
+package com.coopcredit.credit_application_service.integration;
+
+import com.coopcredit.credit_application_service.domain.model.ApplicationCursor;
+import com.coopcredit.credit_application_service.domain.model.CreditApplicationSummary;
+import com.coopcredit.credit_application_service.domain.ports.out.CreditApplicationRepositoryPort;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración: paginación por keyset vs OFFSET
+ * Verifica que las páginas profundas son correctas y que el plan usa el índice
+ * (fecha_solicitud, id) sin Sort, leyendo la misma cantidad de buffers que la primera página
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Keyset Pagination - Integration Tests")
+class KeysetPaginationIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    private static final int ROWS = 50_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_OFFSET = 40_000;
+
+    private static final Pattern SHARED_BUFFERS = Pattern.compile("Buffers: shared hit=(\\d+)(?: read=(\\d+))?");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CreditApplicationRepositoryPort applicationRepository;
+
+    @BeforeAll
+    void seed() {
+        Long afiliadoId = jdbcTemplate.queryForObject(
+                "INSERT INTO affiliates (documento, nombre, salario, fecha_afiliacion, estado) " +
+                "VALUES ('9900000001', 'Keyset Test', 4000000, CURRENT_DATE - 400, 'ACTIVO') RETURNING id",
+                Long.class);
+        ensureMonthlyPartitions(jdbcTemplate, "credit_applications", "fecha_solicitud",
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31));
+
+        // Varias filas comparten fecha para ejercitar el desempate por id
+        jdbcTemplate.update(
+                "INSERT INTO credit_applications " +
+                "(afiliado_id, monto_solicitado, plazo_meses, tasa_propuesta, fecha_solicitud, estado) " +
+                "SELECT ?, 1000000 + g, 36, 12.5, TIMESTAMP '2024-01-01' + (g / 3) * INTERVAL '1 minute', " +
+                "(ARRAY['PENDIENTE','APROBADO','RECHAZADO'])[1 + g % 3] " +
+                "FROM generate_series(1, ?) g",
+                afiliadoId, ROWS);
+        jdbcTemplate.execute("ANALYZE credit_applications");
+    }
+
+    @Test
+    @DisplayName("Debe devolver en una página profunda las mismas filas que OFFSET")
+    void deepPageShouldMatchOffsetResult() {
+        // Given - Posición del cursor: última fila antes del offset profundo
+        ApplicationCursor cursor = jdbcTemplate.queryForObject(
+                "SELECT fecha_solicitud, id FROM credit_applications " +
+                "ORDER BY fecha_solicitud DESC, id DESC OFFSET ? LIMIT 1",
+                (rs, i) -> new ApplicationCursor(rs.getTimestamp(1).toLocalDateTime(), rs.getLong(2)),
+                DEEP_OFFSET - 1);
+
+        List<Long> expected = jdbcTemplate.queryForList(
+                "SELECT id FROM credit_applications " +
+                "ORDER BY fecha_solicitud DESC, id DESC OFFSET ? LIMIT ?",
+                Long.class, DEEP_OFFSET, PAGE_SIZE);
+
+        // When
+        List<Long> actual = applicationRepository.findSummaryPage(cursor, PAGE_SIZE).stream()
+                .map(CreditApplicationSummary::getId)
+                .collect(Collectors.toList());
+
+        // Then
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("Debe recorrer todas las filas sin duplicados ni saltos")
+    void shouldWalkAllPagesWithoutGaps() {
+        // Given
+        List<CreditApplicationSummary> page = applicationRepository.findSummaryPage(null, 1000);
+        long visited = 0;
+        Long previousId = null;
+        Timestamp previousFecha = null;
+
+        // When
+        while (!page.isEmpty()) {
+            for (CreditApplicationSummary application : page) {
+                Timestamp fecha = Timestamp.valueOf(application.getFechaSolicitud());
+                if (previousFecha != null) {
+                    int cmp = fecha.compareTo(previousFecha);
+                    assertThat(cmp < 0 || (cmp == 0 && application.getId() < previousId)).isTrue();
+                }
+                previousFecha = fecha;
+                previousId = application.getId();
+                visited++;
+            }
+            page = applicationRepository.findSummaryPage(ApplicationCursor.after(page.get(page.size() - 1)), 1000);
+        }
+
+        // Then
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM credit_applications", Long.class);
+        assertThat(visited).isEqualTo(total);
+    }
+
+    @Test
+    @DisplayName("Debe usar el índice sin Sort y leer los mismos buffers en páginas profundas")
+    void deepKeysetPageShouldCostAsFirstPage() {
+        // Given
+        Object[] deepCursor = jdbcTemplate.queryForObject(
+                "SELECT fecha_solicitud, id FROM credit_applications " +
+                "ORDER BY fecha_solicitud DESC, id DESC OFFSET ? LIMIT 1",
+                (rs, i) -> new Object[]{rs.getTimestamp(1), rs.getLong(2)},
+                DEEP_OFFSET - 1);
+
+        // When
+        String firstPage = explain(
+                "SELECT * FROM credit_applications ORDER BY fecha_solicitud DESC, id DESC LIMIT " + PAGE_SIZE);
+        String keysetPage = explain(
+                "SELECT * FROM credit_applications " +
+                "WHERE fecha_solicitud <= '" + deepCursor[0] + "' " +
+                "AND (fecha_solicitud < '" + deepCursor[0] + "' OR id < " + deepCursor[1] + ") " +
+                "ORDER BY fecha_solicitud DESC, id DESC LIMIT " + PAGE_SIZE);
+        String offsetPage = explain(
+                "SELECT * FROM credit_applications ORDER BY fecha_solicitud DESC, id DESC " +
+                "OFFSET " + DEEP_OFFSET + " LIMIT " + PAGE_SIZE);
+
+        // Then
+        List<String> fechaIdIndexes = partitionIndexNames(jdbcTemplate, "idx_application_fecha_id");
+        assertThat(fechaIdIndexes).anyMatch(keysetPage::contains);
+        assertThat(keysetPage).doesNotContain("Sort");
+        assertThat(sharedBuffers(keysetPage)).isLessThanOrEqualTo(sharedBuffers(firstPage) * 2);
+        assertThat(sharedBuffers(keysetPage) * 10).isLessThan(sharedBuffers(offsetPage));
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN (ANALYZE, BUFFERS) " + sql, String.class));
+    }
+
+    /**
+     * Buffers compartidos (hit + read) del nodo raíz del plan
+     */
+    private long sharedBuffers(String plan) {
+        Matcher matcher = SHARED_BUFFERS.matcher(plan);
+        assertThat(matcher.find()).as("Plan sin información de buffers:%n%s", plan).isTrue();
+        long read = matcher.group(2) == null ? 0 : Long.parseLong(matcher.group(2));
+        return Long.parseLong(matcher.group(1)) + read;
+    }
+}
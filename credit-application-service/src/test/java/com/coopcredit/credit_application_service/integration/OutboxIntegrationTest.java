@@ -0,0 +1,267 @@
+package com.coopcredit.credit_application_service.integration;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.model.CreditApplication;
+import com.coopcredit.credit_application_service.domain.ports.out.CreditApplicationRepositoryPort;
+import com.coopcredit.credit_application_service.infrastructure.outbox.OutboxEvent;
+import com.coopcredit.credit_application_service.infrastructure.outbox.OutboxEventSink;
+import com.coopcredit.credit_application_service.infrastructure.outbox.OutboxRelay;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración: outbox transaccional de eventos de solicitudes
+ * El relay programado está detenido en los tests; se invoca directamente con el destino archivo
+ */
+@SpringBootTest
+@DisplayName("Application Outbox - Integration Tests")
+class OutboxIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    @Autowired
+    private CreditApplicationRepositoryPort applicationRepository;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Cada cambio de estado debe registrar un evento en la misma transacción")
+    void stateChangesShouldBeRecorded() {
+        // Given
+        CreditApplication application = transactionTemplate.execute(status ->
+                applicationRepository.save(pendingApplication(insertAffiliate("4500000001"))));
+
+        // When - Guardar sin cambio de estado no genera evento; la decisión sí
+        transactionTemplate.executeWithoutResult(status -> applicationRepository.save(application));
+        CreditApplication stored = applicationRepository.findById(application.getId()).orElseThrow();
+        stored.rechazar("Score insuficiente");
+        transactionTemplate.executeWithoutResult(status -> applicationRepository.saveDecision(stored));
+
+        // Then
+        assertThat(eventTypes(application.getId()))
+                .containsExactly("SOLICITUD_CREADA", "SOLICITUD_RECHAZADA");
+        String payload = jdbcTemplate.queryForObject(
+                "SELECT payload FROM application_outbox WHERE aplicacion_id = ? AND tipo_evento = 'SOLICITUD_RECHAZADA'",
+                String.class, application.getId());
+        assertThat(payload).contains("\"estado\":\"RECHAZADO\"", "\"motivoRechazo\":\"Score insuficiente\"");
+    }
+
+    @Test
+    @DisplayName("Si la transacción se revierte no debe quedar evento")
+    void rolledBackChangeShouldNotLeaveEvent() {
+        // Given
+        Long afiliadoId = insertAffiliate("4500000002");
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            applicationRepository.save(pendingApplication(afiliadoId));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        Long events = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM application_outbox o " +
+                "WHERE o.payload LIKE ?", Long.class, "%\"afiliadoId\":" + afiliadoId + ",%");
+        assertThat(events).isZero();
+    }
+
+    @Test
+    @DisplayName("El relay debe publicar los pendientes en el archivo y registrar lag y backlog")
+    void relayShouldPublishToFileSink() throws IOException {
+        // Given
+        CreditApplication application = transactionTemplate.execute(status ->
+                applicationRepository.save(pendingApplication(insertAffiliate("4500000003"))));
+
+        // When
+        outboxRelay.run();
+
+        // Then
+        assertThat(Files.readAllLines(OUTBOX_FILE))
+                .anyMatch(line -> line.contains("\"tipoEvento\":\"SOLICITUD_CREADA\"")
+                        && line.contains("\"aplicacionId\":" + application.getId() + ","));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM application_outbox WHERE aplicacion_id = ? AND fecha_publicacion IS NULL",
+                Long.class, application.getId())).isZero();
+        assertThat(meterRegistry.get("outbox.delivery.lag").timer().count()).isPositive();
+        assertThat(meterRegistry.get("outbox.backlog").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("El relay debe saltar los eventos bloqueados por otra instancia")
+    void relayShouldSkipLockedEvents() throws Exception {
+        // Given - Dos solicitudes pendientes de publicar; otra instancia bloquea el evento de la primera
+        CreditApplication locked = transactionTemplate.execute(status ->
+                applicationRepository.save(pendingApplication(insertAffiliate("4500000004"))));
+        CreditApplication free = transactionTemplate.execute(status ->
+                applicationRepository.save(pendingApplication(insertAffiliate("4500000005"))));
+
+        try (Connection otherInstance = dataSource.getConnection()) {
+            otherInstance.setAutoCommit(false);
+            try (PreparedStatement lock = otherInstance.prepareStatement(
+                    "SELECT id FROM application_outbox WHERE aplicacion_id = ? FOR UPDATE")) {
+                lock.setLong(1, locked.getId());
+                lock.executeQuery().close();
+            }
+
+            // When
+            outboxRelay.relayPending();
+
+            // Then - Se publica lo que no está bloqueado, sin esperar el bloqueo
+            assertThat(isPublished(free.getId())).isTrue();
+            assertThat(isPublished(locked.getId())).isFalse();
+            otherInstance.rollback();
+        }
+
+        // When - Liberado el bloqueo, el siguiente ciclo lo publica
+        outboxRelay.relayPending();
+
+        // Then
+        assertThat(isPublished(locked.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Un evento que el destino rechaza no debe bloquear a los demás y debe quedar aparcado")
+    void poisonEventShouldNotBlockOthersAndShouldBeParked() {
+        // Given - El destino rechaza siempre los eventos de la primera solicitud
+        CreditApplication poison = transactionTemplate.execute(status ->
+                applicationRepository.save(pendingApplication(insertAffiliate("4500000006"))));
+        CreditApplication healthy = transactionTemplate.execute(status ->
+                applicationRepository.save(pendingApplication(insertAffiliate("4500000007"))));
+        RejectingSink sink = new RejectingSink(poison.getId());
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        OutboxRelay relay = new OutboxRelay(jdbcTemplate, transactionManager, sink, registry, 100, 10, 7, 2, 0, 0);
+
+        // When - Dos ejecuciones agotan los dos intentos; la tercera ya no lo toma
+        relay.run();
+        relay.run();
+        relay.run();
+
+        // Then
+        assertThat(isPublished(healthy.getId())).isTrue();
+        assertThat(isPublished(poison.getId())).isFalse();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT intentos FROM application_outbox WHERE aplicacion_id = ?", Integer.class, poison.getId()))
+                .isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT fecha_aparcado IS NOT NULL FROM application_outbox WHERE aplicacion_id = ?",
+                Boolean.class, poison.getId())).isTrue();
+        assertThat(sink.rejected).isEqualTo(2);
+        assertThat(registry.get("outbox.parked").gauge().value()).isGreaterThanOrEqualTo(1);
+
+        jdbcTemplate.update("DELETE FROM application_outbox WHERE aplicacion_id = ?", poison.getId());
+    }
+
+    @Test
+    @DisplayName("Un evento fallido no debe reintentarse antes de su espera")
+    void failedEventShouldWaitForBackoff() {
+        // Given - Espera inicial de un minuto
+        CreditApplication poison = transactionTemplate.execute(status ->
+                applicationRepository.save(pendingApplication(insertAffiliate("4500000008"))));
+        RejectingSink sink = new RejectingSink(poison.getId());
+        OutboxRelay relay = new OutboxRelay(jdbcTemplate, transactionManager, sink, new SimpleMeterRegistry(),
+                100, 10, 7, 10, 60_000, 900_000);
+
+        // When
+        relay.relayPending();
+        relay.relayPending();
+
+        // Then - Un solo intento, con el próximo a un minuto y sin aparcar
+        assertThat(sink.rejected).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT fecha_proximo_intento > now() + INTERVAL '50 seconds' AND fecha_aparcado IS NULL " +
+                "FROM application_outbox WHERE aplicacion_id = ?", Boolean.class, poison.getId())).isTrue();
+
+        jdbcTemplate.update("DELETE FROM application_outbox WHERE aplicacion_id = ?", poison.getId());
+    }
+
+    private boolean isPublished(Long aplicacionId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT bool_and(fecha_publicacion IS NOT NULL) FROM application_outbox WHERE aplicacion_id = ?",
+                Boolean.class, aplicacionId));
+    }
+
+    private List<String> eventTypes(Long aplicacionId) {
+        return jdbcTemplate.queryForList(
+                "SELECT tipo_evento FROM application_outbox WHERE aplicacion_id = ? ORDER BY id",
+                String.class, aplicacionId);
+    }
+
+    private CreditApplication pendingApplication(Long afiliadoId) {
+        return CreditApplication.builder()
+                .afiliadoId(afiliadoId)
+                .montoSolicitado(new BigDecimal("1000000"))
+                .plazoMeses(36)
+                .tasaPropuesta(new BigDecimal("12.5"))
+                .fechaSolicitud(LocalDateTime.now())
+                .estado(ApplicationStatus.PENDIENTE)
+                .build();
+    }
+
+    private Long insertAffiliate(String documento) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO affiliates (documento, nombre, salario, fecha_afiliacion, estado) " +
+                "VALUES (?, 'Outbox', 4000000, DATE '2020-01-01', 'ACTIVO') RETURNING id",
+                Long.class, documento);
+    }
+
+    /**
+     * Destino que rechaza cualquier entrega con eventos de una solicitud y acepta el resto
+     * Cuenta los rechazos del evento solo (un intento registrado por cada uno)
+     */
+    private static class RejectingSink implements OutboxEventSink {
+
+        private final Long rejectedAplicacionId;
+        private int rejected;
+
+        RejectingSink(Long rejectedAplicacionId) {
+            this.rejectedAplicacionId = rejectedAplicacionId;
+        }
+
+        @Override
+        public String name() {
+            return "rejecting";
+        }
+
+        @Override
+        public void publish(List<OutboxEvent> events) {
+            if (events.stream().anyMatch(event -> event.getAplicacionId().equals(rejectedAplicacionId))) {
+                if (events.size() == 1) {
+                    rejected++;
+                }
+                throw new IllegalStateException("Evento rechazado por el destino");
+            }
+        }
+    }
+}
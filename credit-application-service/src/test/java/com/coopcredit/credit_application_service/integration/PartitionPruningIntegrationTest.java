@@ -0,0 +1,266 @@
+package com.coopcredit.credit_application_service.integration;
+
+import com.coopcredit.credit_application_service.infrastructure.jobs.PartitionMaintenanceJob;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración: particionamiento mensual (V7)
+ * Verifica el partition pruning de las consultas filtradas por fecha, el traslado de filas
+ * desde la partición DEFAULT y el desacople de particiones por retención (V15: sin meses con pendientes;
+ * V16: sin evaluaciones de solicitudes adjuntas)
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Partition Pruning - Integration Tests")
+class PartitionPruningIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private long afiliadoId;
+
+    @BeforeAll
+    void seed() {
+        afiliadoId = jdbcTemplate.queryForObject(
+                "INSERT INTO affiliates (documento, nombre, salario, fecha_afiliacion, estado) " +
+                "VALUES ('7700000001', 'Partition Test', 4000000, DATE '2020-01-01', 'ACTIVO') RETURNING id",
+                Long.class);
+        ensureMonthlyPartitions(jdbcTemplate, "credit_applications", "fecha_solicitud",
+                LocalDate.of(2022, 1, 1), LocalDate.of(2022, 6, 30));
+        ensureMonthlyPartitions(jdbcTemplate, "risk_evaluations", "fecha_evaluacion",
+                LocalDate.of(2022, 1, 1), LocalDate.of(2022, 6, 30));
+
+        // Una fila cada hora durante el primer semestre de 2022
+        jdbcTemplate.update(
+                "INSERT INTO credit_applications " +
+                "(afiliado_id, monto_solicitado, plazo_meses, tasa_propuesta, fecha_solicitud, estado) " +
+                "SELECT ?, 1000000, 36, 12.5, TIMESTAMP '2022-01-01' + g * INTERVAL '1 hour', 'APROBADO' " +
+                "FROM generate_series(0, 4343) g", afiliadoId);
+        jdbcTemplate.update(
+                "INSERT INTO risk_evaluations (documento, score, nivel_riesgo, detalle, fecha_evaluacion) " +
+                "SELECT '7700000001', 700, 'MEDIO', NULL, TIMESTAMP '2022-01-01' + g * INTERVAL '1 hour' " +
+                "FROM generate_series(0, 4343) g");
+        jdbcTemplate.execute("ANALYZE credit_applications");
+        jdbcTemplate.execute("ANALYZE risk_evaluations");
+    }
+
+    @Test
+    @DisplayName("Debe leer solo la partición del mes filtrado")
+    void dateFilterShouldPruneToSingleMonth() {
+        // When
+        JsonNode plan = explain(
+                "SELECT * FROM credit_applications " +
+                "WHERE fecha_solicitud >= '2022-03-01' AND fecha_solicitud < '2022-04-01' " +
+                "ORDER BY fecha_solicitud, id");
+
+        // Then
+        assertThat(relationNames(plan)).containsOnly("credit_applications_p202203");
+    }
+
+    @Test
+    @DisplayName("Debe leer solo las particiones del rango filtrado en risk_evaluations")
+    void dateRangeShouldPruneRiskEvaluations() {
+        // When
+        JsonNode plan = explain(
+                "SELECT * FROM risk_evaluations " +
+                "WHERE documento = '7700000001' " +
+                "AND fecha_evaluacion >= '2022-02-15' AND fecha_evaluacion < '2022-04-10'");
+
+        // Then
+        assertThat(relationNames(plan)).containsOnly(
+                "risk_evaluations_p202202", "risk_evaluations_p202203", "risk_evaluations_p202204");
+    }
+
+    @Test
+    @DisplayName("Debe trasladar las filas de la partición DEFAULT al crear la partición del mes")
+    void creatingPartitionShouldMoveRowsFromDefault() {
+        // Given - Sin partición para mayo de 2019 la fila cae en DEFAULT
+        jdbcTemplate.update(
+                "INSERT INTO credit_applications " +
+                "(afiliado_id, monto_solicitado, plazo_meses, tasa_propuesta, fecha_solicitud, estado) " +
+                "VALUES (?, 2000000, 24, 10.0, TIMESTAMP '2019-05-15 10:00', 'PENDIENTE')", afiliadoId);
+        assertThat(partitionOf("2019-05-15 10:00")).isEqualTo("credit_applications_default");
+
+        // When
+        Boolean created = jdbcTemplate.queryForObject(
+                "SELECT ensure_monthly_partition('credit_applications', 'fecha_solicitud', DATE '2019-05-01')",
+                Boolean.class);
+
+        // Then
+        assertThat(created).isTrue();
+        assertThat(partitionOf("2019-05-15 10:00")).isEqualTo("credit_applications_p201905");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM credit_applications_default " +
+                "WHERE fecha_solicitud >= '2019-05-01' AND fecha_solicitud < '2019-06-01'", Long.class))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Debe desacoplar solo las particiones fuera del período de retención")
+    void retentionShouldDetachExpiredPartitions() {
+        // Given
+        ensureMonthlyPartitions(jdbcTemplate, "credit_applications", "fecha_solicitud",
+                LocalDate.of(2015, 1, 1), LocalDate.of(2015, 2, 28));
+        ensureMonthlyPartitions(jdbcTemplate, "risk_evaluations", "fecha_evaluacion",
+                LocalDate.of(2015, 1, 1), LocalDate.of(2015, 2, 28));
+        jdbcTemplate.update(
+                "INSERT INTO credit_applications " +
+                "(afiliado_id, monto_solicitado, plazo_meses, tasa_propuesta, fecha_solicitud, estado) " +
+                "VALUES (?, 1500000, 12, 11.0, TIMESTAMP '2015-01-20', 'APROBADO'), " +
+                "       (?, 1500000, 12, 11.0, TIMESTAMP '2015-02-20', 'APROBADO')", afiliadoId, afiliadoId);
+        PartitionMaintenanceJob job = new PartitionMaintenanceJob(jdbcTemplate, 0, 12);
+
+        // When - Conservar 12 meses a febrero de 2016: el corte es 2015-02-01
+        job.detachExpiredPartitions(LocalDate.of(2016, 2, 10));
+
+        // Then
+        assertThat(attachedPartitions("credit_applications"))
+                .doesNotContain("credit_applications_p201501")
+                .contains("credit_applications_p201502");
+        assertThat(attachedPartitions("risk_evaluations"))
+                .doesNotContain("risk_evaluations_p201501")
+                .contains("risk_evaluations_p201502");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM credit_applications WHERE fecha_solicitud < '2015-02-01'", Long.class))
+                .isZero();
+        // La tabla desacoplada conserva sus filas
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM credit_applications_p201501", Long.class)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Debe conservar adjunta la partición vencida mientras tenga solicitudes PENDIENTE")
+    void retentionShouldKeepPartitionsWithPendingApplications() {
+        // Given - Enero de 2016 con una solicitud pendiente; febrero solo con decididas
+        ensureMonthlyPartitions(jdbcTemplate, "credit_applications", "fecha_solicitud",
+                LocalDate.of(2016, 1, 1), LocalDate.of(2016, 2, 29));
+        Long pendiente = jdbcTemplate.queryForObject(
+                "INSERT INTO credit_applications " +
+                "(afiliado_id, monto_solicitado, plazo_meses, tasa_propuesta, fecha_solicitud, estado) " +
+                "VALUES (?, 1500000, 12, 11.0, TIMESTAMP '2016-01-20', 'PENDIENTE') RETURNING id",
+                Long.class, afiliadoId);
+        jdbcTemplate.update(
+                "INSERT INTO credit_applications " +
+                "(afiliado_id, monto_solicitado, plazo_meses, tasa_propuesta, fecha_solicitud, estado) " +
+                "VALUES (?, 1500000, 12, 11.0, TIMESTAMP '2016-02-20', 'RECHAZADO')", afiliadoId);
+        PartitionMaintenanceJob job = new PartitionMaintenanceJob(jdbcTemplate, 0, 12);
+
+        // When - Conservar 12 meses a marzo de 2017: el corte es 2016-03-01
+        job.detachExpiredPartitions(LocalDate.of(2017, 3, 10));
+
+        // Then - La solicitud pendiente sigue visible y evaluable
+        assertThat(attachedPartitions("credit_applications"))
+                .contains("credit_applications_p201601")
+                .doesNotContain("credit_applications_p201602");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT estado FROM credit_applications WHERE id = ?", String.class, pendiente))
+                .isEqualTo("PENDIENTE");
+
+        // When - Decidida la solicitud, la siguiente corrida desacopla el mes
+        jdbcTemplate.update("UPDATE credit_applications SET estado = 'APROBADO' WHERE id = ?", pendiente);
+        job.detachExpiredPartitions(LocalDate.of(2017, 3, 10));
+
+        // Then
+        assertThat(attachedPartitions("credit_applications")).doesNotContain("credit_applications_p201601");
+    }
+
+    @Test
+    @DisplayName("Debe conservar las evaluaciones de las solicitudes decididas de un mes que sigue adjunto")
+    void retentionShouldKeepEvaluationsOfAttachedApplications() {
+        // Given - Enero de 2017 con una solicitud PENDIENTE y una APROBADO con su evaluación
+        ensureMonthlyPartitions(jdbcTemplate, "credit_applications", "fecha_solicitud",
+                LocalDate.of(2017, 1, 1), LocalDate.of(2017, 1, 31));
+        ensureMonthlyPartitions(jdbcTemplate, "risk_evaluations", "fecha_evaluacion",
+                LocalDate.of(2017, 1, 1), LocalDate.of(2017, 1, 31));
+        Long evaluacionId = jdbcTemplate.queryForObject(
+                "INSERT INTO risk_evaluations (documento, score, nivel_riesgo, detalle, fecha_evaluacion) " +
+                "VALUES ('7700000001', 720, 'BAJO', NULL, TIMESTAMP '2017-01-20') RETURNING id", Long.class);
+        Long aprobada = jdbcTemplate.queryForObject(
+                "INSERT INTO credit_applications " +
+                "(afiliado_id, monto_solicitado, plazo_meses, tasa_propuesta, fecha_solicitud, estado, evaluacion_riesgo_id) " +
+                "VALUES (?, 1500000, 12, 11.0, TIMESTAMP '2017-01-20', 'APROBADO', ?) RETURNING id",
+                Long.class, afiliadoId, evaluacionId);
+        Long pendiente = jdbcTemplate.queryForObject(
+                "INSERT INTO credit_applications " +
+                "(afiliado_id, monto_solicitado, plazo_meses, tasa_propuesta, fecha_solicitud, estado) " +
+                "VALUES (?, 1500000, 12, 11.0, TIMESTAMP '2017-01-21', 'PENDIENTE') RETURNING id",
+                Long.class, afiliadoId);
+        PartitionMaintenanceJob job = new PartitionMaintenanceJob(jdbcTemplate, 0, 12);
+
+        // When - Conservar 12 meses a marzo de 2018: el corte es 2017-03-01
+        job.detachExpiredPartitions(LocalDate.of(2018, 3, 10));
+
+        // Then - La solicitud aprobada conserva su evaluación
+        assertThat(attachedPartitions("credit_applications")).contains("credit_applications_p201701");
+        assertThat(attachedPartitions("risk_evaluations")).contains("risk_evaluations_p201701");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT r.score FROM credit_applications a JOIN risk_evaluations r ON r.id = a.evaluacion_riesgo_id " +
+                "WHERE a.id = ?", Integer.class, aprobada))
+                .isEqualTo(720);
+
+        // When - Decidida la pendiente, la misma corrida desacopla el mes de solicitudes y luego el de evaluaciones
+        jdbcTemplate.update("UPDATE credit_applications SET estado = 'RECHAZADO' WHERE id = ?", pendiente);
+        job.detachExpiredPartitions(LocalDate.of(2018, 3, 10));
+
+        // Then
+        assertThat(attachedPartitions("credit_applications")).doesNotContain("credit_applications_p201701");
+        assertThat(attachedPartitions("risk_evaluations")).doesNotContain("risk_evaluations_p201701");
+    }
+
+    @Test
+    @DisplayName("Debe existir la partición del mes actual y de los meses siguientes al iniciar")
+    void startupShouldCreateUpcomingPartitions() {
+        // Given
+        LocalDate nextMonth = LocalDate.now().withDayOfMonth(1).plusMonths(1);
+        String suffix = String.format("_p%04d%02d", nextMonth.getYear(), nextMonth.getMonthValue());
+
+        // Then
+        assertThat(attachedPartitions("credit_applications")).contains("credit_applications" + suffix);
+        assertThat(attachedPartitions("risk_evaluations")).contains("risk_evaluations" + suffix);
+    }
+
+    private String partitionOf(String fechaSolicitud) {
+        return jdbcTemplate.queryForObject(
+                "SELECT tableoid::regclass::text FROM credit_applications WHERE fecha_solicitud = ?::timestamp",
+                String.class, fechaSolicitud);
+    }
+
+    private List<String> attachedPartitions(String table) {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "WHERE i.inhparent = ?::regclass", String.class, table);
+    }
+
+    private JsonNode explain(String sql) {
+        String json = String.join("\n", jdbcTemplate.queryForList("EXPLAIN (FORMAT JSON) " + sql, String.class));
+        return jsonMapper.readTree(json).get(0).get("Plan");
+    }
+
+    private List<String> relationNames(JsonNode node) {
+        List<String> values = new ArrayList<>();
+        if (node.has("Relation Name")) {
+            values.add(node.get("Relation Name").asString());
+        }
+        JsonNode children = node.get("Plans");
+        if (children != null) {
+            children.forEach(child -> values.addAll(relationNames(child)));
+        }
+        return values;
+    }
+}
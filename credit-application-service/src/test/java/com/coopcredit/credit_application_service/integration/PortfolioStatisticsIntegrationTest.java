@@ -0,0 +1,144 @@
+package com.coopcredit.credit_application_service.integration;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.enums.RiskLevel;
+import com.coopcredit.credit_application_service.domain.model.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.MonthlyPortfolioTotals;
+import com.coopcredit.credit_application_service.domain.model.PortfolioStatistics;
+import com.coopcredit.credit_application_service.domain.model.PortfolioTotals;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.domain.ports.in.PortfolioStatisticsUseCase;
+import com.coopcredit.credit_application_service.domain.ports.out.CreditApplicationRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración: estadísticas de cartera mantenidas por trigger
+ * La base se comparte entre clases de test, por eso se comparan diferencias y no totales absolutos
+ */
+@SpringBootTest
+@DisplayName("Portfolio Statistics - Integration Tests")
+class PortfolioStatisticsIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    @Autowired
+    private PortfolioStatisticsUseCase statisticsUseCase;
+
+    @Autowired
+    private CreditApplicationRepositoryPort applicationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Crear y evaluar una solicitud debe mover sus totales de PENDIENTE a APROBADO")
+    void creationAndDecisionShouldUpdateTotals() {
+        // Given
+        PortfolioStatistics before = statisticsUseCase.getPortfolioStatistics(1);
+        Long afiliadoId = insertAffiliate("4600000001");
+
+        // When - Creación
+        CreditApplication application = transactionTemplate.execute(status ->
+                applicationRepository.save(pendingApplication(afiliadoId, LocalDateTime.now())));
+        PortfolioStatistics created = statisticsUseCase.getPortfolioStatistics(1);
+
+        // Then
+        assertThat(created.getTotalSolicitudes()).isEqualTo(before.getTotalSolicitudes() + 1);
+        assertThat(count(created, "PENDIENTE") - count(before, "PENDIENTE")).isEqualTo(1);
+        assertThat(currentMonth(created).getPendientes() - currentMonth(before).getPendientes()).isEqualTo(1);
+
+        // When - Decisión con evaluación de riesgo BAJO
+        CreditApplication stored = applicationRepository.findById(application.getId()).orElseThrow();
+        stored.setEvaluacionRiesgo(RiskEvaluation.builder()
+                .documento("4600000001")
+                .score(820)
+                .nivelRiesgo(RiskLevel.BAJO)
+                .fechaEvaluacion(LocalDateTime.now())
+                .build());
+        stored.aprobar();
+        transactionTemplate.executeWithoutResult(status -> applicationRepository.saveDecision(stored));
+        PortfolioStatistics decided = statisticsUseCase.getPortfolioStatistics(1);
+
+        // Then - El total no cambia; la solicitud pasa de grupo
+        assertThat(decided.getTotalSolicitudes()).isEqualTo(created.getTotalSolicitudes());
+        assertThat(count(decided, "PENDIENTE")).isEqualTo(count(before, "PENDIENTE"));
+        assertThat(count(decided, "APROBADO") - count(before, "APROBADO")).isEqualTo(1);
+        assertThat(riskCount(decided, "BAJO") - riskCount(before, "BAJO")).isEqualTo(1);
+        assertThat(decided.getMontoTotal().subtract(before.getMontoTotal()))
+                .isEqualByComparingTo(new BigDecimal("2500000"));
+    }
+
+    @Test
+    @DisplayName("Trasladar filas desde la partición DEFAULT no debe contarlas de nuevo")
+    void partitionMoveShouldNotDoubleCount() {
+        // Given - Una solicitud de un mes sin partición queda en la partición DEFAULT
+        YearMonth mes = YearMonth.now().plusYears(5);
+        Long afiliadoId = insertAffiliate("4600000002");
+        transactionTemplate.execute(status ->
+                applicationRepository.save(pendingApplication(afiliadoId, mes.atDay(10).atStartOfDay())));
+        long before = monthCount(mes);
+
+        // When
+        jdbcTemplate.queryForObject("SELECT ensure_monthly_partition('credit_applications', 'fecha_solicitud', ?)",
+                Boolean.class, Date.valueOf(mes.atDay(1)));
+
+        // Then
+        assertThat(before).isEqualTo(1);
+        assertThat(monthCount(mes)).isEqualTo(before);
+    }
+
+    private long monthCount(YearMonth mes) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(sum(cantidad), 0) FROM application_statistics WHERE mes = ?",
+                Long.class, Date.valueOf(mes.atDay(1)));
+    }
+
+    private long count(PortfolioStatistics statistics, String estado) {
+        return statistics.getPorEstado().stream()
+                .filter(total -> total.getGrupo().equals(estado))
+                .mapToLong(PortfolioTotals::getCantidad)
+                .sum();
+    }
+
+    private long riskCount(PortfolioStatistics statistics, String nivel) {
+        return statistics.getPorNivelRiesgo().stream()
+                .filter(total -> total.getGrupo().equals(nivel))
+                .mapToLong(PortfolioTotals::getCantidad)
+                .sum();
+    }
+
+    private MonthlyPortfolioTotals currentMonth(PortfolioStatistics statistics) {
+        return statistics.getMensual().get(statistics.getMensual().size() - 1);
+    }
+
+    private CreditApplication pendingApplication(Long afiliadoId, LocalDateTime fechaSolicitud) {
+        return CreditApplication.builder()
+                .afiliadoId(afiliadoId)
+                .montoSolicitado(new BigDecimal("2500000"))
+                .plazoMeses(24)
+                .tasaPropuesta(new BigDecimal("14.0"))
+                .fechaSolicitud(fechaSolicitud)
+                .estado(ApplicationStatus.PENDIENTE)
+                .build();
+    }
+
+    private Long insertAffiliate(String documento) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO affiliates (documento, nombre, salario, fecha_afiliacion, estado) " +
+                "VALUES (?, 'Estadísticas', 4000000, DATE '2020-01-01', 'ACTIVO') RETURNING id",
+                Long.class, documento);
+    }
+}
@@ -0,0 +1,176 @@
+package com.coopcredit.credit_application_service.integration;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración: los planes de las consultas frecuentes usan los índices de V6
+ * El dataset sembrado es determinístico (generate_series) y se analiza antes de cada EXPLAIN,
+ * de modo que los planes son repetibles entre ejecuciones
+ * Las tablas están particionadas por mes (V7): los planes referencian el índice de cada partición
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Query Index Usage - Integration Tests")
+class QueryIndexUsageIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    private static final int AFFILIATES = 1_000;
+    private static final int APPLICATIONS = 100_000;
+    private static final int EVALUATIONS = 50_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private long afiliadoId;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update(
+                "INSERT INTO affiliates (documento, nombre, salario, fecha_afiliacion, estado) " +
+                "SELECT '66' || lpad(g::text, 8, '0'), 'Afiliado ' || g, 3000000, DATE '2020-01-01', 'ACTIVO' " +
+                "FROM generate_series(1, ?) g", AFFILIATES);
+        afiliadoId = jdbcTemplate.queryForObject(
+                "SELECT id FROM affiliates WHERE documento = '6600000500'", Long.class);
+        ensureMonthlyPartitions(jdbcTemplate, "credit_applications", "fecha_solicitud",
+                LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31));
+        ensureMonthlyPartitions(jdbcTemplate, "risk_evaluations", "fecha_evaluacion",
+                LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31));
+
+        // 2% pendientes, el resto aprobadas o rechazadas
+        jdbcTemplate.update(
+                "INSERT INTO credit_applications " +
+                "(afiliado_id, monto_solicitado, plazo_meses, tasa_propuesta, fecha_solicitud, estado) " +
+                "SELECT af.id, 1000000, 36, 12.5, TIMESTAMP '2023-01-01' + g * INTERVAL '5 minutes', " +
+                "       CASE WHEN g % 50 = 0 THEN 'PENDIENTE' WHEN g % 2 = 0 THEN 'APROBADO' ELSE 'RECHAZADO' END " +
+                "FROM generate_series(1, ?) g " +
+                "JOIN affiliates af ON af.documento = '66' || lpad((1 + g % ?)::text, 8, '0')",
+                APPLICATIONS, AFFILIATES);
+
+        jdbcTemplate.update(
+                "INSERT INTO risk_evaluations (documento, score, nivel_riesgo, detalle, fecha_evaluacion) " +
+                "SELECT '66' || lpad((1 + g % ?)::text, 8, '0'), 300 + g % 650, 'MEDIO', NULL, " +
+                "       TIMESTAMP '2023-01-01' + g * INTERVAL '10 minutes' " +
+                "FROM generate_series(1, ?) g", AFFILIATES, EVALUATIONS);
+
+        jdbcTemplate.execute("ANALYZE affiliates");
+        jdbcTemplate.execute("ANALYZE credit_applications");
+        jdbcTemplate.execute("ANALYZE risk_evaluations");
+    }
+
+    @Test
+    @DisplayName("Pendientes por fecha debe usar el índice parcial sin Sort")
+    void pendingByDateShouldUsePartialIndex() {
+        // When
+        JsonNode plan = explain(
+                "SELECT * FROM credit_applications WHERE estado = 'PENDIENTE' ORDER BY fecha_solicitud, id");
+
+        // Then
+        assertThat(indexNames(plan)).containsAnyElementsOf(partitionIndexNames(jdbcTemplate, "idx_application_pendiente"));
+        assertThat(relationsUnder(plan, "Sort")).noneMatch(QueryIndexUsageIntegrationTest::isSeededPartition);
+        assertThat(relationsUnder(plan, "Seq Scan")).noneMatch(QueryIndexUsageIntegrationTest::isSeededPartition);
+    }
+
+    @Test
+    @DisplayName("Solicitudes de un afiliado, más recientes primero, debe recorrer el índice compuesto en orden inverso")
+    void affiliateNewestFirstShouldUseCompositeIndex() {
+        // When
+        JsonNode plan = explain(
+                "SELECT * FROM credit_applications WHERE afiliado_id = " + afiliadoId +
+                " ORDER BY fecha_solicitud DESC, id DESC");
+
+        // Then
+        assertThat(indexNames(plan)).containsAnyElementsOf(
+                partitionIndexNames(jdbcTemplate, "idx_application_afiliado_fecha_id"));
+        assertThat(relationsUnder(plan, "Sort")).noneMatch(QueryIndexUsageIntegrationTest::isSeededPartition);
+        assertThat(relationsUnder(plan, "Seq Scan")).noneMatch(QueryIndexUsageIntegrationTest::isSeededPartition);
+        assertThat(scanDirections(plan)).contains("Backward");
+    }
+
+    @Test
+    @DisplayName("Última evaluación por documento debe resolverse con el índice (documento, fecha_evaluacion DESC)")
+    void latestRiskEvaluationShouldUseCompositeIndex() {
+        // When
+        JsonNode plan = explain(
+                "SELECT * FROM risk_evaluations WHERE documento = '6600000500' " +
+                "ORDER BY fecha_evaluacion DESC LIMIT 1");
+
+        // Then
+        assertThat(indexNames(plan)).containsAnyElementsOf(partitionIndexNames(jdbcTemplate, "idx_risk_documento_fecha"));
+        assertThat(relationsUnder(plan, "Sort")).noneMatch(QueryIndexUsageIntegrationTest::isSeededPartition);
+        assertThat(relationsUnder(plan, "Seq Scan")).noneMatch(QueryIndexUsageIntegrationTest::isSeededPartition);
+    }
+
+    @Test
+    @DisplayName("Los índices redundantes deben haberse eliminado")
+    void redundantIndexesShouldBeDropped() {
+        // When
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE schemaname = current_schema()", String.class);
+
+        // Then
+        assertThat(indexes).doesNotContain(
+                "idx_affiliate_documento", "idx_user_username", "idx_risk_documento",
+                "affiliates_documento_key", "users_username_key");
+        assertThat(indexes).contains("uk_affiliate_documento", "uk_user_username",
+                "idx_application_pendiente", "idx_application_afiliado_fecha_id", "idx_risk_documento_fecha");
+    }
+
+    private JsonNode explain(String sql) {
+        String json = String.join("\n", jdbcTemplate.queryForList("EXPLAIN (FORMAT JSON) " + sql, String.class));
+        return jsonMapper.readTree(json).get(0).get("Plan");
+    }
+
+    private List<String> indexNames(JsonNode plan) {
+        return collect(plan, "Index Name", new ArrayList<>());
+    }
+
+    /**
+     * Relaciones leídas bajo los nodos del tipo indicado (Sort, Seq Scan)
+     * Las particiones vacías pueden resolverse con Seq Scan; lo relevante son las sembradas
+     */
+    private List<String> relationsUnder(JsonNode node, String nodeType) {
+        List<String> relations = new ArrayList<>();
+        if (nodeType.equals(node.get("Node Type").asString())) {
+            collect(node, "Relation Name", relations);
+        }
+        JsonNode children = node.get("Plans");
+        if (children != null) {
+            children.forEach(child -> relations.addAll(relationsUnder(child, nodeType)));
+        }
+        return relations;
+    }
+
+    private static boolean isSeededPartition(String relation) {
+        return relation.matches("(credit_applications|risk_evaluations)_p2023\\d{2}");
+    }
+
+    private List<String> scanDirections(JsonNode plan) {
+        return collect(plan, "Scan Direction", new ArrayList<>());
+    }
+
+    private List<String> collect(JsonNode node, String field, List<String> values) {
+        if (node.has(field)) {
+            values.add(node.get(field).asString());
+        }
+        JsonNode children = node.get("Plans");
+        if (children != null) {
+            children.forEach(child -> collect(child, field, values));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,234 @@
+package com.coopcredit.credit_application_service.integration;
+
+import com.coopcredit.credit_application_service.domain.enums.ApplicationStatus;
+import com.coopcredit.credit_application_service.domain.enums.RiskLevel;
+import com.coopcredit.credit_application_service.domain.model.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.domain.ports.out.CreditApplicationRepositoryPort;
+import com.coopcredit.credit_application_service.infrastructure.adapters.RiskEvaluationStorage;
+import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.ApplicationOutboxWriter;
+import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.CreditApplicationRepositoryAdapter;
+import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.entities.RiskEvaluationEntity;
+import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.repositories.CreditApplicationJpaRepository;
+import com.coopcredit.credit_application_service.infrastructure.web.mapper.CreditApplicationMapper;
+import com.coopcredit.credit_application_service.infrastructure.web.mapper.RiskEvaluationMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración: evaluación de riesgo en tabla propia (TABLE) o embebida (EMBEDDED)
+ * El contexto usa TABLE; el adaptador EMBEDDED se construye aparte sobre los mismos beans
+ * para comparar ambos layouts con los mismos datos
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.session.events.auto="
+                + "com.coopcredit.credit_application_service.integration.JdbcRoundTripCounter",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("Risk Evaluation Storage - Integration Tests")
+class RiskEvaluationStorageIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(RiskEvaluationStorageIntegrationTest.class);
+
+    private static final int DECISIONS = 200;
+
+    @Autowired
+    private CreditApplicationRepositoryPort tableRepository;
+
+    @Autowired
+    private CreditApplicationJpaRepository jpaRepository;
+
+    @Autowired
+    private CreditApplicationMapper mapper;
+
+    @Autowired
+    private RiskEvaluationMapper riskEvaluationMapper;
+
+    @Autowired
+    private ApplicationOutboxWriter outboxWriter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private CreditApplicationRepositoryAdapter embeddedRepository;
+
+    @BeforeEach
+    void setUp() {
+        embeddedRepository = new CreditApplicationRepositoryAdapter(
+                jpaRepository, mapper, riskEvaluationMapper, outboxWriter, RiskEvaluationStorage.EMBEDDED);
+        ReflectionTestUtils.setField(embeddedRepository, "entityManager", entityManager);
+    }
+
+    @Test
+    @DisplayName("Cada modo debe leer las evaluaciones escritas en cualquiera de los dos layouts")
+    void bothLayoutsShouldBeReadable() {
+        // Given - Una decisión en cada layout
+        Long afiliadoId = insertAffiliate("4700000001");
+        Long tableId = decide(tableRepository, create(tableRepository, afiliadoId), 710);
+        Long embeddedId = decide(embeddedRepository, create(embeddedRepository, afiliadoId), 540);
+
+        // Then - Cada fila quedó en su layout
+        assertThat(jdbcTemplate.queryForMap(
+                "SELECT evaluacion_riesgo_id, riesgo_score FROM credit_applications WHERE id = ?", tableId))
+                .containsEntry("riesgo_score", null)
+                .hasEntrySatisfying("evaluacion_riesgo_id", value -> assertThat(value).isNotNull());
+        assertThat(jdbcTemplate.queryForMap(
+                "SELECT evaluacion_riesgo_id, riesgo_score FROM credit_applications WHERE id = ?", embeddedId))
+                .containsEntry("evaluacion_riesgo_id", null)
+                .containsEntry("riesgo_score", 540);
+
+        // Then - Ambos adaptadores leen ambas filas
+        for (CreditApplicationRepositoryPort repository : List.of(tableRepository, embeddedRepository)) {
+            assertThat(score(repository, tableId)).isEqualTo(710);
+            assertThat(score(repository, embeddedId)).isEqualTo(540);
+        }
+
+        // When - El backfill copia la evaluación de la fila escrita en modo TABLE
+        Long copied = jdbcTemplate.queryForObject("SELECT backfill_embedded_risk_evaluations()", Long.class);
+
+        // Then
+        assertThat(copied).isPositive();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT riesgo_score FROM credit_applications WHERE id = ?", Integer.class, tableId)).isEqualTo(710);
+    }
+
+    @Test
+    @DisplayName("Debe medir escrituras por decisión y latencia de lectura de ambos layouts")
+    void shouldMeasureWriteAmplificationAndReadLatency() {
+        // Given
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        Measurement table = measure(tableRepository, insertAffiliate("4700000002"), statistics);
+        Measurement embedded = measure(embeddedRepository, insertAffiliate("4700000003"), statistics);
+
+        logger.info("Por decisión - TABLE: {} viajes JDBC, {} bytes WAL; EMBEDDED: {} viajes JDBC, {} bytes WAL",
+                table.roundTripsPerDecision, table.walBytesPerDecision,
+                embedded.roundTripsPerDecision, embedded.walBytesPerDecision);
+        logger.info("findById - TABLE p50: {} µs, p95: {} µs; EMBEDDED p50: {} µs, p95: {} µs",
+                table.readP50 / 1000, table.readP95 / 1000, embedded.readP50 / 1000, embedded.readP95 / 1000);
+
+        // Then - EMBEDDED se ahorra el INSERT en risk_evaluations y su WAL (heap + 2 índices)
+        assertThat(embedded.roundTripsPerDecision).isLessThan(table.roundTripsPerDecision);
+        assertThat(embedded.walBytesPerDecision).isLessThan(table.walBytesPerDecision);
+        // Las lecturas EMBEDDED no cargan RiskEvaluationEntity (no hay JOIN)
+        assertThat(table.riskEntitiesLoaded).isEqualTo(DECISIONS);
+        assertThat(embedded.riskEntitiesLoaded).isZero();
+    }
+
+    private Measurement measure(CreditApplicationRepositoryPort repository, Long afiliadoId, Statistics statistics) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < DECISIONS; i++) {
+            ids.add(create(repository, afiliadoId));
+        }
+        List<CreditApplication> pending = transactionTemplate.execute(status ->
+                ids.stream().map(id -> repository.findById(id).orElseThrow()).toList());
+
+        // Escrituras: solo la decisión (INSERT de evaluación si aplica, UPDATE y evento de outbox)
+        jdbcTemplate.execute("CHECKPOINT");
+        String walStart = jdbcTemplate.queryForObject("SELECT pg_current_wal_insert_lsn()::text", String.class);
+        JdbcRoundTripCounter.reset();
+        for (CreditApplication application : pending) {
+            application.setEvaluacionRiesgo(evaluation(650));
+            application.aprobar();
+            transactionTemplate.executeWithoutResult(status -> repository.saveDecision(application));
+        }
+        long roundTrips = JdbcRoundTripCounter.roundTrips();
+        Long walBytes = jdbcTemplate.queryForObject(
+                "SELECT pg_wal_lsn_diff(pg_current_wal_insert_lsn(), ?::pg_lsn)::bigint", Long.class, walStart);
+
+        // Lecturas: una transacción por solicitud, con contexto de persistencia nuevo
+        for (int i = 0; i < 3; i++) {
+            ids.forEach(id -> transactionTemplate.execute(status -> repository.findById(id)));
+        }
+        statistics.clear();
+        List<Long> latencies = new ArrayList<>();
+        for (Long id : ids) {
+            long start = System.nanoTime();
+            transactionTemplate.execute(status -> repository.findById(id).orElseThrow().getEvaluacionRiesgo().getScore());
+            latencies.add(System.nanoTime() - start);
+        }
+        long riskEntitiesLoaded = statistics.getEntityStatistics(RiskEvaluationEntity.class.getName()).getLoadCount();
+
+        return new Measurement((double) roundTrips / DECISIONS, walBytes / DECISIONS,
+                percentile(latencies, 50), percentile(latencies, 95), riskEntitiesLoaded);
+    }
+
+    private record Measurement(double roundTripsPerDecision, long walBytesPerDecision,
+                               long readP50, long readP95, long riskEntitiesLoaded) {
+    }
+
+    private Long create(CreditApplicationRepositoryPort repository, Long afiliadoId) {
+        return transactionTemplate.execute(status -> repository.save(CreditApplication.builder()
+                .afiliadoId(afiliadoId)
+                .montoSolicitado(new BigDecimal("1000000"))
+                .plazoMeses(36)
+                .tasaPropuesta(new BigDecimal("12.5"))
+                .fechaSolicitud(LocalDateTime.now())
+                .estado(ApplicationStatus.PENDIENTE)
+                .build())).getId();
+    }
+
+    private Long decide(CreditApplicationRepositoryPort repository, Long id, int score) {
+        CreditApplication application = transactionTemplate.execute(status -> repository.findById(id).orElseThrow());
+        application.setEvaluacionRiesgo(evaluation(score));
+        application.aprobar();
+        Boolean saved = transactionTemplate.execute(status -> repository.saveDecision(application));
+        assertThat(saved).isTrue();
+        return id;
+    }
+
+    private Integer score(CreditApplicationRepositoryPort repository, Long id) {
+        return transactionTemplate.execute(status ->
+                repository.findById(id).orElseThrow().getEvaluacionRiesgo().getScore());
+    }
+
+    private RiskEvaluation evaluation(int score) {
+        return RiskEvaluation.builder()
+                .documento("4700000000")
+                .score(score)
+                .nivelRiesgo(RiskLevel.BAJO)
+                .detalle("Evaluación de prueba")
+                .fechaEvaluacion(LocalDateTime.now())
+                .build();
+    }
+
+    private Long insertAffiliate(String documento) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO affiliates (documento, nombre, salario, fecha_afiliacion, estado) " +
+                "VALUES (?, 'Layout', 4000000, DATE '2020-01-01', 'ACTIVO') RETURNING id",
+                Long.class, documento);
+    }
+
+    private static long percentile(List<Long> values, int percentile) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0));
+    }
+}
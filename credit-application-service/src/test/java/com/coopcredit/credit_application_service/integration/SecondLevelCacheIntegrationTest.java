@@ -0,0 +1,171 @@
+package com.coopcredit.credit_application_service.integration;
+
+import com.coopcredit.credit_application_service.domain.enums.AffiliateStatus;
+import com.coopcredit.credit_application_service.domain.enums.UserRole;
+import com.coopcredit.credit_application_service.domain.model.Affiliate;
+import com.coopcredit.credit_application_service.domain.model.User;
+import com.coopcredit.credit_application_service.domain.ports.in.AffiliateUseCase;
+import com.coopcredit.credit_application_service.domain.ports.out.AffiliateRepositoryPort;
+import com.coopcredit.credit_application_service.domain.ports.out.UserRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración: second-level cache de afiliados y usuarios
+ * Verifica aciertos por id y por natural id, y que las escrituras vía JPA no dejan datos obsoletos
+ */
+@SpringBootTest
+@DisplayName("Second-Level Cache - Integration Tests")
+class SecondLevelCacheIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    @Autowired
+    private AffiliateUseCase affiliateUseCase;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private UserRepositoryPort userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        sessionFactory.getCache().evictAllRegions();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Debe resolver la segunda lectura por id desde el cache sin consultar la base")
+    void secondFindByIdShouldHitCache() {
+        // Given
+        Affiliate affiliate = affiliateUseCase.registerAffiliate(affiliate("5500000001"));
+        sessionFactory.getCache().evictAllRegions();
+        statistics.clear();
+
+        // When
+        affiliateRepository.findById(affiliate.getId());
+        long statementsAfterFirst = statistics.getPrepareStatementCount();
+        affiliateRepository.findById(affiliate.getId());
+
+        // Then
+        assertThat(statementsAfterFirst).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirst);
+        assertThat(statistics.getCacheRegionStatistics("affiliates").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getCacheRegionStatistics("affiliates").getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("changeStatus debe reflejarse en las lecturas cacheadas")
+    void changeStatusShouldNotLeaveStaleEntries() {
+        // Given - El afiliado queda en cache
+        Affiliate affiliate = affiliateUseCase.registerAffiliate(affiliate("5500000002"));
+        affiliateRepository.findById(affiliate.getId());
+        affiliateRepository.findByDocumento("5500000002");
+
+        // When
+        affiliateUseCase.changeStatus(affiliate.getId(), "INACTIVO");
+
+        // Then
+        assertThat(affiliateRepository.findById(affiliate.getId()))
+                .get().extracting(Affiliate::getEstado).isEqualTo(AffiliateStatus.INACTIVO);
+        assertThat(affiliateRepository.findByDocumento("5500000002"))
+                .get().extracting(Affiliate::getEstado).isEqualTo(AffiliateStatus.INACTIVO);
+    }
+
+    @Test
+    @DisplayName("updateAffiliate debe actualizar el cache por id y por documento")
+    void updateAffiliateShouldRefreshNaturalIdCache() {
+        // Given
+        Affiliate affiliate = affiliateUseCase.registerAffiliate(affiliate("5500000003"));
+        affiliateRepository.findByDocumento("5500000003");
+
+        // When
+        Affiliate changes = affiliate("5500000004");
+        changes.setNombre("Nombre Actualizado");
+        changes.setSalario(new BigDecimal("6000000"));
+        affiliateUseCase.updateAffiliate(affiliate.getId(), changes);
+
+        // Then
+        assertThat(affiliateRepository.findByDocumento("5500000003")).isEmpty();
+        assertThat(affiliateRepository.findByDocumento("5500000004"))
+                .get().extracting(Affiliate::getId).isEqualTo(affiliate.getId());
+        assertThat(affiliateRepository.findById(affiliate.getId()))
+                .get().satisfies(cached -> assertThat(cached.getSalario()).isEqualByComparingTo("6000000"));
+    }
+
+    @Test
+    @DisplayName("El login repetido debe resolver el usuario por username desde el cache")
+    void findByUsernameShouldHitNaturalIdCache() {
+        // Given
+        userRepository.save(User.builder()
+                .username("cache_user")
+                .password("password123")
+                .role(UserRole.ROLE_ANALISTA)
+                .build());
+        sessionFactory.getCache().evictAllRegions();
+        statistics.clear();
+
+        // When
+        userRepository.findByUsername("cache_user");
+        long statementsAfterFirst = statistics.getPrepareStatementCount();
+        userRepository.findByUsername("cache_user");
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirst);
+        assertThat(statistics.getCacheRegionStatistics("users-by-username").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getCacheRegionStatistics("users").getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe exponer el hit ratio por región en Micrometer")
+    void shouldExposeHitRatioPerRegion() {
+        // Given
+        Affiliate affiliate = affiliateUseCase.registerAffiliate(affiliate("5500000005"));
+        sessionFactory.getCache().evictAllRegions();
+        statistics.clear();
+
+        // When - Un fallo y tres aciertos
+        for (int i = 0; i < 4; i++) {
+            affiliateRepository.findById(affiliate.getId());
+        }
+
+        // Then
+        assertThat(meterRegistry.get("hibernate.cache.hit.ratio").tag("region", "affiliates").gauge().value())
+                .isEqualTo(0.75);
+        assertThat(meterRegistry.get("hibernate.cache.requests")
+                .tags("region", "affiliates", "result", "hit").functionCounter().count())
+                .isEqualTo(3.0);
+    }
+
+    private Affiliate affiliate(String documento) {
+        return Affiliate.builder()
+                .documento(documento)
+                .nombre("Afiliado Cache")
+                .salario(new BigDecimal("4000000"))
+                .fechaAfiliacion(LocalDate.now().minusYears(2))
+                .estado(AffiliateStatus.ACTIVO)
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.coopcredit.credit_application_service.integration;
+
+import com.coopcredit.credit_application_service.domain.enums.AffiliateStatus;
+import com.coopcredit.credit_application_service.domain.model.Affiliate;
+import com.coopcredit.credit_application_service.domain.ports.out.AffiliateRepositoryPort;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark de integración: viajes a la base de datos por cada 1.000 inserciones
+ * Antes (IDENTITY) cada INSERT se ejecutaba al persistir; con secuencias pooled los
+ * INSERT se agrupan en lotes y los ids se reservan de a 50
+ */
+@SpringBootTest
+@TestPropertySource(properties = 
+        "spring.jpa.properties.hibernate.session.events.auto="
+        + "com.coopcredit.credit_application_service.integration.JdbcRoundTripCounter")
+@DisplayName("Sequence Batching - Integration Tests")
+class SequenceBatchingIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(SequenceBatchingIntegrationTest.class);
+
+    private static final int ROWS = 1_000;
+
+    @Autowired
+    private AffiliateRepositoryPort affiliateRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM affiliates WHERE documento LIKE '77%'");
+        // El DELETE nativo no pasa por Hibernate: se descartan las entradas cacheadas
+        entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    @DisplayName("Debe insertar 1.000 afiliados en lotes con pocos viajes a la base de datos")
+    void shouldBatchInsertsWithPooledSequence() {
+        // Given
+        List<Affiliate> batch = affiliates("771", ROWS);
+        List<Affiliate> oneByOne = affiliates("772", ROWS);
+
+        // When - Referencia: un INSERT por fila ejecutado al persistir, como con IDENTITY
+        JdbcRoundTripCounter.reset();
+        transactionTemplate.executeWithoutResult(status -> oneByOne.forEach(affiliate -> {
+            affiliateRepository.save(affiliate);
+            entityManager.flush();
+        }));
+        long before = JdbcRoundTripCounter.roundTrips();
+
+        // When - saveAll con secuencia pooled y batching JDBC
+        JdbcRoundTripCounter.reset();
+        List<Affiliate> saved = transactionTemplate.execute(status -> affiliateRepository.saveAll(batch));
+        long after = JdbcRoundTripCounter.roundTrips();
+
+        logger.info("Viajes por {} inserciones - fila a fila: {}, saveAll: {} ({} lotes, {} sentencias)",
+                ROWS, before, after, JdbcRoundTripCounter.batches(), JdbcRoundTripCounter.statements());
+
+        // Then - 1.000 / 20 lotes + 1.000 / 50 llamadas a la secuencia
+        assertThat(before).isGreaterThanOrEqualTo(ROWS);
+        assertThat(after).isLessThanOrEqualTo(ROWS / 20 + ROWS / 50 + 5);
+        assertThat(saved).hasSize(ROWS).allMatch(affiliate -> affiliate.getId() != null);
+    }
+
+    @Test
+    @DisplayName("Debe asignar ids únicos sin chocar con los existentes ni con INSERT nativos")
+    void shouldNotCollideWithExistingOrNativeIds() {
+        // Given - Un INSERT nativo usa el DEFAULT de la columna (nextval de la misma secuencia)
+        Long nativeId = jdbcTemplate.queryForObject(
+                "INSERT INTO affiliates (documento, nombre, salario, fecha_afiliacion, estado) " +
+                "VALUES ('7730000000', 'Nativo', 3000000, CURRENT_DATE, 'ACTIVO') RETURNING id",
+                Long.class);
+
+        // When
+        List<Affiliate> saved = transactionTemplate.execute(status -> affiliateRepository.saveAll(affiliates("774", 120)));
+
+        // Then
+        List<Long> ids = saved.stream().map(Affiliate::getId).collect(Collectors.toList());
+        assertThat(ids).doesNotHaveDuplicates().doesNotContain(nativeId);
+        Long total = jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT id) FROM affiliates WHERE documento LIKE '77%'", Long.class);
+        assertThat(total).isEqualTo(121L);
+    }
+
+    private List<Affiliate> affiliates(String prefix, int count) {
+        List<Affiliate> affiliates = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Affiliate affiliate = new Affiliate();
+            affiliate.setDocumento(prefix + String.format("%07d", i));
+            affiliate.setNombre("Afiliado Lote " + i);
+            affiliate.setSalario(new BigDecimal("3000000"));
+            affiliate.setFechaAfiliacion(LocalDate.now().minusYears(1));
+            affiliate.setEstado(AffiliateStatus.ACTIVO);
+            affiliates.add(affiliate);
+        }
+        return affiliates;
+    }
+}
@@ -0,0 +1,163 @@
+package com.coopcredit.credit_application_service.integration;
+
+import com.coopcredit.credit_application_service.domain.ports.out.CreditApplicationRepositoryPort;
+import com.coopcredit.credit_application_service.infrastructure.adapters.jpa.entities.CreditApplicationEntity;
+import com.coopcredit.credit_application_service.infrastructure.web.mapper.CreditApplicationDtoMapper;
+import com.coopcredit.credit_application_service.infrastructure.web.mapper.CreditApplicationMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Medición: página de listado con entidades completas vs proyección de resumen
+ * Compara bytes leídos de la base, bytes asignados en el heap, latencia y tamaño JSON por página
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Summary Projection - Integration Tests")
+class SummaryProjectionIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(SummaryProjectionIntegrationTest.class);
+
+    private static final int ROWS = 5_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+
+    private static final String FULL_PAGE_JPQL =
+            "SELECT a FROM CreditApplicationEntity a LEFT JOIN FETCH a.evaluacionRiesgo " +
+            "ORDER BY a.fechaSolicitud DESC, a.id DESC";
+
+    @Autowired
+    private CreditApplicationRepositoryPort applicationRepository;
+
+    @Autowired
+    private CreditApplicationMapper entityMapper;
+
+    @Autowired
+    private CreditApplicationDtoMapper dtoMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @BeforeAll
+    void seed() {
+        Long afiliadoId = jdbcTemplate.queryForObject(
+                "INSERT INTO affiliates (documento, nombre, salario, fecha_afiliacion, estado) " +
+                "VALUES ('9900000032', 'Projection Test', 4000000, CURRENT_DATE - 400, 'ACTIVO') RETURNING id",
+                Long.class);
+
+        // Cada solicitud rechazada tiene evaluación y un motivo de rechazo extenso
+        jdbcTemplate.update(
+                "WITH r AS (" +
+                "  INSERT INTO risk_evaluations (documento, score, nivel_riesgo, detalle, fecha_evaluacion) " +
+                "  SELECT '9900000032', 400 + g % 300, 'MEDIO', repeat('Detalle de evaluación. ', 20), " +
+                "         TIMESTAMP '2025-01-01' + g * INTERVAL '1 minute' " +
+                "  FROM generate_series(1, ?) g RETURNING id) " +
+                "INSERT INTO credit_applications " +
+                "(afiliado_id, monto_solicitado, plazo_meses, tasa_propuesta, fecha_solicitud, estado, " +
+                " motivo_rechazo, evaluacion_riesgo_id) " +
+                "SELECT ?, 5000000, 36, 12.5, TIMESTAMP '2025-01-01' + r.id * INTERVAL '1 minute', 'RECHAZADO', " +
+                "       repeat('La relación cuota/ingreso supera el máximo permitido. ', 20), r.id " +
+                "FROM r",
+                ROWS, afiliadoId);
+        jdbcTemplate.execute("ANALYZE credit_applications");
+        jdbcTemplate.execute("ANALYZE risk_evaluations");
+    }
+
+    @Test
+    @DisplayName("La proyección de resumen debe leer y asignar menos por página que las entidades completas")
+    void summaryPageShouldBeCheaperThanFullEntities() throws Exception {
+        // Given
+        Supplier<List<?>> fullPage = () -> transactionTemplate.execute(status ->
+                entityManager.createQuery(FULL_PAGE_JPQL, CreditApplicationEntity.class)
+                        .setMaxResults(PAGE_SIZE)
+                        .getResultList().stream()
+                        .map(entityMapper::toDomain)
+                        .map(dtoMapper::toDto)
+                        .collect(Collectors.toList()));
+        Supplier<List<?>> summaryPage = () -> transactionTemplate.execute(status ->
+                applicationRepository.findSummaryPage(null, PAGE_SIZE).stream()
+                        .map(dtoMapper::toSummaryDto)
+                        .collect(Collectors.toList()));
+
+        // When
+        Measurement full = measure(fullPage);
+        Measurement summary = measure(summaryPage);
+
+        long fullDbBytes = dbBytes("SELECT a.*, r.* FROM credit_applications a " +
+                "LEFT JOIN risk_evaluations r ON r.id = a.evaluacion_riesgo_id");
+        long summaryDbBytes = dbBytes("SELECT a.id, a.afiliado_id, a.monto_solicitado, a.plazo_meses, " +
+                "a.tasa_propuesta, a.fecha_solicitud, a.estado, r.score, r.nivel_riesgo FROM credit_applications a " +
+                "LEFT JOIN risk_evaluations r ON r.id = a.evaluacion_riesgo_id");
+        int fullJsonBytes = jsonMapper.writeValueAsBytes(fullPage.get()).length;
+        int summaryJsonBytes = jsonMapper.writeValueAsBytes(summaryPage.get()).length;
+
+        logger.info("Página de {} solicitudes - completa vs resumen", PAGE_SIZE);
+        logger.info("  Bytes leídos de la base:  {} vs {}", fullDbBytes, summaryDbBytes);
+        logger.info("  Bytes asignados (heap):   {} vs {}", full.allocatedBytes, summary.allocatedBytes);
+        logger.info("  Latencia promedio (µs):   {} vs {}", full.averageMicros, summary.averageMicros);
+        logger.info("  Tamaño de respuesta JSON: {} vs {}", fullJsonBytes, summaryJsonBytes);
+
+        // Then
+        assertThat(summaryDbBytes).isLessThan(fullDbBytes);
+        assertThat(summary.allocatedBytes).isLessThan(full.allocatedBytes);
+        assertThat(summaryJsonBytes).isLessThan(fullJsonBytes);
+    }
+
+    private Measurement measure(Supplier<List<?>> page) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP; i++) {
+            assertThat(page.get()).hasSize(PAGE_SIZE);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            page.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new Measurement(allocated / ITERATIONS, elapsed / ITERATIONS / 1_000);
+    }
+
+    /**
+     * Tamaño en bytes de las columnas que devuelve la primera página para la consulta dada
+     */
+    private long dbBytes(String select) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(pg_column_size(t.*)), 0) FROM (" + select +
+                " ORDER BY a.fecha_solicitud DESC, a.id DESC LIMIT " + PAGE_SIZE + ") t",
+                Long.class);
+    }
+
+    private record Measurement(long allocatedBytes, long averageMicros) {
+    }
+}
@@ -0,0 +1,115 @@
+package com.coopcredit.credit_application_service.integration;
+
+import com.coopcredit.credit_application_service.domain.ports.out.UserRepositoryPort;
+import com.coopcredit.credit_application_service.infrastructure.datasource.Workload;
+import com.coopcredit.credit_application_service.infrastructure.datasource.WorkloadContext;
+import com.coopcredit.credit_application_service.infrastructure.datasource.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Prueba de estrés: la evaluación masiva satura su propio pool sin quitarle conexiones al login
+ * El pool de evaluación se reduce a 2 conexiones y se ocupa con 8 hilos que retienen la conexión.
+ * La latencia del login con y sin carga se mide en WorkloadPoolIsolationBenchmark (src/jmh)
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+        "datasource.workloads.enabled=true",
+        "datasource.workloads.evaluation.maximum-pool-size=2",
+        "datasource.workloads.evaluation.connection-timeout-ms=20000",
+        "datasource.workloads.auth.maximum-pool-size=2"
+})
+@DisplayName("Workload Pool Isolation - Integration Tests")
+class WorkloadPoolIsolationIntegrationTest extends AbstractPostgresIntegrationTest {
+
+    private static final int EVALUATION_THREADS = 8;
+    private static final int LOGIN_SAMPLES = 40;
+
+    @Autowired
+    private UserRepositoryPort userRepository;
+
+    @Autowired
+    private WorkloadRoutingDataSource workloadRoutingDataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("El login debe obtener conexión de su pool mientras la evaluación agota el suyo")
+    void loginShouldUseItsOwnPoolUnderEvaluationLoad() throws Exception {
+        // Given
+        HikariDataSource evaluationPool = (HikariDataSource) workloadRoutingDataSource.getPool(Workload.EVALUATION);
+        HikariDataSource authPool = (HikariDataSource) workloadRoutingDataSource.getPool(Workload.AUTH);
+        Counter routedToAuth = meterRegistry.get("datasource.workload.routed").tag("pool", "auth").counter();
+
+        // When - Evaluaciones que retienen su conexión 300 ms, con 4 veces más hilos que conexiones
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger evaluations = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(EVALUATION_THREADS);
+        for (int i = 0; i < EVALUATION_THREADS; i++) {
+            executor.submit(() -> {
+                while (running.get()) {
+                    WorkloadContext.run(Workload.EVALUATION, () -> transactionTemplate.executeWithoutResult(status ->
+                            jdbcTemplate.execute("SELECT pg_sleep(0.3)")));
+                    evaluations.incrementAndGet();
+                }
+            });
+        }
+        int maxEvaluationWaiters = 0;
+        double routedBefore;
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (evaluationPool.getHikariPoolMXBean().getThreadsAwaitingConnection() == 0
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            maxEvaluationWaiters = evaluationPool.getHikariPoolMXBean().getThreadsAwaitingConnection();
+            routedBefore = routedToAuth.count();
+            login(LOGIN_SAMPLES);
+            maxEvaluationWaiters = Math.max(maxEvaluationWaiters,
+                    evaluationPool.getHikariPoolMXBean().getThreadsAwaitingConnection());
+        } finally {
+            running.set(false);
+            executor.shutdown();
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        }
+
+        // Then - Con el pool de evaluación saturado, cada consulta del login tomó conexión del suyo sin esperas
+        assertThat(maxEvaluationWaiters).isPositive();
+        assertThat(evaluations.get()).isPositive();
+        assertThat(routedToAuth.count() - routedBefore).isGreaterThanOrEqualTo(LOGIN_SAMPLES);
+        assertThat(authPool.getHikariPoolMXBean().getThreadsAwaitingConnection()).isZero();
+        assertThat(meterRegistry.get("hikaricp.connections.pending").tag("pool", "evaluation").gauge()).isNotNull();
+    }
+
+    /**
+     * Consulta que hace el registro/login para verificar el usuario
+     */
+    private void login(int samples) {
+        for (int i = 0; i < samples; i++) {
+            userRepository.existsByUsername("usuario-inexistente-" + i);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.coopcredit.risk_central_mock_service.benchmark;
+
+import com.coopcredit.risk_central_mock_service.dto.RiskEvaluationRequest;
+import com.coopcredit.risk_central_mock_service.dto.RiskEvaluationResponse;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark: (de)serialización JSON de los DTOs del endpoint /risk-evaluation
+ * Usa el mismo JsonMapper (Jackson 3) que Spring Boot configura para el controlador
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RiskEvaluationJsonBenchmark {
+
+    private JsonMapper mapper;
+    private RiskEvaluationResponse response;
+    private byte[] requestJson;
+
+    @Setup
+    public void setUp() {
+        mapper = JsonMapper.builder().build();
+        response = RiskEvaluationResponse.builder()
+                .documento("1017654311")
+                .score(742)
+                .nivelRiesgo("BAJO")
+                .detalle("Excelente historial crediticio. Bajo riesgo de incumplimiento.")
+                .build();
+        requestJson = "{\"documento\":\"1017654311\",\"monto\":5000000.0,\"plazo\":36}"
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() {
+        return mapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public RiskEvaluationRequest deserializeRequest() {
+        return mapper.readValue(requestJson, RiskEvaluationRequest.class);
+    }
+}
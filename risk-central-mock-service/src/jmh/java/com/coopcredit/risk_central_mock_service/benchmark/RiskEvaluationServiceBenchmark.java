@@ -0,0 +1,41 @@
+package com.coopcredit.risk_central_mock_service.benchmark;
+
+import com.coopcredit.risk_central_mock_service.dto.RiskEvaluationResponse;
+import com.coopcredit.risk_central_mock_service.service.RiskEvaluationService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark: RiskEvaluationService.evaluateRisk
+ * Rota sobre un conjunto de documentos para que el JIT no pueda plegar el resultado
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RiskEvaluationServiceBenchmark {
+
+    private static final int DOCUMENTOS = 1024;
+
+    private RiskEvaluationService service;
+    private String[] documentos;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        service = new RiskEvaluationService();
+        documentos = new String[DOCUMENTOS];
+        for (int i = 0; i < DOCUMENTOS; i++) {
+            documentos[i] = String.format("%010d", 1017654311L + i * 7919L);
+        }
+    }
+
+    @Benchmark
+    public RiskEvaluationResponse evaluateRisk() {
+        String documento = documentos[index++ & (DOCUMENTOS - 1)];
+        return service.evaluateRisk(documento, 5000000.0, 36);
+    }
+}